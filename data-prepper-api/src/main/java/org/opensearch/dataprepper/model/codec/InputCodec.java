@@ -24,6 +24,17 @@ public interface InputCodec {
      */
     void parse(InputStream inputStream, Consumer<Record<Event>> eventConsumer) throws IOException;
 
+    /**
+     * Indicates whether this codec produces the same events when its input is split at
+     * newline characters and each split is parsed independently. Sources may use this to
+     * parse a large input on several threads. Events are then no longer produced in input order.
+     *
+     * @return true if the input may be split at newline characters
+     */
+    default boolean isSplittableOnNewlines() {
+        return false;
+    }
+
     /**
      * Parses an {@link InputFile}. Implementors should call the {@link Consumer} for each
      * {@link Record} loaded from the {@link InputFile}
@@ -151,7 +151,8 @@ public interface Event extends Serializable {
     String toJsonString();
 
     /**
-     * Returns the JsonNode containing the internal representation of the event
+     * Returns the JsonNode containing the internal representation of the event. The node must not be
+     * modified; use {@link #put} and {@link #delete} to change the event.
      *
      * @return JsonNode
      * @since 2.5
@@ -31,11 +31,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -89,6 +91,16 @@ public class JacksonEvent implements Event {
 
     private final JsonNode jsonNode;
 
+    /**
+     * The serialized form of the data, kept until the data is modified.
+     */
+    private String serializedJson;
+
+    /**
+     * The top-level keys whose values are shared with other events, or null if there are none.
+     */
+    private transient Set<String> sharedKeys;
+
     static final int MAX_KEY_LENGTH = 2048;
 
     static final String MESSAGE_KEY = "message";
@@ -108,6 +120,9 @@ public class JacksonEvent implements Event {
         }
 
         this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.serializedData != null && jsonNode.isObject() && isCompactSingleObject(builder.serializedData)) {
+            this.serializedJson = builder.serializedData;
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -121,6 +136,7 @@ public class JacksonEvent implements Event {
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
         this.jsonNode = otherEvent.jsonNode.deepCopy();
+        this.serializedJson = otherEvent.serializedJson;
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -141,10 +157,100 @@ public class JacksonEvent implements Event {
             } catch (final JsonProcessingException e) {
                 throw new IllegalArgumentException("Unable to convert data into an event");
             }
+        } else if (data instanceof Map && hasSharedEventMap((Map<?, ?>) data)) {
+            return getJsonNodeWithSharedValues((Map<?, ?>) data);
         }
         return mapper.valueToTree(data);
     }
 
+    /**
+     * Determines whether serialized JSON can be returned by {@link #toJsonString()} as it is. That is only the case
+     * for a single object without whitespace between its tokens and with nothing after it, which is the same form
+     * that serializing the data produces. Line based formats such as ndjson depend on it.
+     */
+    private static boolean isCompactSingleObject(final String json) {
+        if (json.isEmpty() || json.charAt(0) != '{') {
+            return false;
+        }
+        int depth = 0;
+        boolean inString = false;
+        for (int index = 0; index < json.length(); index++) {
+            final char character = json.charAt(index);
+            if (inString) {
+                if (character == '\\') {
+                    index++;
+                } else if (character == '"') {
+                    inString = false;
+                } else if (character == '\n' || character == '\r') {
+                    return false;
+                }
+                continue;
+            }
+            switch (character) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    if (depth == 0) {
+                        return index == json.length() - 1;
+                    }
+                    break;
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasSharedEventMap(final Map<?, ?> data) {
+        for (final Object value : data.values()) {
+            if (value instanceof SharedEventMap) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private JsonNode getJsonNodeWithSharedValues(final Map<?, ?> data) {
+        final ObjectNode objectNode = mapper.createObjectNode();
+        sharedKeys = new HashSet<>();
+        for (final Map.Entry<?, ?> entry : data.entrySet()) {
+            final String key = String.valueOf(entry.getKey());
+            if (entry.getValue() instanceof SharedEventMap) {
+                objectNode.set(key, ((SharedEventMap) entry.getValue()).getJsonNode(mapper));
+                sharedKeys.add(key);
+            } else {
+                objectNode.set(key, mapper.valueToTree(entry.getValue()));
+            }
+        }
+        return objectNode;
+    }
+
+    /**
+     * Must be called before the event modifies the value at the key path. A shared top-level value
+     * which would be modified in place is replaced by a copy owned by this event.
+     */
+    private void releaseSharedValue(final List<String> keyPath) {
+        if (sharedKeys == null || keyPath.isEmpty()) {
+            return;
+        }
+        final String topLevelKey = keyPath.get(0);
+        if (sharedKeys.remove(topLevelKey) && keyPath.size() > 1) {
+            ((ObjectNode) jsonNode).set(topLevelKey, jsonNode.get(topLevelKey).deepCopy());
+        }
+    }
+
     @Override
     public JsonNode getJsonNode() {
         return jsonNode;
@@ -185,6 +291,8 @@ public class JacksonEvent implements Event {
 
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
+        serializedJson = null;
+        releaseSharedValue(jacksonEventKey.getKeyPathList());
         JsonNode parentNode = jsonNode;
 
         while (!keys.isEmpty()) {
@@ -390,6 +498,8 @@ public class JacksonEvent implements Event {
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
+        serializedJson = null;
+        releaseSharedValue(jacksonEventKey.getKeyPathList());
         JsonNode baseNode = jsonNode;
         String leafKey = trimmedKey;
 
@@ -419,6 +529,8 @@ public class JacksonEvent implements Event {
     public void clear() {
         // Delete all entries from the event
         Iterator iter = toMap().keySet().iterator();
+        serializedJson = null;
+        sharedKeys = null;
         JsonNode baseNode = jsonNode;
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
@@ -439,12 +551,57 @@ public class JacksonEvent implements Event {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
+        serializedJson = null;
+        if (sharedKeys != null || otherJacksonEvent.sharedKeys != null) {
+            otherObjectNode.fieldNames().forEachRemaining(key -> {
+                if (otherJacksonEvent.sharedKeys != null && otherJacksonEvent.sharedKeys.contains(key)) {
+                    if (sharedKeys == null) {
+                        sharedKeys = new HashSet<>();
+                    }
+                    sharedKeys.add(key);
+                } else if (sharedKeys != null) {
+                    sharedKeys.remove(key);
+                }
+            });
+        }
         ((ObjectNode) jsonNode).setAll(otherObjectNode);
     }
 
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        if (serializedJson != null) {
+            return serializedJson;
+        }
+        return getDataAsJsonString();
+    }
+
+    /**
+     * Returns the JSON this event was built from with {@link Builder#withSerializedData}, as long as the
+     * data has not been modified since. Writers may copy it as is instead of serializing the data.
+     *
+     * @return the kept JSON, or null if the event holds none
+     * @since 2.14
+     */
+    public String getSerializedJson() {
+        return serializedJson;
+    }
+
+    /**
+     * Serializes the data of this event. Values shared with other events are written from their
+     * cached JSON.
+     *
+     * @return the data as a JSON string
+     * @since 2.14
+     */
+    protected String getDataAsJsonString() {
+        if (sharedKeys == null || sharedKeys.isEmpty()) {
+            return jsonNode.toString();
+        }
+        try {
+            return mapper.writeValueAsString(jsonNode);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the event data", e);
+        }
     }
 
     @Override
@@ -630,6 +787,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         protected Object data;
+        private String serializedData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -706,6 +864,23 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.serializedData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event from a serialized JSON object and keeps the serialized form. Until
+         * the event is modified, {@link JacksonEvent#toJsonString()} returns the serialized form instead of
+         * serializing the data again. The serialized form is only kept when it is a compact object on a single
+         * line with nothing after it.
+         *
+         * @param serializedData the data as a JSON object
+         * @return returns the builder
+         * @since 2.14
+         */
+        public Builder<T> withSerializedData(final String serializedData) {
+            this.data = serializedData;
+            this.serializedData = serializedData;
             return this;
         }
 
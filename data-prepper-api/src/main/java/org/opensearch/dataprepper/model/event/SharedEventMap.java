@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable map which is part of the data of many events, such as the resource attributes of all spans
+ * from one OpenTelemetry resource.
+ * <p>
+ * When a {@link JacksonEvent} is built from data which has a {@link SharedEventMap} as a top-level value,
+ * the event references a single JSON tree built for the map instead of its own copy. The event copies the
+ * tree before it modifies anything within it, and the serialized JSON of the tree is computed once and
+ * reused whenever the events are serialized.
+ *
+ * @since 2.14
+ */
+public final class SharedEventMap extends AbstractMap<String, Object> {
+    private final Map<String, Object> map;
+    private volatile SharedObjectNode jsonNode;
+
+    public SharedEventMap(final Map<String, Object> map) {
+        this.map = Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return map.entrySet();
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the JSON tree of this map, building it on first use. Concurrent first calls may build more
+     * than one tree, which only costs the extra work.
+     */
+    JsonNode getJsonNode(final ObjectMapper objectMapper) {
+        SharedObjectNode node = jsonNode;
+        if (node == null) {
+            node = new SharedObjectNode(objectMapper.<ObjectNode>valueToTree(map));
+            jsonNode = node;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The JSON tree of a {@link SharedEventMap}, referenced by the data of many events. It must not be modified,
+ * so {@link JacksonEvent} replaces it with a {@link #deepCopy()} before modifying anything within it.
+ * <p>
+ * The serialized JSON of the tree is computed on first use and written as is when the tree is serialized
+ * by a plain JSON generator.
+ */
+class SharedObjectNode extends ObjectNode {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private volatile String serializedJson;
+
+    SharedObjectNode(final ObjectNode objectNode) {
+        super(JsonNodeFactory.instance, copyChildren(objectNode));
+    }
+
+    @Override
+    public void serialize(final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        if (canWriteSerializedJson(generator, provider)) {
+            generator.writeRawValue(getSerializedJson());
+        } else {
+            super.serialize(generator, provider);
+        }
+    }
+
+    String getSerializedJson() throws IOException {
+        String json = serializedJson;
+        if (json == null) {
+            json = OBJECT_MAPPER.writeValueAsString(new ObjectNode(JsonNodeFactory.instance, _children));
+            serializedJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * The cached JSON is written by a default object mapper, so it can only be reused by a compact JSON
+     * generator that writes every property as is.
+     */
+    private static boolean canWriteSerializedJson(final JsonGenerator generator, final SerializerProvider provider) {
+        if (!(generator instanceof JsonGeneratorImpl)
+                || generator.getPrettyPrinter() != null
+                || generator.getCharacterEscapes() != null
+                || generator.isEnabled(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature())) {
+            return false;
+        }
+        return provider == null || (provider.isEnabled(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS)
+                && provider.isEnabled(JsonNodeFeature.WRITE_NULL_PROPERTIES)
+                && !provider.isEnabled(JsonNodeFeature.WRITE_PROPERTIES_SORTED));
+    }
+
+    private static Map<String, JsonNode> copyChildren(final ObjectNode objectNode) {
+        final Map<String, JsonNode> children = new LinkedHashMap<>();
+        objectNode.properties().forEach(entry -> children.put(entry.getKey(), entry.getValue()));
+        return children;
+    }
+}
@@ -22,7 +22,7 @@ public class JacksonStandardOTelLog extends JacksonOtelLog {
 
     @Override
     public String toJsonString() {
-        return getJsonNode().toString();
+        return getDataAsJsonString();
     }
 
     public static class Builder extends JacksonOtelLog.Builder {
@@ -60,7 +60,7 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
     @Override
     public String toJsonString() {
         if (!flattenAttributes) {
-            return getJsonNode().toString();
+            return getDataAsJsonString();
         }
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get(ATTRIBUTES_KEY);
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
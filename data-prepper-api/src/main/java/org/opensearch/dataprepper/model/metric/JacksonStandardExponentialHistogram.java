@@ -17,7 +17,7 @@ public class JacksonStandardExponentialHistogram extends JacksonExponentialHisto
 
     @Override
     public String toJsonString() {
-        return getJsonNode().toString();
+        return getDataAsJsonString();
     }
 
     public static class Builder extends JacksonExponentialHistogram.Builder {
@@ -32,7 +32,7 @@ public class JacksonStandardSpan extends JacksonSpan {
 
     @Override
     public String toJsonString() {
-        return getJsonNode().toString();
+        return getDataAsJsonString();
     }
 
     public static class Builder extends JacksonSpan.Builder {
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -68,4 +69,15 @@ public class InputCodecTest {
         assertThrows(RuntimeException.class, () -> objectUnderTest.parse(inputFile, decompressionEngine, rec -> {}));
         assertTrue(closeCalled);
     }
+
+    @Test
+    void isSplittableOnNewlines_returns_false_by_default() {
+        final InputCodec objectUnderTest = new InputCodec() {
+            @Override
+            public void parse(InputStream inputStream, Consumer<Record<Event>> eventConsumer) {
+            }
+        };
+
+        assertFalse(objectUnderTest.isSplittableOnNewlines());
+    }
 }
@@ -778,6 +778,125 @@ public class JacksonEventTest {
         assertThat(result, is(equalTo(String.format("{\"foo\":\"bar\",\"testObject\":{\"field1\":\"%s\"},\"list\":[1,4,5]}", value))));
     }
 
+    @Test
+    public void testToJsonString_withSerializedData_returns_serialized_data() {
+        final String serializedData = "{\"foo\":\"bar\",\"list\":[1,4,5],\"text\":\"a \\\"quoted\\\" value\"}";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withSerializedData(serializedData)
+                .build();
+
+        assertThat(event.toJsonString(), sameInstance(serializedData));
+        assertThat(event.jsonBuilder().toJsonString(), sameInstance(serializedData));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+        assertThat(JacksonEvent.fromEvent(event).toJsonString(), sameInstance(serializedData));
+        assertThat(((JacksonEvent) event).getSerializedJson(), sameInstance(serializedData));
+
+        event.put("foo", "baz");
+
+        assertThat(((JacksonEvent) event).getSerializedJson(), nullValue());
+    }
+
+    @Test
+    public void testGetSerializedJson_without_serializedData_returns_null() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("foo", "bar"))
+                .build();
+
+        assertThat(((JacksonEvent) event).getSerializedJson(), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{ \"foo\": \"bar\", \"list\": [1, 4, 5] }",
+            "{\"foo\":\"bar\",\n\"list\":[1,4,5]}",
+            "{\"foo\":\"bar\",\"list\":[1,4,5]}\n",
+            "{\"foo\":\"bar\",\"list\":[1,4,5]}{\"other\":1}",
+            "{\"foo\":\"bar\",\"list\":[1,4,5]} trailing"
+    })
+    public void testToJsonString_withSerializedData_which_is_not_a_compact_single_object_serializes_data(final String serializedData) {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withSerializedData(serializedData)
+                .build();
+
+        assertThat(event.toJsonString(), equalTo("{\"foo\":\"bar\",\"list\":[1,4,5]}"));
+    }
+
+    @Test
+    public void testToJsonString_withSerializedData_after_modification_serializes_data() {
+        final String serializedData = "{ \"foo\": \"bar\", \"list\": [1, 4, 5] }";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withSerializedData(serializedData)
+                .build();
+        final Event otherEvent = JacksonEvent.fromEvent(event);
+        final Event clearedEvent = JacksonEvent.fromEvent(event);
+        final Event mergedEvent = JacksonEvent.fromEvent(event);
+
+        event.put("foo", "baz");
+        otherEvent.delete("list");
+        clearedEvent.clear();
+        mergedEvent.merge(JacksonEvent.builder().withEventType(eventType).withData(Map.of("other", 1)).build());
+
+        assertThat(event.toJsonString(), equalTo("{\"foo\":\"baz\",\"list\":[1,4,5]}"));
+        assertThat(otherEvent.toJsonString(), equalTo("{\"foo\":\"bar\"}"));
+        assertThat(clearedEvent.toJsonString(), equalTo("{}"));
+        assertThat(mergedEvent.toJsonString(), equalTo("{\"foo\":\"bar\",\"list\":[1,4,5],\"other\":1}"));
+    }
+
+    @Test
+    public void testSharedEventMap_is_shared_by_events_and_serialized() {
+        final SharedEventMap resource = new SharedEventMap(Map.of("name", "service", "attributes", Map.of("region", "us")));
+        final Event firstEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("resource", resource))
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("resource", resource))
+                .build();
+
+        assertThat(firstEvent.getJsonNode().get("resource"), sameInstance(secondEvent.getJsonNode().get("resource")));
+        assertThat(firstEvent.get("resource/attributes/region", String.class), equalTo("us"));
+        assertThat(firstEvent.toMap(), equalTo(Map.of("resource", Map.of("name", "service", "attributes", Map.of("region", "us")))));
+        assertThat(firstEvent.toJsonString(), equalTo(JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("resource", Map.of("name", "service", "attributes", Map.of("region", "us"))))
+                .build()
+                .toJsonString()));
+    }
+
+    @Test
+    public void testSharedEventMap_is_copied_before_an_event_modifies_it() {
+        final SharedEventMap resource = new SharedEventMap(Map.of("name", "service", "attributes", Map.of("region", "us")));
+        final Event putEvent = JacksonEvent.builder().withEventType(eventType).withData(Map.of("resource", resource)).build();
+        final Event deleteEvent = JacksonEvent.builder().withEventType(eventType).withData(Map.of("resource", resource)).build();
+        final Event unchangedEvent = JacksonEvent.builder().withEventType(eventType).withData(Map.of("resource", resource)).build();
+
+        putEvent.put("resource/attributes/region", "eu");
+        deleteEvent.delete("resource/name");
+
+        assertThat(putEvent.get("resource/attributes/region", String.class), equalTo("eu"));
+        assertThat(deleteEvent.containsKey("resource/name"), equalTo(false));
+        assertThat(unchangedEvent.get("resource/attributes/region", String.class), equalTo("us"));
+        assertThat(unchangedEvent.get("resource/name", String.class), equalTo("service"));
+        assertThat(unchangedEvent.toJsonString(), equalTo("{\"resource\":" + unchangedEvent.getJsonNode().get("resource").toString() + "}"));
+    }
+
+    @Test
+    public void testSharedEventMap_merged_into_another_event_is_copied_before_modification() {
+        final SharedEventMap resource = new SharedEventMap(Map.of("name", "service"));
+        final Event sharedEvent = JacksonEvent.builder().withEventType(eventType).withData(Map.of("resource", resource)).build();
+        event.merge(sharedEvent);
+
+        event.put("resource/name", "other");
+
+        assertThat(event.get("resource/name", String.class), equalTo("other"));
+        assertThat(sharedEvent.get("resource/name", String.class), equalTo("service"));
+    }
+
     @Test
     public void testGetAsMap_with_EmptyData() {
         final Map<String, Object> eventAsMap = event.toMap();
@@ -33,4 +33,25 @@ public interface AnomalyDetectorMode {
      * @since 2.1
      */
     Collection<Record<Event>> handleEvents(Collection<Record<Event>> records);
+
+    /**
+     * Saves the trained state of the mode so that it can be restored after a restart.
+     *
+     * @return The serialized state, or null if the mode does not support checkpoints
+     * @since 2.14
+     */
+    default byte[] saveState() {
+        return null;
+    }
+
+    /**
+     * Restores state saved by {@link #saveState()}. Called after {@link #initialize(List, boolean)}.
+     *
+     * @param state The serialized state
+     * @return true if the state was restored, false if the mode was left untrained
+     * @since 2.14
+     */
+    default boolean restoreState(byte[] state) {
+        return false;
+    }
 }
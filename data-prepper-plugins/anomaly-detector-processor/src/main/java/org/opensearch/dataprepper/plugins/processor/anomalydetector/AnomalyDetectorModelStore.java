@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * The anomaly detector models of a processor, one for each distinct set of identification key values. Models
+ * are looked up by the identification key values themselves, so two entities whose values collide on
+ * {@link Object#hashCode()} never share a model.
+ * <p>
+ * The store holds at most the cardinality limit of models. When an idle timeout is configured, models which
+ * have not scored an event within it are evicted, least recently used first, which frees room for new
+ * entities. When a checkpoint directory is configured, evicted models and all models at shutdown are written
+ * to it, and a model for an entity with a checkpoint is restored from it instead of being trained again.
+ */
+class AnomalyDetectorModelStore {
+    private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorModelStore.class);
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final ObjectMapper KEY_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private final int cardinalityLimit;
+    private final long idleTimeoutMillis;
+    private final Path checkpointDirectory;
+    private final Supplier<AnomalyDetectorMode> modelFactory;
+    private final Counter modelsEvictedCounter;
+    private final Counter modelsRestoredCounter;
+    private final Clock clock;
+    private final LinkedHashMap<IdentificationKeysMap, ModelEntry> models;
+
+    AnomalyDetectorModelStore(final int cardinalityLimit,
+                              final Duration idleTimeout,
+                              final Path checkpointDirectory,
+                              final Supplier<AnomalyDetectorMode> modelFactory,
+                              final Counter modelsEvictedCounter,
+                              final Counter modelsRestoredCounter,
+                              final Clock clock) {
+        this.cardinalityLimit = cardinalityLimit;
+        this.idleTimeoutMillis = idleTimeout == null ? Long.MAX_VALUE : idleTimeout.toMillis();
+        this.checkpointDirectory = checkpointDirectory;
+        this.modelFactory = modelFactory;
+        this.modelsEvictedCounter = modelsEvictedCounter;
+        this.modelsRestoredCounter = modelsRestoredCounter;
+        this.clock = clock;
+        this.models = new LinkedHashMap<>(16, 0.75f, true);
+        if (checkpointDirectory != null) {
+            try {
+                Files.createDirectories(checkpointDirectory);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to create the checkpoint directory " + checkpointDirectory, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the model for the identification key values, creating or restoring it if there is room.
+     *
+     * @param identificationKeysMap the identification key values of an event
+     * @return the model, or null if the cardinality limit has been reached
+     */
+    synchronized AnomalyDetectorMode getOrCreate(final IdentificationKeysMap identificationKeysMap) {
+        final long now = clock.millis();
+        ModelEntry modelEntry = models.get(identificationKeysMap);
+        if (modelEntry == null) {
+            if (models.size() >= cardinalityLimit) {
+                evictIdle(now);
+                if (models.size() >= cardinalityLimit) {
+                    return null;
+                }
+            }
+            modelEntry = new ModelEntry(createModel(identificationKeysMap));
+            models.put(identificationKeysMap, modelEntry);
+        }
+        modelEntry.lastUsedMillis = now;
+        return modelEntry.model;
+    }
+
+    /**
+     * Evicts the models which have not been used within the idle timeout.
+     */
+    synchronized void evictIdle() {
+        evictIdle(clock.millis());
+    }
+
+    /**
+     * Writes a checkpoint of every model in the store. Does nothing when no checkpoint directory is configured.
+     */
+    synchronized void checkpointAll() {
+        if (checkpointDirectory == null) {
+            return;
+        }
+        models.forEach(this::checkpoint);
+    }
+
+    synchronized int size() {
+        return models.size();
+    }
+
+    private void evictIdle(final long now) {
+        final Iterator<Map.Entry<IdentificationKeysMap, ModelEntry>> iterator = models.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<IdentificationKeysMap, ModelEntry> entry = iterator.next();
+            // The map is in access order, so the remaining models were used more recently than this one.
+            if (now - entry.getValue().lastUsedMillis < idleTimeoutMillis) {
+                break;
+            }
+            iterator.remove();
+            if (checkpointDirectory != null) {
+                checkpoint(entry.getKey(), entry.getValue());
+            }
+            modelsEvictedCounter.increment();
+        }
+    }
+
+    private AnomalyDetectorMode createModel(final IdentificationKeysMap identificationKeysMap) {
+        final AnomalyDetectorMode model = modelFactory.get();
+        if (checkpointDirectory == null) {
+            return model;
+        }
+        final Path checkpointFile = checkpointFile(identificationKeysMap);
+        if (Files.exists(checkpointFile)) {
+            try {
+                if (model.restoreState(Files.readAllBytes(checkpointFile))) {
+                    modelsRestoredCounter.increment();
+                }
+            } catch (final IOException e) {
+                LOG.warn("Unable to read the anomaly detector checkpoint {}, the model will be trained again", checkpointFile, e);
+            }
+        }
+        return model;
+    }
+
+    private void checkpoint(final IdentificationKeysMap identificationKeysMap, final ModelEntry modelEntry) {
+        final byte[] state = modelEntry.model.saveState();
+        if (state == null) {
+            return;
+        }
+        final Path checkpointFile = checkpointFile(identificationKeysMap);
+        try {
+            final Path temporaryFile = Files.createTempFile(checkpointDirectory, null, CHECKPOINT_SUFFIX + ".tmp");
+            Files.write(temporaryFile, state);
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.warn("Unable to write the anomaly detector checkpoint {}", checkpointFile, e);
+        }
+    }
+
+    /**
+     * Names the checkpoint of a model after a digest of its identification key values. The values are written
+     * with their keys in sorted order so that equal values always map to the same file.
+     */
+    Path checkpointFile(final IdentificationKeysMap identificationKeysMap) {
+        final Map<String, Object> sortedKeyMap = new TreeMap<>();
+        identificationKeysMap.getKeyMap().forEach((key, value) -> sortedKeyMap.put(String.valueOf(key), value));
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(KEY_MAPPER.writeValueAsBytes(sortedKeyMap));
+            final StringBuilder fileName = new StringBuilder(digest.length * 2 + CHECKPOINT_SUFFIX.length());
+            for (final byte b : digest) {
+                fileName.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return checkpointDirectory.resolve(fileName.append(CHECKPOINT_SUFFIX).toString());
+        } catch (final JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to name the checkpoint for identification keys " + sortedKeyMap, e);
+        }
+    }
+
+    private static class ModelEntry {
+        private final AnomalyDetectorMode model;
+        private long lastUsedMillis;
+
+        private ModelEntry(final AnomalyDetectorMode model) {
+            this.model = model;
+        }
+    }
+}
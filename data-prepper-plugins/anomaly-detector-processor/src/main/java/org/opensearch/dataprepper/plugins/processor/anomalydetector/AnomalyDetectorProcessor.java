@@ -21,12 +21,17 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -36,13 +41,16 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     public static final String GRADE_KEY = "grade";
     static final String NUMBER_RCF_INSTANCES = "RCFInstances";
     static final String CARDINALITY_OVERFLOW = "cardinalityOverflow";
+    static final String MODELS_EVICTED = "modelsEvicted";
+    static final String MODELS_RESTORED = "modelsRestored";
 
     private final Boolean verbose;
     private final int cardinalityLimit;
     private final IdentificationKeysHasher identificationKeysHasher;
     private final List<String> keys;
     private final PluginFactory pluginFactory;
-    private final HashMap<Integer, AnomalyDetectorMode> forestMap;
+    private final AnomalyDetectorModelStore modelStore;
+    private final ForestScoringPool scoringPool;
     private final AtomicInteger cardinality;
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
     private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorProcessor.class);
@@ -59,7 +67,20 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         this.cardinality = pluginMetrics.gauge(NUMBER_RCF_INSTANCES, new AtomicInteger());
         this.cardinalityLimit = anomalyDetectorProcessorConfig.getCardinalityLimit();
         this.cardinalityOverflowCounter = pluginMetrics.counter(CARDINALITY_OVERFLOW);
-        forestMap = new HashMap<>();
+        final String checkpointDirectory = anomalyDetectorProcessorConfig.getCheckpointDirectory();
+        this.modelStore = new AnomalyDetectorModelStore(cardinalityLimit,
+                anomalyDetectorProcessorConfig.getModelIdleTimeout(),
+                checkpointDirectory == null ? null : Paths.get(checkpointDirectory),
+                () -> {
+                    final AnomalyDetectorMode forest = loadAnomalyDetectorMode(pluginFactory);
+                    forest.initialize(keys, verbose);
+                    return forest;
+                },
+                pluginMetrics.counter(MODELS_EVICTED),
+                pluginMetrics.counter(MODELS_RESTORED),
+                Clock.systemUTC());
+        final int scoringThreads = anomalyDetectorProcessorConfig.getScoringThreads();
+        this.scoringPool = scoringThreads > 0 ? new ForestScoringPool(scoringThreads) : null;
     }
 
     private AnomalyDetectorMode loadAnomalyDetectorMode(final PluginFactory pluginFactory) {
@@ -71,21 +92,25 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
+        modelStore.evictIdle();
 
+        // Each model scores all of its records in one call, in the order they arrived.
+        final Map<AnomalyDetectorMode, ForestScoringPool.ForestBatch> batchesByForest = new IdentityHashMap<>();
+        final List<ForestScoringPool.ForestBatch> batches = new ArrayList<>();
         for (final Record<Event> record : records) {
             final Event event = record.getData();
-            // If user has not configured IdentificationKeys, the empty set will always hash to "31",
+            // If user has not configured IdentificationKeys, the empty map is the only key,
             // so the same forest will be used, and we don't need to write a special case.
             final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            AnomalyDetectorMode forest = forestMap.get(identificationKeysMap.hashCode());
+            final AnomalyDetectorMode forest = modelStore.getOrCreate(identificationKeysMap);
 
             if (Objects.nonNull(forest)) {
-                recordsOut.addAll(forest.handleEvents(List.of(record)));
-            } else if (forestMap.size() < cardinalityLimit) {
-                forest = loadAnomalyDetectorMode(pluginFactory);
-                forest.initialize(keys, verbose);
-                forestMap.put(identificationKeysMap.hashCode(), forest);
-                recordsOut.addAll(forest.handleEvents(List.of(record)));
+                batchesByForest.computeIfAbsent(forest, f -> {
+                    final ForestScoringPool.ForestBatch batch = new ForestScoringPool.ForestBatch(f,
+                            scoringPool == null ? 0 : scoringPool.shardFor(identificationKeysMap));
+                    batches.add(batch);
+                    return batch;
+                }).records.add(record);
             } else {
                 if (Instant.now().isAfter(nextWarnTime)) {
                     LOG.warn("Cardinality limit reached, see cardinalityOverflow metric for count of skipped records");
@@ -94,10 +119,33 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
                 cardinalityOverflowCounter.increment();
             }
         }
-        cardinality.set(forestMap.size());
+        if (scoringPool == null) {
+            for (final ForestScoringPool.ForestBatch batch : batches) {
+                recordsOut.addAll(batch.forest.handleEvents(batch.records));
+            }
+        } else {
+            recordsOut.addAll(scoringPool.score(batches));
+        }
+        if (batches.size() > 1 && recordsOut.size() > 1) {
+            restoreInputOrder(records, recordsOut);
+        }
+        cardinality.set(modelStore.size());
         return recordsOut;
     }
 
+    /**
+     * Sorts the anomalies of several models back into the order their records arrived in. Records which a
+     * mode created rather than passed through keep their relative order after the others.
+     */
+    private static void restoreInputOrder(final Collection<Record<Event>> records, final List<Record<Event>> recordsOut) {
+        final Map<Record<Event>, Integer> inputPositions = new IdentityHashMap<>(records.size());
+        int position = 0;
+        for (final Record<Event> record : records) {
+            inputPositions.put(record, position++);
+        }
+        recordsOut.sort(Comparator.comparingInt(record -> inputPositions.getOrDefault(record, Integer.MAX_VALUE)));
+    }
+
 
     @Override
     public void prepareForShutdown() {
@@ -111,6 +159,9 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
     @Override
     public void shutdown() {
-
+        if (scoringPool != null) {
+            scoringPool.shutdown();
+        }
+        modelStore.checkpointAll();
     }
 }
@@ -13,9 +13,11 @@ import org.opensearch.dataprepper.model.annotations.UsesDataPrepperPlugin;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -49,6 +51,19 @@ public class AnomalyDetectorProcessorConfig {
     @JsonProperty(value = "cardinality_limit", defaultValue = "5000")
     private int cardinalityLimit = 5000;
 
+    @JsonPropertyDescription("If provided, a model which has not seen an event for this long is removed, making room for models of new identification key values. By default, models are never removed.")
+    @JsonProperty("model_idle_timeout")
+    private Duration modelIdleTimeout;
+
+    @JsonPropertyDescription("If provided, models are saved to this local directory when they are removed and when the processor shuts down. A model whose identification key values have a saved state is restored from it instead of being trained again.")
+    @JsonProperty("checkpoint_directory")
+    private String checkpointDirectory;
+
+    @JsonPropertyDescription("The number of threads which score events. Each model is always scored by the same thread, chosen by its identification key values, so models are scored in parallel across cores. By default, events are scored on the pipeline worker threads.")
+    @JsonProperty(value = "scoring_threads", defaultValue = "0")
+    @Min(0)
+    private int scoringThreads = 0;
+
     public PluginModel getDetectorMode() { 
         return detectorMode;
     }
@@ -72,5 +87,17 @@ public class AnomalyDetectorProcessorConfig {
         return cardinalityLimit;
     }
 
+    public Duration getModelIdleTimeout() {
+        return modelIdleTimeout;
+    }
+
+    public String getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    public int getScoringThreads() {
+        return scoringThreads;
+    }
+
 
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores models on a pool of shard threads. Each model belongs to the shard selected by its identification
+ * key values, and every shard is a single thread, so a model is only ever scored by its own shard and the
+ * shards never contend for a model. A batch is split by shard and the calling thread waits for all shards.
+ */
+class ForestScoringPool {
+    private static final Logger LOG = LoggerFactory.getLogger(ForestScoringPool.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final List<ExecutorService> shards;
+
+    ForestScoringPool(final int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The scoring pool needs at least one shard, but was given " + shardCount);
+        }
+        final BackgroundThreadFactory threadFactory = BackgroundThreadFactory.defaultExecutorThreadFactory("anomaly-detector-scoring");
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(Executors.newSingleThreadExecutor(threadFactory));
+        }
+    }
+
+    int shardFor(final IdentificationKeysMap identificationKeysMap) {
+        final int hash = identificationKeysMap.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+    }
+
+    /**
+     * Scores each batch on its shard and waits for all of them.
+     *
+     * @param batches the records of each model, with the shard of the model
+     * @return the anomalies, grouped by shard
+     */
+    List<Record<Event>> score(final List<ForestBatch> batches) {
+        final List<List<ForestBatch>> batchesByShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            batchesByShard.add(new ArrayList<>());
+        }
+        batches.forEach(batch -> batchesByShard.get(batch.shard).add(batch));
+
+        final List<Future<List<Record<Event>>>> futures = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            final List<ForestBatch> shardBatches = batchesByShard.get(i);
+            if (!shardBatches.isEmpty()) {
+                futures.add(shards.get(i).submit(() -> scoreOnShard(shardBatches)));
+            }
+        }
+
+        // Every shard is waited for, even after one fails, so that no shard still modifies events once this returns.
+        final List<Record<Event>> anomalies = new ArrayList<>();
+        RuntimeException failure = null;
+        for (final Future<List<Record<Event>>> future : futures) {
+            try {
+                anomalies.addAll(getUninterruptibly(future));
+            } catch (final ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                            : new RuntimeException("Anomaly detector scoring failed", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return anomalies;
+    }
+
+    void shutdown() {
+        shards.forEach(ExecutorService::shutdown);
+        try {
+            for (final ExecutorService shard : shards) {
+                if (!shard.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOG.warn("Anomaly detector scoring thread did not finish within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T getUninterruptibly(final Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static List<Record<Event>> scoreOnShard(final List<ForestBatch> shardBatches) {
+        final List<Record<Event>> anomalies = new ArrayList<>();
+        for (final ForestBatch batch : shardBatches) {
+            anomalies.addAll(batch.forest.handleEvents(batch.records));
+        }
+        return anomalies;
+    }
+
+    /**
+     * The records of one batch which are scored by one model.
+     */
+    static class ForestBatch {
+        final AnomalyDetectorMode forest;
+        final int shard;
+        final List<Record<Event>> records = new ArrayList<>();
+
+        ForestBatch(final AnomalyDetectorMode forest, final int shard) {
+            this.forest = forest;
+            this.shard = shard;
+        }
+    }
+}
@@ -18,10 +18,15 @@ import com.amazon.randomcutforest.config.Precision;
 import com.amazon.randomcutforest.config.TransformMethod;
 import com.amazon.randomcutforest.parkservices.AnomalyDescriptor;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorMode;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.DEVIATION_KEY;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.GRADE_KEY;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
@@ -36,6 +41,8 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
     private static final double INITIAL_ACCEPT_FRACTION = 0.125;
     private static final double LOWER_THRESHOLD = 1.1;
     private static final double HORIZON_VALUE = 0.75;
+    private static final ObjectMapper STATE_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     
     private ThresholdedRandomCutForest forest;
     private int baseDimensions;
@@ -146,5 +153,42 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
         }
         return recordsOut;
     }
-}
 
+    @Override
+    public byte[] saveState() {
+        processLock.lock();
+        try {
+            return STATE_MAPPER.writeValueAsBytes(new ThresholdedRandomCutForestMapper().toState(forest));
+        } catch (final IOException e) {
+            LOG.warn("Unable to save the state of the random cut forest", e);
+            return null;
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean restoreState(final byte[] state) {
+        final ThresholdedRandomCutForest restoredForest;
+        try {
+            restoredForest = new ThresholdedRandomCutForestMapper()
+                    .toModel(STATE_MAPPER.readValue(state, ThresholdedRandomCutForestState.class));
+        } catch (final Exception e) {
+            LOG.warn("Unable to restore the state of the random cut forest, it will be trained again", e);
+            return false;
+        }
+        // A checkpoint taken with other keys or another shingle size cannot score these events.
+        if (restoredForest.getForest().getDimensions() != forest.getForest().getDimensions()) {
+            LOG.warn("Ignoring a random cut forest checkpoint with {} dimensions, expected {}",
+                    restoredForest.getForest().getDimensions(), forest.getForest().getDimensions());
+            return false;
+        }
+        processLock.lock();
+        try {
+            forest = restoredForest;
+        } finally {
+            processLock.unlock();
+        }
+        return true;
+    }
+}
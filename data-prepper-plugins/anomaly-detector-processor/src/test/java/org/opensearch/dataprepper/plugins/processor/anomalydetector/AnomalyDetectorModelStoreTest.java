@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnomalyDetectorModelStoreTest {
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Mock
+    private Counter modelsEvictedCounter;
+    @Mock
+    private Counter modelsRestoredCounter;
+    @Mock
+    private Clock clock;
+
+    @TempDir
+    private Path checkpointDirectory;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000L;
+    }
+
+    private AnomalyDetectorModelStore createObjectUnderTest(final int cardinalityLimit, final Duration idleTimeout, final Path checkpointDirectory) {
+        when(clock.millis()).thenAnswer(invocation -> now);
+        return new AnomalyDetectorModelStore(cardinalityLimit, idleTimeout, checkpointDirectory,
+                () -> mock(AnomalyDetectorMode.class), modelsEvictedCounter, modelsRestoredCounter, clock);
+    }
+
+    private static IdentificationKeysMap keysFor(final Object value) {
+        final Map<Object, Object> keyMap = new HashMap<>();
+        keyMap.put("ip", value);
+        return new IdentificationKeysMap(keyMap);
+    }
+
+    @Test
+    void getOrCreate_returns_the_same_model_for_equal_identification_keys() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(10, null, null);
+
+        final AnomalyDetectorMode model = objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+
+        assertThat(model, notNullValue());
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), sameInstance(model));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void getOrCreate_returns_different_models_for_identification_keys_with_the_same_hash_code() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(10, null, null);
+        // "Aa" and "BB" have the same String hash code.
+        final IdentificationKeysMap first = keysFor("Aa");
+        final IdentificationKeysMap second = keysFor("BB");
+        assertThat(first.hashCode(), equalTo(second.hashCode()));
+
+        assertThat(objectUnderTest.getOrCreate(first), not(sameInstance(objectUnderTest.getOrCreate(second))));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void getOrCreate_returns_null_when_the_cardinality_limit_is_reached() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(2, null, null);
+        objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        objectUnderTest.getOrCreate(keysFor("2.2.2.2"));
+
+        assertThat(objectUnderTest.getOrCreate(keysFor("3.3.3.3")), nullValue());
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), notNullValue());
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void getOrCreate_evicts_an_idle_model_to_make_room_at_the_cardinality_limit() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(2, IDLE_TIMEOUT, null);
+        final AnomalyDetectorMode idleModel = objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        now += IDLE_TIMEOUT.toMillis() / 2;
+        objectUnderTest.getOrCreate(keysFor("2.2.2.2"));
+        now += IDLE_TIMEOUT.toMillis() / 2;
+
+        assertThat(objectUnderTest.getOrCreate(keysFor("3.3.3.3")), notNullValue());
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), nullValue());
+        verify(modelsEvictedCounter).increment();
+        verify(idleModel, never()).saveState();
+    }
+
+    @Test
+    void evictIdle_removes_only_models_which_were_not_used_within_the_idle_timeout() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(10, IDLE_TIMEOUT, null);
+        final AnomalyDetectorMode recentlyUsedModel = objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        objectUnderTest.getOrCreate(keysFor("2.2.2.2"));
+        now += IDLE_TIMEOUT.toMillis() - 1;
+        objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        now += 1;
+
+        objectUnderTest.evictIdle();
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), sameInstance(recentlyUsedModel));
+        verify(modelsEvictedCounter).increment();
+    }
+
+    @Test
+    void evictIdle_does_nothing_without_an_idle_timeout() {
+        final AnomalyDetectorModelStore objectUnderTest = createObjectUnderTest(10, null, null);
+        objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        now += Duration.ofDays(365).toMillis();
+
+        objectUnderTest.evictIdle();
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        verify(modelsEvictedCounter, never()).increment();
+    }
+
+    @Test
+    void evicted_model_is_checkpointed_and_restored() throws Exception {
+        final byte[] state = UUID.randomUUID().toString().getBytes();
+        final AnomalyDetectorMode evictedModel = mock(AnomalyDetectorMode.class);
+        when(evictedModel.saveState()).thenReturn(state);
+        final AnomalyDetectorMode restoredModel = mock(AnomalyDetectorMode.class);
+        when(restoredModel.restoreState(state)).thenReturn(true);
+        final AnomalyDetectorMode[] models = {evictedModel, restoredModel};
+        final int[] created = {0};
+        when(clock.millis()).thenAnswer(invocation -> now);
+        final AnomalyDetectorModelStore objectUnderTest = new AnomalyDetectorModelStore(10, IDLE_TIMEOUT, checkpointDirectory,
+                () -> models[created[0]++], modelsEvictedCounter, modelsRestoredCounter, clock);
+
+        objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        now += IDLE_TIMEOUT.toMillis();
+        objectUnderTest.evictIdle();
+
+        assertThat(Files.readAllBytes(objectUnderTest.checkpointFile(keysFor("1.1.1.1"))), equalTo(state));
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), sameInstance(restoredModel));
+        verify(restoredModel).restoreState(state);
+        verify(modelsRestoredCounter).increment();
+    }
+
+    @Test
+    void getOrCreate_does_not_restore_a_model_without_a_checkpoint() {
+        final AnomalyDetectorMode model = mock(AnomalyDetectorMode.class);
+        when(clock.millis()).thenAnswer(invocation -> now);
+        final AnomalyDetectorModelStore objectUnderTest = new AnomalyDetectorModelStore(10, null, checkpointDirectory,
+                () -> model, modelsEvictedCounter, modelsRestoredCounter, clock);
+
+        assertThat(objectUnderTest.getOrCreate(keysFor("1.1.1.1")), sameInstance(model));
+        verify(model, never()).restoreState(any());
+        verify(modelsRestoredCounter, never()).increment();
+    }
+
+    @Test
+    void checkpointAll_writes_every_model_which_supports_checkpoints() throws Exception {
+        final AnomalyDetectorMode model = mock(AnomalyDetectorMode.class);
+        final byte[] state = UUID.randomUUID().toString().getBytes();
+        when(model.saveState()).thenReturn(state, (byte[]) null);
+        when(clock.millis()).thenAnswer(invocation -> now);
+        final AnomalyDetectorModelStore objectUnderTest = new AnomalyDetectorModelStore(10, null, checkpointDirectory,
+                () -> model, modelsEvictedCounter, modelsRestoredCounter, clock);
+        objectUnderTest.getOrCreate(keysFor("1.1.1.1"));
+        objectUnderTest.getOrCreate(keysFor("2.2.2.2"));
+
+        objectUnderTest.checkpointAll();
+
+        assertThat(Files.readAllBytes(objectUnderTest.checkpointFile(keysFor("1.1.1.1"))), equalTo(state));
+        assertThat(Files.exists(objectUnderTest.checkpointFile(keysFor("2.2.2.2"))), equalTo(false));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void checkpointFile_does_not_depend_on_the_order_of_the_identification_keys() {
+        final AnomalyDetectorModelStore objectUnderTest = new AnomalyDetectorModelStore(10, null, checkpointDirectory,
+                () -> mock(AnomalyDetectorMode.class), modelsEvictedCounter, modelsRestoredCounter, clock);
+        final Map<Object, Object> first = new LinkedHashMap<>();
+        first.put("ip", "1.1.1.1");
+        first.put("service", "checkout");
+        final Map<Object, Object> second = new LinkedHashMap<>();
+        second.put("service", "checkout");
+        second.put("ip", "1.1.1.1");
+
+        assertThat(objectUnderTest.checkpointFile(new IdentificationKeysMap(first)),
+                equalTo(objectUnderTest.checkpointFile(new IdentificationKeysMap(second))));
+        assertThat(objectUnderTest.checkpointFile(keysFor("Aa")),
+                not(equalTo(objectUnderTest.checkpointFile(keysFor("BB")))));
+    }
+}
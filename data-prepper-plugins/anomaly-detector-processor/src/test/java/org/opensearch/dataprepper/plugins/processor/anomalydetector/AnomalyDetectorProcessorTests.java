@@ -36,6 +36,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
@@ -255,6 +256,46 @@ public class AnomalyDetectorProcessorTests {
 
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4})
+    void testAnomalyDetectorKeepsInputOrderAcrossModels(int scoringThreads) {
+        List<String> identificationKeyList = new ArrayList<String>();
+        identificationKeyList.add("ip");
+        when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeyList);
+        when(mockConfig.getScoringThreads()).thenReturn(scoringThreads);
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            final String ip = i % 2 == 0 ? "1.1.1.1" : "2.2.2.2";
+            records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6), ThreadLocalRandom.current().nextLong(100, 110), ip));
+        }
+        anomalyDetectorProcessor.doExecute(records);
+
+        final Record<Event> slowRecordFromSecondIp = getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "2.2.2.2");
+        final Record<Event> slowRecordFromFirstIp = getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "1.1.1.1");
+        final List<Record<Event>> recordsWithAnomaly = (List<Record<Event>>) anomalyDetectorProcessor.doExecute(List.of(slowRecordFromSecondIp, slowRecordFromFirstIp));
+
+        assertThat(recordsWithAnomaly.size(), equalTo(2));
+        assertThat(recordsWithAnomaly.get(0), sameInstance(slowRecordFromSecondIp));
+        assertThat(recordsWithAnomaly.get(1), sameInstance(slowRecordFromFirstIp));
+        anomalyDetectorProcessor.shutdown();
+    }
+
+    @Test
+    void testAnomalyDetectorProcessorInvalidTypeKeysWithScoringThreads() {
+        when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("bytes")));
+        when(mockConfig.getScoringThreads()).thenReturn(2);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < 16; i++) {
+            records.add(getBytesStringMessage(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        }
+        assertThrows(RuntimeException.class, () -> anomalyDetectorProcessor.doExecute(records));
+        anomalyDetectorProcessor.shutdown();
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
             .withData(data)
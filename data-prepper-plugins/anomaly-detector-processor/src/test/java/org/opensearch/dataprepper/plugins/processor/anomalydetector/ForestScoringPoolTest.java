@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ForestScoringPoolTest {
+    private static final int SHARD_COUNT = 4;
+
+    private ForestScoringPool objectUnderTest;
+
+    @AfterEach
+    void tearDown() {
+        if (objectUnderTest != null) {
+            objectUnderTest.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_without_shards(final int shardCount) {
+        assertThrows(IllegalArgumentException.class, () -> new ForestScoringPool(shardCount));
+    }
+
+    @Test
+    void shardFor_is_stable_for_equal_identification_keys() {
+        objectUnderTest = new ForestScoringPool(SHARD_COUNT);
+        for (int i = 0; i < 100; i++) {
+            final int shard = objectUnderTest.shardFor(keysFor("10.0.0." + i));
+            assertThat(objectUnderTest.shardFor(keysFor("10.0.0." + i)), equalTo(shard));
+            assertThat(shard, lessThan(SHARD_COUNT));
+        }
+    }
+
+    @Test
+    void score_runs_every_model_on_its_shard_thread_and_returns_all_anomalies() {
+        objectUnderTest = new ForestScoringPool(SHARD_COUNT);
+        final Map<Integer, String> threadByShard = new ConcurrentHashMap<>();
+        final AtomicBoolean sameShardOnTwoThreads = new AtomicBoolean();
+        final List<ForestScoringPool.ForestBatch> batches = new ArrayList<>();
+        final List<Record<Event>> allRecords = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int shard = i % SHARD_COUNT;
+            final ForestScoringPool.ForestBatch batch = new ForestScoringPool.ForestBatch(new PassThroughMode(() -> {
+                final String previous = threadByShard.putIfAbsent(shard, Thread.currentThread().getName());
+                if (previous != null && !previous.equals(Thread.currentThread().getName())) {
+                    sameShardOnTwoThreads.set(true);
+                }
+            }), shard);
+            final Record<Event> record = new Record<>(mock(Event.class));
+            batch.records.add(record);
+            allRecords.add(record);
+            batches.add(batch);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            final List<Record<Event>> anomalies = objectUnderTest.score(batches);
+            assertThat(anomalies, containsInAnyOrder(allRecords.toArray()));
+        }
+        assertThat(threadByShard.size(), equalTo(SHARD_COUNT));
+        assertThat(sameShardOnTwoThreads.get(), equalTo(false));
+    }
+
+    @Test
+    void score_rethrows_a_failure_after_every_shard_has_finished() {
+        objectUnderTest = new ForestScoringPool(SHARD_COUNT);
+        final RuntimeException failure = new IllegalStateException("scoring failed");
+        final AtomicBoolean otherShardFinished = new AtomicBoolean();
+        final ForestScoringPool.ForestBatch failingBatch = new ForestScoringPool.ForestBatch(new PassThroughMode(() -> {
+            throw failure;
+        }), 0);
+        final ForestScoringPool.ForestBatch slowBatch = new ForestScoringPool.ForestBatch(new PassThroughMode(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            otherShardFinished.set(true);
+        }), 1);
+
+        final RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> objectUnderTest.score(List.of(failingBatch, slowBatch)));
+
+        assertThat(thrown, sameInstance(failure));
+        assertThat(otherShardFinished.get(), equalTo(true));
+    }
+
+    private static IdentificationKeysMap keysFor(final Object value) {
+        return new IdentificationKeysMap(Collections.singletonMap("ip", value));
+    }
+
+    private static class PassThroughMode implements AnomalyDetectorMode {
+        private final Runnable onScore;
+
+        private PassThroughMode(final Runnable onScore) {
+            this.onScore = onScore;
+        }
+
+        @Override
+        public void initialize(final List<String> keys, final boolean verbose) {
+        }
+
+        @Override
+        public Collection<Record<Event>> handleEvents(final Collection<Record<Event>> records) {
+            onScore.run();
+            return new ArrayList<>(records);
+        }
+    }
+}
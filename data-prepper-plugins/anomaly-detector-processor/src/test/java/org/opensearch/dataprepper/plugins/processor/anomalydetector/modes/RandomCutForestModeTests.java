@@ -23,6 +23,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -211,4 +212,76 @@ public class RandomCutForestModeTests {
         // Due to inherent variance in the RCF algorithm, 1-3 anomalies will be detected after the level shift.
         assertThat(anomalyRecords.size(), both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(3)));
     }
+
+    @Test
+    void testRandomCutForestModeRestoredFromSavedStateGradesLikeTheSavedForest() {
+        final List<String> keys = new ArrayList<String>(Collections.singleton("latency"));
+        final RandomCutForestMode savedMode = createObjectUnderTest();
+        savedMode.initialize(keys, false);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+        }
+        savedMode.handleEvents(records);
+
+        final byte[] state = savedMode.saveState();
+        assertThat(state, notNullValue());
+        final RandomCutForestMode restoredMode = createObjectUnderTest();
+        restoredMode.initialize(keys, false);
+        assertThat(restoredMode.restoreState(state), equalTo(true));
+
+        final List<Record<Event>> savedModeRecords = new ArrayList<Record<Event>>();
+        final List<Record<Event>> restoredModeRecords = new ArrayList<Record<Event>>();
+        for (int i = 0; i < 20; i++) {
+            final double latency = i % 5 == 4 ?
+                    ThreadLocalRandom.current().nextDouble(10.4, 10.8) : ThreadLocalRandom.current().nextDouble(0.5, 0.6);
+            savedModeRecords.add(getLatencyMessage(UUID.randomUUID().toString(), latency));
+            restoredModeRecords.add(getLatencyMessage(UUID.randomUUID().toString(), latency));
+        }
+        final List<Record<Event>> savedModeAnomalies = savedMode.handleEvents(savedModeRecords).stream().collect(toList());
+        final List<Record<Event>> restoredModeAnomalies = restoredMode.handleEvents(restoredModeRecords).stream().collect(toList());
+
+        assertThat(savedModeAnomalies.size(), greaterThan(0));
+        assertThat(restoredModeAnomalies.size(), equalTo(savedModeAnomalies.size()));
+        for (int i = 0; i < savedModeAnomalies.size(); i++) {
+            final Event savedModeEvent = savedModeAnomalies.get(i).getData();
+            final Event restoredModeEvent = restoredModeAnomalies.get(i).getData();
+            assertThat(restoredModeEvent.get("latency", Double.class), equalTo(savedModeEvent.get("latency", Double.class)));
+            assertThat(restoredModeEvent.get(GRADE_KEY, Double.class), equalTo(savedModeEvent.get(GRADE_KEY, Double.class)));
+            assertThat(restoredModeEvent.get(DEVIATION_KEY, List.class), equalTo(savedModeEvent.get(DEVIATION_KEY, List.class)));
+        }
+    }
+
+    @Test
+    void testRandomCutForestModeDoesNotRestoreStateSavedWithOtherKeys() {
+        final RandomCutForestMode savedMode = createObjectUnderTest();
+        savedMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+        }
+        savedMode.handleEvents(records);
+        final byte[] state = savedMode.saveState();
+
+        randomCutForestMode = createObjectUnderTest();
+        final List<String> keyList = new ArrayList<String>();
+        keyList.add("latency");
+        keyList.add("bytes");
+        randomCutForestMode.initialize(keyList, false);
+
+        assertThat(randomCutForestMode.restoreState(state), equalTo(false));
+        final List<Record<Event>> untrainedRecords = new ArrayList<Record<Event>>();
+        untrainedRecords.add(getMessageFloatLong(UUID.randomUUID().toString(), "latency", "bytes", 10.5, 1000));
+        assertThat(randomCutForestMode.handleEvents(untrainedRecords).size(), equalTo(0));
+    }
+
+    @Test
+    void testRandomCutForestModeDoesNotRestoreInvalidState() {
+        randomCutForestMode = createObjectUnderTest();
+        randomCutForestMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+
+        assertThat(randomCutForestMode.restoreState(UUID.randomUUID().toString().getBytes()), equalTo(false));
+    }
 }
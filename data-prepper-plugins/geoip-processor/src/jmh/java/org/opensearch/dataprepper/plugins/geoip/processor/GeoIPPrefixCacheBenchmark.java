@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.processor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures lookups of many distinct addresses, as in CDN logs, with and without the {@link GeoIPPrefixCache}.
+ * The database is simulated by a reader which spends a fixed amount of work per lookup and reports /24 networks.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class GeoIPPrefixCacheBenchmark {
+    private static final int ADDRESS_COUNT = 1 << 16;
+    private static final int NETWORK_PREFIX_LENGTH = 24;
+    private static final long LOOKUP_TOKENS = 500;
+
+    @Param({"1000", "100000"})
+    private int networkCount;
+
+    private InetAddress[] addresses;
+    private GeoIPDatabaseReader geoIPDatabaseReader;
+    private GeoIPPrefixCache geoIPPrefixCache;
+    private Collection<GeoIPField> fields;
+    private Collection<GeoIPDatabase> geoIPDatabases;
+
+    @Setup
+    public void setUp() throws UnknownHostException {
+        final Random random = new Random(42);
+        addresses = new InetAddress[ADDRESS_COUNT];
+        for (int i = 0; i < ADDRESS_COUNT; i++) {
+            final int network = random.nextInt(networkCount);
+            addresses[i] = InetAddress.getByAddress(new byte[] {
+                    (byte) (1 + (network >>> 16)), (byte) (network >>> 8), (byte) network, (byte) random.nextInt(256)});
+        }
+        geoIPDatabaseReader = new SimulatedGeoIPDatabaseReader();
+        geoIPPrefixCache = new GeoIPPrefixCache(GeoIPPrefixCache.DEFAULT_CAPACITY, PluginMetrics.fromPrefix("testing"));
+        fields = List.of(GeoIPField.COUNTRY_NAME, GeoIPField.CITY_NAME);
+        geoIPDatabases = Set.of(GeoIPDatabase.CITY);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int next;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Map<String, Object> lookup_without_cache(final ThreadState threadState) {
+        return geoIPDatabaseReader.getGeoData(nextAddress(threadState), fields, geoIPDatabases);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Map<String, Object> lookup_with_prefix_cache(final ThreadState threadState) {
+        return geoIPPrefixCache.getGeoData(geoIPDatabaseReader, nextAddress(threadState), fields, geoIPDatabases);
+    }
+
+    private InetAddress nextAddress(final ThreadState threadState) {
+        final InetAddress address = addresses[threadState.next];
+        threadState.next = (threadState.next + 1) & (ADDRESS_COUNT - 1);
+        return address;
+    }
+
+    private static class SimulatedGeoIPDatabaseReader implements GeoIPDatabaseReader {
+        @Override
+        public Map<String, Object> getGeoData(final InetAddress inetAddress,
+                                              final Collection<GeoIPField> fields,
+                                              final Collection<GeoIPDatabase> geoIPDatabases) {
+            return getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases).getGeoData();
+        }
+
+        @Override
+        public GeoIPNetworkData getGeoDataWithNetwork(final InetAddress inetAddress,
+                                                      final Collection<GeoIPField> fields,
+                                                      final Collection<GeoIPDatabase> geoIPDatabases) {
+            Blackhole.consumeCPU(LOOKUP_TOKENS);
+            final Map<String, Object> geoData = new HashMap<>();
+            geoData.put(GeoIPField.COUNTRY_NAME.getFieldName(), "United States");
+            geoData.put(GeoIPField.CITY_NAME.getFieldName(), "Seattle");
+            return new GeoIPNetworkData(geoData, NETWORK_PREFIX_LENGTH);
+        }
+
+        @Override
+        public boolean isExpired() {
+            return false;
+        }
+
+        @Override
+        public void retain() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
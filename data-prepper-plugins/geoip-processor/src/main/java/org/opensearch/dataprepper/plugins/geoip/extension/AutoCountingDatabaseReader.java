@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.geoip.extension;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,13 @@ class AutoCountingDatabaseReader implements GeoIPDatabaseReader {
         return delegateDatabaseReader.getGeoData(inetAddress, fields, geoIPDatabases);
     }
 
+    @Override
+    public GeoIPNetworkData getGeoDataWithNetwork(final InetAddress inetAddress,
+                                                  final Collection<GeoIPField> fields,
+                                                  final Collection<GeoIPDatabase> geoIPDatabases) {
+        return delegateDatabaseReader.getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases);
+    }
+
     @Override
     public boolean isExpired() {
         return delegateDatabaseReader.isExpired();
@@ -22,6 +22,7 @@ import org.opensearch.dataprepper.plugins.geoip.exception.DatabaseReaderInitiali
 import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
 import org.opensearch.dataprepper.plugins.geoip.exception.NoValidDatabaseFoundException;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.DatabaseReaderBuilder;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.GeoIPFileManager;
 import org.slf4j.Logger;
@@ -84,17 +85,34 @@ class GeoIP2DatabaseReader implements GeoIPDatabaseReader, AutoCloseable {
     }
     @Override
     public Map<String, Object> getGeoData(final InetAddress inetAddress, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
+        return getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases).getGeoData();
+    }
+
+    @Override
+    public GeoIPNetworkData getGeoDataWithNetwork(final InetAddress inetAddress, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
         Map<String, Object> geoData = new HashMap<>();
+        final int addressLength = GeoIPNetworkData.addressLengthOf(inetAddress);
+        int prefixLength = 0;
 
         try {
             if (enterpriseDatabaseReader != null && !isEnterpriseDatabaseExpired.get() && geoIPDatabases.contains(GeoIPDatabase.ENTERPRISE)) {
                 final Optional<EnterpriseResponse> optionalEnterpriseResponse = enterpriseDatabaseReader.tryEnterprise(inetAddress);
-                optionalEnterpriseResponse.ifPresent(response -> processEnterpriseResponse(response, geoData, fields));
+                if (optionalEnterpriseResponse.isPresent()) {
+                    processEnterpriseResponse(optionalEnterpriseResponse.get(), geoData, fields);
+                    prefixLength = Math.max(prefixLength, GeoIPNetworkData.prefixLengthOf(optionalEnterpriseResponse.get().getTraits(), inetAddress));
+                } else {
+                    prefixLength = addressLength;
+                }
             }
 
             if (enterpriseDatabaseReader != null && !isEnterpriseDatabaseExpired.get() && geoIPDatabases.contains(GeoIPDatabase.ASN)) {
                 final Optional<AsnResponse> asnResponse = enterpriseDatabaseReader.tryAsn(inetAddress);
-                asnResponse.ifPresent(response -> processAsnResponse(response, geoData, fields));
+                if (asnResponse.isPresent()) {
+                    processAsnResponse(asnResponse.get(), geoData, fields);
+                    prefixLength = Math.max(prefixLength, GeoIPNetworkData.prefixLengthOf(asnResponse.get().getNetwork(), inetAddress));
+                } else {
+                    prefixLength = addressLength;
+                }
             }
 
         } catch (final GeoIp2Exception e) {
@@ -102,7 +120,7 @@ class GeoIP2DatabaseReader implements GeoIPDatabaseReader, AutoCloseable {
         } catch (final IOException e) {
             throw new EnrichFailedException("Failed to close database readers gracefully. It can be due to expired databases");
         }
-        return geoData;
+        return new GeoIPNetworkData(geoData, geoData.isEmpty() ? addressLength : prefixLength);
     }
 
     private void processEnterpriseResponse(final EnterpriseResponse enterpriseResponse, final Map<String, Object> geoData, final Collection<GeoIPField> fields) {
@@ -102,19 +102,26 @@ class GeoIPDatabaseManager {
         }
     }
 
+    /**
+     * Opens the new databases before taking the write lock, so that lookups only wait for the readers to be swapped.
+     * Batches which still hold the old reader keep it open until they close it.
+     */
     private void switchDatabase() {
-        writeLock.lock();
         try {
             final GeoIPDatabaseReader newGeoipDatabaseReader = createReader();
-            final GeoIPDatabaseReader oldGeoipDatabaseReader = geoIPDatabaseReader;
-            geoIPDatabaseReader = newGeoipDatabaseReader;
+            final GeoIPDatabaseReader oldGeoipDatabaseReader;
+            writeLock.lock();
+            try {
+                oldGeoipDatabaseReader = geoIPDatabaseReader;
+                geoIPDatabaseReader = newGeoipDatabaseReader;
+            } finally {
+                writeLock.unlock();
+            }
             if (oldGeoipDatabaseReader != null) {
                 oldGeoipDatabaseReader.close();
             }
         } catch (Exception e) {
             LOG.error("Failed to close geoip database readers due to: {}", e.getMessage());
-        } finally {
-            writeLock.unlock();
         }
     }
 
@@ -24,6 +24,7 @@ import org.opensearch.dataprepper.plugins.geoip.exception.EngineFailureException
 import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
 import org.opensearch.dataprepper.plugins.geoip.exception.NoValidDatabaseFoundException;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.DatabaseReaderBuilder;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.GeoIPFileManager;
 import org.slf4j.Logger;
@@ -104,22 +105,48 @@ class GeoLite2DatabaseReader implements GeoIPDatabaseReader, AutoCloseable {
 
     @Override
     public Map<String, Object> getGeoData(final InetAddress inetAddress, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
+        return getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases).getGeoData();
+    }
+
+    /**
+     * The databases have networks of their own, so the geo data applies to the smallest of them, which is the
+     * one with the longest prefix. A database without a record for the address limits it to the address itself.
+     */
+    @Override
+    public GeoIPNetworkData getGeoDataWithNetwork(final InetAddress inetAddress, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
         final Map<String, Object> geoData = new HashMap<>();
+        final int addressLength = GeoIPNetworkData.addressLengthOf(inetAddress);
+        int prefixLength = 0;
 
         try {
             if (countryDatabaseReader != null && !isCountryDatabaseExpired.get() && geoIPDatabases.contains(GeoIPDatabase.COUNTRY)) {
                 final Optional<CountryResponse> countryResponse = countryDatabaseReader.tryCountry(inetAddress);
-                countryResponse.ifPresent(response -> processCountryResponse(response, geoData, fields));
+                if (countryResponse.isPresent()) {
+                    processCountryResponse(countryResponse.get(), geoData, fields);
+                    prefixLength = Math.max(prefixLength, GeoIPNetworkData.prefixLengthOf(countryResponse.get().getTraits(), inetAddress));
+                } else {
+                    prefixLength = addressLength;
+                }
             }
 
             if (cityDatabaseReader != null && !isCityDatabaseExpired.get() && geoIPDatabases.contains(GeoIPDatabase.CITY)) {
                 final Optional<CityResponse> cityResponse = cityDatabaseReader.tryCity(inetAddress);
-                cityResponse.ifPresent(response -> processCityResponse(response, geoData, fields, geoIPDatabases));
+                if (cityResponse.isPresent()) {
+                    processCityResponse(cityResponse.get(), geoData, fields, geoIPDatabases);
+                    prefixLength = Math.max(prefixLength, GeoIPNetworkData.prefixLengthOf(cityResponse.get().getTraits(), inetAddress));
+                } else {
+                    prefixLength = addressLength;
+                }
             }
 
             if (asnDatabaseReader != null && !isAsnDatabaseExpired.get() && geoIPDatabases.contains(GeoIPDatabase.ASN)) {
                 final Optional<AsnResponse> asnResponse = asnDatabaseReader.tryAsn(inetAddress);
-                asnResponse.ifPresent(response -> processAsnResponse(response, geoData, fields));
+                if (asnResponse.isPresent()) {
+                    processAsnResponse(asnResponse.get(), geoData, fields);
+                    prefixLength = Math.max(prefixLength, GeoIPNetworkData.prefixLengthOf(asnResponse.get().getNetwork(), inetAddress));
+                } else {
+                    prefixLength = addressLength;
+                }
             }
 
         } catch (final GeoIp2Exception e) {
@@ -127,7 +154,7 @@ class GeoLite2DatabaseReader implements GeoIPDatabaseReader, AutoCloseable {
         } catch (final IOException e) {
             throw new EngineFailureException("Failed to close database readers gracefully. It can be due to expired databases.");
         }
-        return geoData;
+        return new GeoIPNetworkData(geoData, geoData.isEmpty() ? addressLength : prefixLength);
     }
 
     private void processCountryResponse(final CountryResponse countryResponse, final Map<String, Object> geoData, final Collection<GeoIPField> fields) {
@@ -46,6 +46,23 @@ public interface GeoIPDatabaseReader extends AutoCloseable {
      */
     Map<String, Object> getGeoData(InetAddress inetAddress, Collection<GeoIPField> fields, Collection<GeoIPDatabase> geoIPDatabases);
 
+    /**
+     * Gets the geo data from the {@link com.maxmind.geoip2.DatabaseReader} together with the prefix length of the
+     * network it applies to. Readers which do not know the network report the full length of the address.
+     *
+     * @param inetAddress InetAddress
+     * @param fields fields
+     * @param geoIPDatabases geo ip databases
+     * @return geo data of the network which contains the IP address
+     *
+     * @since 2.14
+     */
+    default GeoIPNetworkData getGeoDataWithNetwork(final InetAddress inetAddress,
+                                                   final Collection<GeoIPField> fields,
+                                                   final Collection<GeoIPDatabase> geoIPDatabases) {
+        return new GeoIPNetworkData(getGeoData(inetAddress, fields, geoIPDatabases), GeoIPNetworkData.addressLengthOf(inetAddress));
+    }
+
     /**
      * Gets if the database is expired from metadata or last updated timestamp
      *
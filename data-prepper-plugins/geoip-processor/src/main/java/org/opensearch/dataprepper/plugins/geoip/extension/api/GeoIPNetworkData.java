@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.extension.api;
+
+import com.maxmind.db.Network;
+import com.maxmind.geoip2.record.Traits;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.util.Map;
+
+/**
+ * The geo data of an IP address together with the prefix length of the network it was found in.
+ * Every address which shares that prefix has the same geo data.
+ *
+ * @since 2.14
+ */
+public class GeoIPNetworkData {
+    private static final int IPV4_ADDRESS_LENGTH = 32;
+    private static final int IPV6_ADDRESS_LENGTH = 128;
+    private final Map<String, Object> geoData;
+    private final int prefixLength;
+
+    public GeoIPNetworkData(final Map<String, Object> geoData, final int prefixLength) {
+        this.geoData = geoData;
+        this.prefixLength = prefixLength;
+    }
+
+    /**
+     * Gets the geo data of the network
+     *
+     * @return Map of geo field and value pairs
+     */
+    public Map<String, Object> getGeoData() {
+        return geoData;
+    }
+
+    /**
+     * Gets the number of leading bits of the address which identify the network
+     *
+     * @return prefix length of the network
+     */
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * Gets the prefix length of the network from the traits of a MaxMind response. The full length of the
+     * address is used when the network is not known, so that the geo data only applies to the address itself.
+     *
+     * @param traits traits of the response
+     * @param inetAddress the address which was looked up
+     * @return prefix length of the network
+     */
+    public static int prefixLengthOf(final Traits traits, final InetAddress inetAddress) {
+        return prefixLengthOf(traits != null ? traits.getNetwork() : null, inetAddress);
+    }
+
+    /**
+     * Gets the prefix length of a MaxMind network. The full length of the address is used when the network
+     * is not known.
+     *
+     * @param network network of the response
+     * @param inetAddress the address which was looked up
+     * @return prefix length of the network
+     */
+    public static int prefixLengthOf(final Network network, final InetAddress inetAddress) {
+        final int addressLength = addressLengthOf(inetAddress);
+        if (network == null) {
+            return addressLength;
+        }
+        return Math.min(network.getPrefixLength(), addressLength);
+    }
+
+    /**
+     * Gets the length of an address in bits.
+     *
+     * @param inetAddress address
+     * @return 32 for IPv4 addresses and 128 for IPv6 addresses
+     */
+    public static int addressLengthOf(final InetAddress inetAddress) {
+        return inetAddress instanceof Inet6Address ? IPV6_ADDRESS_LENGTH : IPV4_ADDRESS_LENGTH;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.processor;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
+
+import java.net.InetAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches geo data per network prefix, shared by all batches of a processor. The MaxMind databases report
+ * the network an address was found in, and every address of that network has the same geo data, so one
+ * lookup serves all the addresses of a network rather than a single address.
+ * <p>
+ * The cache is a fixed size, direct mapped table which is read and written without locks. A colliding
+ * entry simply replaces the previous one. Entries hold the network prefix length, so a lookup probes the
+ * table once for each prefix length seen so far, from the longest to the shortest.
+ * <p>
+ * Entries are only valid for the {@link GeoIPDatabaseReader} which produced them. A new table is started
+ * when the database is rotated, and batches which still hold the replaced reader bypass the cache.
+ * <p>
+ * The {@link GeoIPField#IP} field is the looked up address rather than data of the network. It is removed
+ * before caching and added again for each address.
+ */
+class GeoIPPrefixCache {
+    static final String PREFIX_CACHE_HITS = "prefixCacheHits";
+    static final String PREFIX_CACHE_MISSES = "prefixCacheMisses";
+    static final int DEFAULT_CAPACITY = 16384;
+    private static final int IPV4_ADDRESS_LENGTH = 32;
+    private static final int PREFIX_LENGTH_WORDS = 3;
+    private static final String IP_FIELD_NAME = GeoIPField.IP.getFieldName();
+
+    private final int capacity;
+    private final Counter prefixCacheHits;
+    private final Counter prefixCacheMisses;
+    private volatile Table table;
+
+    GeoIPPrefixCache(final int capacity, final PluginMetrics pluginMetrics) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The prefix cache capacity must be a positive power of two.");
+        }
+        this.capacity = capacity;
+        this.prefixCacheHits = pluginMetrics.counter(PREFIX_CACHE_HITS);
+        this.prefixCacheMisses = pluginMetrics.counter(PREFIX_CACHE_MISSES);
+        this.table = new Table(null, null, capacity);
+    }
+
+    /**
+     * Decorates a reader so that its lookups go through this cache.
+     *
+     * @param delegate the reader of the current batch
+     * @return a reader which uses the cache, or null if the delegate is null
+     */
+    GeoIPDatabaseReader decorate(final GeoIPDatabaseReader delegate) {
+        if (delegate == null)
+            return null;
+        return new PrefixCachingGeoIPDatabaseReader(delegate);
+    }
+
+    /**
+     * Gets the geo data of an address. Entries are keyed by the identity of the fields and databases
+     * collections, which the processor keeps for each of its entries.
+     */
+    Map<String, Object> getGeoData(final GeoIPDatabaseReader reader,
+                                   final InetAddress inetAddress,
+                                   final Collection<GeoIPField> fields,
+                                   final Collection<GeoIPDatabase> geoIPDatabases) {
+        final Table currentTable = tableFor(reader);
+        if (currentTable == null) {
+            return reader.getGeoData(inetAddress, fields, geoIPDatabases);
+        }
+
+        final byte[] address = inetAddress.getAddress();
+        final Entry cachedEntry = currentTable.find(address, fields, geoIPDatabases);
+        if (cachedEntry != null) {
+            prefixCacheHits.increment();
+            return cachedEntry.includesIpAddress ? withIpAddress(cachedEntry.geoData, inetAddress) : cachedEntry.geoData;
+        }
+
+        prefixCacheMisses.increment();
+        final GeoIPNetworkData networkData = reader.getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases);
+        final Map<String, Object> geoData = Collections.unmodifiableMap(networkData.getGeoData());
+        final boolean includesIpAddress = geoData.containsKey(IP_FIELD_NAME);
+        final Map<String, Object> networkGeoData;
+        if (includesIpAddress) {
+            final Map<String, Object> geoDataWithoutIpAddress = new HashMap<>(geoData);
+            geoDataWithoutIpAddress.remove(IP_FIELD_NAME);
+            networkGeoData = Collections.unmodifiableMap(geoDataWithoutIpAddress);
+        } else {
+            networkGeoData = geoData;
+        }
+        currentTable.put(address, networkData.getPrefixLength(), fields, geoIPDatabases, networkGeoData, includesIpAddress);
+        return geoData;
+    }
+
+    private static Map<String, Object> withIpAddress(final Map<String, Object> networkGeoData, final InetAddress inetAddress) {
+        final Map<String, Object> geoData = new HashMap<>(networkGeoData);
+        geoData.put(IP_FIELD_NAME, inetAddress.getHostAddress());
+        return Collections.unmodifiableMap(geoData);
+    }
+
+    private Table tableFor(final GeoIPDatabaseReader reader) {
+        final Table currentTable = table;
+        if (currentTable.reader == reader) {
+            return currentTable;
+        }
+        if (currentTable.replacedReader == reader) {
+            return null;
+        }
+        final Table newTable = new Table(reader, currentTable.reader, capacity);
+        table = newTable;
+        return newTable;
+    }
+
+    private static class Table {
+        private final GeoIPDatabaseReader reader;
+        private final GeoIPDatabaseReader replacedReader;
+        private final AtomicReferenceArray<Entry> entries;
+        private final int mask;
+        /**
+         * One bit for each prefix length which has been cached, for IPv4 and IPv6 addresses separately.
+         */
+        private final AtomicLongArray prefixLengths;
+
+        private Table(final GeoIPDatabaseReader reader, final GeoIPDatabaseReader replacedReader, final int capacity) {
+            this.reader = reader;
+            this.replacedReader = replacedReader;
+            this.entries = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.prefixLengths = new AtomicLongArray(2 * PREFIX_LENGTH_WORDS);
+        }
+
+        private Entry find(final byte[] address,
+                                         final Collection<GeoIPField> fields,
+                                         final Collection<GeoIPDatabase> geoIPDatabases) {
+            final int addressLength = address.length * Byte.SIZE;
+            final int wordOffset = wordOffset(addressLength);
+            for (int word = PREFIX_LENGTH_WORDS - 1; word >= 0; word--) {
+                long lengths = prefixLengths.get(wordOffset + word);
+                while (lengths != 0) {
+                    final int bit = Long.SIZE - 1 - Long.numberOfLeadingZeros(lengths);
+                    lengths &= ~(1L << bit);
+                    final int prefixLength = word * Long.SIZE + bit;
+                    final Entry entry = entries.get(prefixHash(address, prefixLength, fields, geoIPDatabases) & mask);
+                    if (entry != null && entry.matches(address, prefixLength, fields, geoIPDatabases)) {
+                        return entry;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void put(final byte[] address,
+                         final int prefixLength,
+                         final Collection<GeoIPField> fields,
+                         final Collection<GeoIPDatabase> geoIPDatabases,
+                         final Map<String, Object> geoData,
+                         final boolean includesIpAddress) {
+            final int index = wordOffset(address.length * Byte.SIZE) + (prefixLength >>> 6);
+            final long bit = 1L << (prefixLength & (Long.SIZE - 1));
+            if ((prefixLengths.get(index) & bit) == 0) {
+                prefixLengths.accumulateAndGet(index, bit, (current, added) -> current | added);
+            }
+            entries.lazySet(prefixHash(address, prefixLength, fields, geoIPDatabases) & mask,
+                    new Entry(address, prefixLength, fields, geoIPDatabases, geoData, includesIpAddress));
+        }
+
+        private static int wordOffset(final int addressLength) {
+            return addressLength == IPV4_ADDRESS_LENGTH ? 0 : PREFIX_LENGTH_WORDS;
+        }
+    }
+
+    private static class Entry {
+        private final byte[] address;
+        private final int prefixLength;
+        private final Collection<GeoIPField> fields;
+        private final Collection<GeoIPDatabase> geoIPDatabases;
+        private final Map<String, Object> geoData;
+        private final boolean includesIpAddress;
+
+        private Entry(final byte[] address,
+                      final int prefixLength,
+                      final Collection<GeoIPField> fields,
+                      final Collection<GeoIPDatabase> geoIPDatabases,
+                      final Map<String, Object> geoData,
+                      final boolean includesIpAddress) {
+            this.address = address;
+            this.prefixLength = prefixLength;
+            this.fields = fields;
+            this.geoIPDatabases = geoIPDatabases;
+            this.geoData = geoData;
+            this.includesIpAddress = includesIpAddress;
+        }
+
+        private boolean matches(final byte[] otherAddress,
+                                final int otherPrefixLength,
+                                final Collection<GeoIPField> otherFields,
+                                final Collection<GeoIPDatabase> otherGeoIPDatabases) {
+            if (prefixLength != otherPrefixLength || address.length != otherAddress.length
+                    || fields != otherFields || geoIPDatabases != otherGeoIPDatabases) {
+                return false;
+            }
+            final int fullBytes = prefixLength >>> 3;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != otherAddress[i]) {
+                    return false;
+                }
+            }
+            final int remainingBits = prefixLength & 7;
+            if (remainingBits == 0) {
+                return true;
+            }
+            final int remainingMask = (0xFF << (Byte.SIZE - remainingBits)) & 0xFF;
+            return (address[fullBytes] & remainingMask) == (otherAddress[fullBytes] & remainingMask);
+        }
+    }
+
+    private static int prefixHash(final byte[] address,
+                          final int prefixLength,
+                          final Collection<GeoIPField> fields,
+                          final Collection<GeoIPDatabase> geoIPDatabases) {
+        int hash = 31 * System.identityHashCode(fields) + System.identityHashCode(geoIPDatabases);
+        hash = 31 * hash + prefixLength;
+        final int fullBytes = prefixLength >>> 3;
+        for (int i = 0; i < fullBytes; i++) {
+            hash = 31 * hash + address[i];
+        }
+        final int remainingBits = prefixLength & 7;
+        if (remainingBits != 0) {
+            hash = 31 * hash + (address[fullBytes] & (0xFF << (Byte.SIZE - remainingBits)) & 0xFF);
+        }
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private class PrefixCachingGeoIPDatabaseReader implements GeoIPDatabaseReader {
+        private final GeoIPDatabaseReader delegate;
+
+        private PrefixCachingGeoIPDatabaseReader(final GeoIPDatabaseReader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<String, Object> getGeoData(final InetAddress inetAddress,
+                                              final Collection<GeoIPField> fields,
+                                              final Collection<GeoIPDatabase> geoIPDatabases) {
+            return GeoIPPrefixCache.this.getGeoData(delegate, inetAddress, fields, geoIPDatabases);
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+
+        @Override
+        public void retain() {
+            throw new UnsupportedOperationException("GeoIP processor should not call retain. This is a coding error.");
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+}
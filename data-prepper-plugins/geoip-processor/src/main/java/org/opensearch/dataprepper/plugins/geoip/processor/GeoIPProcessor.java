@@ -60,6 +60,7 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
   private final List<String> tagsOnInvalidIP;
   private final GeoIPProcessorService geoIPProcessorService;
   private final ExpressionEvaluator expressionEvaluator;
+  private final GeoIPPrefixCache geoIPPrefixCache;
   private final Map<EntryConfig, Collection<GeoIPField>> entryFieldsMap;
   final Map<EntryConfig, Collection<GeoIPDatabase>> entryDatabaseMap;
 
@@ -96,6 +97,7 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
     this.geoIpEventsFailed = pluginMetrics.counter(GEO_IP_EVENTS_FAILED);
     this.geoIpEventsFailedEngineException = pluginMetrics.counter(GEO_IP_EVENTS_FAILED_ENGINE_EXCEPTION);
     this.geoIpEventsFailedIPNotFound = pluginMetrics.counter(GEO_IP_EVENTS_FAILED_IP_NOT_FOUND);
+    this.geoIPPrefixCache = new GeoIPPrefixCache(GeoIPPrefixCache.DEFAULT_CAPACITY, pluginMetrics);
 
     this.entryFieldsMap = populateGeoIPFields();
     this.entryDatabaseMap = populateGeoIPDatabases();
@@ -108,7 +110,8 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
    */
   @Override
   public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-    try (final GeoIPDatabaseReader geoIPDatabaseReader = BatchGeoIPDatabaseReader.decorate(geoIPProcessorService.getGeoIPDatabaseReader())) {
+    try (final GeoIPDatabaseReader geoIPDatabaseReader = BatchGeoIPDatabaseReader.decorate(
+            geoIPPrefixCache.decorate(geoIPProcessorService.getGeoIPDatabaseReader()))) {
        processRecords(records, geoIPDatabaseReader);
     } catch (final Exception e) {
       LOG.error(NOISY, "Encountered exception in geoip processor.", e);
@@ -67,6 +67,17 @@ class AutoCountingDatabaseReaderTest {
         verify(geoLite2DatabaseReader).getGeoData(inetAddress, fields, databases);
     }
 
+    @Test
+    void test_getGeoDataWithNetwork_should_call_delegate_reader_getGeoDataWithNetwork() {
+        final GeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
+
+        final Set<GeoIPDatabase> databases = Set.of(GeoIPDatabase.ASN);
+        final List<GeoIPField> fields = List.of(ASN, ASN_ORGANIZATION, NETWORK, IP);
+        objectUnderTest.getGeoDataWithNetwork(inetAddress, fields, databases);
+
+        verify(geoLite2DatabaseReader).getGeoDataWithNetwork(inetAddress, fields, databases);
+    }
+
     @Test
     void test_isExpired_should_call_delegate_reader_isExpired() {
         final GeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
@@ -19,6 +19,7 @@ import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Postal;
 import com.maxmind.geoip2.record.RepresentedCountry;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.DatabaseReaderBuilder;
 import org.opensearch.dataprepper.plugins.geoip.extension.databasedownload.GeoIPFileManager;
 
@@ -45,6 +47,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -311,6 +314,46 @@ class GeoLite2DatabaseReaderTest {
         assertThat(geoData.get(IP.getFieldName()), equalTo(IP_RESULT));
     }
 
+    @Test
+    void test_getGeoDataWithNetwork_uses_the_longest_network_prefix_of_the_databases() throws IOException, GeoIp2Exception {
+        final GeoLite2DatabaseReader objectUnderTest = createObjectUnderTest();
+
+        final List<GeoIPField> fields = List.of(COUNTRY_NAME, ASN);
+        final Set<GeoIPDatabase> databases = Set.of(GeoIPDatabase.COUNTRY, GeoIPDatabase.ASN);
+
+        final Traits traits = mock(Traits.class);
+        final Network countryNetwork = mock(Network.class);
+        when(countryNetwork.getPrefixLength()).thenReturn(16);
+        when(traits.getNetwork()).thenReturn(countryNetwork);
+        when(countryResponse.getTraits()).thenReturn(traits);
+        when(network.getPrefixLength()).thenReturn(24);
+        when(countryDatabaseReader.tryCountry(inetAddress)).thenReturn(Optional.of(countryResponse));
+        when(asnDatabaseReader.tryAsn(inetAddress)).thenReturn(Optional.of(asnResponse));
+
+        final GeoIPNetworkData networkData = objectUnderTest.getGeoDataWithNetwork(inetAddress, fields, databases);
+
+        assertThat(networkData.getPrefixLength(), equalTo(24));
+        assertThat(networkData.getGeoData().get(COUNTRY_NAME.getFieldName()), equalTo(COUNTRY_NAME_RESULT));
+        assertThat(networkData.getGeoData().get(ASN.getFieldName()), equalTo(ASN_RESULT));
+    }
+
+    @Test
+    void test_getGeoDataWithNetwork_uses_the_full_address_if_a_database_has_no_record() throws IOException, GeoIp2Exception {
+        final GeoLite2DatabaseReader objectUnderTest = createObjectUnderTest();
+
+        final List<GeoIPField> fields = List.of(COUNTRY_NAME, ASN);
+        final Set<GeoIPDatabase> databases = Set.of(GeoIPDatabase.COUNTRY, GeoIPDatabase.ASN);
+
+        when(network.getPrefixLength()).thenReturn(24);
+        when(countryDatabaseReader.tryCountry(inetAddress)).thenReturn(Optional.empty());
+        when(asnDatabaseReader.tryAsn(inetAddress)).thenReturn(Optional.of(asnResponse));
+
+        final GeoIPNetworkData networkData = objectUnderTest.getGeoDataWithNetwork(inetAddress, fields, databases);
+
+        assertThat(networkData.getPrefixLength(), equalTo(32));
+        assertThat(networkData.getGeoData().get(ASN.getFieldName()), equalTo(ASN_RESULT));
+    }
+
     @Test
     void test_getGeoData_for_country_database_should_not_add_any_fields_if_country_is_not_required() {
         final GeoLite2DatabaseReader objectUnderTest = createObjectUnderTest();
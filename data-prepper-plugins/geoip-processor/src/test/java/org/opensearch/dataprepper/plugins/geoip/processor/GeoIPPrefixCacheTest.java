@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.processor;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeoIPPrefixCacheTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+    @Mock
+    private Counter prefixCacheHits;
+    @Mock
+    private Counter prefixCacheMisses;
+    @Mock
+    private GeoIPDatabaseReader geoIPDatabaseReader;
+
+    private List<GeoIPField> fields;
+    private Set<GeoIPDatabase> geoIPDatabases;
+    private Map<String, Object> geoData;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.counter(GeoIPPrefixCache.PREFIX_CACHE_HITS)).thenReturn(prefixCacheHits);
+        lenient().when(pluginMetrics.counter(GeoIPPrefixCache.PREFIX_CACHE_MISSES)).thenReturn(prefixCacheMisses);
+        fields = List.of(GeoIPField.COUNTRY_NAME);
+        geoIPDatabases = Set.of(GeoIPDatabase.COUNTRY);
+        geoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    private GeoIPPrefixCache createObjectUnderTest() {
+        return new GeoIPPrefixCache(GeoIPPrefixCache.DEFAULT_CAPACITY, pluginMetrics);
+    }
+
+    private void givenNetwork(final int prefixLength) {
+        when(geoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any())).thenReturn(new GeoIPNetworkData(geoData, prefixLength));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 1000})
+    void constructor_throws_if_capacity_is_not_a_power_of_two(final int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new GeoIPPrefixCache(capacity, pluginMetrics));
+    }
+
+    @Test
+    void decorate_returns_null_if_given_null_GeoIPDatabaseReader() {
+        assertThat(createObjectUnderTest().decorate(null), nullValue());
+    }
+
+    @Test
+    void getGeoData_returns_cached_geo_data_for_addresses_in_the_same_network() throws UnknownHostException {
+        givenNetwork(20);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.16.1"), fields, geoIPDatabases), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.31.255"), fields, geoIPDatabases), equalTo(geoData));
+
+        verify(geoIPDatabaseReader, times(1)).getGeoDataWithNetwork(any(), any(), any());
+        verify(prefixCacheMisses).increment();
+        verify(prefixCacheHits).increment();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void getGeoData_returns_the_ip_address_of_each_address_in_the_same_network(final boolean allFields) throws UnknownHostException {
+        final List<GeoIPField> asnFields = allFields ? List.of() : List.of(GeoIPField.ASN, GeoIPField.IP);
+        final Set<GeoIPDatabase> asnDatabases = Set.of(GeoIPDatabase.ASN);
+        final String asnFieldName = GeoIPField.ASN.getFieldName();
+        final String ipFieldName = GeoIPField.IP.getFieldName();
+        when(geoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any()))
+                .thenReturn(new GeoIPNetworkData(Map.of(asnFieldName, 64496L, ipFieldName, "10.1.16.1"), 20));
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        final Map<String, Object> firstGeoData = objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.16.1"), asnFields, asnDatabases);
+        final Map<String, Object> secondGeoData = objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.31.255"), asnFields, asnDatabases);
+
+        assertThat(firstGeoData, equalTo(Map.of(asnFieldName, 64496L, ipFieldName, "10.1.16.1")));
+        assertThat(secondGeoData, equalTo(Map.of(asnFieldName, 64496L, ipFieldName, "10.1.31.255")));
+        verify(geoIPDatabaseReader, times(1)).getGeoDataWithNetwork(any(), any(), any());
+        verify(prefixCacheHits).increment();
+    }
+
+    @Test
+    void getGeoData_looks_up_addresses_outside_of_the_cached_network() throws UnknownHostException {
+        givenNetwork(20);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.16.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.32.1"), fields, geoIPDatabases);
+
+        verify(geoIPDatabaseReader, times(2)).getGeoDataWithNetwork(any(), any(), any());
+        verify(prefixCacheMisses, times(2)).increment();
+        verify(prefixCacheHits, never()).increment();
+    }
+
+    @Test
+    void getGeoData_finds_networks_of_different_prefix_lengths() throws UnknownHostException {
+        final Map<String, Object> otherGeoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        when(geoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any()))
+                .thenReturn(new GeoIPNetworkData(geoData, 8))
+                .thenReturn(new GeoIPNetworkData(otherGeoData, 28));
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("20.0.0.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("30.0.0.1"), fields, geoIPDatabases);
+
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("20.200.1.1"), fields, geoIPDatabases), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("30.0.0.15"), fields, geoIPDatabases), equalTo(otherGeoData));
+        verify(geoIPDatabaseReader, times(2)).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_keeps_IPv4_and_IPv6_networks_apart() throws UnknownHostException {
+        givenNetwork(8);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("42.0.0.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("2a00::1"), fields, geoIPDatabases);
+
+        verify(geoIPDatabaseReader, times(2)).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_caches_IPv6_networks() throws UnknownHostException {
+        givenNetwork(48);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("2001:db8:1::1"), fields, geoIPDatabases);
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("2001:db8:1:ffff::2"), fields, geoIPDatabases),
+                equalTo(geoData));
+
+        verify(geoIPDatabaseReader, times(1)).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_does_not_share_geo_data_between_different_fields() throws UnknownHostException {
+        givenNetwork(24);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+        final List<GeoIPField> otherFields = List.of(GeoIPField.CITY_NAME);
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.1.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.1.1"), otherFields, geoIPDatabases);
+
+        verify(geoIPDatabaseReader, times(2)).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_starts_over_for_a_new_reader() throws UnknownHostException {
+        givenNetwork(24);
+        final GeoIPDatabaseReader newGeoIPDatabaseReader = mock(GeoIPDatabaseReader.class);
+        when(newGeoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any())).thenReturn(new GeoIPNetworkData(geoData, 24));
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.1.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(newGeoIPDatabaseReader, InetAddress.getByName("10.1.1.2"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(newGeoIPDatabaseReader, InetAddress.getByName("10.1.1.3"), fields, geoIPDatabases);
+
+        verify(geoIPDatabaseReader).getGeoDataWithNetwork(any(), any(), any());
+        verify(newGeoIPDatabaseReader).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_bypasses_the_cache_for_the_replaced_reader() throws UnknownHostException {
+        givenNetwork(24);
+        final GeoIPDatabaseReader newGeoIPDatabaseReader = mock(GeoIPDatabaseReader.class);
+        when(newGeoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any())).thenReturn(new GeoIPNetworkData(geoData, 24));
+        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(geoData);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.1.1"), fields, geoIPDatabases);
+        objectUnderTest.getGeoData(newGeoIPDatabaseReader, InetAddress.getByName("10.1.1.2"), fields, geoIPDatabases);
+        assertThat(objectUnderTest.getGeoData(geoIPDatabaseReader, InetAddress.getByName("10.1.1.3"), fields, geoIPDatabases), equalTo(geoData));
+        objectUnderTest.getGeoData(newGeoIPDatabaseReader, InetAddress.getByName("10.1.1.4"), fields, geoIPDatabases);
+
+        verify(geoIPDatabaseReader).getGeoData(any(), any(), any());
+        verify(newGeoIPDatabaseReader).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void getGeoData_does_not_cache_failed_lookups() throws UnknownHostException {
+        when(geoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any())).thenThrow(EnrichFailedException.class);
+        final GeoIPPrefixCache objectUnderTest = createObjectUnderTest();
+        final InetAddress inetAddress = InetAddress.getByName("10.1.1.1");
+
+        assertThrows(EnrichFailedException.class, () -> objectUnderTest.getGeoData(geoIPDatabaseReader, inetAddress, fields, geoIPDatabases));
+        assertThrows(EnrichFailedException.class, () -> objectUnderTest.getGeoData(geoIPDatabaseReader, inetAddress, fields, geoIPDatabases));
+
+        verify(geoIPDatabaseReader, times(2)).getGeoDataWithNetwork(any(), any(), any());
+    }
+
+    @Test
+    void decorated_reader_delegates_to_the_cache_and_reader() throws Exception {
+        givenNetwork(24);
+        when(geoIPDatabaseReader.isExpired()).thenReturn(true);
+        final GeoIPDatabaseReader objectUnderTest = createObjectUnderTest().decorate(geoIPDatabaseReader);
+        final InetAddress inetAddress = InetAddress.getByName("10.1.1.1");
+
+        assertThat(objectUnderTest.getGeoData(inetAddress, fields, geoIPDatabases), equalTo(geoData));
+        assertThat(objectUnderTest.isExpired(), equalTo(true));
+        objectUnderTest.close();
+
+        verify(geoIPDatabaseReader).getGeoDataWithNetwork(inetAddress, fields, geoIPDatabases);
+        verify(geoIPDatabaseReader).close();
+        assertThrows(UnsupportedOperationException.class, objectUnderTest::retain);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -27,6 +28,7 @@ import org.opensearch.dataprepper.plugins.geoip.exception.EngineFailureException
 import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
 import org.opensearch.dataprepper.plugins.geoip.extension.GeoIPProcessorService;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPNetworkData;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIpConfigSupplier;
 
 import java.util.ArrayList;
@@ -50,6 +52,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -87,6 +90,10 @@ class GeoIPProcessorTest {
     @Mock
     private Counter geoIpEventsFailedIPNotFound;
     @Mock
+    private Counter prefixCacheHits;
+    @Mock
+    private Counter prefixCacheMisses;
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private GeoIPDatabaseReader geoIPDatabaseReader;
     @Captor
     private ArgumentCaptor<List<GeoIPField>> geoIPFieldCaptor;
@@ -100,6 +107,8 @@ class GeoIPProcessorTest {
         lenient().when(pluginMetrics.counter(GEO_IP_EVENTS_FAILED)).thenReturn(geoIpEventsFailed);
         lenient().when(pluginMetrics.counter(GEO_IP_EVENTS_FAILED_ENGINE_EXCEPTION)).thenReturn(geoIpEventsFailedEngineException);
         lenient().when(pluginMetrics.counter(GEO_IP_EVENTS_FAILED_IP_NOT_FOUND)).thenReturn(geoIpEventsFailedIPNotFound);
+        lenient().when(pluginMetrics.counter(GeoIPPrefixCache.PREFIX_CACHE_HITS)).thenReturn(prefixCacheHits);
+        lenient().when(pluginMetrics.counter(GeoIPPrefixCache.PREFIX_CACHE_MISSES)).thenReturn(prefixCacheMisses);
     }
 
     @AfterEach
@@ -204,6 +213,27 @@ class GeoIPProcessorTest {
         }
     }
 
+    @Test
+    void doExecuteTest_should_reuse_geo_data_for_addresses_in_the_same_network_across_batches() {
+        when(geoIPProcessorConfig.getEntries()).thenReturn(List.of(entry));
+        when(entry.getSource()).thenReturn(SOURCE);
+        when(entry.getTarget()).thenReturn(TARGET);
+        when(entry.getGeoIPFields()).thenReturn(setFields());
+
+        final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
+
+        when(geoIPDatabaseReader.getGeoDataWithNetwork(any(), any(), any())).thenReturn(new GeoIPNetworkData(prepareGeoData(), 24));
+        geoIPProcessor.doExecute(List.of(createRecordWithIp("136.226.242.205")));
+        final Collection<Record<Event>> records = geoIPProcessor.doExecute(List.of(createRecordWithIp("136.226.242.17")));
+
+        assertThat(records.iterator().next().getData().get(TARGET + "/country_name", String.class), equalTo("United States"));
+        verify(geoIPDatabaseReader).getGeoDataWithNetwork(any(), any(), any());
+        verify(prefixCacheMisses).increment();
+        verify(prefixCacheHits).increment();
+        verify(geoIpEventsProcessed, times(2)).increment();
+        verify(geoIpEventsSucceeded, times(2)).increment();
+    }
+
     @Test
     void doExecuteTest_should_add_geo_data_with_expected_fields_to_event_when_include_fields_is_configured() {
         when(geoIPProcessorConfig.getEntries()).thenReturn(List.of(entry));
@@ -423,6 +453,11 @@ class GeoIPProcessorTest {
         return new Record<>(event);
     }
 
+    private static Record<Event> createRecordWithIp(final String ipAddress) {
+        final JacksonEvent event = JacksonLog.builder().withData(Map.of("peer", Map.of("ip", ipAddress))).build();
+        return new Record<>(event);
+    }
+
     private Record<Event> createCustomRecord(final String customFieldValue) {
         Map<String, String> innerMap = new HashMap<>();
         innerMap.put("ip", "136.226.242.205");
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * The order in which the grok patterns of one field are tried with <code>break_on_match</code>, adapted to
+ * the hit rate and the cost per attempt observed for each pattern.
+ * <p>
+ * Every {@link #REORDER_INTERVAL} evaluations, the patterns are sorted by hit rate divided by cost, which
+ * minimizes the expected cost of finding the first match. The statistics are then halved so that the order
+ * follows changes in the traffic. The estimated saving of the new order over the configured order is
+ * recorded as a percentage of the expected cost.
+ * <p>
+ * The grok processor is {@link org.opensearch.dataprepper.model.annotations.SingleThread}, so each worker
+ * has its own instance and only that worker records statistics and reorders. The order is replaced as a
+ * whole and published through volatile fields, so metrics may read it from other threads.
+ */
+class GrokPatternOrder {
+    static final int REORDER_INTERVAL = 1000;
+
+    private final long[] attempts;
+    private final long[] matches;
+    private final long[] attemptNanos;
+    private final int[] configuredOrder;
+    private final DistributionSummary savingsSummary;
+    private volatile int[] order;
+    private volatile int[] positions;
+    private int evaluationsUntilReorder = REORDER_INTERVAL;
+
+    GrokPatternOrder(final int patternCount, final DistributionSummary savingsSummary) {
+        this.attempts = new long[patternCount];
+        this.matches = new long[patternCount];
+        this.attemptNanos = new long[patternCount];
+        this.configuredOrder = IntStream.range(0, patternCount).toArray();
+        this.savingsSummary = savingsSummary;
+        this.order = configuredOrder;
+        this.positions = configuredOrder;
+    }
+
+    /**
+     * @return the indexes of the patterns in the configuration, in the order to try them
+     */
+    int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * @return the position at which the pattern with the given configuration index is tried
+     */
+    int getPosition(final int pattern) {
+        return positions[pattern];
+    }
+
+    void recordAttempt(final int pattern, final long nanos, final boolean matched) {
+        attempts[pattern]++;
+        attemptNanos[pattern] += nanos;
+        if (matched) {
+            matches[pattern]++;
+        }
+    }
+
+    /**
+     * Records that a value was matched against the patterns, reordering them once every
+     * {@link #REORDER_INTERVAL} values.
+     */
+    void recordEvaluation() {
+        if (--evaluationsUntilReorder <= 0) {
+            evaluationsUntilReorder = REORDER_INTERVAL;
+            reorder();
+        }
+    }
+
+    void reorder() {
+        final double[] hitRates = new double[attempts.length];
+        final double[] costs = new double[attempts.length];
+        final double defaultCost = getAverageCost();
+        for (int pattern = 0; pattern < attempts.length; pattern++) {
+            hitRates[pattern] = (matches[pattern] + 1.0) / (attempts[pattern] + 2.0);
+            costs[pattern] = attempts[pattern] == 0 ? defaultCost : Math.max(1.0, (double) attemptNanos[pattern] / attempts[pattern]);
+        }
+
+        final int[] newOrder = IntStream.range(0, attempts.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer pattern) -> hitRates[pattern] / costs[pattern]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        final int[] newPositions = new int[newOrder.length];
+        for (int position = 0; position < newOrder.length; position++) {
+            newPositions[newOrder[position]] = position;
+        }
+
+        final double configuredCost = expectedCost(configuredOrder, hitRates, costs);
+        if (configuredCost > 0) {
+            savingsSummary.record(100.0 * (configuredCost - expectedCost(newOrder, hitRates, costs)) / configuredCost);
+        }
+
+        positions = newPositions;
+        order = newOrder;
+
+        for (int pattern = 0; pattern < attempts.length; pattern++) {
+            attempts[pattern] /= 2;
+            matches[pattern] /= 2;
+            attemptNanos[pattern] /= 2;
+        }
+    }
+
+    private double getAverageCost() {
+        final long totalAttempts = Arrays.stream(attempts).sum();
+        return totalAttempts == 0 ? 1.0 : Math.max(1.0, (double) Arrays.stream(attemptNanos).sum() / totalAttempts);
+    }
+
+    /**
+     * The expected cost of trying the patterns in the given order until one matches, assuming that patterns
+     * match independently.
+     */
+    static double expectedCost(final int[] order, final double[] hitRates, final double[] costs) {
+        double cost = 0;
+        double probabilityOfReaching = 1;
+        for (final int pattern : order) {
+            cost += probabilityOfReaching * costs[pattern];
+            probabilityOfReaching *= 1 - hitRates[pattern];
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Selects the grok patterns of a field which can match a value, so that the regular expressions of the
+ * other patterns are not run.
+ * <p>
+ * Each pattern requires the {@link RequiredLiterals} of its regular expression. All literals of all
+ * patterns are found in a single scan of the value with an Aho-Corasick automaton, and a pattern is a
+ * candidate only when the value contains every literal it requires. Patterns without required literals are
+ * always candidates.
+ */
+class GrokPatternPrefilter {
+    private static final int ROOT = 0;
+    private static final int[] NO_LITERALS = new int[0];
+
+    private final int[][] patternLiterals;
+    private final int literalCount;
+    private final char[][] transitionCharacters;
+    private final int[][] transitionStates;
+    private final int[] failureStates;
+    private final int[][] stateLiterals;
+
+    GrokPatternPrefilter(final List<Grok> groks) {
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        patternLiterals = new int[groks.size()][];
+        for (int pattern = 0; pattern < groks.size(); pattern++) {
+            patternLiterals[pattern] = RequiredLiterals.of(groks.get(pattern).getNamedRegex()).stream()
+                    .mapToInt(literal -> literalIds.computeIfAbsent(literal, key -> literalIds.size()))
+                    .distinct()
+                    .toArray();
+        }
+        literalCount = literalIds.size();
+
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> literalsEndingAtState = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        literalsEndingAtState.add(new ArrayList<>());
+        for (final Map.Entry<String, Integer> literal : literalIds.entrySet()) {
+            int state = ROOT;
+            for (final char c : literal.getKey().toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    literalsEndingAtState.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            literalsEndingAtState.get(state).add(literal.getValue());
+        }
+
+        final int stateCount = trie.size();
+        transitionCharacters = new char[stateCount][];
+        transitionStates = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            transitionCharacters[state] = new char[transitions.size()];
+            transitionStates[state] = new int[transitions.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionCharacters[state][index] = transition.getKey();
+                transitionStates[state][index] = transition.getValue();
+                index++;
+            }
+        }
+
+        failureStates = new int[stateCount];
+        stateLiterals = new int[stateCount][];
+        stateLiterals[ROOT] = NO_LITERALS;
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (final int child : transitionStates[ROOT]) {
+            failureStates[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            stateLiterals[state] = mergeLiterals(literalsEndingAtState.get(state), stateLiterals[failureStates[state]]);
+            for (int index = 0; index < transitionCharacters[state].length; index++) {
+                final int child = transitionStates[state][index];
+                failureStates[child] = nextState(failureStates[state], transitionCharacters[state][index]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return whether any pattern requires literals, which is when selecting candidates can skip patterns
+     */
+    boolean hasRequiredLiterals() {
+        return literalCount > 0;
+    }
+
+    /**
+     * @return for each pattern, in order, whether it can match the value
+     */
+    boolean[] selectCandidates(final String value) {
+        final boolean[] literalsFound = new boolean[literalCount];
+        int literalsRemaining = literalCount;
+        int state = ROOT;
+        for (int i = 0; i < value.length() && literalsRemaining > 0; i++) {
+            state = nextState(state, value.charAt(i));
+            for (final int literal : stateLiterals[state]) {
+                if (!literalsFound[literal]) {
+                    literalsFound[literal] = true;
+                    literalsRemaining--;
+                }
+            }
+        }
+
+        final boolean[] candidates = new boolean[patternLiterals.length];
+        for (int pattern = 0; pattern < patternLiterals.length; pattern++) {
+            candidates[pattern] = true;
+            for (final int literal : patternLiterals[pattern]) {
+                if (!literalsFound[literal]) {
+                    candidates[pattern] = false;
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private int nextState(final int state, final char c) {
+        int current = state;
+        while (true) {
+            final int index = Arrays.binarySearch(transitionCharacters[current], c);
+            if (index >= 0) {
+                return transitionStates[current][index];
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failureStates[current];
+        }
+    }
+
+    private static int[] mergeLiterals(final List<Integer> ownLiterals, final int[] failureLiterals) {
+        if (ownLiterals.isEmpty()) {
+            return failureLiterals;
+        }
+        final int[] literals = Arrays.copyOf(failureLiterals, failureLiterals.length + ownLiterals.size());
+        for (int index = 0; index < ownLiterals.size(); index++) {
+            literals[failureLiterals.length + index] = ownLiterals.get(index);
+        }
+        return literals;
+    }
+}
@@ -10,6 +10,7 @@ import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
 import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -18,6 +19,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.annotations.SingleThread;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
@@ -44,26 +46,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class, pluginConfigurationType = GrokProcessorConfig.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -73,18 +70,33 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String GROK_PROCESSING_ERRORS = "grokProcessingErrors";
     static final String GROK_PROCESSING_TIMEOUTS = "grokProcessingTimeouts";
     static final String GROK_PROCESSING_TIME = "grokProcessingTime";
+    static final String GROK_PATTERN_ATTEMPTS = "grokPatternAttempts";
+    static final String GROK_PATTERN_MATCHES = "grokPatternMatches";
+    static final String GROK_PATTERNS_PREFILTERED = "grokPatternsPrefiltered";
+    static final String GROK_PATTERN_POSITION = "grokPatternPosition";
+    static final String GROK_PATTERN_ORDERING_SAVINGS = "grokPatternOrderingSavings";
+    static final String FIELD_TAG = "field";
+    static final String PATTERN_TAG = "pattern";
+    static final String WORKER_TAG = "worker";
+
+    /**
+     * The number of workers given an index so far, by the plugin setting of each grok processor being
+     * created. All the worker instances of a processor share its plugin setting, which is removed once
+     * every worker has its index.
+     */
+    private static final Map<PipelineDescription, Integer> WORKERS_INDEXED = new IdentityHashMap<>();
 
     private final Counter grokProcessingMismatchCounter;
     private final Counter grokProcessingMatchCounter;
     private final Counter grokProcessingErrorsCounter;
     private final Counter grokProcessingTimeoutsCounter;
     private final Timer grokProcessingTime;
+    private final Counter grokPatternsPrefilteredCounter;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, FieldPatterns> fieldToGrok;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
     private final List<String> tagsOnTimeout;
     private final ExpressionEvaluator expressionEvaluator;
@@ -92,22 +104,21 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     @DataPrepperPluginConstructor
     public GrokProcessor(final PluginMetrics pluginMetrics,
                          final GrokProcessorConfig grokProcessorConfig,
-                         final ExpressionEvaluator expressionEvaluator) {
-        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(),
-                Executors.newSingleThreadExecutor(), expressionEvaluator);
+                         final ExpressionEvaluator expressionEvaluator,
+                         final PipelineDescription pipelineDescription) {
+        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(), expressionEvaluator, pipelineDescription);
     }
 
     GrokProcessor(final PluginMetrics pluginMetrics,
                   final GrokProcessorConfig grokProcessorConfig,
                   final GrokCompiler grokCompiler,
-                  final ExecutorService executorService,
-                  final ExpressionEvaluator expressionEvaluator) {
+                  final ExpressionEvaluator expressionEvaluator,
+                  final PipelineDescription pipelineDescription) {
         super(pluginMetrics);
         this.grokProcessorConfig = grokProcessorConfig;
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout().isEmpty() ?
@@ -117,9 +128,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         grokProcessingErrorsCounter = pluginMetrics.counter(GROK_PROCESSING_ERRORS);
         grokProcessingTimeoutsCounter = pluginMetrics.counter(GROK_PROCESSING_TIMEOUTS);
         grokProcessingTime = pluginMetrics.timer(GROK_PROCESSING_TIME);
+        grokPatternsPrefilteredCounter = pluginMetrics.counter(GROK_PATTERNS_PREFILTERED);
 
         registerPatterns();
-        compileMatchPatterns();
+        compileMatchPatterns(pluginMetrics);
 
         if (grokProcessorConfig.getGrokWhen() != null &&
                 (!expressionEvaluator.isValidExpressionStatement(grokProcessorConfig.getGrokWhen()))) {
@@ -127,6 +139,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     String.format("grok_when \"%s\" is not a valid expression statement. See https://opensearch.org/docs/latest/data-prepper/pipelines/expression-syntax/ for valid expression syntax",
                             grokProcessorConfig.getGrokWhen()));
         }
+
+        if (grokProcessorConfig.isAdaptivePatternOrdering()) {
+            registerPatternPositionGauges(nextWorkerIndex(pipelineDescription), pluginMetrics);
+        }
     }
 
     /**
@@ -147,13 +163,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
-            } catch (final TimeoutException e) {
+            } catch (final GrokTimeoutException e) {
                 event.getMetadata().addTags(tagsOnTimeout);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -164,7 +176,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                         .log();
 
                 grokProcessingTimeoutsCounter.increment();
-            } catch (final ExecutionException | InterruptedException | RuntimeException e) {
+            } catch (final RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -203,20 +215,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     @Override
-    public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
-    }
+    public void shutdown() {}
 
     private void registerPatterns() {
         grokCompiler.registerDefaultPatterns();
@@ -263,9 +262,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         }
     }
 
-    private void compileMatchPatterns() {
+    private void compileMatchPatterns(final PluginMetrics pluginMetrics) {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> {
                                 try {
@@ -276,32 +275,107 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                                                     entry.getKey()), e);
                                 }
                             })
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            final GrokPatternOrder patternOrder = grokProcessorConfig.isAdaptivePatternOrdering() ?
+                    new GrokPatternOrder(groks.size(), pluginMetrics.summary(GROK_PATTERN_ORDERING_SAVINGS)) : null;
+            fieldToGrok.put(entry.getKey(), new FieldPatterns(entry.getKey(), groks, patternOrder, pluginMetrics));
         }
     }
 
+    /**
+     * Gives the next index among the workers of the processor described by the pipeline description,
+     * starting from 0 for each processor of each pipeline.
+     */
+    private static String nextWorkerIndex(final PipelineDescription pipelineDescription) {
+        synchronized (WORKERS_INDEXED) {
+            final int workerIndex = WORKERS_INDEXED.getOrDefault(pipelineDescription, 0);
+            if (workerIndex + 1 >= pipelineDescription.getNumberOfProcessWorkers()) {
+                WORKERS_INDEXED.remove(pipelineDescription);
+            } else {
+                WORKERS_INDEXED.put(pipelineDescription, workerIndex + 1);
+            }
+            return String.valueOf(workerIndex);
+        }
+    }
+
+    /**
+     * Each worker thread has its own processor instance and pattern order, so the position gauges
+     * are tagged with a worker index. Without it every instance would register the same gauge and
+     * only the first would be reported. The gauges are registered once the processor is valid, so that
+     * a processor which fails to be created does not take an index.
+     */
+    private void registerPatternPositionGauges(final String workerIndex, final PluginMetrics pluginMetrics) {
+        for (final Map.Entry<String, FieldPatterns> entry : fieldToGrok.entrySet()) {
+            final GrokPatternOrder patternOrder = entry.getValue().patternOrder;
+            for (int pattern = 0; pattern < entry.getValue().groks.size(); pattern++) {
+                final int patternIndex = pattern;
+                pluginMetrics.gaugeWithTags(GROK_PATTERN_POSITION,
+                        Tags.of(FIELD_TAG, entry.getKey(), PATTERN_TAG, String.valueOf(pattern), WORKER_TAG, workerIndex),
+                        patternOrder, order -> order.getPosition(patternIndex));
+            }
+        }
+    }
+
+    /**
+     * Matching runs on the calling thread. With a timeout, the value is matched through a
+     * {@link TimeoutCharSequence}, which throws a {@link GrokTimeoutException} from within the regex engine
+     * once the timeout has passed. Captures are only merged into the event after all patterns are matched,
+     * so an event which times out is left unchanged.
+     * <p>
+     * Patterns which the {@link GrokPatternPrefilter} rules out cannot match the value, so they are skipped
+     * and not counted as attempted. With adaptive pattern ordering, the patterns are tried in the order of
+     * the field's {@link GrokPatternOrder}, which is given the time and result of each attempt.
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final int timeoutMillis = grokProcessorConfig.getTimeoutMillis();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
 
         int patternsAttempted = 0;
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
+        for (final Map.Entry<String, FieldPatterns> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            final FieldPatterns fieldPatterns = entry.getValue();
+            final boolean[] candidates = fieldPatterns.prefilter.hasRequiredLiterals() ?
+                    fieldPatterns.prefilter.selectCandidates(value) : null;
+            final CharSequence input = timeoutMillis == 0 ? value : new TimeoutCharSequence(value, deadlineNanos);
+            final GrokPatternOrder patternOrder = fieldPatterns.patternOrder;
+            final int[] order = patternOrder != null ? patternOrder.getOrder() : fieldPatterns.configuredOrder;
+            int patternsPrefiltered = 0;
+            for (final int pattern : order) {
+                if (candidates != null && !candidates[pattern]) {
+                    patternsPrefiltered++;
+                    continue;
+                }
+                final long attemptStartNanos = patternOrder != null ? System.nanoTime() : 0;
+                final Match match = fieldPatterns.groks.get(pattern).match(input);
+                match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
-                    final Map<String, Object> captures = match.capture();
-                    mergeCaptures(grokkedCaptures, captures);
+                final Map<String, Object> captures = match.capture();
+                mergeCaptures(grokkedCaptures, captures);
 
-                    patternsAttempted++;
+                patternsAttempted++;
+                fieldPatterns.attemptsCounters.get(pattern).increment();
+                if (!captures.isEmpty()) {
+                    fieldPatterns.matchesCounters.get(pattern).increment();
+                }
+                if (patternOrder != null) {
+                    patternOrder.recordAttempt(pattern, System.nanoTime() - attemptStartNanos, !captures.isEmpty());
+                }
 
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
+                if (shouldBreakOnMatch(grokkedCaptures)) {
+                    break;
                 }
             }
+            if (patternsPrefiltered > 0) {
+                grokPatternsPrefilteredCounter.increment(patternsPrefiltered);
+            }
+            if (patternOrder != null) {
+                patternOrder.recordEvaluation();
+            }
             if (shouldBreakOnMatch(grokkedCaptures)) {
                 break;
             }
@@ -382,13 +456,31 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
 
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        final Future<?> task = executorService.submit(runnable);
-        try {
-            task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException exception) {
-            task.cancel(true);
-            throw exception;
+    /**
+     * The compiled patterns of one field, with their prefilter, optional adaptive order and per-pattern
+     * metrics. The metrics are tagged with the field and the index of the pattern in the configuration.
+     */
+    private static class FieldPatterns {
+        private final List<Grok> groks;
+        private final int[] configuredOrder;
+        private final GrokPatternPrefilter prefilter;
+        private final GrokPatternOrder patternOrder;
+        private final List<Counter> attemptsCounters = new ArrayList<>();
+        private final List<Counter> matchesCounters = new ArrayList<>();
+
+        private FieldPatterns(final String field,
+                              final List<Grok> groks,
+                              final GrokPatternOrder patternOrder,
+                              final PluginMetrics pluginMetrics) {
+            this.groks = groks;
+            this.configuredOrder = IntStream.range(0, groks.size()).toArray();
+            this.prefilter = new GrokPatternPrefilter(groks);
+            this.patternOrder = patternOrder;
+            for (int pattern = 0; pattern < groks.size(); pattern++) {
+                final String patternIndex = String.valueOf(pattern);
+                attemptsCounters.add(pluginMetrics.counterWithTags(GROK_PATTERN_ATTEMPTS, FIELD_TAG, field, PATTERN_TAG, patternIndex));
+                matchesCounters.add(pluginMetrics.counterWithTags(GROK_PATTERN_MATCHES, FIELD_TAG, field, PATTERN_TAG, patternIndex));
+            }
         }
     }
 }
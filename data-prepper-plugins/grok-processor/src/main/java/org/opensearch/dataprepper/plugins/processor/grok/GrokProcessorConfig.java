@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.opensearch.dataprepper.model.annotations.ExampleValues;
@@ -42,6 +43,7 @@ public class GrokProcessorConfig {
     static final String TAGS_ON_TIMEOUT = "tags_on_timeout";
 
     static final String INCLUDE_PERFORMANCE_METADATA = "performance_metadata";
+    static final String ADAPTIVE_PATTERN_ORDERING = "adaptive_pattern_ordering";
 
     static final boolean DEFAULT_BREAK_ON_MATCH = true;
     static final boolean DEFAULT_KEEP_EMPTY_CAPTURES = false;
@@ -122,6 +124,13 @@ public class GrokProcessorConfig {
             "You can use this metadata to perform performance testing and tuning of your grok patterns. By default, it is not included.")
     private boolean includePerformanceMetadata = false;
 
+    @JsonProperty(ADAPTIVE_PATTERN_ORDERING)
+    @JsonPropertyDescription("Specifies whether to periodically reorder the patterns of each key by their observed match rate and matching time, " +
+            "so that the patterns most likely to match cheaply are tried first. Requires <code>break_on_match</code>. " +
+            "Only enable this when the patterns do not overlap or when any matching pattern is acceptable, since the first match wins. " +
+            "Default is <code>false</code>.")
+    private boolean adaptivePatternOrdering = false;
+
     @JsonProperty(GROK_WHEN)
     @ExampleValues({
         @Example(value = "/type == \"ipv4\"", description = "When the IP type is IPV4, the processor will perform matching.")
@@ -181,4 +190,13 @@ public class GrokProcessorConfig {
     }
 
     public boolean getIncludePerformanceMetadata() { return includePerformanceMetadata; }
+
+    public boolean isAdaptivePatternOrdering() {
+        return adaptivePatternOrdering;
+    }
+
+    @AssertTrue(message = "adaptive_pattern_ordering requires break_on_match to be true")
+    boolean isAdaptivePatternOrderingValid() {
+        return !adaptivePatternOrdering || breakOnMatch;
+    }
 }
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Thrown by {@link TimeoutCharSequence} to abandon matching once the grok timeout has passed.
+ */
+class GrokTimeoutException extends RuntimeException {
+    GrokTimeoutException() {
+        super("Grok matching exceeded the configured timeout", null, false, false);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extracts literal strings which every match of a regular expression must contain.
+ * <p>
+ * Only the top level of the expression is considered: groups and character classes end a literal, and a
+ * top-level alternation means nothing is required. The extraction is conservative, so any construct it
+ * does not understand, such as inline flags, quoting or octal, hex and unicode escapes, results in no
+ * required literals rather than a literal which a match might not contain.
+ */
+final class RequiredLiterals {
+    static final int MIN_LITERAL_LENGTH = 2;
+
+    private static final String FLAG_CHARACTERS = "idmsuxU-";
+    private static final String NON_LITERAL_ESCAPES = "dDsSwWhHvVbBAzZGRXtnrfae";
+
+    private RequiredLiterals() {
+    }
+
+    /**
+     * @return the literals of at least {@link #MIN_LITERAL_LENGTH} characters which every match of the
+     * regular expression contains, or an empty list if none could be found
+     */
+    static List<String> of(final String regex) {
+        if (regex == null) {
+            return Collections.emptyList();
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int groupDepth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    return Collections.emptyList();
+                }
+                final char escaped = regex.charAt(i + 1);
+                i += 2;
+                if (escaped == 'Q') {
+                    return Collections.emptyList();
+                }
+                if (groupDepth > 0) {
+                    continue;
+                }
+                if (!Character.isLetterOrDigit(escaped)) {
+                    literal.append(escaped);
+                    continue;
+                }
+                if (escaped >= '1' && escaped <= '9') {
+                    while (i < regex.length() && Character.isDigit(regex.charAt(i))) {
+                        i++;
+                    }
+                } else if (NON_LITERAL_ESCAPES.indexOf(escaped) < 0) {
+                    return Collections.emptyList();
+                }
+                addLiteral(literals, literal);
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return Collections.emptyList();
+                }
+                addLiteral(literals, literal);
+            } else if (c == '(') {
+                if (regex.startsWith("(?", i) && i + 2 < regex.length() && FLAG_CHARACTERS.indexOf(regex.charAt(i + 2)) >= 0) {
+                    return Collections.emptyList();
+                }
+                groupDepth++;
+                i++;
+                addLiteral(literals, literal);
+            } else if (c == ')') {
+                if (groupDepth == 0) {
+                    return Collections.emptyList();
+                }
+                groupDepth--;
+                i++;
+            } else if (groupDepth > 0) {
+                i++;
+            } else if (c == '|') {
+                return Collections.emptyList();
+            } else if (c == '*' || c == '?' || c == '{' || c == '+') {
+                // The literal is non-empty only when the quantifier follows one of its characters
+                if (c != '+' && literal.length() > 0) {
+                    literal.setLength(literal.length() - 1);
+                }
+                i = skipQuantifier(regex, i);
+                if (i < 0) {
+                    return Collections.emptyList();
+                }
+                addLiteral(literals, literal);
+            } else if (c == '.' || c == '^' || c == '$') {
+                i++;
+                addLiteral(literals, literal);
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        addLiteral(literals, literal);
+        return literals;
+    }
+
+    private static int skipQuantifier(final String regex, final int start) {
+        int i = start;
+        if (regex.charAt(i) == '{') {
+            i = regex.indexOf('}', i);
+            if (i < 0) {
+                return -1;
+            }
+        }
+        i++;
+        if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return the index after the closing bracket of the character class which starts at the given index,
+     * or -1 if the class contains quoting
+     */
+    private static int skipCharacterClass(final String regex, final int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+                    return -1;
+                }
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static void addLiteral(final List<String> literals, final StringBuilder literal) {
+        if (literal.length() >= MIN_LITERAL_LENGTH) {
+            literals.add(literal.toString());
+        }
+        literal.setLength(0);
+    }
+}
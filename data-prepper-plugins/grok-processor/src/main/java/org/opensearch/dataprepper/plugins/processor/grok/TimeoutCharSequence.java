@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} which stops regular expression matching on the calling thread once a deadline
+ * has passed. The regex engine reads its input through {@link #charAt(int)}, so the deadline is checked
+ * there, on the first read and then once every {@link #CHECK_INTERVAL} reads to keep the cost of
+ * {@link System#nanoTime()} off the matching loop.
+ */
+class TimeoutCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int readsUntilCheck;
+
+    TimeoutCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck < 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new GrokTimeoutException();
+            }
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Returns a plain {@link String}, since sub-sequences are only taken for captured groups after matching.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GrokPatternOrderTest {
+    @Mock
+    private DistributionSummary savingsSummary;
+
+    private GrokPatternOrder createObjectUnderTest(final int patternCount) {
+        return new GrokPatternOrder(patternCount, savingsSummary);
+    }
+
+    @Test
+    void initial_order_is_the_configured_order() {
+        final GrokPatternOrder objectUnderTest = createObjectUnderTest(3);
+
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1, 2}));
+        assertThat(objectUnderTest.getPosition(0), equalTo(0));
+        assertThat(objectUnderTest.getPosition(2), equalTo(2));
+    }
+
+    @Test
+    void reorder_puts_the_pattern_with_the_highest_hit_rate_first_and_records_savings() {
+        final GrokPatternOrder objectUnderTest = createObjectUnderTest(3);
+        for (int i = 0; i < 100; i++) {
+            objectUnderTest.recordAttempt(0, 1000, false);
+            objectUnderTest.recordAttempt(1, 1000, i % 10 == 0);
+            objectUnderTest.recordAttempt(2, 1000, true);
+        }
+
+        objectUnderTest.reorder();
+
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{2, 1, 0}));
+        assertThat(objectUnderTest.getPosition(2), equalTo(0));
+        assertThat(objectUnderTest.getPosition(0), equalTo(2));
+        final ArgumentCaptor<Double> savingsCaptor = ArgumentCaptor.forClass(Double.class);
+        verify(savingsSummary).record(savingsCaptor.capture());
+        assertThat(savingsCaptor.getValue(), greaterThan(0.0));
+    }
+
+    @Test
+    void reorder_prefers_cheaper_patterns_with_the_same_hit_rate() {
+        final GrokPatternOrder objectUnderTest = createObjectUnderTest(2);
+        for (int i = 0; i < 100; i++) {
+            objectUnderTest.recordAttempt(0, 10_000, i % 2 == 0);
+            objectUnderTest.recordAttempt(1, 100, i % 2 == 0);
+        }
+
+        objectUnderTest.reorder();
+
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{1, 0}));
+    }
+
+    @Test
+    void reorder_without_statistics_keeps_the_configured_order() {
+        final GrokPatternOrder objectUnderTest = createObjectUnderTest(3);
+
+        objectUnderTest.reorder();
+
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1, 2}));
+        verify(savingsSummary).record(0.0);
+    }
+
+    @Test
+    void recordEvaluation_reorders_once_per_interval() {
+        final GrokPatternOrder objectUnderTest = createObjectUnderTest(2);
+        objectUnderTest.recordAttempt(0, 1000, false);
+        objectUnderTest.recordAttempt(1, 1000, true);
+
+        for (int i = 0; i < GrokPatternOrder.REORDER_INTERVAL - 1; i++) {
+            objectUnderTest.recordEvaluation();
+        }
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1}));
+        verify(savingsSummary, never()).record(anyDouble());
+
+        objectUnderTest.recordEvaluation();
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{1, 0}));
+    }
+
+    @Test
+    void expectedCost_weights_each_cost_by_the_probability_of_reaching_the_pattern() {
+        final double[] hitRates = {0.5, 0.25};
+        final double[] costs = {10, 20};
+
+        assertThat(GrokPatternOrder.expectedCost(new int[]{0, 1}, hitRates, costs), closeTo(20.0, 0.0001));
+        assertThat(GrokPatternOrder.expectedCost(new int[]{1, 0}, hitRates, costs), closeTo(27.5, 0.0001));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class GrokPatternPrefilterTest {
+    private static final List<String> PATTERNS = List.of(
+            "%{IPORHOST:clientip} %{USER:ident} %{USER:auth} \\[%{HTTPDATE:timestamp}\\] \"%{WORD:verb} %{NOTSPACE:request} HTTP/%{NUMBER:httpversion}\" %{NUMBER:response} %{NUMBER:bytes}",
+            "action=allow src=%{IP:src} dst=%{IP:dst}",
+            "action=deny src=%{IP:src} dst=%{IP:dst} reason=%{WORD:reason}",
+            "%{GREEDYDATA:message}",
+            "(?i)ACTION=drop %{GREEDYDATA:rest}"
+    );
+
+    private GrokCompiler grokCompiler;
+    private List<Grok> groks;
+
+    @BeforeEach
+    void setUp() {
+        grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        groks = PATTERNS.stream().map(grokCompiler::compile).collect(Collectors.toList());
+    }
+
+    private GrokPatternPrefilter createObjectUnderTest() {
+        return new GrokPatternPrefilter(groks);
+    }
+
+    @Test
+    void hasRequiredLiterals_is_false_without_literals() {
+        final Grok grok = grokCompiler.compile("%{GREEDYDATA:message}");
+
+        assertThat(new GrokPatternPrefilter(List.of(grok)).hasRequiredLiterals(), equalTo(false));
+        assertThat(createObjectUnderTest().hasRequiredLiterals(), equalTo(true));
+    }
+
+    @Test
+    void selectCandidates_rules_out_patterns_missing_literals() {
+        final boolean[] candidates = createObjectUnderTest().selectCandidates("action=allow src=10.0.0.1 dst=10.0.0.2");
+
+        assertThat(candidates.length, equalTo(PATTERNS.size()));
+        assertThat(candidates[0], equalTo(false));
+        assertThat(candidates[1], equalTo(true));
+        assertThat(candidates[2], equalTo(false));
+        assertThat(candidates[3], equalTo(true));
+        assertThat(candidates[4], equalTo(true));
+    }
+
+    @Test
+    void selectCandidates_finds_overlapping_literals() {
+        final Grok first = grokCompiler.compile("abcd%{GREEDYDATA:rest}");
+        final Grok second = grokCompiler.compile("bc%{GREEDYDATA:rest}");
+        final Grok third = grokCompiler.compile("cdx%{GREEDYDATA:rest}");
+        final GrokPatternPrefilter objectUnderTest = new GrokPatternPrefilter(List.of(first, second, third));
+
+        final boolean[] candidates = objectUnderTest.selectCandidates("xabcdy");
+
+        assertThat(candidates[0], equalTo(true));
+        assertThat(candidates[1], equalTo(true));
+        assertThat(candidates[2], equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "action=allow src=10.0.0.1 dst=10.0.0.2",
+            "action=deny src=10.0.0.1 dst=10.0.0.2 reason=policy",
+            "action=DROP everything",
+            "nothing in particular",
+            ""
+    })
+    void selectCandidates_never_rules_out_a_matching_pattern(final String value) {
+        final boolean[] candidates = createObjectUnderTest().selectCandidates(value);
+
+        for (int pattern = 0; pattern < groks.size(); pattern++) {
+            if (!groks.get(pattern).match(value).capture().isEmpty()) {
+                assertThat(PATTERNS.get(pattern), candidates[pattern], equalTo(true));
+            }
+        }
+    }
+}
@@ -81,6 +81,22 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTagsOnMatchFailure(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getTagsOnTimeout(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getIncludePerformanceMetadata(), equalTo(false));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrdering(), equalTo(false));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrderingValid(), equalTo(true));
+    }
+
+    @Test
+    public void testAdaptivePatternOrderingRequiresBreakOnMatch() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(GrokProcessorConfig.ADAPTIVE_PATTERN_ORDERING, true);
+
+        assertThat(OBJECT_MAPPER.convertValue(settings, GrokProcessorConfig.class).isAdaptivePatternOrderingValid(), equalTo(true));
+
+        settings.put(GrokProcessorConfig.BREAK_ON_MATCH, false);
+        final GrokProcessorConfig grokProcessorConfig = OBJECT_MAPPER.convertValue(settings, GrokProcessorConfig.class);
+
+        assertThat(grokProcessorConfig.isAdaptivePatternOrdering(), equalTo(true));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrderingValid(), equalTo(false));
     }
 
     @Test
@@ -432,7 +432,7 @@ public class GrokProcessorIT extends BaseDataPrepperPluginStandardTestSuite {
             grokProcessorConfig = OBJECT_MAPPER.convertValue(pluginSetting.getSettings(), GrokProcessorConfig.class);
 
             Throwable throwable = assertThrows(InvalidPluginConfigurationException.class, () -> new GrokProcessor(
-                    pluginMetrics, grokProcessorConfig, expressionEvaluator));
+                    pluginMetrics, grokProcessorConfig, expressionEvaluator, pluginSetting));
             assertThat(throwable.getCause(), instanceOf(IllegalArgumentException.class));
             assertThat("No definition for key 'CUSTOMBIRTHDAYPATTERN' found, aborting", equalTo(throwable
                     .getCause().getMessage()));
@@ -440,7 +440,7 @@ public class GrokProcessorIT extends BaseDataPrepperPluginStandardTestSuite {
 
         @Test
         public void testCompileNonRegisteredPatternThrowsIllegalArgumentException() {
-            grokProcessor = new GrokProcessor(pluginMetrics, grokProcessorConfig, expressionEvaluator);
+            grokProcessor = new GrokProcessor(pluginMetrics, grokProcessorConfig, expressionEvaluator, pluginSetting);
 
             final Map<String, List<String>> matchConfig = new HashMap<>();
             matchConfig.put("message", Collections.singletonList("%{NONEXISTENTPATTERN}"));
@@ -449,7 +449,7 @@ public class GrokProcessorIT extends BaseDataPrepperPluginStandardTestSuite {
             grokProcessorConfig = OBJECT_MAPPER.convertValue(pluginSetting.getSettings(), GrokProcessorConfig.class);
 
             assertThrows(InvalidPluginConfigurationException.class, () -> new GrokProcessor(
-                    pluginMetrics, grokProcessorConfig, expressionEvaluator));
+                    pluginMetrics, grokProcessorConfig, expressionEvaluator, pluginSetting));
         }
 
         @ParameterizedTest
@@ -460,7 +460,7 @@ public class GrokProcessorIT extends BaseDataPrepperPluginStandardTestSuite {
 
             pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
             grokProcessorConfig = OBJECT_MAPPER.convertValue(pluginSetting.getSettings(), GrokProcessorConfig.class);
-            grokProcessor = new GrokProcessor(pluginMetrics, grokProcessorConfig, expressionEvaluator);
+            grokProcessor = new GrokProcessor(pluginMetrics, grokProcessorConfig, expressionEvaluator, pluginSetting);
 
             final Map<String, Object> testData = new HashMap();
             testData.put("message", logInput);
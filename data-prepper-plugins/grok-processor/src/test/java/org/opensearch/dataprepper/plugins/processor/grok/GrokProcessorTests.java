@@ -12,17 +12,21 @@ import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
 import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
@@ -32,14 +36,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -49,15 +50,17 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -70,12 +73,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -91,6 +88,9 @@ public class GrokProcessorTests {
     @Mock
     private PluginMetrics pluginMetrics;
 
+    @Mock
+    private PipelineDescription pipelineDescription;
+
     @Mock
     private Counter grokProcessingMatchCounter;
 
@@ -106,6 +106,24 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternsPrefilteredCounter;
+
+    @Mock
+    private Counter firstPatternAttemptsCounter;
+
+    @Mock
+    private Counter firstPatternMatchesCounter;
+
+    @Mock
+    private Counter secondPatternAttemptsCounter;
+
+    @Mock
+    private Counter secondPatternMatchesCounter;
+
+    @Mock
+    private DistributionSummary grokPatternOrderingSavingsSummary;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
     @Mock
@@ -115,7 +133,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         configureDefaultGrokProcessorConfig();
 
         final List<String> matchPatterns = new ArrayList<>();
@@ -130,6 +148,15 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PATTERNS_PREFILTERED)).thenReturn(grokPatternsPrefilteredCounter);
+        lenient().when(pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_ATTEMPTS, GrokProcessor.FIELD_TAG, "message", GrokProcessor.PATTERN_TAG, "0"))
+                .thenReturn(firstPatternAttemptsCounter);
+        lenient().when(pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_MATCHES, GrokProcessor.FIELD_TAG, "message", GrokProcessor.PATTERN_TAG, "0"))
+                .thenReturn(firstPatternMatchesCounter);
+        lenient().when(pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_ATTEMPTS, GrokProcessor.FIELD_TAG, "message", GrokProcessor.PATTERN_TAG, "1"))
+                .thenReturn(secondPatternAttemptsCounter);
+        lenient().when(pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_MATCHES, GrokProcessor.FIELD_TAG, "message", GrokProcessor.PATTERN_TAG, "1"))
+                .thenReturn(secondPatternMatchesCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -143,18 +170,13 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(matchInput(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         return new GrokProcessor(
-                pluginMetrics, grokProcessorConfig, grokCompiler, executorService, expressionEvaluator);
+                pluginMetrics, grokProcessorConfig, grokCompiler, expressionEvaluator, pipelineDescription);
     }
 
     @Test
@@ -168,7 +190,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMerge() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMerge() throws JsonProcessingException {
         when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(false);
 
         grokProcessor = createObjectUnderTest();
@@ -202,12 +224,10 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
-    public void testTarget() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testTarget() throws JsonProcessingException {
         when(grokProcessorConfig.getTargetKey()).thenReturn("test_target");
         grokProcessor = createObjectUnderTest();
 
@@ -238,8 +258,6 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
@@ -275,7 +293,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMergeCollisionStrings() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMergeCollisionStrings() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -404,8 +422,9 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+        when(grok.match(matchInput(messageInput))).thenAnswer(readInputAfterTimeout());
 
         grokProcessor = createObjectUnderTest();
 
@@ -422,13 +441,14 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verify(task).cancel(true);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
+        verifyNoInteractions(match);
+        verify(grokSecondMatch, never()).match(any(CharSequence.class));
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesValueDirectlyAndReturnsCorrectResult() throws JsonProcessingException {
         when(grokProcessorConfig.getTimeoutMillis()).thenReturn(0);
         grokProcessor = createObjectUnderTest();
 
@@ -450,7 +470,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -467,36 +487,10 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -515,7 +509,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +531,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -565,7 +559,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -591,6 +585,128 @@ public class GrokProcessorTests {
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingTimeoutsCounter);
         }
 
+        @Test
+        public void testPatternWithoutRequiredLiteralInValueIsNotAttempted() throws JsonProcessingException {
+            when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
+            when(grok.getNamedRegex()).thenReturn("not in the message (?<name0>\\w+)");
+            when(grokSecondMatch.getNamedRegex()).thenReturn("(?<name0>\\w+)-(?<name1>\\w+)");
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(capture);
+            capture.put("key_capture_1", "value_capture_1");
+
+            grokProcessor = createObjectUnderTest();
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertThat(grokkedRecords.get(0).getData().get("key_capture_1", String.class), equalTo("value_capture_1"));
+            assertThat(grokkedRecords.get(0).getData().getMetadata().getAttribute(TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY), equalTo(1));
+            verify(grok, never()).match(any(CharSequence.class));
+            verify(grokPatternsPrefilteredCounter).increment(1);
+            verifyNoInteractions(firstPatternAttemptsCounter, firstPatternMatchesCounter);
+            verify(secondPatternAttemptsCounter).increment();
+            verify(secondPatternMatchesCounter).increment();
+            verify(grokProcessingMatchCounter).increment();
+        }
+
+        @Test
+        public void testPatternWithRequiredLiteralInValueIsAttempted() throws JsonProcessingException {
+            when(grok.getNamedRegex()).thenReturn(messageInput.substring(0, 8) + "(?<name0>.*)");
+            when(match.capture()).thenReturn(Collections.emptyMap());
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(secondCapture);
+
+            grokProcessor = createObjectUnderTest();
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            grokProcessor.doExecute(Collections.singletonList(record));
+
+            verify(grok).match(matchInput(messageInput));
+            verify(firstPatternAttemptsCounter).increment();
+            verify(secondPatternAttemptsCounter).increment();
+            verifyNoInteractions(grokPatternsPrefilteredCounter, firstPatternMatchesCounter, secondPatternMatchesCounter);
+        }
+
+        @Test
+        public void testAdaptivePatternOrderingTriesMostFrequentlyMatchingPatternFirst() {
+            when(grokProcessorConfig.isAdaptivePatternOrdering()).thenReturn(true);
+            when(pluginMetrics.summary(GrokProcessor.GROK_PATTERN_ORDERING_SAVINGS)).thenReturn(grokPatternOrderingSavingsSummary);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(secondCapture);
+            secondCapture.put("key_secondCapture", "value_capture2");
+
+            grokProcessor = createObjectUnderTest();
+
+            for (int i = 0; i < GrokPatternOrder.REORDER_INTERVAL; i++) {
+                grokProcessor.doExecute(Collections.singletonList(buildRecordWithEvent(Map.of("message", messageInput))));
+            }
+            verify(grok, times(GrokPatternOrder.REORDER_INTERVAL)).match(matchInput(messageInput));
+            verify(grokSecondMatch, times(GrokPatternOrder.REORDER_INTERVAL)).match(matchInput(messageInput));
+
+            final Record<Event> record = buildRecordWithEvent(Map.of("message", messageInput));
+            grokProcessor.doExecute(Collections.singletonList(record));
+
+            assertThat(record.getData().get("key_secondCapture", String.class), equalTo("value_capture2"));
+            verify(grok, times(GrokPatternOrder.REORDER_INTERVAL)).match(matchInput(messageInput));
+            verify(grokSecondMatch, times(GrokPatternOrder.REORDER_INTERVAL + 1)).match(matchInput(messageInput));
+            verify(grokPatternOrderingSavingsSummary).record(anyDouble());
+            verify(pluginMetrics, times(2)).gaugeWithTags(eq(GrokProcessor.GROK_PATTERN_POSITION), any(), any(), any());
+        }
+
+        @Test
+        public void testAdaptivePatternOrderingTagsPositionGaugesWithWorker() {
+            when(grokProcessorConfig.isAdaptivePatternOrdering()).thenReturn(true);
+            when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(2);
+
+            createObjectUnderTest();
+            createObjectUnderTest();
+
+            final ArgumentCaptor<Iterable<Tag>> tagsCaptor = ArgumentCaptor.forClass(Iterable.class);
+            verify(pluginMetrics, times(4)).gaugeWithTags(eq(GrokProcessor.GROK_PATTERN_POSITION), tagsCaptor.capture(), any(), any());
+            final Set<Tags> registeredTags = new HashSet<>();
+            final Set<String> workerIndexes = new HashSet<>();
+            for (final Iterable<Tag> tags : tagsCaptor.getAllValues()) {
+                registeredTags.add(Tags.of(tags));
+                Tags.of(tags).stream()
+                        .filter(tag -> tag.getKey().equals(GrokProcessor.WORKER_TAG))
+                        .forEach(tag -> workerIndexes.add(tag.getValue()));
+            }
+            assertThat(registeredTags.size(), equalTo(4));
+            assertThat(workerIndexes, equalTo(Set.of("0", "1")));
+        }
+
+        @Test
+        public void testAdaptivePatternOrderingWorkerIndexStartsFromZeroForEachProcessor() {
+            when(grokProcessorConfig.isAdaptivePatternOrdering()).thenReturn(true);
+            when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(1);
+            final PipelineDescription otherPipelineDescription = mock(PipelineDescription.class);
+            when(otherPipelineDescription.getNumberOfProcessWorkers()).thenReturn(1);
+
+            createObjectUnderTest();
+            new GrokProcessor(pluginMetrics, grokProcessorConfig, grokCompiler, expressionEvaluator, otherPipelineDescription);
+            createObjectUnderTest();
+
+            verify(pluginMetrics, times(6)).gaugeWithTags(eq(GrokProcessor.GROK_PATTERN_POSITION),
+                    argThat(tags -> Tags.of(tags).stream().anyMatch(tag ->
+                            tag.getKey().equals(GrokProcessor.WORKER_TAG) && tag.getValue().equals("0"))),
+                    any(), any());
+        }
+
+        @Test
+        public void testNoPositionGaugesOrWorkerIndexWithoutAdaptivePatternOrdering() {
+            createObjectUnderTest();
+
+            verify(pluginMetrics, never()).gaugeWithTags(eq(GrokProcessor.GROK_PATTERN_POSITION), any(), any(), any());
+            verifyNoInteractions(pipelineDescription);
+        }
+
         @Nested
         class WithTags {
             private String tagOnMatchFailure1;
@@ -613,7 +729,7 @@ public class GrokProcessorTests {
             @Test
             public void testNoCapturesWithTag() throws JsonProcessingException {
                 grokProcessor = createObjectUnderTest();
-                lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+                lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
                 lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
                 final Map<String, Object> testData = new HashMap();
@@ -635,8 +751,9 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+            public void timeout_exception_tags_the_event() throws JsonProcessingException {
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(matchInput(messageInput))).thenAnswer(readInputAfterTimeout());
 
                 grokProcessor = createObjectUnderTest();
 
@@ -664,9 +781,10 @@ public class GrokProcessorTests {
 
             @Test
             public void timeout_exception_tags_the_event_with_tags_on_match_failure()
-                    throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
+                    throws JsonProcessingException {
                 when(grokProcessorConfig.getTagsOnTimeout()).thenReturn(Collections.emptyList());
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(matchInput(messageInput))).thenAnswer(readInputAfterTimeout());
 
                 grokProcessor = createObjectUnderTest();
 
@@ -690,10 +808,9 @@ public class GrokProcessorTests {
                 verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter);
             }
 
-            @ParameterizedTest
-            @ValueSource(classes = {ExecutionException.class, InterruptedException.class, RuntimeException.class})
-            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(exceptionClass);
+            @Test
+            public void exception_while_matching_tags_the_event() throws JsonProcessingException {
+                when(grok.match(matchInput(messageInput))).thenThrow(RuntimeException.class);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -722,7 +839,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -745,7 +862,8 @@ public class GrokProcessorTests {
 
             final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
 
-            verifyNoInteractions(grokSecondMatch, secondMatch);
+            verify(grokSecondMatch, never()).match(any(CharSequence.class));
+            verifyNoInteractions(secondMatch);
             assertThat(grokkedRecords.size(), equalTo(1));
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -759,7 +877,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.isBreakOnMatch()).thenReturn(false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchInput(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -828,7 +946,8 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verifyNoInteractions(grok, grokSecondMatch);
+        verify(grok, never()).match(any(CharSequence.class));
+        verify(grokSecondMatch, never()).match(any(CharSequence.class));
     }
 
     private void completeMockGrokProcessorConfig(final boolean breakOnMatch,
@@ -855,6 +974,18 @@ public class GrokProcessorTests {
         lenient().when(grokProcessorConfig.getGrokWhen()).thenReturn(grokWhen);
     }
 
+    private static CharSequence matchInput(final String value) {
+        return argThat(input -> input != null && input.toString().equals(value));
+    }
+
+    private static Answer<Match> readInputAfterTimeout() {
+        return invocation -> {
+            Thread.sleep(10);
+            invocation.<CharSequence>getArgument(0).charAt(0);
+            return null;
+        };
+    }
+
      private void assertRecordsAreEqual(final Record<Event> first, final Record<Event> second) throws JsonProcessingException {
         final Map<String, Object> recordMapFirst = OBJECT_MAPPER.readValue(first.getData().toJsonString(), MAP_TYPE_REFERENCE);
         final Map<String, Object> recordMapSecond = OBJECT_MAPPER.readValue(second.getData().toJsonString(), MAP_TYPE_REFERENCE);
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequiredLiteralsTest {
+    @Test
+    void of_null_regex_returns_empty_list() {
+        assertThat(RequiredLiterals.of(null), empty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("regexesWithLiterals")
+    void of_returns_top_level_literals(final String regex, final List<String> expectedLiterals) {
+        assertThat(RequiredLiterals.of(regex), equalTo(expectedLiterals));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "action=allow|action=deny",
+            "(?i)action=allow",
+            "prefix (?<name0>\\w+)(?x) suffix",
+            "\\Qaction=allow\\E",
+            "action\\x3Dallow",
+            "action\\u003Dallow",
+            "action\\0075allow",
+            "\\p{Alpha}action=allow",
+            "[\\Q]\\E]action=allow",
+            "unbalanced) group",
+            "[unclosed class action=allow"
+    })
+    void of_returns_empty_list_for_unsupported_regexes(final String regex) {
+        assertThat(RequiredLiterals.of(regex), empty());
+    }
+
+    private static Stream<Arguments> regexesWithLiterals() {
+        return Stream.of(
+                Arguments.of("action=allow", List.of("action=allow")),
+                Arguments.of("src=(?<src>\\S+) dst=(?<dst>\\S+)", List.of("src=", " dst=")),
+                Arguments.of("^prefix.suffix$", List.of("prefix", "suffix")),
+                Arguments.of("GET \\/index\\.html", List.of("GET /index.html")),
+                Arguments.of("abc?de", List.of("ab", "de")),
+                Arguments.of("abc*de", List.of("ab", "de")),
+                Arguments.of("abc{2,3}de", List.of("ab", "de")),
+                Arguments.of("abc+de", List.of("abc", "de")),
+                Arguments.of("abc+?de", List.of("abc", "de")),
+                Arguments.of("ab\\.?cd", List.of("ab", "cd")),
+                Arguments.of("key:(a|b|c) value:[)|(]+ end", List.of("key:", " value:", " end")),
+                Arguments.of("(?<name0>(?:a|b)\\)|\\x41) after", List.of(" after")),
+                Arguments.of("ab\\d\\s\\bcd", List.of("ab", "cd")),
+                Arguments.of("(a)\\1 after", List.of(" after")),
+                Arguments.of("a b c", List.of("a b c")),
+                Arguments.of("a(b)c", List.of()),
+                Arguments.of("[]a]xy[^]b]zz", List.of("xy", "zz"))
+        );
+    }
+}
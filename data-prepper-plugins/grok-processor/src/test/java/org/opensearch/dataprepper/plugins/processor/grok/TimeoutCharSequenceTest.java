@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeoutCharSequenceTest {
+    private static long futureDeadline() {
+        return System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+    }
+
+    @Test
+    void reads_the_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final TimeoutCharSequence objectUnderTest = new TimeoutCharSequence(value, futureDeadline());
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        for (int i = 0; i < value.length(); i++) {
+            assertThat(objectUnderTest.charAt(i), equalTo(value.charAt(i)));
+        }
+        assertThat(objectUnderTest.subSequence(1, 5), instanceOf(String.class));
+        assertThat(objectUnderTest.subSequence(1, 5), equalTo(value.subSequence(1, 5)));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+    }
+
+    @Test
+    void charAt_throws_after_the_deadline() {
+        final TimeoutCharSequence objectUnderTest = new TimeoutCharSequence(UUID.randomUUID().toString(), System.nanoTime() - 1);
+
+        assertThrows(GrokTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void charAt_checks_the_deadline_once_per_interval() throws InterruptedException {
+        final TimeoutCharSequence objectUnderTest = new TimeoutCharSequence("a", System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1));
+        objectUnderTest.charAt(0);
+        Thread.sleep(5);
+
+        for (int i = 0; i < TimeoutCharSequence.CHECK_INTERVAL; i++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(GrokTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void regex_matching_stops_after_the_deadline() {
+        final Pattern backtrackingPattern = Pattern.compile("a*b");
+        final TimeoutCharSequence input = new TimeoutCharSequence("a".repeat(100_000),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThrows(GrokTimeoutException.class, () -> backtrackingPattern.matcher(input).find());
+    }
+
+    @Test
+    void regex_matching_completes_before_the_deadline() {
+        final Matcher matcher = Pattern.compile("(?<word>[a-z]+) (?<number>\\d+)")
+                .matcher(new TimeoutCharSequence("value 123", futureDeadline()));
+
+        assertThat(matcher.find(), equalTo(true));
+        assertThat(matcher.group("word"), equalTo("value"));
+        assertThat(matcher.group("number"), equalTo("123"));
+    }
+}
@@ -57,7 +57,18 @@ public class JsonCodec implements Codec<List<String>> {
 
     @Override
     public void serializeSplit(final HttpData content, final Consumer<String> serializedBodyConsumer, final int splitLength) throws IOException {
-        final InputStream contentInputStream = content.toInputStream();
+        serializeSplit(content.toInputStream(), serializedBodyConsumer, splitLength);
+    }
+
+    /**
+     * Splits a JSON array which is read incrementally from the input stream, so that the whole array is never held in memory.
+     *
+     * @param contentInputStream the JSON array
+     * @param serializedBodyConsumer receives each JSON array of at most splitLength bytes
+     * @param splitLength the maximum length of each JSON array, or 0 to not split
+     * @throws IOException if reading or parsing the input stream fails
+     */
+    public void serializeSplit(final InputStream contentInputStream, final Consumer<String> serializedBodyConsumer, final int splitLength) throws IOException {
         if (splitLength == 0) {
             performSerialization(contentInputStream, serializedBodyConsumer, Integer.MAX_VALUE);
         } else {
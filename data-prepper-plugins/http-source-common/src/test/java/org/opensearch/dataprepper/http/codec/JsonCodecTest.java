@@ -30,6 +30,7 @@ import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -145,6 +146,20 @@ class JsonCodecTest {
         assertThat(actualSerializedBody, equalTo("[{\"a1\":\"b1\"},{\"a2\":\"b2\"},{\"a3\":\"b3\"},{\"a4\":\"b4\"},{\"a5\":\"b5\"}]"));
     }
 
+    @Test
+    void serializeSplit_from_input_stream_splits_the_same_as_from_http_data() throws IOException {
+        final Consumer<String> httpDataConsumer = mock(Consumer.class);
+        final Consumer<String> inputStreamConsumer = mock(Consumer.class);
+        objectUnderTest.serializeSplit(GOOD_LARGE_TEST_DATA, httpDataConsumer, 40);
+        objectUnderTest.serializeSplit(GOOD_LARGE_TEST_DATA.toInputStream(), inputStreamConsumer, 40);
+
+        final ArgumentCaptor<String> httpDataCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<String> inputStreamCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpDataConsumer, atLeastOnce()).accept(httpDataCaptor.capture());
+        verify(inputStreamConsumer, atLeastOnce()).accept(inputStreamCaptor.capture());
+        assertThat(inputStreamCaptor.getAllValues(), equalTo(httpDataCaptor.getAllValues()));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {58, 68})
     void serializeSplit_with_split_length_unicode(final int splitLength) throws IOException {
@@ -8,13 +8,16 @@ package org.opensearch.dataprepper.plugins.source.loghttp;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -24,6 +27,7 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.Mockito.mock;
@@ -32,11 +36,18 @@ import static org.mockito.Mockito.withSettings;
 
 public class LogHTTPServiceMeasure {
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     @State(Scope.Benchmark)
     public static class BenchmarkState {
+        @Param({"true", "false"})
+        private boolean byteBuffer;
+
         private HttpData httpData;
+        private HttpData[] httpDataChunks;
         private Buffer buffer;
         private LogHTTPService logHTTPService;
+        private StreamingLogHTTPService streamingLogHTTPService;
         private ServiceRequestContext serviceRequestContext;
         private RequestHeaders requestHeaders;
 
@@ -44,14 +55,20 @@ public class LogHTTPServiceMeasure {
         public void setUp() throws IOException {
             byte[] jsonContent = new TestGenerator().createJson(10 * 1024 * 1024);
             httpData = HttpData.ofUtf8(new String(jsonContent));
+            httpDataChunks = new HttpData[(jsonContent.length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+            for (int i = 0; i < httpDataChunks.length; i++) {
+                httpDataChunks[i] = HttpData.wrap(Arrays.copyOfRange(jsonContent, i * CHUNK_SIZE, Math.min(jsonContent.length, (i + 1) * CHUNK_SIZE)));
+            }
 
             buffer = mock(Buffer.class, withSettings().stubOnly());
-            when(buffer.isByteBuffer()).thenReturn(true);
+            when(buffer.isByteBuffer()).thenReturn(byteBuffer);
             when(buffer.getMaxRequestSize()).thenReturn(Optional.of(512 * 1024));
             when(buffer.getOptimalRequestSize()).thenReturn(Optional.of(256 * 1024));
 
             serviceRequestContext = mock(ServiceRequestContext.class);
             logHTTPService = new LogHTTPService((int) Duration.ofSeconds(10).toMillis(), buffer, PluginMetrics.fromPrefix("testing"), null);
+            streamingLogHTTPService = new StreamingLogHTTPService((int) Duration.ofSeconds(10).toMillis(),
+                    HTTPSourceConfig.DEFAULT_STREAMING_BATCH_SIZE, buffer, PluginMetrics.fromPrefix("testing"), null);
 
             requestHeaders = RequestHeaders.builder()
                     .method(HttpMethod.POST)
@@ -68,4 +85,13 @@ public class LogHTTPServiceMeasure {
         AggregatedHttpRequest aggregatedHttpRequest = AggregatedHttpRequest.of(benchmarkState.requestHeaders, benchmarkState.httpData);
         return benchmarkState.logHTTPService.doPost(benchmarkState.serviceRequestContext, aggregatedHttpRequest);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public HttpResponse measure_doPost_streaming(BenchmarkState benchmarkState) throws Exception {
+        HttpRequest httpRequest = HttpRequest.of(benchmarkState.requestHeaders, StreamMessage.of(benchmarkState.httpDataChunks));
+        return benchmarkState.streamingLogHTTPService.doPost(benchmarkState.serviceRequestContext, httpRequest);
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
 import org.opensearch.dataprepper.http.BaseHttpServerConfig;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 
@@ -13,6 +14,7 @@ public class HTTPSourceConfig extends BaseHttpServerConfig {
 
     static final String DEFAULT_LOG_INGEST_URI = "/log/ingest";
     static final int DEFAULT_PORT = 2021;
+    static final int DEFAULT_STREAMING_BATCH_SIZE = 500;
 
     @Override
     public int getDefaultPort() {
@@ -27,7 +29,28 @@ public class HTTPSourceConfig extends BaseHttpServerConfig {
     @JsonProperty("codec")
     private PluginModel codec;
 
+    @JsonProperty("streaming")
+    private boolean streaming = false;
+
+    @JsonProperty("streaming_batch_size")
+    @Min(1)
+    private int streamingBatchSize = DEFAULT_STREAMING_BATCH_SIZE;
+
     public PluginModel getCodec() {
         return codec;
     }
+
+    /**
+     * @return true if request bodies are decoded as they are received instead of after the whole body is received
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @return the maximum number of events written to the buffer at once when streaming
+     */
+    public int getStreamingBatchSize() {
+        return streamingBatchSize;
+    }
 }
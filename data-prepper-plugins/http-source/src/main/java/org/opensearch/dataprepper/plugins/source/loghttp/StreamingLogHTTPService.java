@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.Blocking;
+import com.linecorp.armeria.server.annotation.Post;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.http.codec.JsonCodec;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.log.Log;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+* A HTTP service for log ingestion which decodes the request body while it is received, to be executed by
+* BlockingTaskExecutor.
+*
+* The body is read through an input stream which requests the next chunk from the connection only once the
+* previous chunk has been decoded, and events are written to the buffer in batches of at most
+* streaming_batch_size events. A slow buffer therefore slows down the client instead of the whole body
+* being held in memory. Batches written before a malformed part of the body remain in the buffer.
+*/
+@Blocking
+public class StreamingLogHTTPService {
+    private static final int SERIALIZATION_OVERHEAD = 1024;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory(OBJECT_MAPPER);
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {
+    };
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingLogHTTPService.class);
+
+    private final JsonCodec jsonCodec = new JsonCodec();
+    private final Buffer<Record<Log>> buffer;
+    private final InputCodec codec;
+    private final int bufferWriteTimeoutInMillis;
+    private final int batchSize;
+    private final Counter requestsReceivedCounter;
+    private final Counter successRequestsCounter;
+    private final Counter requestsOverOptimalSizeCounter;
+    private final Counter requestsOverMaximumSizeCounter;
+    private final DistributionSummary payloadSizeSummary;
+    private final Timer requestProcessDuration;
+    private final Integer bufferMaxRequestLength;
+    private final Integer bufferOptimalRequestLength;
+
+    public StreamingLogHTTPService(final int bufferWriteTimeoutInMillis,
+                                   final int batchSize,
+                                   final Buffer<Record<Log>> buffer,
+                                   final PluginMetrics pluginMetrics,
+                                   final InputCodec codec) {
+        this.buffer = buffer;
+        this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.batchSize = batchSize;
+        this.bufferMaxRequestLength = buffer.getMaxRequestSize().isPresent() ? buffer.getMaxRequestSize().get(): null;
+        this.bufferOptimalRequestLength = buffer.getOptimalRequestSize().isPresent() ? buffer.getOptimalRequestSize().get(): null;
+        this.codec = codec;
+        requestsReceivedCounter = pluginMetrics.counter(LogHTTPService.REQUESTS_RECEIVED);
+        successRequestsCounter = pluginMetrics.counter(LogHTTPService.SUCCESS_REQUESTS);
+        requestsOverOptimalSizeCounter = pluginMetrics.counter(LogHTTPService.REQUESTS_OVER_OPTIMAL_SIZE);
+        requestsOverMaximumSizeCounter = pluginMetrics.counter(LogHTTPService.REQUESTS_OVER_MAXIMUM_SIZE);
+        payloadSizeSummary = pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE);
+        requestProcessDuration = pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION);
+    }
+
+    @Post
+    public HttpResponse doPost(final ServiceRequestContext serviceRequestContext, final HttpRequest httpRequest) throws Exception {
+        requestsReceivedCounter.increment();
+
+        if(serviceRequestContext.isTimedOut()) {
+            return HttpResponse.of(HttpStatus.REQUEST_TIMEOUT);
+        }
+
+        final AtomicLong payloadSize = new AtomicLong();
+        try (final InputStream inputStream = httpRequest.toInputStream(httpObject -> {
+            if (httpObject instanceof HttpData) {
+                payloadSize.addAndGet(((HttpData) httpObject).length());
+                return (HttpData) httpObject;
+            }
+            return HttpData.empty();
+        })) {
+            return requestProcessDuration.recordCallable(() -> processRequest(inputStream));
+        } finally {
+            payloadSizeSummary.record(payloadSize.get());
+        }
+    }
+
+    HttpResponse processRequest(final InputStream inputStream) throws Exception {
+        if (buffer.isByteBuffer()) {
+            final int splitLength = bufferMaxRequestLength != null && bufferOptimalRequestLength != null ?
+                    bufferOptimalRequestLength - SERIALIZATION_OVERHEAD : 0;
+            try {
+                jsonCodec.serializeSplit(inputStream, splitLength == 0 ? this::writeWholeBody : this::writeChunkedBody, splitLength);
+            } catch (final BufferWriteException e) {
+                throw e.bufferException;
+            } catch (final IOException | RuntimeException e) {
+                LOG.error("Failed to parse the streamed request due to: {}", e.getMessage());
+                throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+            }
+        } else {
+            final RecordBatcher recordBatcher = new RecordBatcher();
+            try {
+                if (codec != null) {
+                    parseWithCodec(inputStream, recordBatcher);
+                } else {
+                    parseJsonArray(inputStream, recordBatcher);
+                }
+                recordBatcher.flush();
+            } catch (final BufferWriteException e) {
+                throw e.bufferException;
+            }
+        }
+
+        successRequestsCounter.increment();
+        return HttpResponse.of(HttpStatus.OK);
+    }
+
+    private void parseWithCodec(final InputStream inputStream, final RecordBatcher recordBatcher) throws IOException {
+        try {
+            codec.parse(inputStream, record -> recordBatcher.add(new Record<>((Log) record.getData())));
+        } catch (final IOException e) {
+            LOG.error("Failed to parse the streamed request using specified input codec {} due to: {}", codec.getClass(), e.getMessage());
+            throw new IOException("Bad request data format. ", e.getCause());
+        }
+    }
+
+    private void parseJsonArray(final InputStream inputStream, final RecordBatcher recordBatcher) throws IOException {
+        try (final JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Bad request data format. Needs to be json array.");
+            }
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Bad request data format. Needs to be json array of objects.");
+                }
+                final Map<String, Object> data = jsonParser.readValueAs(MAP_TYPE_REFERENCE);
+                recordBatcher.add(buildRecordLog(data));
+            }
+        } catch (final JsonProcessingException e) {
+            LOG.error("Failed to parse the streamed request due to: {}", e.getMessage());
+            throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+        }
+    }
+
+    private void writeWholeBody(final String body) {
+        final byte[] bodyBytes = body.getBytes();
+        try {
+            buffer.writeBytes(bodyBytes, null, bufferWriteTimeoutInMillis);
+        } catch (final Exception e) {
+            LOG.error("Failed to write the request of size {} due to: {}", bodyBytes.length, e.getMessage());
+            throw new BufferWriteException(e);
+        }
+    }
+
+    private void writeChunkedBody(final String chunk) {
+        final byte[] chunkBytes = chunk.getBytes();
+
+        if (bufferMaxRequestLength != null && chunkBytes.length > bufferMaxRequestLength) {
+            requestsOverMaximumSizeCounter.increment();
+            LOG.error("Unable to write chunked bytes of size {} as it exceeds the maximum buffer size of {}", chunkBytes.length, bufferMaxRequestLength);
+            return;
+        } else if (bufferOptimalRequestLength != null && chunkBytes.length > bufferOptimalRequestLength) {
+            requestsOverOptimalSizeCounter.increment();
+        }
+
+        final String key = UUID.randomUUID().toString();
+        try {
+            buffer.writeBytes(chunkBytes, key, bufferWriteTimeoutInMillis);
+        } catch (final Exception e) {
+            LOG.error("Failed to write chunked bytes of size {} due to: {}", chunkBytes.length, e.getMessage());
+        }
+    }
+
+    private Record<Log> buildRecordLog(final Map<String, Object> data) {
+        final JacksonLog log = JacksonLog.builder()
+                .withData(data)
+                .getThis()
+                .build();
+
+        return new Record<>(log);
+    }
+
+    /**
+     * Collects records and writes them to the buffer whenever a batch is full. The write blocks until the
+     * buffer accepts the batch, which stops the request body from being read in the meantime.
+     */
+    private class RecordBatcher {
+        private List<Record<Log>> records = new ArrayList<>(batchSize);
+
+        void add(final Record<Log> record) {
+            records.add(record);
+            if (records.size() >= batchSize) {
+                try {
+                    flush();
+                } catch (final Exception e) {
+                    throw new BufferWriteException(e);
+                }
+            }
+        }
+
+        void flush() throws Exception {
+            if (records.isEmpty()) {
+                return;
+            }
+            try {
+                buffer.writeAll(records, bufferWriteTimeoutInMillis);
+            } catch (final Exception e) {
+                LOG.error("Failed to write a batch of {} records of a streamed request due to: {}", records.size(), e.getMessage());
+                throw e;
+            }
+            records = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Carries a failed buffer write out of a record consumer, which cannot throw checked exceptions.
+     */
+    private static class BufferWriteException extends RuntimeException {
+        private final Exception bufferException;
+
+        BufferWriteException(final Exception bufferException) {
+            super(bufferException);
+            this.bufferException = bufferException;
+        }
+    }
+}
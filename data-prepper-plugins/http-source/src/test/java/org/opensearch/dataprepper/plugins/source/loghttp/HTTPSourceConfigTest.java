@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.source.loghttp;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class HTTPSourceConfigTest {
 
@@ -21,5 +22,7 @@ public class HTTPSourceConfigTest {
         assertEquals(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, sourceConfig.getPath());
         assertEquals(HTTPSourceConfig.DEFAULT_PORT, sourceConfig.getDefaultPort());
         assertEquals(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, sourceConfig.getDefaultPath());
+        assertFalse(sourceConfig.isStreaming());
+        assertEquals(HTTPSourceConfig.DEFAULT_STREAMING_BATCH_SIZE, sourceConfig.getStreamingBatchSize());
     }
 }
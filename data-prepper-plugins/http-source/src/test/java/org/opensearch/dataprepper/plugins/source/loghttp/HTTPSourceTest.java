@@ -306,6 +306,42 @@ class HTTPSourceTest {
         assertEquals(testPayloadSize, payloadSizeMax.getValue());
     }
 
+    @Test
+    public void testHTTPJsonResponse200WithStreaming() {
+        // Prepare
+        final String testData = "[{\"log\": \"somelog\"}]";
+        final int testPayloadSize = testData.getBytes().length;
+        when(sourceConfig.isStreaming()).thenReturn(true);
+        when(sourceConfig.getStreamingBatchSize()).thenReturn(HTTPSourceConfig.DEFAULT_STREAMING_BATCH_SIZE);
+        HTTPSourceUnderTest = new HTTPSource(sourceConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        HTTPSourceUnderTest.start(testBuffer);
+        refreshMeasurements();
+
+        // When
+        WebClient.of().execute(RequestHeaders.builder()
+                        .scheme(SessionProtocol.HTTP)
+                        .authority("127.0.0.1:2021")
+                        .method(HttpMethod.POST)
+                        .path("/log/ingest")
+                        .contentType(MediaType.JSON_UTF_8)
+                        .build(),
+                HttpData.ofUtf8(testData))
+                .aggregate()
+                .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.OK)).join();
+
+        // Then
+        final Map.Entry<Collection<Record<Log>>, CheckpointState> result = testBuffer.read(100);
+        List<Record<Log>> records = new ArrayList<>(result.getKey());
+        assertEquals(1, records.size());
+        assertEquals("somelog", records.get(0).getData().get("log", String.class));
+        final Measurement successRequestsCount = MetricsTestUtil.getMeasurementFromList(
+                successRequestsMeasurements, Statistic.COUNT);
+        assertEquals(1.0, successRequestsCount.getValue());
+        final Measurement payloadSizeMax = MetricsTestUtil.getMeasurementFromList(
+                payloadSizeSummaryMeasurements, Statistic.MAX);
+        assertEquals(testPayloadSize, payloadSizeMax.getValue());
+    }
+
     @Test
     public void testHttpCompressionResponse200() throws IOException {
         // Prepare
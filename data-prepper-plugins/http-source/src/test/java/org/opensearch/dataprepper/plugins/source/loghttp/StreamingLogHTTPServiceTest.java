@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.log.Log;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingLogHTTPServiceTest {
+    private static final int TEST_TIMEOUT_IN_MILLIS = 500;
+    private static final int TEST_BATCH_SIZE = 2;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter requestsReceivedCounter;
+
+    @Mock
+    private Counter successRequestsCounter;
+
+    @Mock
+    private DistributionSummary payloadSizeSummary;
+
+    @Mock
+    private Timer requestProcessDuration;
+
+    @Mock
+    private ServiceRequestContext serviceRequestContext;
+
+    @Mock
+    private Buffer<Record<Log>> buffer;
+
+    @Mock
+    private InputCodec codec;
+
+    private List<List<String>> writtenBatches;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(pluginMetrics.counter(LogHTTPService.REQUESTS_RECEIVED)).thenReturn(requestsReceivedCounter);
+        when(pluginMetrics.counter(LogHTTPService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
+        when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
+        when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
+        lenient().when(serviceRequestContext.isTimedOut()).thenReturn(false);
+        lenient().when(requestProcessDuration.recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any())).thenAnswer(
+                (Answer<HttpResponse>) invocation -> {
+                    @SuppressWarnings("unchecked")
+                    final Callable<HttpResponse> callable = (Callable<HttpResponse>) invocation.getArguments()[0];
+                    return callable.call();
+                }
+        );
+
+        writtenBatches = new ArrayList<>();
+        lenient().doAnswer(invocation -> {
+            final Collection<Record<Log>> records = invocation.getArgument(0);
+            final List<String> batch = new ArrayList<>();
+            records.forEach(record -> batch.add(record.getData().get("log", String.class)));
+            writtenBatches.add(batch);
+            return null;
+        }).when(buffer).writeAll(any(), anyInt());
+    }
+
+    private StreamingLogHTTPService createObjectUnderTest(final InputCodec codec) {
+        return new StreamingLogHTTPService(TEST_TIMEOUT_IN_MILLIS, TEST_BATCH_SIZE, buffer, pluginMetrics, codec);
+    }
+
+    private static HttpRequest createRequest(final String... chunks) {
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        final HttpData[] httpData = new HttpData[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            httpData[i] = HttpData.ofUtf8(chunks[i]);
+        }
+        return HttpRequest.of(requestHeaders, StreamMessage.of(httpData));
+    }
+
+    @Test
+    void doPost_writes_events_split_across_chunks_in_batches() throws Exception {
+        final String[] chunks = {"[{\"log\":\"a\"},{\"lo", "g\":\"b\"},{\"log\":\"c\"}", ",{\"log\":\"d\"},{\"log\":\"e\"}]"};
+        final HttpRequest request = createRequest(chunks);
+
+        final AggregatedHttpResponse response = createObjectUnderTest(null).doPost(serviceRequestContext, request).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.OK));
+        assertThat(writtenBatches, contains(List.of("a", "b"), List.of("c", "d"), List.of("e")));
+        verify(buffer, times(3)).writeAll(any(), eq(TEST_TIMEOUT_IN_MILLIS));
+        verify(requestsReceivedCounter).increment();
+        verify(successRequestsCounter).increment();
+        final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
+        verify(payloadSizeSummary).record(payloadLengthCaptor.capture());
+        final int payloadLength = chunks[0].length() + chunks[1].length() + chunks[2].length();
+        assertThat(Math.round(payloadLengthCaptor.getValue()), equalTo((long) payloadLength));
+    }
+
+    @Test
+    void doPost_with_empty_array_writes_nothing() throws Exception {
+        final AggregatedHttpResponse response = createObjectUnderTest(null).doPost(serviceRequestContext, createRequest("[]")).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.OK));
+        verify(buffer, never()).writeAll(any(), anyInt());
+    }
+
+    @Test
+    void doPost_with_array_of_non_objects_is_a_bad_request() throws Exception {
+        final HttpRequest request = createRequest("[{\"log\":\"a\"},{\"log\":\"b\"},{\"log\":\"c\"},\"d\"]");
+
+        assertThrows(IOException.class, () -> createObjectUnderTest(null).doPost(serviceRequestContext, request));
+
+        assertThat(writtenBatches, contains(List.of("a", "b")));
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    void doPost_with_non_array_is_a_bad_request() {
+        final HttpRequest request = createRequest("{\"log\":\"a\"}");
+
+        assertThrows(IOException.class, () -> createObjectUnderTest(null).doPost(serviceRequestContext, request));
+
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    void doPost_throws_buffer_timeout() throws Exception {
+        doThrow(new TimeoutException()).when(buffer).writeAll(any(), anyInt());
+        final HttpRequest request = createRequest("[{\"log\":\"a\"},{\"log\":\"b\"},{\"log\":\"c\"}]");
+
+        assertThrows(TimeoutException.class, () -> createObjectUnderTest(null).doPost(serviceRequestContext, request));
+
+        verify(buffer, times(1)).writeAll(any(), anyInt());
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    void doPost_when_timed_out_returns_request_timeout() throws Exception {
+        when(serviceRequestContext.isTimedOut()).thenReturn(true);
+
+        final AggregatedHttpResponse response = createObjectUnderTest(null)
+                .doPost(serviceRequestContext, createRequest("[{\"log\":\"a\"}]")).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.REQUEST_TIMEOUT));
+        verify(buffer, never()).writeAll(any(), anyInt());
+    }
+
+    @Test
+    void doPost_with_codec_writes_parsed_events_in_batches() throws Exception {
+        doAnswer(invocation -> {
+            final Consumer<Record<Event>> eventConsumer = invocation.getArgument(1);
+            for (final String log : List.of("a", "b", "c")) {
+                eventConsumer.accept(new Record<>(JacksonLog.builder().withData(Map.of("log", log)).build()));
+            }
+            return null;
+        }).when(codec).parse(any(InputStream.class), any());
+
+        final AggregatedHttpResponse response = createObjectUnderTest(codec)
+                .doPost(serviceRequestContext, createRequest("a\nb\nc")).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.OK));
+        assertThat(writtenBatches, contains(List.of("a", "b"), List.of("c")));
+    }
+
+    @Test
+    void doPost_with_byte_buffer_writes_split_json_arrays() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+        when(buffer.getMaxRequestSize()).thenReturn(Optional.of(4 * 1024));
+        when(buffer.getOptimalRequestSize()).thenReturn(Optional.of(1024 + 100));
+        final StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"log\":\"").append("x".repeat(20)).append("\"}");
+        }
+        body.append(']');
+
+        final AggregatedHttpResponse response = createObjectUnderTest(null)
+                .doPost(serviceRequestContext, createRequest(body.substring(0, 100), body.substring(100))).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.OK));
+        final ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(buffer, atLeast(2)).writeBytes(bytesCaptor.capture(), anyString(), eq(TEST_TIMEOUT_IN_MILLIS));
+        int writtenEvents = 0;
+        for (final byte[] bytes : bytesCaptor.getAllValues()) {
+            assertThat(bytes.length, lessThanOrEqualTo(100));
+            writtenEvents += OBJECT_MAPPER.readValue(bytes, List.class).size();
+        }
+        assertThat(writtenEvents, equalTo(20));
+    }
+
+    @Test
+    void doPost_with_byte_buffer_without_request_sizes_writes_whole_body() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+
+        final AggregatedHttpResponse response = createObjectUnderTest(null)
+                .doPost(serviceRequestContext, createRequest("[{\"log\":", "\"a\"}]")).aggregate().get();
+
+        assertThat(response.status(), equalTo(HttpStatus.OK));
+        final ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(buffer).writeBytes(bytesCaptor.capture(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
+        assertThat(new String(bytesCaptor.getValue()), equalTo("[{\"log\":\"a\"}]"));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import org.apache.commons.lang3.Range;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class TopicPartitionCommitTrackerBenchmark {
+    private static final String TOPIC = "benchmark_topic";
+
+    @Param({"1000000"})
+    private int numberOfOffsets;
+
+    @Param({"1", "100"})
+    private int rangeSize;
+
+    private List<Range<Long>> shuffledRanges;
+    private List<Range<Long>> reversedRanges;
+
+    @Setup
+    public void setUp() {
+        final List<Range<Long>> ranges = new ArrayList<>();
+        for (long offset = 0; offset < numberOfOffsets; offset += rangeSize) {
+            ranges.add(Range.of(offset, Math.min(offset + rangeSize, numberOfOffsets) - 1));
+        }
+        shuffledRanges = new ArrayList<>(ranges);
+        Collections.shuffle(shuffledRanges, new Random(0));
+        reversedRanges = new ArrayList<>(ranges);
+        Collections.reverse(reversedRanges);
+    }
+
+    @Benchmark
+    public OffsetAndMetadata completeOffsetsInRandomOrder() {
+        return completeAll(shuffledRanges);
+    }
+
+    /**
+     * Every offset stays outstanding until the last range, which is the first offset, completes.
+     */
+    @Benchmark
+    public OffsetAndMetadata completeOffsetsInReverseOrder() {
+        return completeAll(reversedRanges);
+    }
+
+    private OffsetAndMetadata completeAll(final List<Range<Long>> ranges) {
+        final TopicPartitionCommitTracker commitTracker = new TopicPartitionCommitTracker(TOPIC, 0, 0L);
+        OffsetAndMetadata lastOffsetAndMetadata = null;
+        for (final Range<Long> range : ranges) {
+            final OffsetAndMetadata offsetAndMetadata = commitTracker.addCompletedOffsets(range);
+            if (offsetAndMetadata != null) {
+                lastOffsetAndMetadata = offsetAndMetadata;
+            }
+        }
+        return lastOffsetAndMetadata;
+    }
+}
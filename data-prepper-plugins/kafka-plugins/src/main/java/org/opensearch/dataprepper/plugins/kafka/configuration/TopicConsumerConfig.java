@@ -43,4 +43,15 @@ public interface TopicConsumerConfig extends TopicConfig {
     Integer getConsumerMaxPollRecords();
 
     Integer getWorkers();
+
+    /**
+     * @return the number of threads for each worker which decode polled records, or 0 to decode on the worker thread
+     */
+    Integer getDecodeThreads();
+
+    /**
+     * @return true if events decoded from bytes keep their serialized JSON so that sinks can write it without
+     * serializing the event again
+     */
+    Boolean getRawPassthrough();
 }
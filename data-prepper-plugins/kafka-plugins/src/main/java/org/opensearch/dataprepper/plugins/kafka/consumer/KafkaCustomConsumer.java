@@ -22,6 +22,7 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.AuthenticationException;
 import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.apache.kafka.common.utils.ByteBufferInputStream;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
@@ -35,6 +36,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaConsumerConfig;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaKeyMode;
+import org.opensearch.dataprepper.plugins.kafka.common.thread.KafkaPluginThreadFactory;
 import org.opensearch.dataprepper.plugins.kafka.configuration.TopicConsumerConfig;
 import org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicConsumerMetrics;
 import org.opensearch.dataprepper.plugins.kafka.util.LogRateLimiter;
@@ -45,6 +47,8 @@ import software.amazon.awssdk.services.glue.model.AccessDeniedException;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -57,8 +61,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCause;
 
@@ -102,6 +112,8 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final long maxRetriesOnException;
     private final Map<Integer, Long> partitionToLastReceivedTimestampMillis;
     private final CompressionOption compressionConfig;
+    private final ExecutorService decodeExecutorService;
+    private final boolean rawPassthrough;
 
     public KafkaCustomConsumer(final KafkaConsumer consumer,
                                final AtomicBoolean shutdownInProgress,
@@ -126,7 +138,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         this.pauseConsumePredicate = pauseConsumePredicate;
         this.topicMetrics.register(consumer);
         this.offsetsToCommit = new HashMap<>();
-        this.partitionToLastReceivedTimestampMillis = new HashMap<>();
+        this.partitionToLastReceivedTimestampMillis = new ConcurrentHashMap<>();
         this.ownedPartitionsEpoch = new HashMap<>();
         this.metricsUpdatedTime = Instant.now().getEpochSecond();
         this.acknowledgedOffsets = new ArrayList<>();
@@ -136,8 +148,18 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         this.partitionCommitTrackerMap = new HashMap<>();
         this.partitionsToReset = Collections.synchronizedSet(new HashSet<>());
         this.schema = MessageFormat.getByMessageFormatByName(schemaType);
+        this.rawPassthrough = Boolean.TRUE.equals(topicConfig.getRawPassthrough());
         Duration bufferTimeout = Duration.ofSeconds(1);
-        this.bufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
+        final Integer decodeThreads = topicConfig.getDecodeThreads();
+        if (decodeThreads != null && decodeThreads > 0) {
+            // decoded partitions are written to the buffer in batches of up to one poll
+            this.decodeExecutorService = Executors.newFixedThreadPool(decodeThreads,
+                    KafkaPluginThreadFactory.defaultExecutorThreadFactory("decode", topicName));
+            this.bufferAccumulator = BufferAccumulator.create(buffer, topicConfig.getConsumerMaxPollRecords(), bufferTimeout);
+        } else {
+            this.decodeExecutorService = null;
+            this.bufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
+        }
         this.lastCommitTime = System.currentTimeMillis();
         this.numberOfAcksPending = new AtomicInteger(0);
         this.errLogRateLimiter = new LogRateLimiter(2, System.currentTimeMillis());
@@ -346,6 +368,10 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         if (!forceCommit && (currentTimeMillis - lastCommitTime) < topicConfig.getCommitInterval().toMillis()) {
             return;
         }
+        if (acknowledgementsEnabled) {
+            partitionCommitTrackerMap.values().forEach(commitTracker ->
+                    topicMetrics.getCommitLag().record(commitTracker.getCommitLag()));
+        }
         synchronized (offsetsToCommit) {
             if (offsetsToCommit.isEmpty()) {
                 return;
@@ -495,11 +521,19 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         if (acknowledgementSet != null) {
             acknowledgementSet.add(record.getData());
         }
+        writeToBuffer(record);
+    }
+
+    /**
+     * Writes the record to the buffer accumulator, or flushes the accumulator when the record is null.
+     * Retries until the write succeeds, pausing the consumer if the buffer stays full.
+     */
+    private void writeToBuffer(final Record<Event> record) {
         long numRetries = 0;
         while (true) {
             LOG.debug("In while loop for processing records, paused = {}", paused);
             try {
-                if (numRetries == 0) {
+                if (numRetries == 0 && record != null) {
                     bufferAccumulator.add(record);
                 } else {
                     bufferAccumulator.flush();
@@ -544,6 +578,10 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
     private <T> void iterateRecordPartitions(ConsumerRecords<String, T> records, final AcknowledgementSet acknowledgementSet,
                                              Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
+        if (decodeExecutorService != null) {
+            iterateRecordPartitionsWithDecodeThreads(records, acknowledgementSet, offsets);
+            return;
+        }
         for (TopicPartition topicPartition : records.partitions()) {
             final long partitionEpoch = getPartitionEpoch(topicPartition);
             if (acknowledgementsEnabled && partitionEpoch == 0) {
@@ -555,45 +593,129 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
             List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
             for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
-                if (schema == MessageFormat.BYTES) {
-                    InputStream byteInputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
-                    InputStream decompressedInputStream = compressionConfig.getDecompressionEngine().createInputStream(byteInputStream);
+                decodeRecord(consumerRecord, topicPartition.partition(), record -> processRecord(acknowledgementSet, record));
+            }
 
-                    if(byteDecoder != null) {
-                        final long receivedTimeStamp = getRecordTimeStamp(consumerRecord, Instant.now().toEpochMilli());
+            updatePartitionOffsets(topicPartition, partitionRecords, partitionEpoch, offsets);
+        }
+    }
 
-                        byteDecoder.parse(decompressedInputStream, Instant.ofEpochMilli(receivedTimeStamp), (record) -> {
-                            processRecord(acknowledgementSet, record);
-                        });
-                    } else {
-                        JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
+    /**
+     * Decodes each partition on the decode threads while the partitions which are already decoded are
+     * written to the buffer. Records of one partition are decoded by one task, so their order is kept.
+     */
+    private <T> void iterateRecordPartitionsWithDecodeThreads(final ConsumerRecords<String, T> records,
+                                                              final AcknowledgementSet acknowledgementSet,
+                                                              final Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
+        final List<TopicPartition> topicPartitions = new ArrayList<>();
+        final List<Long> partitionEpochs = new ArrayList<>();
+        final List<Future<List<Record<Event>>>> decodedPartitions = new ArrayList<>();
+        for (TopicPartition topicPartition : records.partitions()) {
+            final long partitionEpoch = getPartitionEpoch(topicPartition);
+            if (acknowledgementsEnabled && partitionEpoch == 0) {
+                if (errLogRateLimiter.isAllowed(System.currentTimeMillis())) {
+                    LOG.error("Lost ownership of partition {}", topicPartition);
+                }
+                continue;
+            }
+            final List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
+            topicPartitions.add(topicPartition);
+            partitionEpochs.add(partitionEpoch);
+            decodedPartitions.add(decodeExecutorService.submit(() -> {
+                final List<Record<Event>> decodedRecords = new ArrayList<>(partitionRecords.size());
+                for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
+                    decodeRecord(consumerRecord, topicPartition.partition(), decodedRecords::add);
+                }
+                return decodedRecords;
+            }));
+        }
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
-                        Record<Event> record = new Record<>(event);
-                        processRecord(acknowledgementSet, record);
-                    }
-                } else {
-                    Record<Event> record = getRecord(consumerRecord, topicPartition.partition());
-                    if (record != null) {
-                        processRecord(acknowledgementSet, record);
-                    }
+        try {
+            for (int i = 0; i < topicPartitions.size(); i++) {
+                final TopicPartition topicPartition = topicPartitions.get(i);
+                for (final Record<Event> record : awaitDecodedPartition(decodedPartitions.get(i))) {
+                    processRecord(acknowledgementSet, record);
                 }
+                updatePartitionOffsets(topicPartition, records.records(topicPartition), partitionEpochs.get(i), offsets);
+            }
+        } finally {
+            decodedPartitions.forEach(decodedPartition -> decodedPartition.cancel(true));
+        }
+        writeToBuffer(null);
+    }
+
+    private static List<Record<Event>> awaitDecodedPartition(final Future<List<Record<Event>>> decodedPartition) throws Exception {
+        try {
+            return decodedPartition.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
             }
+            throw e;
+        }
+    }
+
+    private <T> void decodeRecord(final ConsumerRecord<String, T> consumerRecord,
+                                  final int partition,
+                                  final Consumer<Record<Event>> recordConsumer) throws Exception {
+        if (schema == MessageFormat.BYTES) {
+            InputStream byteInputStream = createValueInputStream(consumerRecord.value());
+            InputStream decompressedInputStream = compressionConfig.getDecompressionEngine().createInputStream(byteInputStream);
+
+            if(byteDecoder != null) {
+                final long receivedTimeStamp = getRecordTimeStamp(consumerRecord, Instant.now().toEpochMilli());
 
-            long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
-            long firstOffset = partitionRecords.get(0).offset();
-            Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
-            offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
+                byteDecoder.parse(decompressedInputStream, Instant.ofEpochMilli(receivedTimeStamp), recordConsumer);
+            } else if (rawPassthrough) {
+                // the event keeps the serialized JSON, which sinks write as is while the event is not modified
+                final String serializedData = new String(decompressedInputStream.readAllBytes(), StandardCharsets.UTF_8);
 
-            if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
-                partitionCommitTrackerMap.put(topicPartition.partition(),
-                        new TopicPartitionCommitTracker(topicPartition, firstOffset));
+                Event event = JacksonLog.builder().withSerializedData(serializedData).build();
+                recordConsumer.accept(new Record<>(event));
+            } else {
+                JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
+
+                Event event = JacksonLog.builder().withData(jsonNode).build();
+                recordConsumer.accept(new Record<>(event));
+            }
+        } else {
+            Record<Event> record = getRecord(consumerRecord, partition);
+            if (record != null) {
+                recordConsumer.accept(record);
             }
         }
     }
 
+    /**
+     * Values of byte topics are either byte arrays or, when read without a copy, views of the fetched data.
+     */
+    private static InputStream createValueInputStream(final Object value) {
+        if (value instanceof ByteBuffer) {
+            return new ByteBufferInputStream(((ByteBuffer) value).duplicate());
+        }
+        return new ByteArrayInputStream((byte[]) value);
+    }
+
+    private <T> void updatePartitionOffsets(final TopicPartition topicPartition,
+                                            final List<ConsumerRecord<String, T>> partitionRecords,
+                                            final long partitionEpoch,
+                                            final Map<TopicPartition, CommitOffsetRange> offsets) {
+        long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+        long firstOffset = partitionRecords.get(0).offset();
+        Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
+        offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
+
+        if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
+            partitionCommitTrackerMap.put(topicPartition.partition(),
+                    new TopicPartitionCommitTracker(topicPartition, firstOffset));
+        }
+    }
+
     public void closeConsumer(){
         consumer.close();
+        if (decodeExecutorService != null) {
+            decodeExecutorService.shutdownNow();
+        }
     }
 
     public void shutdownConsumer(){
@@ -11,17 +11,28 @@ import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Tracks the completed offsets of one partition and the offset up to which every record is complete.
+ * <p>
+ * Completed offsets above the committed offset are kept as bits in a ring of 64-bit words, where the
+ * first word holds the offset after the committed offset. Completing a range sets its bits a word at a
+ * time, and the committed offset advances over the contiguous completed bits, dropping each word it
+ * passes. Both are amortized constant time for each offset, and no objects are allocated per range.
+ * The number of completed bits which are not yet committed is kept as they are set and passed.
+ */
 public class TopicPartitionCommitTracker {
     private static final Logger LOG = LoggerFactory.getLogger(TopicPartitionCommitTracker.class);
+    private static final int INITIAL_WORD_COUNT = 16;
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int MAXIMUM_WORD_COUNT = 1 << 28;
     private long committedOffset;
     private long committedRecordCount;
     private long initialOffset;
+    private long uncommittedCompletedOffsets;
     private final TopicPartition topicPartition;
-    private final Map<Long, Range<Long>> offsetMaxMap;
-    private final Map<Long, Range<Long>> offsetMinMap;
+    private long[] words;
+    private int headWord;
+    private long windowStartOffset;
 
     public TopicPartitionCommitTracker(final TopicPartition topicPartition, final Long initialOffset) {
         this.topicPartition = topicPartition;
@@ -29,10 +40,11 @@ public class TopicPartitionCommitTracker {
         LOG.info("Created commit tracker for partition: {}, initialOffset: {}", topicPartition, initialOffset);
 
         this.committedOffset = initialOffset-1L;
+        this.uncommittedCompletedOffsets = 0;
         this.committedRecordCount = 0;
-        this.offsetMaxMap = new HashMap<>();
-        this.offsetMinMap = new HashMap<>();
-        this.offsetMaxMap.put(this.committedOffset, Range.between(this.committedOffset, this.committedOffset));
+        this.words = new long[INITIAL_WORD_COUNT];
+        this.headWord = 0;
+        this.windowStartOffset = initialOffset;
     }
 
     public long getInitialOffset() {
@@ -49,54 +61,84 @@ public class TopicPartitionCommitTracker {
         return count;
     }
 
+    /**
+     * @return the number of completed offsets which are waiting for earlier offsets to complete before they
+     * can be committed. Offsets which are not yet completed are not counted.
+     */
+    public long getCommitLag() {
+        return uncommittedCompletedOffsets;
+    }
+
     public TopicPartitionCommitTracker(final String topic, final int partition, Long committedOffset) {
         this(new TopicPartition(topic, partition), committedOffset);
     }
 
     public OffsetAndMetadata addCompletedOffsets(final Range<Long> offsetRange) {
-        Long min = offsetRange.getMinimum();
-        Long max = offsetRange.getMaximum();
-        boolean merged = false;
-        if (offsetMaxMap.containsKey(min - 1)) {
-            Range<Long> entry = offsetMaxMap.get(min - 1);
-            offsetMaxMap.remove(min - 1);
-            offsetMinMap.remove(entry.getMinimum());
-            min = entry.getMinimum();
-            Range<Long> newEntry = Range.between(min, max);
-            offsetMaxMap.put(max, newEntry);
-            offsetMinMap.put(min, newEntry);
-            merged = true;
-        }
-        if (offsetMinMap.containsKey(max + 1)) {
-            Range<Long> entry = offsetMinMap.get(max + 1);
-            offsetMinMap.remove(max + 1);
-            if (merged) {
-                offsetMinMap.remove(min);   
-                offsetMaxMap.remove(max);   
-            }
-            max = entry.getMaximum();
-            offsetMaxMap.remove(max);
-            Range<Long> newEntry = Range.between(min, max);
-            offsetMaxMap.put(max, newEntry);
-            offsetMinMap.put(min, newEntry);
-            merged = true;
+        final long min = Math.max(offsetRange.getMinimum(), committedOffset + 1);
+        final long max = offsetRange.getMaximum();
+        if (max < min) {
+            return null;
         }
-        if (!merged) {
-            offsetMaxMap.put(max, offsetRange);
-            offsetMinMap.put(min, offsetRange);
+        setCompleted(min, max);
+
+        final long previousCommittedOffset = committedOffset;
+        advanceCommittedOffset();
+        if (committedOffset == previousCommittedOffset) {
             return null;
         }
-        if (offsetMinMap.containsKey(committedOffset)) {
-            Long maxValue = offsetMinMap.get(committedOffset).getMaximum();
-            if (maxValue != committedOffset) {
-                offsetMinMap.remove(committedOffset);
-                committedRecordCount += (maxValue - committedOffset);
-                committedOffset = maxValue;
-                offsetMaxMap.put(committedOffset, Range.between(committedOffset, committedOffset));
-                return new OffsetAndMetadata(committedOffset + 1);
+        committedRecordCount += committedOffset - previousCommittedOffset;
+        uncommittedCompletedOffsets -= committedOffset - previousCommittedOffset;
+        return new OffsetAndMetadata(committedOffset + 1);
+    }
+
+    private void setCompleted(final long min, final long max) {
+        ensureCapacity(max);
+        long offset = min;
+        while (offset <= max) {
+            final long relativeOffset = offset - windowStartOffset;
+            final int word = (int) (relativeOffset / BITS_PER_WORD);
+            final int firstBit = (int) (relativeOffset % BITS_PER_WORD);
+            final int lastBit = (int) Math.min(BITS_PER_WORD - 1, firstBit + (max - offset));
+            final long mask = (lastBit == BITS_PER_WORD - 1 ? -1L : (1L << (lastBit + 1)) - 1) & (-1L << firstBit);
+            final int index = (headWord + word) & (words.length - 1);
+            uncommittedCompletedOffsets += Long.bitCount(mask & ~words[index]);
+            words[index] |= mask;
+            offset += lastBit - firstBit + 1;
+        }
+    }
+
+    private void advanceCommittedOffset() {
+        while (true) {
+            final int firstBit = (int) (committedOffset + 1 - windowStartOffset);
+            final long remainingBits = words[headWord] >>> firstBit;
+            final int completedBits = Long.numberOfTrailingZeros(~remainingBits);
+            committedOffset += Math.min(completedBits, BITS_PER_WORD - firstBit);
+            if (firstBit + completedBits < BITS_PER_WORD) {
+                return;
             }
+            words[headWord] = 0;
+            headWord = (headWord + 1) & (words.length - 1);
+            windowStartOffset += BITS_PER_WORD;
         }
-        return null;
     }
 
+    private void ensureCapacity(final long max) {
+        final long requiredWords = (max - windowStartOffset) / BITS_PER_WORD + 1;
+        if (requiredWords <= words.length) {
+            return;
+        }
+        if (requiredWords > MAXIMUM_WORD_COUNT) {
+            throw new IllegalStateException("Too many offsets outstanding in partition " + topicPartition + " to track offset " + max);
+        }
+        int newLength = words.length;
+        while (newLength < requiredWords) {
+            newLength <<= 1;
+        }
+        final long[] newWords = new long[newLength];
+        for (int i = 0; i < words.length; i++) {
+            newWords[i] = words[(headWord + i) & (words.length - 1)];
+        }
+        words = newWords;
+        headWord = 0;
+    }
 }
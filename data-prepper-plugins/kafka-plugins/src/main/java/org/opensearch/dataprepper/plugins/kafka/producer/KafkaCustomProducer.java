@@ -142,18 +142,9 @@ public class KafkaCustomProducer<T> {
 
     public void produceRecords(final Record<Event> record) throws Exception {
         bufferedEventHandles.add(record.getData().getEventHandle());
-        Event event = getEvent(record);
-        final String key = event.formatString(kafkaProducerConfig.getPartitionKey(), expressionEvaluator);
+        final String key = getKey(record);
         try {
-            if (Objects.equals(serdeFormat, MessageFormat.JSON.toString())) {
-                publishJsonMessage(record, key);
-            } else if (Objects.equals(serdeFormat, MessageFormat.AVRO.toString())) {
-                publishAvroMessage(record, key);
-            } else if(Objects.equals(serdeFormat, MessageFormat.BYTES.toString())) {
-                publishJsonMessageAsBytes(record, key);
-            } else {
-                publishPlaintextMessage(record, key);
-            }
+            sendRecord(record, key, null);
             topicMetrics.update(producer);
         } catch (Exception e) {
             LOG.error("Error occurred while publishing record {}", e.getMessage());
@@ -169,7 +160,53 @@ public class KafkaCustomProducer<T> {
 
     }
 
-    private void publishJsonMessageAsBytes(Record<Event> record, String key) throws Exception {
+    String getKey(final Record<Event> record) {
+        final Event event = getEvent(record);
+        return event.formatString(kafkaProducerConfig.getPartitionKey(), expressionEvaluator);
+    }
+
+    /**
+     * Sends one record in the configured serde format without tracking its event handle.
+     *
+     * @param callback completes the send, or null to release all buffered event handles on success
+     */
+    void sendRecord(final Record<Event> record, final String key, final Callback callback) throws Exception {
+        if (Objects.equals(serdeFormat, MessageFormat.JSON.toString())) {
+            publishJsonMessage(record, key, callback);
+        } else if (Objects.equals(serdeFormat, MessageFormat.AVRO.toString())) {
+            publishAvroMessage(record, key, callback);
+        } else if(Objects.equals(serdeFormat, MessageFormat.BYTES.toString())) {
+            publishJsonMessageAsBytes(record, key, callback);
+        } else {
+            publishPlaintextMessage(record, key, callback);
+        }
+    }
+
+    /**
+     * Handles a record which could not be sent by {@link #sendRecord(Record, String, Callback)}: the record
+     * is written to the DLQ when one is configured, and its event handle is released.
+     */
+    void handleSendFailure(final Record<Event> record, final Exception e) {
+        LOG.error("Error occurred while publishing record {}", e.getMessage());
+        topicMetrics.getNumberOfRecordSendErrors().increment();
+        final EventHandle eventHandle = record.getData().getEventHandle();
+        if (dlqSink != null && dlqSink.isEnabled()) {
+            dlqSink.perform(record.getData().getJsonNode(), e);
+            eventHandle.release(true);
+        } else {
+            eventHandle.release(false);
+        }
+    }
+
+    KafkaProducer<String, T> getProducer() {
+        return producer;
+    }
+
+    void updateMetrics() {
+        topicMetrics.update(producer);
+    }
+
+    private void publishJsonMessageAsBytes(Record<Event> record, String key, Callback callback) throws Exception {
         JsonNode dataNode = record.getData().getJsonNode();
         byte[] bytes = objectMapper.writeValueAsBytes(dataNode);
 
@@ -178,7 +215,7 @@ public class KafkaCustomProducer<T> {
         compressedOutputStream.write(bytes);
         compressedOutputStream.close();
 
-        send(topicName, key, byteArrayOutputStream.toByteArray());
+        send(topicName, key, byteArrayOutputStream.toByteArray(), callback);
     }
 
     private Event getEvent(final Record<Event> record) {
@@ -192,30 +229,34 @@ public class KafkaCustomProducer<T> {
     }
 
 
-    private void publishPlaintextMessage(final Record<Event> record, final String key) throws Exception {
-        send(topicName, key, record.getData().toJsonString());
+    private void publishPlaintextMessage(final Record<Event> record, final String key, final Callback callback) throws Exception {
+        send(topicName, key, record.getData().toJsonString(), callback);
     }
 
-    private void publishAvroMessage(final Record<Event> record, final String key) throws Exception {
+    private void publishAvroMessage(final Record<Event> record, final String key, final Callback callback) throws Exception {
         final Schema avroSchema = schemaService.getSchema(topicName);
         if (avroSchema == null) {
             throw new RuntimeException("Schema definition is mandatory in case of type avro");
         }
         final GenericRecord genericRecord = getGenericRecord(record.getData(), avroSchema);
-        send(topicName, key, genericRecord);
+        send(topicName, key, genericRecord, callback);
     }
 
     Future send(final String topicName, String key, final Object record) throws Exception {
+        return send(topicName, key, record, null);
+    }
+
+    private Future send(final String topicName, final String key, final Object record, final Callback callback) throws Exception {
         ProducerRecord producerRecord = Objects.isNull(key) ?
             new ProducerRecord(topicName, record) :
             new ProducerRecord(topicName, key, record);
 
-        return producer.send(producerRecord, callBack(record));
+        return producer.send(producerRecord, callback != null ? callback : callBack(record));
     }
 
-    private void publishJsonMessage(final Record<Event> record, final String key) throws IOException, ProcessingException, Exception {
+    private void publishJsonMessage(final Record<Event> record, final String key, final Callback callback) throws IOException, ProcessingException, Exception {
         JsonNode dataNode = record.getData().getJsonNode();
-        send(topicName, key, dataNode);
+        send(topicName, key, dataNode, callback);
     }
 
     public boolean validateSchema(final String jsonData, final String schemaJson) throws IOException, ProcessingException {
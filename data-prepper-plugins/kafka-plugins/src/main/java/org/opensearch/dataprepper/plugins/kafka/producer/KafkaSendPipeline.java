@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.producer;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.kafka.sink.SendPipelineConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sends records through one long-lived {@link KafkaCustomProducer} without waiting for each record.
+ * <p>
+ * The number of records in flight is bounded by a {@link SendWindow}. Sends complete on the Kafka
+ * producer thread, which only queues the outcome; event handles are released and failed records are
+ * written to the DLQ in batches on the calling thread. With a transactional id, every call to
+ * {@link #send(Collection)} is one transaction, and its event handles are released once the
+ * transaction is committed.
+ */
+public class KafkaSendPipeline {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaSendPipeline.class);
+
+    private final KafkaCustomProducer<?> producer;
+    private final SendWindow sendWindow;
+    private final boolean transactional;
+    private final Queue<EventHandle> completedEventHandles = new ConcurrentLinkedQueue<>();
+    private final Queue<FailedSend> failedSends = new ConcurrentLinkedQueue<>();
+    private boolean transactionsInitialized;
+
+    public KafkaSendPipeline(final KafkaCustomProducer<?> producer, final SendPipelineConfig sendPipelineConfig) {
+        this(producer, sendPipelineConfig, new SendWindow(sendPipelineConfig.getMinInFlightRecords(),
+                sendPipelineConfig.getMaxInFlightRecords(), sendPipelineConfig.isAdaptive(), System.currentTimeMillis()));
+    }
+
+    KafkaSendPipeline(final KafkaCustomProducer<?> producer, final SendPipelineConfig sendPipelineConfig, final SendWindow sendWindow) {
+        this.producer = producer;
+        this.sendWindow = sendWindow;
+        this.transactional = sendPipelineConfig.getTransactionalId() != null;
+    }
+
+    /**
+     * Sends the records. Without transactions, this returns once every record has been handed to the
+     * producer; records still in flight are completed by later calls or by {@link #close()}.
+     *
+     * @throws KafkaException if the producer failed fatally and must be closed. The event handles of the records
+     * which were not handed to the producer, and of every record of a failed transaction, are released as failed.
+     */
+    public void send(final Collection<Record<Event>> records) throws InterruptedException {
+        if (transactional) {
+            if (!records.isEmpty()) {
+                sendInTransaction(records);
+            }
+        } else {
+            final Iterator<Record<Event>> unsentRecords = records.iterator();
+            while (unsentRecords.hasNext()) {
+                final Record<Event> record = unsentRecords.next();
+                try {
+                    sendRecord(record, true);
+                } catch (final ProducerFencedException | OutOfOrderSequenceException | AuthorizationException e) {
+                    // records already handed to the producer are completed by their callbacks
+                    LOG.error("Kafka producer failed and cannot send the remaining records", e);
+                    record.getData().getEventHandle().release(false);
+                    unsentRecords.forEachRemaining(unsentRecord -> unsentRecord.getData().getEventHandle().release(false));
+                    throw e;
+                }
+                drainCompletedSends();
+            }
+        }
+        drainCompletedSends();
+        producer.updateMetrics();
+        sendWindow.adjust(System.currentTimeMillis());
+    }
+
+    /**
+     * Waits for every record in flight, completes it and closes the producer.
+     */
+    public void close() {
+        try {
+            producer.getProducer().flush();
+            sendWindow.awaitEmpty();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to flush records in flight while closing the Kafka send pipeline", e);
+        } finally {
+            drainCompletedSends();
+            producer.getProducer().close();
+        }
+    }
+
+    int getInFlightLimit() {
+        return sendWindow.getLimit();
+    }
+
+    private void sendInTransaction(final Collection<Record<Event>> records) throws InterruptedException {
+        final KafkaProducer<String, ?> kafkaProducer = producer.getProducer();
+        if (!transactionsInitialized) {
+            kafkaProducer.initTransactions();
+            transactionsInitialized = true;
+        }
+
+        final List<Record<Event>> sentRecords = new ArrayList<>(records.size());
+        final Iterator<Record<Event>> unsentRecords = records.iterator();
+        Record<Event> sendingRecord = null;
+        try {
+            kafkaProducer.beginTransaction();
+            while (unsentRecords.hasNext()) {
+                sendingRecord = unsentRecords.next();
+                if (sendRecord(sendingRecord, false)) {
+                    sentRecords.add(sendingRecord);
+                }
+                sendingRecord = null;
+            }
+            kafkaProducer.commitTransaction();
+        } catch (final ProducerFencedException | OutOfOrderSequenceException | AuthorizationException e) {
+            // records which failed to send were already handed to the failure handling
+            LOG.error("Kafka producer failed and cannot continue the transaction", e);
+            sentRecords.forEach(record -> record.getData().getEventHandle().release(false));
+            if (sendingRecord != null) {
+                sendingRecord.getData().getEventHandle().release(false);
+            }
+            unsentRecords.forEachRemaining(record -> record.getData().getEventHandle().release(false));
+            throw e;
+        } catch (final KafkaException e) {
+            LOG.error("Aborting Kafka transaction of {} records", sentRecords.size(), e);
+            kafkaProducer.abortTransaction();
+            sentRecords.forEach(record -> producer.handleSendFailure(record, e));
+            return;
+        }
+        sentRecords.forEach(record -> record.getData().getEventHandle().release(true));
+    }
+
+    /**
+     * @param releaseOnCompletion true if the event handle is released once the send completes
+     * @return true if the record was handed to the producer
+     */
+    private boolean sendRecord(final Record<Event> record, final boolean releaseOnCompletion) throws InterruptedException {
+        final String key = producer.getKey(record);
+        sendWindow.acquire();
+        try {
+            producer.sendRecord(record, key, callback(record, releaseOnCompletion));
+            return true;
+        } catch (final ProducerFencedException | OutOfOrderSequenceException | AuthorizationException e) {
+            sendWindow.release(false);
+            throw e;
+        } catch (final Exception e) {
+            sendWindow.release(false);
+            producer.handleSendFailure(record, e);
+            return false;
+        }
+    }
+
+    private Callback callback(final Record<Event> record, final boolean releaseOnCompletion) {
+        return (metadata, exception) -> {
+            if (releaseOnCompletion) {
+                if (exception == null) {
+                    completedEventHandles.add(record.getData().getEventHandle());
+                } else {
+                    failedSends.add(new FailedSend(record, exception));
+                }
+            }
+            sendWindow.release(exception == null);
+        };
+    }
+
+    private void drainCompletedSends() {
+        EventHandle eventHandle;
+        while ((eventHandle = completedEventHandles.poll()) != null) {
+            eventHandle.release(true);
+        }
+        FailedSend failedSend;
+        while ((failedSend = failedSends.poll()) != null) {
+            producer.handleSendFailure(failedSend.record, failedSend.exception);
+        }
+    }
+
+    private static class FailedSend {
+        private final Record<Event> record;
+        private final Exception exception;
+
+        private FailedSend(final Record<Event> record, final Exception exception) {
+            this.record = record;
+            this.exception = exception;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.producer;
+
+/**
+ * Bounds the number of records which are sent but not yet completed.
+ * <p>
+ * When adaptive, the limit is tuned by hill climbing on the completed records per second: it keeps
+ * moving in the same direction while the throughput improves, turns around when the throughput drops,
+ * and is halved when a send fails.
+ */
+class SendWindow {
+    static final long ADJUST_INTERVAL_MILLIS = 1000L;
+    private static final double SIGNIFICANT_CHANGE = 0.05;
+
+    private final int minimumLimit;
+    private final int maximumLimit;
+    private final boolean adaptive;
+    private int limit;
+    private int inFlight;
+    private long completedSinceAdjust;
+    private boolean failedSinceAdjust;
+    private boolean increasing;
+    private double lastThroughput;
+    private long lastAdjustMillis;
+
+    SendWindow(final int minimumLimit, final int maximumLimit, final boolean adaptive, final long nowMillis) {
+        this.minimumLimit = minimumLimit;
+        this.maximumLimit = maximumLimit;
+        this.adaptive = adaptive;
+        this.limit = adaptive ? minimumLimit : maximumLimit;
+        this.increasing = true;
+        this.lastAdjustMillis = nowMillis;
+    }
+
+    /**
+     * Waits until another record may be sent and counts it as in flight.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /**
+     * Counts an acquired record as completed.
+     *
+     * @param succeeded false if the send failed
+     */
+    synchronized void release(final boolean succeeded) {
+        inFlight--;
+        if (succeeded) {
+            completedSinceAdjust++;
+        } else {
+            failedSinceAdjust = true;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Waits until no record is in flight.
+     */
+    synchronized void awaitEmpty() throws InterruptedException {
+        while (inFlight > 0) {
+            wait();
+        }
+    }
+
+    /**
+     * Tunes the limit if the adjust interval has elapsed since the last adjustment.
+     */
+    synchronized void adjust(final long nowMillis) {
+        final long elapsedMillis = nowMillis - lastAdjustMillis;
+        if (!adaptive || elapsedMillis < ADJUST_INTERVAL_MILLIS) {
+            return;
+        }
+        final double throughput = completedSinceAdjust * 1000.0 / elapsedMillis;
+        if (failedSinceAdjust) {
+            increasing = false;
+            limit = Math.max(minimumLimit, limit / 2);
+        } else if (throughput < lastThroughput * (1 - SIGNIFICANT_CHANGE)) {
+            increasing = !increasing;
+            step();
+        } else if (throughput > lastThroughput * (1 + SIGNIFICANT_CHANGE) || inFlight >= limit) {
+            step();
+        }
+        lastThroughput = throughput;
+        completedSinceAdjust = 0;
+        failedSinceAdjust = false;
+        lastAdjustMillis = nowMillis;
+        notifyAll();
+    }
+
+    private void step() {
+        final int change = Math.max(1, limit / 4);
+        limit = increasing ? Math.min(maximumLimit, limit + change) : Math.max(minimumLimit, limit - change);
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
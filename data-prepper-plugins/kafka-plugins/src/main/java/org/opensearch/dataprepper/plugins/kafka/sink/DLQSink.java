@@ -57,6 +57,13 @@ public class DLQSink {
         logFailureForDlqObjects(dlqWriter, List.of(dlqObject));
     }
 
+    /**
+     * @return true if a DLQ is configured, so that failed data passed to {@link #perform} is kept
+     */
+    public boolean isEnabled() {
+        return getDlqWriter() != null;
+    }
+
     private DlqWriter getDlqWriter() {
         if (dlqProvider == null) {
             return null;
@@ -24,6 +24,7 @@ import org.opensearch.dataprepper.plugins.kafka.configuration.TopicProducerConfi
 import org.opensearch.dataprepper.plugins.kafka.configuration.SchemaConfig;
 import org.opensearch.dataprepper.plugins.kafka.producer.KafkaCustomProducer;
 import org.opensearch.dataprepper.plugins.kafka.producer.KafkaCustomProducerFactory;
+import org.opensearch.dataprepper.plugins.kafka.producer.KafkaSendPipeline;
 import org.opensearch.dataprepper.plugins.kafka.producer.ProducerWorker;
 import org.opensearch.dataprepper.plugins.kafka.service.SchemaService;
 import org.opensearch.dataprepper.plugins.kafka.service.TopicService;
@@ -73,6 +74,7 @@ public class KafkaSink extends AbstractSink<Record<Event>> {
 
     private final SinkContext sinkContext;
 
+    private KafkaSendPipeline sendPipeline;
 
     @DataPrepperPluginConstructor
     public KafkaSink(final PluginSetting pluginSetting, final KafkaSinkConfig kafkaSinkConfig, final PluginFactory pluginFactory,
@@ -117,6 +119,14 @@ public class KafkaSink extends AbstractSink<Record<Event>> {
     @Override
     public void doOutput(Collection<Record<Event>> records) {
         reentrantLock.lock();
+        if (kafkaSinkConfig.getSendPipelineConfig() != null) {
+            try {
+                doOutputPipelined(records);
+            } finally {
+                reentrantLock.unlock();
+            }
+            return;
+        }
         if (records.isEmpty()) {
             return;
         }
@@ -137,6 +147,27 @@ public class KafkaSink extends AbstractSink<Record<Event>> {
         reentrantLock.unlock();
     }
 
+    private void doOutputPipelined(final Collection<Record<Event>> records) {
+        if (sendPipeline == null) {
+            if (records.isEmpty()) {
+                return;
+            }
+            prepareTopicAndSchema();
+            sendPipeline = new KafkaSendPipeline(createProducer(), kafkaSinkConfig.getSendPipelineConfig());
+        }
+        try {
+            sendPipeline.send(records);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Kafka send pipeline failed, the producer will be recreated.", e);
+            sendPipeline.close();
+            sendPipeline = null;
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
     private void prepareTopicAndSchema() {
         checkTopicCreationCriteriaAndCreateTopic();
         final SchemaConfig schemaConfig = kafkaSinkConfig.getSchemaConfig();
@@ -173,6 +204,15 @@ public class KafkaSink extends AbstractSink<Record<Event>> {
 
     @Override
     public void shutdown() {
+        reentrantLock.lock();
+        try {
+            if (sendPipeline != null) {
+                sendPipeline.close();
+                sendPipeline = null;
+            }
+        } finally {
+            reentrantLock.unlock();
+        }
         try {
             if (!executorService.awaitTermination(
                     calculateLongestThreadWaitingTime(), TimeUnit.MILLISECONDS)) {
@@ -93,6 +93,10 @@ public class KafkaSinkConfig implements KafkaProducerConfig {
     @JsonProperty("producer_properties")
     private KafkaProducerProperties kafkaProducerProperties;
 
+    @JsonProperty("send_pipeline")
+    @Valid
+    private SendPipelineConfig sendPipelineConfig;
+
     public SchemaConfig getSchemaConfig() {
         return schemaConfig;
     }
@@ -161,4 +165,11 @@ public class KafkaSinkConfig implements KafkaProducerConfig {
     public String getPartitionKey() {
         return partitionKey;
     }
+
+    /**
+     * @return the configuration for pipelined sends, or null if every record is sent on its own
+     */
+    public SendPipelineConfig getSendPipelineConfig() {
+        return sendPipelineConfig;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.sink;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Configuration for sending records without waiting for each record, with a bounded number of
+ * records in flight.
+ */
+public class SendPipelineConfig {
+    static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 10000;
+    static final int DEFAULT_MIN_IN_FLIGHT_RECORDS = 100;
+
+    @JsonProperty("max_in_flight_records")
+    @Min(1)
+    private int maxInFlightRecords = DEFAULT_MAX_IN_FLIGHT_RECORDS;
+
+    @JsonProperty("min_in_flight_records")
+    @Min(1)
+    private int minInFlightRecords = DEFAULT_MIN_IN_FLIGHT_RECORDS;
+
+    @JsonProperty("adaptive")
+    private boolean adaptive = true;
+
+    @JsonProperty("transactional_id")
+    private String transactionalId;
+
+    public int getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    public int getMinInFlightRecords() {
+        return Math.min(minInFlightRecords, maxInFlightRecords);
+    }
+
+    /**
+     * @return true if the number of records in flight is tuned from the observed send throughput
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * @return the prefix of the transactional id of the producer, which is followed by the host name of the
+     * node, or null if records are not sent in transactions
+     */
+    public String getTransactionalId() {
+        return transactionalId;
+    }
+
+    @AssertTrue(message = "transactional_id must not be empty")
+    boolean isTransactionalIdValid() {
+        return transactionalId == null || !transactionalId.isBlank();
+    }
+}
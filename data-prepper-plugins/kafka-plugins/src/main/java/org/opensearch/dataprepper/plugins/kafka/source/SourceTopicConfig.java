@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.plugins.kafka.source;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.kafka.configuration.CommonTopicConfig;
@@ -32,6 +34,8 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
     static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(300);
     static final Integer DEFAULT_CONSUMER_MAX_POLL_RECORDS = 500;
     static final Integer DEFAULT_NUM_OF_WORKERS = 2;
+    static final Integer DEFAULT_DECODE_THREADS = 0;
+    static final boolean DEFAULT_RAW_PASSTHROUGH = false;
     static final Duration DEFAULT_HEART_BEAT_INTERVAL_DURATION = Duration.ofSeconds(5);
 
 
@@ -61,6 +65,14 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
     @Size(min = 1, max = 200, message = "Number of worker threads should lies between 1 and 200")
     private Integer workers = DEFAULT_NUM_OF_WORKERS;
 
+    @JsonProperty("decode_threads")
+    @Min(0)
+    @Max(64)
+    private Integer decodeThreads = DEFAULT_DECODE_THREADS;
+
+    @JsonProperty("raw_passthrough")
+    private Boolean rawPassthrough = DEFAULT_RAW_PASSTHROUGH;
+
     @JsonProperty("session_timeout")
     @Valid
     @Size(min = 1)
@@ -213,6 +225,16 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
         return workers;
     }
 
+    @Override
+    public Integer getDecodeThreads() {
+        return decodeThreads;
+    }
+
+    @Override
+    public Boolean getRawPassthrough() {
+        return rawPassthrough;
+    }
+
     @Override
     public Duration getHeartBeatInterval() {
         return heartBeatInterval;
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.kafka.util;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
@@ -30,6 +31,7 @@ public class KafkaTopicConsumerMetrics {
     static final String NUMBER_OF_RECORDS_COMMITTED = "numberOfRecordsCommitted";
     static final String NUMBER_OF_RECORDS_CONSUMED = "numberOfRecordsConsumed";
     static final String NUMBER_OF_BYTES_CONSUMED = "numberOfBytesConsumed";
+    static final String COMMIT_LAG = "commitLag";
 
     private final String topicName;
     private long updateTime;
@@ -46,6 +48,7 @@ public class KafkaTopicConsumerMetrics {
     private final Counter numberOfRecordsCommitted;
     private final Counter numberOfRecordsConsumed;
     private final Counter numberOfBytesConsumed;
+    private final DistributionSummary commitLag;
 
     public KafkaTopicConsumerMetrics(final String topicName, final PluginMetrics pluginMetrics,
                                      final boolean topicNameInMetrics) {
@@ -64,6 +67,7 @@ public class KafkaTopicConsumerMetrics {
         this.numberOfPollAuthErrors = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_POLL_AUTH_ERRORS, topicNameInMetrics));
         this.numberOfPositiveAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_POSITIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
         this.numberOfNegativeAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_NEGATIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
+        this.commitLag = pluginMetrics.summary(getTopicMetricName(COMMIT_LAG, topicNameInMetrics));
     }
 
     private void initializeMetricNamesMap(final boolean topicNameInMetrics) {
@@ -136,6 +140,14 @@ public class KafkaTopicConsumerMetrics {
         return numberOfBytesConsumed;
     }
 
+    /**
+     * @return the number of offsets of a partition which are completed but cannot be committed
+     * because an earlier offset is not yet completed
+     */
+    public DistributionSummary getCommitLag() {
+        return commitLag;
+    }
+
     public Counter getNumberOfRecordsCommitted() {
         return numberOfRecordsCommitted;
     }
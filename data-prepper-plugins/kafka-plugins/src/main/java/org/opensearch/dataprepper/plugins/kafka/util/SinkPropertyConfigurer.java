@@ -13,9 +13,13 @@ import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaProducerConfig;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaProducerProperties;
 import org.opensearch.dataprepper.plugins.kafka.configuration.SchemaConfig;
+import org.opensearch.dataprepper.plugins.kafka.sink.KafkaSinkConfig;
+import org.opensearch.dataprepper.plugins.kafka.sink.SendPipelineConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -79,6 +83,12 @@ public class SinkPropertyConfigurer {
 
     public static final String ENABLE_IDEMPOTENCE = "enable.idempotence";
 
+    public static final String TRANSACTIONAL_ID = "transactional.id";
+
+    static final long SEND_PIPELINE_LINGER_MS = 5L;
+
+    static final int SEND_PIPELINE_BATCH_SIZE = 65536;
+
     public static final String INTERCEPTOR_CLASSES = "interceptor.classes";
 
     public static final String MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION = "max.in.flight.requests.per.connection";
@@ -116,12 +126,41 @@ public class SinkPropertyConfigurer {
         if (kafkaProducerConfig.getKafkaProducerProperties() != null) {
             setPropertiesProviderByKafkaProducer(kafkaProducerConfig.getKafkaProducerProperties(), properties);
         }
+        if (kafkaProducerConfig instanceof KafkaSinkConfig && ((KafkaSinkConfig) kafkaProducerConfig).getSendPipelineConfig() != null) {
+            setSendPipelineProperties(((KafkaSinkConfig) kafkaProducerConfig).getSendPipelineConfig(), properties);
+        }
 
         setAuthProperties(kafkaProducerConfig, properties);
 
         return properties;
     }
 
+    /**
+     * Pipelined sends keep many records in flight, so unless they are configured the producer batches
+     * records for a few milliseconds instead of sending each record as soon as possible.
+     */
+    private static void setSendPipelineProperties(final SendPipelineConfig sendPipelineConfig, final Properties properties) {
+        properties.putIfAbsent(LINGER_MS, SEND_PIPELINE_LINGER_MS);
+        properties.putIfAbsent(BATCH_SIZE, SEND_PIPELINE_BATCH_SIZE);
+        if (sendPipelineConfig.getTransactionalId() != null) {
+            properties.put(TRANSACTIONAL_ID, getNodeTransactionalId(sendPipelineConfig.getTransactionalId()));
+            properties.put(ENABLE_IDEMPOTENCE, true);
+        }
+    }
+
+    /**
+     * Every node runs the sink with the same configuration, and producers with the same transactional id
+     * fence each other. The sink has one transactional producer on each node, so the host name makes the id
+     * unique, while a producer recreated on the same node keeps the id and fences the one it replaces.
+     */
+    private static String getNodeTransactionalId(final String transactionalId) {
+        try {
+            return transactionalId + "-" + InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            throw new RuntimeException("Unable to determine the host name for the Kafka transactional id", e);
+        }
+    }
+
     private static void setAuthProperties(final KafkaProducerConfig kafkaSinkConfig, final Properties properties) {
         if(kafkaSinkConfig.getAuthConfig() == null)
             return;
@@ -40,6 +40,8 @@ class BufferTopicConfigTest {
         assertThat(objectUnderTest.getMaxPollInterval(), equalTo(BufferTopicConfig.DEFAULT_MAX_POLL_INTERVAL));
         assertThat(objectUnderTest.getConsumerMaxPollRecords(), equalTo(BufferTopicConfig.DEFAULT_CONSUMER_MAX_POLL_RECORDS));
         assertThat(objectUnderTest.getWorkers(), equalTo(BufferTopicConfig.DEFAULT_NUM_OF_WORKERS));
+        assertThat(objectUnderTest.getDecodeThreads(), equalTo(BufferTopicConfig.DEFAULT_DECODE_THREADS));
+        assertThat(objectUnderTest.getRawPassthrough(), equalTo(BufferTopicConfig.DEFAULT_RAW_PASSTHROUGH));
         assertThat(objectUnderTest.getHeartBeatInterval(), equalTo(BufferTopicConfig.DEFAULT_HEART_BEAT_INTERVAL_DURATION));
     }
 
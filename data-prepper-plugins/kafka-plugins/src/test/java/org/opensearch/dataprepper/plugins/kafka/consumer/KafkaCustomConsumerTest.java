@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -21,6 +22,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +44,8 @@ import org.opensearch.dataprepper.plugins.kafka.configuration.TopicConsumerConfi
 import org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicConsumerMetrics;
 import org.opensearch.dataprepper.plugins.kafka.util.MessageFormat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -144,6 +149,7 @@ public class KafkaCustomConsumerTest {
         when(topicMetrics.getNumberOfNegativeAcknowledgements()).thenReturn(negCounter);
         when(topicMetrics.getNumberOfBufferSizeOverflows()).thenReturn(overflowCounter);
         when(topicMetrics.getNumberOfRecordsCommitted()).thenReturn(counter);
+        when(topicMetrics.getCommitLag()).thenReturn(mock(DistributionSummary.class));
         when(topicMetrics.getNumberOfDeserializationErrors()).thenReturn(counter);
         when(topicMetrics.getNumberOfInvalidTimeStamps()).thenReturn(counter);
         when(topicConfig.getThreadWaitingTime()).thenReturn(Duration.ofSeconds(1));
@@ -589,6 +595,111 @@ public class KafkaCustomConsumerTest {
         });
     }
 
+    @Test
+    public void testPlainTextConsumeRecordsWithDecodeThreadsKeepsPartitionOrder() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDecodeThreads()).thenReturn(2);
+        when(topicConfig.getConsumerMaxPollRecords()).thenReturn(10);
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        for (int partition = 0; partition < 2; partition++) {
+            List<ConsumerRecord> partitionRecords = new ArrayList<>();
+            for (int offset = 0; offset < 4; offset++) {
+                partitionRecords.add(new ConsumerRecord<>(topic, partition, offset, testKey1, partition + "-" + offset));
+            }
+            records.put(new TopicPartition(topic, partition), partitionRecords);
+        }
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("plaintext", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, 0), new TopicPartition(topic, 1)));
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(8, bufferedRecords.size());
+        Map<String, List<String>> valuesByPartition = new HashMap<>();
+        for (Record<Event> record : bufferedRecords) {
+            final String partition = record.getData().getMetadata().getAttribute("kafka_partition").toString();
+            valuesByPartition.computeIfAbsent(partition, p -> new ArrayList<>()).add(record.getData().get(testKey1, String.class));
+        }
+        assertThat(valuesByPartition.get("0"), equalTo(List.of("0-0", "0-1", "0-2", "0-3")));
+        assertThat(valuesByPartition.get("1"), equalTo(List.of("1-0", "1-1", "1-2", "1-3")));
+
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        Assertions.assertEquals(2, offsetsToCommit.size());
+        offsetsToCommit.forEach((topicPartition, offsetAndMetadata) -> Assertions.assertEquals(4L, offsetAndMetadata.offset()));
+    }
+
+    @Test
+    public void testBytesConsumeRecordsFromByteBufferValues() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.BYTES);
+        final byte[] fetchedBytes = ("xx" + testJsonValue1 + "yy").getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer valueBuffer = ByteBuffer.wrap(fetchedBytes, 2, testJsonValue1.length()).slice();
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        records.put(new TopicPartition(topic, testPartition),
+                List.of(new ConsumerRecord<>(topic, testPartition, 0L, testKey1, valueBuffer)));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("bytes", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+        consumer.consumeRecords();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(1, bufferedRecords.size());
+        final Map<String, Object> eventMap = bufferedRecords.get(0).getData().toMap();
+        testMap1.forEach((k, v) -> assertThat(eventMap, hasEntry(k, v)));
+        Assertions.assertEquals(0, valueBuffer.position());
+    }
+
+    @Test
+    public void testBytesConsumeRecordsWithRawPassthrough() throws Exception {
+        final String compactJsonValue = "{\"key1\":\"value1\",\"key2\":2}";
+        final Event event = consumeBytesWithRawPassthrough(compactJsonValue);
+
+        Assertions.assertEquals(compactJsonValue, event.toJsonString());
+        final Map<String, Object> eventMap = event.toMap();
+        testMap1.forEach((k, v) -> assertThat(eventMap, hasEntry(k, v)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{ \"key1\": \"value1\", \"key2\": 2}",
+            "{\"key1\":\"value1\",\n\"key2\":2}",
+            "{\"key1\":\"value1\",\"key2\":2}\n{\"key3\":\"value3\"}"
+    })
+    public void testBytesConsumeRecordsWithRawPassthroughSerializesMessagesWhichAreNotCompact(final String jsonValue) throws Exception {
+        final Event event = consumeBytesWithRawPassthrough(jsonValue);
+
+        Assertions.assertEquals("{\"key1\":\"value1\",\"key2\":2}", event.toJsonString());
+        final Map<String, Object> eventMap = event.toMap();
+        testMap1.forEach((k, v) -> assertThat(eventMap, hasEntry(k, v)));
+    }
+
+    private Event consumeBytesWithRawPassthrough(final String jsonValue) throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.BYTES);
+        when(topicConfig.getRawPassthrough()).thenReturn(true);
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        records.put(new TopicPartition(topic, testPartition),
+                List.of(new ConsumerRecord<>(topic, testPartition, 0L, testKey1, jsonValue.getBytes(StandardCharsets.UTF_8))));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("bytes", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+        consumer.consumeRecords();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(1, bufferedRecords.size());
+        return bufferedRecords.get(0).getData();
+    }
+
     private ConsumerRecords createPlainTextRecords(String topic, final long startOffset) {
         Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
         ConsumerRecord<String, String> record1 = new ConsumerRecord<>(topic, testPartition, startOffset, testKey1, testValue1);
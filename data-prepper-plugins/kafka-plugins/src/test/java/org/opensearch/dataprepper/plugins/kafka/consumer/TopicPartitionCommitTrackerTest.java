@@ -21,6 +21,7 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -101,6 +102,65 @@ class TopicPartitionCommitTrackerTest {
 
     }
 
+    @Test
+    public void testManyOffsetsCompletedInReverseOrder() {
+        final long numberOfOffsets = 100_000L;
+        topicPartitionCommitTracker = createObjectUnderTest(testTopic, testPartition, 1000L);
+        for (long offset = numberOfOffsets - 1; offset > 0; offset--) {
+            assertThat(topicPartitionCommitTracker.addCompletedOffsets(Range.between(1000L + offset, 1000L + offset)), nullValue());
+        }
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(numberOfOffsets - 1));
+
+        final OffsetAndMetadata result = topicPartitionCommitTracker.addCompletedOffsets(Range.between(1000L, 1000L));
+        assertThat(result.offset(), equalTo(1000L + numberOfOffsets));
+        assertThat(topicPartitionCommitTracker.getCommittedRecordCount(), equalTo(numberOfOffsets));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(0L));
+    }
+
+    @Test
+    public void testCommitLag() {
+        topicPartitionCommitTracker = createObjectUnderTest(testTopic, testPartition, 0L);
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(0L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(100L, 199L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(100L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(0L, 49L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(100L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(50L, 99L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(0L));
+        assertThat(topicPartitionCommitTracker.getCommittedOffset(), equalTo(199L));
+    }
+
+    @Test
+    public void testCommitLagCountsOnlyCompletedOffsetsOnce() {
+        topicPartitionCommitTracker = createObjectUnderTest(testTopic, testPartition, 0L);
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(10L, 19L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(15L, 24L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(1000L, 1000L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(16L));
+
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(0L, 4L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(16L));
+        assertThat(topicPartitionCommitTracker.getCommittedOffset(), equalTo(4L));
+
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(5L, 9L));
+        assertThat(topicPartitionCommitTracker.getCommitLag(), equalTo(1L));
+        assertThat(topicPartitionCommitTracker.getCommittedOffset(), equalTo(24L));
+    }
+
+    @Test
+    public void testCommittedAndOverlappingOffsetsAreCountedOnce() {
+        topicPartitionCommitTracker = createObjectUnderTest(testTopic, testPartition, 0L);
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(0L, 9L));
+        assertThat(topicPartitionCommitTracker.getCommittedRecordCount(), equalTo(10L));
+
+        assertThat(topicPartitionCommitTracker.addCompletedOffsets(Range.between(0L, 9L)), nullValue());
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(15L, 30L));
+        topicPartitionCommitTracker.addCompletedOffsets(Range.between(20L, 25L));
+        final OffsetAndMetadata result = topicPartitionCommitTracker.addCompletedOffsets(Range.between(5L, 17L));
+        assertThat(result.offset(), equalTo(31L));
+        assertThat(topicPartitionCommitTracker.getCommittedRecordCount(), equalTo(21L));
+    }
+
     private static Stream<Arguments> getInputOrder() {
         List<List<Integer>> orderList = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaProducerConfig;
@@ -47,7 +48,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -238,6 +241,54 @@ public class KafkaCustomProducerTest {
         verifyNoInteractions(numberOfRecordSendErrors);
     }
 
+    @Test
+    public void sendRecord_uses_given_callback() throws Exception {
+        when(kafkaSinkConfig.getSerdeFormat()).thenReturn("plaintext");
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        final Callback callback = mock(Callback.class);
+        final String key = UUID.randomUUID().toString();
+        producer.sendRecord(record, key, callback);
+        final ArgumentCaptor<ProducerRecord> recordArgumentCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaProducer).send(recordArgumentCaptor.capture(), eq(callback));
+        assertEquals(recordArgumentCaptor.getValue().key(), key);
+        assertEquals(recordArgumentCaptor.getValue().value(), record.getData().toJsonString());
+    }
+
+    @Test
+    public void handleSendFailure_writes_to_dlq_and_releases_handle() {
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        when(kafkaTopicProducerMetrics.getNumberOfRecordSendErrors()).thenReturn(numberOfRecordSendErrors);
+        when(dlqSink.isEnabled()).thenReturn(true);
+        final Event failedEvent = mock(Event.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        when(failedEvent.getEventHandle()).thenReturn(eventHandle);
+        final KafkaException exception = new KafkaException();
+        producer.handleSendFailure(new Record<>(failedEvent), exception);
+        verify(numberOfRecordSendErrors).increment();
+        verify(dlqSink).perform(failedEvent.getJsonNode(), exception);
+        verify(eventHandle).release(true);
+    }
+
+    @Test
+    public void handleSendFailure_without_dlq_releases_handle_as_failed() {
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        when(kafkaTopicProducerMetrics.getNumberOfRecordSendErrors()).thenReturn(numberOfRecordSendErrors);
+        when(dlqSink.isEnabled()).thenReturn(false);
+        final Event failedEvent = mock(Event.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        when(failedEvent.getEventHandle()).thenReturn(eventHandle);
+        producer.handleSendFailure(new Record<>(failedEvent), new KafkaException());
+        verify(numberOfRecordSendErrors).increment();
+        verify(dlqSink, never()).perform(any(), any());
+        verify(eventHandle).release(false);
+    }
+
     @Test
     public void testGetGenericRecord() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         KafkaProducer kafkaProducer = mock(KafkaProducer.class);
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.producer;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.kafka.sink.SendPipelineConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class KafkaSendPipelineTest {
+    @Mock
+    private KafkaCustomProducer<Object> producer;
+
+    @Mock
+    private KafkaProducer<String, Object> kafkaProducer;
+
+    @Mock
+    private SendPipelineConfig sendPipelineConfig;
+
+    private List<Record<Event>> records;
+    private List<EventHandle> eventHandles;
+
+    @BeforeEach
+    void setUp() {
+        when(sendPipelineConfig.getMinInFlightRecords()).thenReturn(10);
+        when(sendPipelineConfig.getMaxInFlightRecords()).thenReturn(100);
+        when(sendPipelineConfig.isAdaptive()).thenReturn(true);
+
+        records = new ArrayList<>();
+        eventHandles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Event event = mock(Event.class);
+            final EventHandle eventHandle = mock(EventHandle.class);
+            when(event.getEventHandle()).thenReturn(eventHandle);
+            records.add(new Record<>(event));
+            eventHandles.add(eventHandle);
+        }
+    }
+
+    private KafkaSendPipeline createObjectUnderTest() {
+        return new KafkaSendPipeline(producer, sendPipelineConfig);
+    }
+
+    @Test
+    void send_releases_event_handles_of_completed_sends_in_a_later_batch() throws Exception {
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+        final String key = UUID.randomUUID().toString();
+        when(producer.getKey(any())).thenReturn(key);
+
+        objectUnderTest.send(records);
+
+        final ArgumentCaptor<Callback> callbackArgumentCaptor = ArgumentCaptor.forClass(Callback.class);
+        for (final Record<Event> record : records) {
+            verify(producer).sendRecord(eq(record), eq(key), callbackArgumentCaptor.capture());
+        }
+        eventHandles.forEach(eventHandle -> verify(eventHandle, never()).release(anyBoolean()));
+
+        callbackArgumentCaptor.getAllValues().get(0).onCompletion(null, null);
+        callbackArgumentCaptor.getAllValues().get(1).onCompletion(null, new KafkaException());
+        objectUnderTest.send(List.of());
+
+        verify(eventHandles.get(0)).release(true);
+        verify(producer).handleSendFailure(eq(records.get(1)), any(KafkaException.class));
+        verify(eventHandles.get(2), never()).release(anyBoolean());
+        verify(producer, times(2)).updateMetrics();
+    }
+
+    @Test
+    void send_hands_records_which_fail_to_send_to_the_producer_failure_handling() throws Exception {
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+        final RuntimeException exception = new RuntimeException();
+        doThrow(exception).when(producer).sendRecord(eq(records.get(1)), any(), any());
+
+        objectUnderTest.send(records);
+
+        verify(producer).handleSendFailure(records.get(1), exception);
+        verify(producer, times(3)).sendRecord(any(), any(), any());
+    }
+
+    @Test
+    void close_flushes_and_releases_completed_sends() throws Exception {
+        when(producer.getProducer()).thenReturn(kafkaProducer);
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+        objectUnderTest.send(records.subList(0, 1));
+        final ArgumentCaptor<Callback> callbackArgumentCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(producer).sendRecord(eq(records.get(0)), any(), callbackArgumentCaptor.capture());
+        callbackArgumentCaptor.getValue().onCompletion(null, null);
+
+        objectUnderTest.close();
+
+        final InOrder inOrder = inOrder(kafkaProducer);
+        inOrder.verify(kafkaProducer).flush();
+        inOrder.verify(kafkaProducer).close();
+        verify(eventHandles.get(0)).release(true);
+    }
+
+    @Test
+    void transactional_send_commits_and_releases_all_event_handles() throws Exception {
+        when(sendPipelineConfig.getTransactionalId()).thenReturn(UUID.randomUUID().toString());
+        when(producer.getProducer()).thenReturn(kafkaProducer);
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.send(records);
+
+        final InOrder inOrder = inOrder(kafkaProducer, producer);
+        inOrder.verify(kafkaProducer).initTransactions();
+        inOrder.verify(kafkaProducer).beginTransaction();
+        inOrder.verify(producer, times(3)).sendRecord(any(), any(), any());
+        inOrder.verify(kafkaProducer).commitTransaction();
+        eventHandles.forEach(eventHandle -> verify(eventHandle).release(true));
+
+        objectUnderTest.send(records);
+
+        verify(kafkaProducer, times(1)).initTransactions();
+        verify(kafkaProducer, times(2)).commitTransaction();
+    }
+
+    @Test
+    void transactional_send_aborts_and_fails_all_records_when_commit_fails() throws Exception {
+        when(sendPipelineConfig.getTransactionalId()).thenReturn(UUID.randomUUID().toString());
+        when(producer.getProducer()).thenReturn(kafkaProducer);
+        final KafkaException exception = new KafkaException();
+        doThrow(exception).when(kafkaProducer).commitTransaction();
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.send(records);
+
+        verify(kafkaProducer).abortTransaction();
+        records.forEach(record -> verify(producer).handleSendFailure(record, exception));
+        eventHandles.forEach(eventHandle -> verify(eventHandle, never()).release(true));
+    }
+
+    @Test
+    void transactional_send_rethrows_fatal_errors() {
+        when(sendPipelineConfig.getTransactionalId()).thenReturn(UUID.randomUUID().toString());
+        when(producer.getProducer()).thenReturn(kafkaProducer);
+        doThrow(new ProducerFencedException("fenced")).when(kafkaProducer).commitTransaction();
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+
+        assertThrows(ProducerFencedException.class, () -> objectUnderTest.send(records));
+
+        verify(kafkaProducer, never()).abortTransaction();
+        eventHandles.forEach(eventHandle -> verify(eventHandle).release(false));
+    }
+
+    @Test
+    void transactional_send_releases_every_record_of_the_batch_when_a_send_fails_fatally() throws Exception {
+        when(sendPipelineConfig.getTransactionalId()).thenReturn(UUID.randomUUID().toString());
+        when(producer.getProducer()).thenReturn(kafkaProducer);
+        doThrow(new ProducerFencedException("fenced")).when(producer).sendRecord(eq(records.get(1)), any(), any());
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+
+        assertThrows(ProducerFencedException.class, () -> objectUnderTest.send(records));
+
+        verify(producer, never()).sendRecord(eq(records.get(2)), any(), any());
+        verify(kafkaProducer, never()).commitTransaction();
+        eventHandles.forEach(eventHandle -> verify(eventHandle).release(false));
+        eventHandles.forEach(eventHandle -> verify(eventHandle, never()).release(true));
+    }
+
+    @Test
+    void send_releases_records_which_were_not_sent_when_a_send_fails_fatally() throws Exception {
+        final KafkaSendPipeline objectUnderTest = createObjectUnderTest();
+        doThrow(new AuthorizationException("denied")).when(producer).sendRecord(eq(records.get(1)), any(), any());
+
+        assertThrows(AuthorizationException.class, () -> objectUnderTest.send(records));
+
+        verify(producer, never()).sendRecord(eq(records.get(2)), any(), any());
+        verify(producer, never()).handleSendFailure(any(), any());
+        verify(eventHandles.get(0), never()).release(anyBoolean());
+        verify(eventHandles.get(1)).release(false);
+        verify(eventHandles.get(2)).release(false);
+    }
+
+    @Test
+    void in_flight_limit_starts_at_minimum_when_adaptive() {
+        assertThat(createObjectUnderTest().getInFlightLimit(), equalTo(10));
+    }
+}
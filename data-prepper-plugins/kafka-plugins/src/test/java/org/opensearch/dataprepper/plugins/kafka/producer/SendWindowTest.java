@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.producer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+class SendWindowTest {
+    private static final long START = 100_000L;
+
+    @Test
+    void non_adaptive_window_stays_at_maximum() {
+        final SendWindow sendWindow = new SendWindow(10, 1000, false, START);
+        completeRecords(sendWindow, 500);
+        sendWindow.adjust(START + SendWindow.ADJUST_INTERVAL_MILLIS);
+
+        assertThat(sendWindow.getLimit(), equalTo(1000));
+    }
+
+    @Test
+    void adaptive_window_starts_at_minimum_and_grows_while_throughput_improves() throws InterruptedException {
+        final SendWindow sendWindow = new SendWindow(100, 1000, true, START);
+        assertThat(sendWindow.getLimit(), equalTo(100));
+
+        completeRecords(sendWindow, 100);
+        sendWindow.adjust(START + SendWindow.ADJUST_INTERVAL_MILLIS);
+        assertThat(sendWindow.getLimit(), equalTo(125));
+
+        completeRecords(sendWindow, 200);
+        sendWindow.adjust(START + 2 * SendWindow.ADJUST_INTERVAL_MILLIS);
+        assertThat(sendWindow.getLimit(), equalTo(156));
+    }
+
+    @Test
+    void adaptive_window_turns_around_when_throughput_drops() throws InterruptedException {
+        final SendWindow sendWindow = new SendWindow(100, 1000, true, START);
+        completeRecords(sendWindow, 1000);
+        sendWindow.adjust(START + SendWindow.ADJUST_INTERVAL_MILLIS);
+        final int grownLimit = sendWindow.getLimit();
+
+        completeRecords(sendWindow, 500);
+        sendWindow.adjust(START + 2 * SendWindow.ADJUST_INTERVAL_MILLIS);
+
+        assertThat(sendWindow.getLimit(), lessThan(grownLimit));
+    }
+
+    @Test
+    void adaptive_window_is_halved_on_failure_but_not_below_minimum() throws InterruptedException {
+        final SendWindow sendWindow = new SendWindow(100, 1000, true, START);
+        for (int i = 1; i <= 10; i++) {
+            completeRecords(sendWindow, 100 * i);
+            sendWindow.adjust(START + i * SendWindow.ADJUST_INTERVAL_MILLIS);
+        }
+        final int grownLimit = sendWindow.getLimit();
+        assertThat(grownLimit, greaterThan(200));
+
+        sendWindow.acquire();
+        sendWindow.release(false);
+        sendWindow.adjust(START + 11 * SendWindow.ADJUST_INTERVAL_MILLIS);
+        assertThat(sendWindow.getLimit(), equalTo(grownLimit / 2));
+
+        for (int i = 12; i <= 20; i++) {
+            sendWindow.acquire();
+            sendWindow.release(false);
+            sendWindow.adjust(START + i * SendWindow.ADJUST_INTERVAL_MILLIS);
+        }
+        assertThat(sendWindow.getLimit(), equalTo(100));
+    }
+
+    @Test
+    void adjust_does_nothing_before_interval_elapses() throws InterruptedException {
+        final SendWindow sendWindow = new SendWindow(100, 1000, true, START);
+        completeRecords(sendWindow, 100);
+        sendWindow.adjust(START + SendWindow.ADJUST_INTERVAL_MILLIS - 1);
+
+        assertThat(sendWindow.getLimit(), equalTo(100));
+    }
+
+    @Test
+    void acquire_waits_until_a_record_is_released() throws InterruptedException {
+        final SendWindow sendWindow = new SendWindow(1, 1, false, START);
+        sendWindow.acquire();
+        assertThat(sendWindow.getInFlight(), equalTo(1));
+
+        final Thread acquiringThread = new Thread(() -> {
+            try {
+                sendWindow.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        acquiringThread.start();
+        Thread.sleep(50);
+        assertThat(acquiringThread.isAlive(), equalTo(true));
+
+        sendWindow.release(true);
+        acquiringThread.join(5000);
+        assertThat(acquiringThread.isAlive(), equalTo(false));
+        assertThat(sendWindow.getInFlight(), equalTo(1));
+    }
+
+    private static void completeRecords(final SendWindow sendWindow, final int count) {
+        for (int i = 0; i < count; i++) {
+            try {
+                sendWindow.acquire();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            sendWindow.release(true);
+        }
+    }
+}
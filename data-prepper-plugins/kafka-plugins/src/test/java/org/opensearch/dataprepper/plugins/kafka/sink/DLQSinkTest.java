@@ -27,6 +27,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -91,5 +93,14 @@ public class DLQSinkTest {
         verify(dlqWriter).write(anyList(), anyString(), anyString());
     }
 
+    @Test
+    public void testIsEnabled() {
+        ReflectionTestUtils.setField(pluginSetting, "pipelineName", "test");
+        assertThat(dlqSink.isEnabled(), equalTo(true));
+
+        when(dlqProvider.getDlqWriter(anyString())).thenReturn(Optional.empty());
+        assertThat(dlqSink.isEnabled(), equalTo(false));
+    }
+
 
 }
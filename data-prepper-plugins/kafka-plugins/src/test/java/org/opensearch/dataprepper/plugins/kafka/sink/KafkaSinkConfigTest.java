@@ -22,6 +22,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
@@ -86,6 +87,11 @@ class KafkaSinkConfigTest {
         assertThat(kafkaSinkConfig.getThreadWaitTime(), notNullValue());
     }
 
+    @Test
+    void test_send_pipeline_null_by_default() {
+        assertThat(kafkaSinkConfig.getSendPipelineConfig(), nullValue());
+    }
+
     @Test
     public void testDLQConfiguration() {
         final Map<String, Object> fakePlugin = new LinkedHashMap<>();
@@ -31,6 +31,7 @@ import org.opensearch.dataprepper.model.sink.SinkContext;
 import org.opensearch.dataprepper.plugins.kafka.configuration.SchemaConfig;
 import org.opensearch.dataprepper.plugins.kafka.producer.KafkaCustomProducer;
 import org.opensearch.dataprepper.plugins.kafka.producer.KafkaCustomProducerFactory;
+import org.opensearch.dataprepper.plugins.kafka.producer.KafkaSendPipeline;
 import org.opensearch.dataprepper.plugins.kafka.producer.ProducerWorker;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.yaml.snakeyaml.Yaml;
@@ -48,6 +49,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -55,7 +58,9 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -164,6 +169,25 @@ public class KafkaSinkTest {
         assertThrows(RuntimeException.class, () -> objectUnderTest.doOutput(records));
     }
 
+    @Test
+    public void doOutputWithSendPipelineTest() throws InterruptedException {
+        ReflectionTestUtils.setField(kafkaSinkConfig, "schemaConfig", null);
+        ReflectionTestUtils.setField(kafkaSinkConfig, "sendPipelineConfig", new SendPipelineConfig());
+        final Collection records = Arrays.asList(new Record(event));
+        final KafkaSink objectUnderTest = createObjectUnderTest();
+
+        try (final MockedConstruction<KafkaSendPipeline> sendPipelines = mockConstruction(KafkaSendPipeline.class)) {
+            objectUnderTest.doOutput(records);
+            objectUnderTest.doOutput(records);
+            objectUnderTest.shutdown();
+
+            assertThat(sendPipelines.constructed().size(), equalTo(1));
+            verify(sendPipelines.constructed().get(0), times(2)).send(records);
+            verify(sendPipelines.constructed().get(0)).close();
+        }
+        verify(executorService, never()).submit(any(ProducerWorker.class));
+    }
+
     @Test
     public void doOutputEmptyRecordsTest() {
         final Collection records = Arrays.asList();
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class SendPipelineConfigTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void default_values() {
+        final SendPipelineConfig sendPipelineConfig = new SendPipelineConfig();
+
+        assertThat(sendPipelineConfig.getMaxInFlightRecords(), equalTo(SendPipelineConfig.DEFAULT_MAX_IN_FLIGHT_RECORDS));
+        assertThat(sendPipelineConfig.getMinInFlightRecords(), equalTo(SendPipelineConfig.DEFAULT_MIN_IN_FLIGHT_RECORDS));
+        assertThat(sendPipelineConfig.isAdaptive(), equalTo(true));
+        assertThat(sendPipelineConfig.getTransactionalId(), nullValue());
+        assertThat(sendPipelineConfig.isTransactionalIdValid(), equalTo(true));
+    }
+
+    @Test
+    void deserialized_values() {
+        final SendPipelineConfig sendPipelineConfig = objectMapper.convertValue(Map.of(
+                "max_in_flight_records", 500,
+                "min_in_flight_records", 50,
+                "adaptive", false,
+                "transactional_id", "my-sink"), SendPipelineConfig.class);
+
+        assertThat(sendPipelineConfig.getMaxInFlightRecords(), equalTo(500));
+        assertThat(sendPipelineConfig.getMinInFlightRecords(), equalTo(50));
+        assertThat(sendPipelineConfig.isAdaptive(), equalTo(false));
+        assertThat(sendPipelineConfig.getTransactionalId(), equalTo("my-sink"));
+    }
+
+    @Test
+    void min_in_flight_records_is_not_above_max() {
+        final SendPipelineConfig sendPipelineConfig = objectMapper.convertValue(Map.of(
+                "max_in_flight_records", 20), SendPipelineConfig.class);
+
+        assertThat(sendPipelineConfig.getMinInFlightRecords(), equalTo(20));
+    }
+
+    @Test
+    void blank_transactional_id_is_not_valid() {
+        final SendPipelineConfig sendPipelineConfig = objectMapper.convertValue(Map.of(
+                "transactional_id", " "), SendPipelineConfig.class);
+
+        assertThat(sendPipelineConfig.isTransactionalIdValid(), equalTo(false));
+    }
+}
@@ -36,6 +36,8 @@ class SourceTopicConfigTest {
         assertThat(objectUnderTest.getMaxPollInterval(), equalTo(SourceTopicConfig.DEFAULT_MAX_POLL_INTERVAL));
         assertThat(objectUnderTest.getConsumerMaxPollRecords(), equalTo(SourceTopicConfig.DEFAULT_CONSUMER_MAX_POLL_RECORDS));
         assertThat(objectUnderTest.getWorkers(), equalTo(SourceTopicConfig.DEFAULT_NUM_OF_WORKERS));
+        assertThat(objectUnderTest.getDecodeThreads(), equalTo(SourceTopicConfig.DEFAULT_DECODE_THREADS));
+        assertThat(objectUnderTest.getRawPassthrough(), equalTo(SourceTopicConfig.DEFAULT_RAW_PASSTHROUGH));
         assertThat(objectUnderTest.getHeartBeatInterval(), equalTo(SourceTopicConfig.DEFAULT_HEART_BEAT_INTERVAL_DURATION));
     }
 
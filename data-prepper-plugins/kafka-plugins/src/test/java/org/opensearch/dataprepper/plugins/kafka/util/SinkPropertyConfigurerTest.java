@@ -16,6 +16,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.kafka.configuration.SchemaConfig;
 import org.opensearch.dataprepper.plugins.kafka.sink.KafkaSinkConfig;
+import org.opensearch.dataprepper.plugins.kafka.sink.SendPipelineConfig;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.yaml.snakeyaml.Yaml;
 
@@ -23,6 +24,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.Map;
 import java.util.Properties;
 
@@ -86,6 +89,31 @@ public class SinkPropertyConfigurerTest {
 
     }
 
+    @Test
+    public void testGetProducerPropertiesForSendPipelineWithTransactionalId() throws UnknownHostException {
+        ReflectionTestUtils.setField(kafkaSinkConfig, "schemaConfig", null);
+        final SendPipelineConfig sendPipelineConfig = new SendPipelineConfig();
+        ReflectionTestUtils.setField(sendPipelineConfig, "transactionalId", "my-sink");
+        ReflectionTestUtils.setField(kafkaSinkConfig, "sendPipelineConfig", sendPipelineConfig);
+
+        Properties props = SinkPropertyConfigurer.getProducerProperties(kafkaSinkConfig);
+
+        Assertions.assertEquals("my-sink-" + InetAddress.getLocalHost().getHostName(), props.get(SinkPropertyConfigurer.TRANSACTIONAL_ID));
+        Assertions.assertEquals(true, props.get(SinkPropertyConfigurer.ENABLE_IDEMPOTENCE));
+        Assertions.assertEquals(SinkPropertyConfigurer.SEND_PIPELINE_LINGER_MS, props.get(SinkPropertyConfigurer.LINGER_MS));
+        Assertions.assertEquals(16384, props.get(SinkPropertyConfigurer.BATCH_SIZE));
+    }
+
+    @Test
+    public void testGetProducerPropertiesWithoutSendPipeline() {
+        ReflectionTestUtils.setField(kafkaSinkConfig, "schemaConfig", null);
+
+        Properties props = SinkPropertyConfigurer.getProducerProperties(kafkaSinkConfig);
+
+        Assertions.assertNull(props.get(SinkPropertyConfigurer.TRANSACTIONAL_ID));
+        Assertions.assertNull(props.get(SinkPropertyConfigurer.LINGER_MS));
+    }
+
     @Test
     public void testGetProducerPropertiesForNoSerde() {
         ReflectionTestUtils.setField(kafkaSinkConfig, "serdeFormat", null);
@@ -52,6 +52,15 @@ public class NewlineDelimitedInputCodec implements InputCodec {
         }
     }
 
+    /**
+     * Each line becomes one event, so splits at newlines are independent as long as no
+     * lines are skipped and no header is copied into the events.
+     */
+    @Override
+    public boolean isSplittableOnNewlines() {
+        return skipLines == 0 && headerDestination == null;
+    }
+
     private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final boolean doAddHeaderToOutgoingEvents = Objects.nonNull(headerDestination);
         boolean hasReadHeader = false;
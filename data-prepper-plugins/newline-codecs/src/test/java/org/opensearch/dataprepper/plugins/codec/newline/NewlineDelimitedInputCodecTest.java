@@ -75,6 +75,25 @@ class NewlineDelimitedInputCodecTest {
         assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
     }
 
+    @Test
+    void isSplittableOnNewlines_returns_true_without_header_or_skipped_lines() {
+        assertThat(createObjectUnderTest().isSplittableOnNewlines(), equalTo(true));
+    }
+
+    @Test
+    void isSplittableOnNewlines_returns_false_when_lines_are_skipped() {
+        when(config.getSkipLines()).thenReturn(1);
+
+        assertThat(createObjectUnderTest().isSplittableOnNewlines(), equalTo(false));
+    }
+
+    @Test
+    void isSplittableOnNewlines_returns_false_when_header_is_added() {
+        when(config.getHeaderDestination()).thenReturn(UUID.randomUUID().toString());
+
+        assertThat(createObjectUnderTest().isSplittableOnNewlines(), equalTo(false));
+    }
+
     @Test
     void parse_inputFile() throws IOException {
         final List<String> linesList = generateLinesAsList(100);
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.otel.codec;
 
+import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -16,12 +17,14 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
 import org.opensearch.dataprepper.model.trace.Span;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * OTelProtoCodec is for encoding/decoding between {@link org.opensearch.dataprepper.model.trace} and {@link io.opentelemetry.proto}.
@@ -33,6 +36,16 @@ public interface OTelProtoCodec {
 
         List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest, final Instant timeReceived);
 
+        /**
+         * Parses the protobuf encoding of an {@link ExportTraceServiceRequest} and passes each span to the consumer.
+         * Decoders may override this to convert the spans without building the whole request message.
+         */
+        default void parseExportTraceServiceRequest(final ByteString exportTraceServiceRequest, final Instant timeReceived,
+                                                    final Consumer<Span> spanConsumer) throws IOException {
+            parseExportTraceServiceRequest(ExportTraceServiceRequest.parseFrom(exportTraceServiceRequest), timeReceived)
+                    .forEach(spanConsumer);
+        }
+
         Map<String, ExportTraceServiceRequest> splitExportTraceServiceRequestByTraceId(final ExportTraceServiceRequest exportTraceServiceRequest);
 
         List<OpenTelemetryLog> parseExportLogsServiceRequest(final ExportLogsServiceRequest exportLogsServiceRequest, final Instant timeReceived);
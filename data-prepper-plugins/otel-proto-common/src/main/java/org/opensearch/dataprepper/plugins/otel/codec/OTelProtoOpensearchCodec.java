@@ -56,6 +56,7 @@ import org.slf4j.LoggerFactory;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertUnixNanosToISO8601;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertISO8601ToNanos;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertByteStringToString;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -69,6 +70,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -153,6 +155,13 @@ public class OTelProtoOpensearchCodec {
     }
 
     public static class OTelProtoDecoder implements OTelProtoCodec.OTelProtoDecoder {
+        private final OTelTraceProtoReader traceProtoReader = new OTelTraceProtoReader(new TraceSpanConverter());
+
+        @Override
+        public void parseExportTraceServiceRequest(final ByteString exportTraceServiceRequest, final Instant timeReceived,
+                                                   final Consumer<Span> spanConsumer) throws IOException {
+            traceProtoReader.read(exportTraceServiceRequest, timeReceived, spanConsumer);
+        }
 
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest, final Instant timeReceived) {
             return exportTraceServiceRequest.getResourceSpansList().stream()
@@ -287,14 +296,36 @@ public class OTelProtoOpensearchCodec {
                                           final Function<T, Map<String, Object>> scopeAttributesGetter,
                                           final String serviceName, final Map<String, Object> resourceAttributes,
                                           final Instant timeReceived) {
+            final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
             return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived);
-                    })
+                    .map(span -> parseSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived))
                     .collect(Collectors.toList());
         }
 
+        private class TraceSpanConverter implements OTelTraceProtoReader.SpanConverter {
+            @Override
+            public Map<String, Object> convertResource(final Resource resource, final String schemaUrl) {
+                return getResourceAttributes(resource);
+            }
+
+            @Override
+            public String getServiceName(final Resource resource) {
+                return OTelProtoDecoder.this.getServiceName(resource).orElse(null);
+            }
+
+            @Override
+            public Map<String, Object> convertScope(final InstrumentationScope scope) {
+                return OTelProtoOpensearchCodec.getInstrumentationScopeAttributes(scope);
+            }
+
+            @Override
+            public Span convertSpan(final io.opentelemetry.proto.trace.v1.Span span, final Map<String, Object> scopeAttributes,
+                                    final String scopeSchemaUrl, final String serviceName,
+                                    final Map<String, Object> resourceAttributes, final Instant timeReceived) {
+                return parseSpan(span, scopeAttributes, serviceName, resourceAttributes, timeReceived);
+            }
+        }
+
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
                                                          final String serviceName,
                                                          final Map<String, Object> ils,
@@ -32,6 +32,7 @@ import io.opentelemetry.proto.trace.v1.Status;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.SharedEventMap;
 import org.opensearch.dataprepper.model.log.JacksonStandardOTelLog;
 import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
 import org.opensearch.dataprepper.model.metric.Bucket;
@@ -61,6 +62,7 @@ import org.opensearch.dataprepper.model.trace.TraceGroupFields;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -73,6 +75,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -143,6 +146,13 @@ public class OTelProtoStandardCodec {
     }
 
     public static class OTelProtoDecoder implements OTelProtoCodec.OTelProtoDecoder {
+        private final OTelTraceProtoReader traceProtoReader = new OTelTraceProtoReader(new TraceSpanConverter());
+
+        @Override
+        public void parseExportTraceServiceRequest(final ByteString exportTraceServiceRequest, final Instant timeReceived,
+                                                   final Consumer<Span> spanConsumer) throws IOException {
+            traceProtoReader.read(exportTraceServiceRequest, timeReceived, spanConsumer);
+        }
 
         @Override
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest, final Instant timeReceived) {
@@ -186,7 +196,7 @@ public class OTelProtoStandardCodec {
                     .map(sls -> {
                             return processLogsList(sls.getLogRecordsList(),
                                     serviceName,
-                                    getInstrumentationScopeAttributes(sls.getScope()),
+                                    getSharedScopeAttributes(sls.getScope()),
                                     resourceAttributes,
                                     sls.getSchemaUrl(),
                                     timeReceived);
@@ -238,7 +248,7 @@ public class OTelProtoStandardCodec {
         private List<Span> parseScopeSpans(final List<ScopeSpans> scopeSpansList, final String serviceName, final Map<String, Object> resourceAttributes, final Instant timeReceived) {
             return scopeSpansList.stream()
                     .map(scopeSpans -> parseSpans(scopeSpans.getSpansList(), scopeSpans.getScope(), scopeSpans.getSchemaUrl(),
-                            OTelProtoStandardCodec::getInstrumentationScopeAttributes, serviceName, resourceAttributes, timeReceived))
+                            this::getSharedScopeAttributes, serviceName, resourceAttributes, timeReceived))
                     .flatMap(Collection::stream)
                     .collect(Collectors.toList());
         }
@@ -285,14 +295,36 @@ public class OTelProtoStandardCodec {
                           final Function<T, Map<String, Object>> scopeAttributesGetter,
                           final String serviceName, final Map<String, Object> resourceAttributes,
                           final Instant timeReceived) {
+            final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
             return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, schemaUrl, serviceName, resourceAttributes, timeReceived);
-                    })
+                    .map(span -> parseSpan(span, scopeAttributes, schemaUrl, serviceName, resourceAttributes, timeReceived))
                     .collect(Collectors.toList());
         }
 
+        private class TraceSpanConverter implements OTelTraceProtoReader.SpanConverter {
+            @Override
+            public Map<String, Object> convertResource(final Resource resource, final String schemaUrl) {
+                return getResourceAttributes(resource, schemaUrl);
+            }
+
+            @Override
+            public String getServiceName(final Resource resource) {
+                return OTelProtoDecoder.this.getServiceName(resource).orElse(null);
+            }
+
+            @Override
+            public Map<String, Object> convertScope(final InstrumentationScope scope) {
+                return getSharedScopeAttributes(scope);
+            }
+
+            @Override
+            public Span convertSpan(final io.opentelemetry.proto.trace.v1.Span span, final Map<String, Object> scopeAttributes,
+                                    final String scopeSchemaUrl, final String serviceName,
+                                    final Map<String, Object> resourceAttributes, final Instant timeReceived) {
+                return parseSpan(span, scopeAttributes, scopeSchemaUrl, serviceName, resourceAttributes, timeReceived);
+            }
+        }
+
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
                                                          final String serviceName,
                                                          final Map<String, Object> ils,
@@ -405,9 +437,16 @@ public class OTelProtoStandardCodec {
             return span.getAttributesList().stream().collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
         }
 
+        /**
+         * The result is a {@link SharedEventMap}, so all events built with it share one copy of the resource.
+         */
         protected Map<String, Object> getResourceAttributes(final Resource resource, final String schemaUrl) {
             Map<String, Object> attributes = resource.getAttributesList().stream().collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
-            return Map.of(ATTRIBUTES_KEY, attributes, DROPPED_ATTRIBUTES_COUNT_KEY, resource.getDroppedAttributesCount(), SCHEMA_URL_KEY, schemaUrl);
+            return new SharedEventMap(Map.of(ATTRIBUTES_KEY, attributes, DROPPED_ATTRIBUTES_COUNT_KEY, resource.getDroppedAttributesCount(), SCHEMA_URL_KEY, schemaUrl));
+        }
+
+        private Map<String, Object> getSharedScopeAttributes(final InstrumentationScope instrumentationScope) {
+            return new SharedEventMap(getInstrumentationScopeAttributes(instrumentationScope));
         }
 
         /**
@@ -494,7 +533,7 @@ public class OTelProtoStandardCodec {
 
                 for (ScopeMetrics sm : rs.getScopeMetricsList()) {
                     final String schemaUrl = sm.getSchemaUrl();
-                    final Map<String, Object> ils = getInstrumentationScopeAttributes(sm.getScope());
+                    final Map<String, Object> ils = getSharedScopeAttributes(sm.getScope());
                     recordsOut.addAll(processMetricsList(sm.getMetricsList(), serviceName, ils, resourceAttributes, schemaUrl, droppedCounter, exponentialHistogramMaxAllowedScale, timeReceived, calculateHistogramBuckets, calculateExponentialHistogramBuckets));
                 }
             }
@@ -6,15 +6,11 @@
 
 package org.opensearch.dataprepper.plugins.otel.codec;
 
-import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import com.google.protobuf.UnsafeByteOperations;
 import org.opensearch.dataprepper.model.codec.ByteDecoder;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.trace.Span;
 
-
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.function.Consumer;
@@ -27,11 +23,8 @@ public class OTelTraceDecoder implements ByteDecoder {
         otelProtoDecoder = otelOutputFormat == OTelOutputFormat.OPENSEARCH ? new OTelProtoOpensearchCodec.OTelProtoDecoder() : new OTelProtoStandardCodec.OTelProtoDecoder();
     }
     public void parse(InputStream inputStream, Instant timeReceivedMs, Consumer<Record<Event>> eventConsumer) throws IOException {
-        ExportTraceServiceRequest request = ExportTraceServiceRequest.parseFrom(inputStream);
-        AtomicInteger droppedCounter = new AtomicInteger(0);
-        List<Span> spans = otelProtoDecoder.parseExportTraceServiceRequest(request, timeReceivedMs);
-        for (Span span: spans) {
-            eventConsumer.accept(new Record<>(span));
-        }
+        // the request is read as a whole, because the spans are decoded from slices of the encoded request
+        otelProtoDecoder.parseExportTraceServiceRequest(UnsafeByteOperations.unsafeWrap(inputStream.readAllBytes()), timeReceivedMs,
+                span -> eventConsumer.accept(new Record<>(span)));
     }
 }
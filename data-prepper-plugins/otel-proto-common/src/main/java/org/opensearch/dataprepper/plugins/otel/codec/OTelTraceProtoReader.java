@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads the spans of a protobuf encoded {@link ExportTraceServiceRequest} one at a time, without building
+ * the request message.
+ * <p>
+ * Nested messages are sliced out of the encoded request without copying, and only one
+ * {@link io.opentelemetry.proto.trace.v1.Span} message is alive at a time. Every distinct resource and
+ * instrumentation scope in a request is converted once, and the result is shared by all of its spans.
+ * <p>
+ * The {@link OTelTraceDecoder} and the protobuf endpoint of the trace source HTTP service read requests with it.
+ * The gRPC service receives requests which grpc-java has already parsed into messages, and those are converted
+ * through {@link OTelProtoCodec.OTelProtoDecoder#parseExportTraceServiceRequest(ExportTraceServiceRequest, Instant)}.
+ */
+class OTelTraceProtoReader {
+    private static final int RESOURCE_SPANS_TAG = lengthDelimitedTag(ExportTraceServiceRequest.RESOURCE_SPANS_FIELD_NUMBER);
+    private static final int RESOURCE_TAG = lengthDelimitedTag(ResourceSpans.RESOURCE_FIELD_NUMBER);
+    private static final int SCOPE_SPANS_TAG = lengthDelimitedTag(ResourceSpans.SCOPE_SPANS_FIELD_NUMBER);
+    private static final int RESOURCE_SCHEMA_URL_TAG = lengthDelimitedTag(ResourceSpans.SCHEMA_URL_FIELD_NUMBER);
+    private static final int SCOPE_TAG = lengthDelimitedTag(ScopeSpans.SCOPE_FIELD_NUMBER);
+    private static final int SPANS_TAG = lengthDelimitedTag(ScopeSpans.SPANS_FIELD_NUMBER);
+    private static final int SCOPE_SCHEMA_URL_TAG = lengthDelimitedTag(ScopeSpans.SCHEMA_URL_FIELD_NUMBER);
+
+    /**
+     * Converts the parts of a request into the output format of a codec.
+     */
+    interface SpanConverter {
+        Map<String, Object> convertResource(Resource resource, String schemaUrl);
+
+        String getServiceName(Resource resource);
+
+        Map<String, Object> convertScope(InstrumentationScope scope);
+
+        Span convertSpan(io.opentelemetry.proto.trace.v1.Span span, Map<String, Object> scopeAttributes, String scopeSchemaUrl,
+                         String serviceName, Map<String, Object> resourceAttributes, Instant timeReceived);
+    }
+
+    private final SpanConverter spanConverter;
+
+    OTelTraceProtoReader(final SpanConverter spanConverter) {
+        this.spanConverter = spanConverter;
+    }
+
+    /**
+     * Reads the request and passes each span to the consumer, in the order of the request.
+     *
+     * @param request the encoded request. Wrapping a byte array with
+     *                {@link com.google.protobuf.UnsafeByteOperations#unsafeWrap(byte[])} avoids copying it.
+     */
+    void read(final ByteString request, final Instant timeReceived, final Consumer<Span> spanConsumer) throws IOException {
+        final RequestState requestState = new RequestState(timeReceived, spanConsumer);
+        final CodedInputStream input = newInput(request);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == RESOURCE_SPANS_TAG) {
+                readResourceSpans(input.readBytes(), requestState);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * The schema url follows the scope spans in the encoding, so the resource spans are read twice: once
+     * for the resource and its schema url, and once for the scope spans.
+     */
+    private void readResourceSpans(final ByteString resourceSpans, final RequestState requestState) throws IOException {
+        ByteString resourceBytes = ByteString.EMPTY;
+        String schemaUrl = "";
+        CodedInputStream input = newInput(resourceSpans);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == RESOURCE_TAG) {
+                resourceBytes = resourceBytes.concat(input.readBytes());
+            } else if (tag == RESOURCE_SCHEMA_URL_TAG) {
+                schemaUrl = input.readStringRequireUtf8();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+
+        final ConvertedResource resource = requestState.getResource(resourceBytes, schemaUrl);
+        input = newInput(resourceSpans);
+        while ((tag = input.readTag()) != 0) {
+            if (tag == SCOPE_SPANS_TAG) {
+                readScopeSpans(input.readBytes(), resource, requestState);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+    }
+
+    private void readScopeSpans(final ByteString scopeSpans, final ConvertedResource resource, final RequestState requestState) throws IOException {
+        ByteString scopeBytes = ByteString.EMPTY;
+        String schemaUrl = "";
+        CodedInputStream input = newInput(scopeSpans);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == SCOPE_TAG) {
+                scopeBytes = scopeBytes.concat(input.readBytes());
+            } else if (tag == SCOPE_SCHEMA_URL_TAG) {
+                schemaUrl = input.readStringRequireUtf8();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+
+        final Map<String, Object> scopeAttributes = requestState.getScopeAttributes(scopeBytes);
+        input = newInput(scopeSpans);
+        while ((tag = input.readTag()) != 0) {
+            if (tag == SPANS_TAG) {
+                final io.opentelemetry.proto.trace.v1.Span span = input.readMessage(
+                        io.opentelemetry.proto.trace.v1.Span.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                requestState.spanConsumer.accept(spanConverter.convertSpan(span, scopeAttributes, schemaUrl,
+                        resource.serviceName, resource.attributes, requestState.timeReceived));
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+    }
+
+    private static CodedInputStream newInput(final ByteString bytes) {
+        final CodedInputStream input = bytes.newCodedInput();
+        input.enableAliasing(true);
+        return input;
+    }
+
+    private static int lengthDelimitedTag(final int fieldNumber) {
+        return (fieldNumber << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    /**
+     * Holds the resources and scopes converted so far while one request is read. Repeated occurrences of a
+     * message field are merged by protobuf, so the concatenated encodings identify the resulting message.
+     */
+    private class RequestState {
+        private final Instant timeReceived;
+        private final Consumer<Span> spanConsumer;
+        private final Map<ResourceKey, ConvertedResource> resources = new HashMap<>();
+        private final Map<ByteString, Map<String, Object>> scopeAttributes = new HashMap<>();
+
+        private RequestState(final Instant timeReceived, final Consumer<Span> spanConsumer) {
+            this.timeReceived = timeReceived;
+            this.spanConsumer = spanConsumer;
+        }
+
+        private ConvertedResource getResource(final ByteString resourceBytes, final String schemaUrl) throws IOException {
+            final ResourceKey resourceKey = new ResourceKey(resourceBytes, schemaUrl);
+            ConvertedResource resource = resources.get(resourceKey);
+            if (resource == null) {
+                final Resource parsedResource = Resource.parseFrom(resourceBytes);
+                resource = new ConvertedResource(spanConverter.getServiceName(parsedResource),
+                        spanConverter.convertResource(parsedResource, schemaUrl));
+                resources.put(resourceKey, resource);
+            }
+            return resource;
+        }
+
+        private Map<String, Object> getScopeAttributes(final ByteString scopeBytes) throws IOException {
+            Map<String, Object> attributes = scopeAttributes.get(scopeBytes);
+            if (attributes == null) {
+                attributes = spanConverter.convertScope(InstrumentationScope.parseFrom(scopeBytes));
+                scopeAttributes.put(scopeBytes, attributes);
+            }
+            return attributes;
+        }
+    }
+
+    private static class ResourceKey {
+        private final ByteString resourceBytes;
+        private final String schemaUrl;
+
+        private ResourceKey(final ByteString resourceBytes, final String schemaUrl) {
+            this.resourceBytes = resourceBytes;
+            this.schemaUrl = schemaUrl;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ResourceKey that = (ResourceKey) o;
+            return resourceBytes.equals(that.resourceBytes) && schemaUrl.equals(that.schemaUrl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceBytes, schemaUrl);
+        }
+    }
+
+    private static class ConvertedResource {
+        private final String serviceName;
+        private final Map<String, Object> attributes;
+
+        private ConvertedResource(final String serviceName, final Map<String, Object> attributes) {
+            this.serviceName = serviceName;
+            this.attributes = attributes;
+        }
+    }
+}
@@ -208,6 +208,22 @@ public class OTelProtoStandardCodecTest {
             validateSpans(spans);
         }
 
+        @Test
+        public void testParseExportTraceServiceRequest_FromBytesMatchesParsedRequest() throws IOException {
+            final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_MULTIPLE_TRACES_FILE);
+            final Instant timeReceived = Instant.now();
+            final List<Span> expectedSpans = decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest, timeReceived);
+
+            final List<Span> spans = new ArrayList<>();
+            decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest.toByteString(), timeReceived, spans::add);
+
+            assertThat(spans.size(), equalTo(expectedSpans.size()));
+            for (int i = 0; i < spans.size(); i++) {
+                assertThat(spans.get(i).toJsonString(), equalTo(expectedSpans.get(i).toJsonString()));
+                assertThat(spans.get(i).getMetadata().getAttributes(), equalTo(expectedSpans.get(i).getMetadata().getAttributes()));
+            }
+        }
+
         @Test
         public void testParseExportTraceServiceRequest_NoSpans() throws IOException {
             final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_NO_SPANS_JSON_FILE);
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OTelTraceProtoReaderTest {
+    @Mock
+    private OTelTraceProtoReader.SpanConverter spanConverter;
+
+    private Instant timeReceived;
+    private Resource resource;
+    private InstrumentationScope scope;
+
+    @BeforeEach
+    void setUp() {
+        timeReceived = Instant.now();
+        resource = Resource.newBuilder()
+                .addAttributes(KeyValue.newBuilder().setKey("service.name")
+                        .setValue(AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString())))
+                .build();
+        scope = InstrumentationScope.newBuilder().setName(UUID.randomUUID().toString()).build();
+    }
+
+    private OTelTraceProtoReader createObjectUnderTest() {
+        return new OTelTraceProtoReader(spanConverter);
+    }
+
+    private static io.opentelemetry.proto.trace.v1.Span protoSpan(final String name) {
+        return io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(ByteString.copyFromUtf8(UUID.randomUUID().toString()))
+                .setName(name)
+                .build();
+    }
+
+    @Test
+    void read_converts_spans_in_request_order_and_each_resource_and_scope_once() throws Exception {
+        final io.opentelemetry.proto.trace.v1.Span firstSpan = protoSpan("first");
+        final io.opentelemetry.proto.trace.v1.Span secondSpan = protoSpan("second");
+        final io.opentelemetry.proto.trace.v1.Span thirdSpan = protoSpan("third");
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().setResource(resource)
+                        .addScopeSpans(ScopeSpans.newBuilder().setScope(scope).addSpans(firstSpan).addSpans(secondSpan)))
+                .addResourceSpans(ResourceSpans.newBuilder().setResource(resource)
+                        .addScopeSpans(ScopeSpans.newBuilder().setScope(scope).addSpans(thirdSpan)))
+                .build();
+
+        final Map<String, Object> resourceAttributes = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final Map<String, Object> scopeAttributes = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final String serviceName = UUID.randomUUID().toString();
+        when(spanConverter.convertResource(resource, "")).thenReturn(resourceAttributes);
+        when(spanConverter.getServiceName(resource)).thenReturn(serviceName);
+        when(spanConverter.convertScope(scope)).thenReturn(scopeAttributes);
+        final Span convertedSpan = mock(Span.class);
+        when(spanConverter.convertSpan(any(), any(), anyString(), anyString(), any(), any())).thenReturn(convertedSpan);
+
+        final List<Span> spans = new ArrayList<>();
+        createObjectUnderTest().read(request.toByteString(), timeReceived, spans::add);
+
+        assertThat(spans.size(), equalTo(3));
+        verify(spanConverter).convertResource(resource, "");
+        verify(spanConverter).convertScope(scope);
+        final ArgumentCaptor<io.opentelemetry.proto.trace.v1.Span> spanArgumentCaptor =
+                ArgumentCaptor.forClass(io.opentelemetry.proto.trace.v1.Span.class);
+        final ArgumentCaptor<Map<String, Object>> resourceAttributesArgumentCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(spanConverter, times(3)).convertSpan(spanArgumentCaptor.capture(), eq(scopeAttributes), eq(""),
+                eq(serviceName), resourceAttributesArgumentCaptor.capture(), eq(timeReceived));
+        assertThat(spanArgumentCaptor.getAllValues(), contains(firstSpan, secondSpan, thirdSpan));
+        resourceAttributesArgumentCaptor.getAllValues().forEach(attributes -> assertThat(attributes, sameInstance(resourceAttributes)));
+    }
+
+    @Test
+    void read_passes_schema_urls_which_follow_the_spans() throws Exception {
+        final String resourceSchemaUrl = UUID.randomUUID().toString();
+        final String scopeSchemaUrl = UUID.randomUUID().toString();
+        final io.opentelemetry.proto.trace.v1.Span span = protoSpan("span");
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().setResource(resource).setSchemaUrl(resourceSchemaUrl)
+                        .addScopeSpans(ScopeSpans.newBuilder().setScope(scope).setSchemaUrl(scopeSchemaUrl).addSpans(span)))
+                .build();
+
+        createObjectUnderTest().read(request.toByteString(), timeReceived, convertedSpan -> { });
+
+        verify(spanConverter).convertResource(resource, resourceSchemaUrl);
+        verify(spanConverter).convertSpan(eq(span), any(), eq(scopeSchemaUrl), any(), any(), eq(timeReceived));
+    }
+
+    @Test
+    void read_converts_missing_resource_and_scope_as_default_instances() throws Exception {
+        final io.opentelemetry.proto.trace.v1.Span span = protoSpan("span");
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().addScopeSpans(ScopeSpans.newBuilder().addSpans(span)))
+                .build();
+
+        createObjectUnderTest().read(request.toByteString(), timeReceived, convertedSpan -> { });
+
+        verify(spanConverter).convertResource(Resource.getDefaultInstance(), "");
+        verify(spanConverter).convertScope(InstrumentationScope.getDefaultInstance());
+        verify(spanConverter).convertSpan(eq(span), any(), eq(""), any(), any(), eq(timeReceived));
+    }
+
+    @Test
+    void read_of_empty_request_converts_nothing() throws Exception {
+        final List<Span> spans = new ArrayList<>();
+
+        createObjectUnderTest().read(ByteString.EMPTY, timeReceived, spans::add);
+
+        assertThat(spans.size(), equalTo(0));
+    }
+}
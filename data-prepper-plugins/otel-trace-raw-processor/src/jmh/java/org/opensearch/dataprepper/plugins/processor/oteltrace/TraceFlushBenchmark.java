@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one flush of orphaned child spans with many traces in flight, in a steady state where the traces
+ * which are flushed are replaced by new ones. The timing wheel only visits the traces of the tick which came
+ * due, while the full scan, as the processor used to do, visits every trace in flight.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TraceFlushBenchmark {
+    private static final long TRACE_FLUSH_INTERVAL_MILLIS = 180_000L;
+
+    @Param({"100000", "500000"})
+    private int tracesInFlight;
+
+    private Random random;
+    private long wheelNow;
+    private long scanNow;
+    private long tickMillis;
+    private Map<TraceIdKey, SpanSet> wheelSpanSets;
+    private TraceFlushWheel traceFlushWheel;
+    private Map<String, SpanSet> scanSpanSets;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        wheelSpanSets = new ConcurrentHashMap<>();
+        scanSpanSets = new ConcurrentHashMap<>();
+        traceFlushWheel = new TraceFlushWheel(TRACE_FLUSH_INTERVAL_MILLIS);
+        tickMillis = traceFlushWheel.getTickMillis();
+        wheelNow = TRACE_FLUSH_INTERVAL_MILLIS;
+        scanNow = TRACE_FLUSH_INTERVAL_MILLIS;
+        for (int i = 0; i < tracesInFlight; i++) {
+            final long timeSeen = (long) i * TRACE_FLUSH_INTERVAL_MILLIS / tracesInFlight;
+            addToWheel(timeSeen);
+            addToScan(timeSeen);
+        }
+    }
+
+    @Benchmark
+    public int timing_wheel() {
+        wheelNow += tickMillis;
+        final List<SpanSet> flushed = new ArrayList<>();
+        traceFlushWheel.expire(wheelNow, spanSet -> {
+            if (wheelSpanSets.remove(spanSet.getTraceId(), spanSet)) {
+                flushed.add(spanSet);
+            }
+        });
+        for (int i = 0; i < flushed.size(); i++) {
+            addToWheel(wheelNow);
+        }
+        return flushed.size();
+    }
+
+    @Benchmark
+    public int full_scan() {
+        scanNow += tickMillis;
+        final List<SpanSet> flushed = new ArrayList<>();
+        final Iterator<SpanSet> iterator = scanSpanSets.values().iterator();
+        while (iterator.hasNext()) {
+            final SpanSet spanSet = iterator.next();
+            if (scanNow - spanSet.getTimeSeen() >= TRACE_FLUSH_INTERVAL_MILLIS) {
+                flushed.add(spanSet);
+                iterator.remove();
+            }
+        }
+        for (int i = 0; i < flushed.size(); i++) {
+            addToScan(scanNow);
+        }
+        return flushed.size();
+    }
+
+    private void addToWheel(final long timeSeen) {
+        final TraceIdKey traceId = TraceIdKey.fromHex(randomTraceId());
+        final SpanSet spanSet = new SpanSet(traceId, timeSeen);
+        wheelSpanSets.put(traceId, spanSet);
+        traceFlushWheel.add(spanSet);
+    }
+
+    private void addToScan(final long timeSeen) {
+        final String traceId = randomTraceId();
+        scanSpanSets.put(traceId, new SpanSet(TraceIdKey.fromHex(traceId), timeSeen));
+    }
+
+    private String randomTraceId() {
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+}
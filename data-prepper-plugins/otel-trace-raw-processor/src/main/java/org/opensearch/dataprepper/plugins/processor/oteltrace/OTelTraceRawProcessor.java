@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.model.trace.Span;
 import io.micrometer.core.instrument.util.StringUtils;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +30,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -45,9 +45,11 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
     private final long traceFlushInterval;
 
-    private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+    private final Map<TraceIdKey, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
 
-    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
+    private final TraceFlushWheel traceFlushWheel;
+
+    private final Cache<TraceIdKey, TraceGroup> traceIdTraceGroupCache;
 
     private long lastTraceFlushTime = 0L;
 
@@ -62,6 +64,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                                  final PluginMetrics pluginMetrics) {
         super(pluginMetrics);
         traceFlushInterval = SEC_TO_MILLIS * otelTraceRawProcessorConfig.getTraceFlushIntervalSeconds();
+        traceFlushWheel = new TraceFlushWheel(traceFlushInterval);
         traceIdTraceGroupCache = Caffeine.newBuilder()
           .maximumSize(otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize())
           .expireAfterWrite(otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
@@ -123,20 +126,20 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      */
     private List<Span> processRootSpan(final Span parentSpan) {
         final TraceGroup traceGroup = TraceGroup.fromSpan(parentSpan);
-        final String parentSpanTraceId = parentSpan.getTraceId();
+        final TraceIdKey parentSpanTraceId = TraceIdKey.fromHex(parentSpan.getTraceId());
         traceIdTraceGroupCache.put(parentSpanTraceId, traceGroup);
 
         final List<Span> recordsToFlush = new LinkedList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = traceIdSpanSetMap.remove(parentSpanTraceId);
         if (spanSet != null) {
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
+            // The span set stays in the flush wheel until its bucket is due, so release its spans now.
+            spanSet.getSpans().clear();
         }
 
         return recordsToFlush;
@@ -150,20 +153,25 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * @return Optional containing childSpan if its traceGroup is in memory, otherwise an empty Optional
      */
     private Optional<Span> processChildSpan(final Span childSpan) {
-        final String childSpanTraceId = childSpan.getTraceId();
+        final TraceIdKey childSpanTraceId = TraceIdKey.fromHex(childSpan.getTraceId());
         final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(childSpanTraceId);
 
         if (traceGroup != null) {
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
+            final SpanSet[] createdSpanSet = new SpanSet[1];
             traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
                 if (spanSet == null) {
-                    spanSet = new SpanSet();
+                    spanSet = new SpanSet(traceId);
+                    createdSpanSet[0] = spanSet;
                 }
                 spanSet.addSpan(childSpan);
                 return spanSet;
             });
+            if (createdSpanSet[0] != null) {
+                traceFlushWheel.add(createdSpanSet[0]);
+            }
 
             return Optional.empty();
         }
@@ -173,6 +181,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * Periodically flush spans from memory. Typically all spans of a trace are written
      * once the trace's root span arrives, however some child spans my arrive after the root span.
      * This method ensures "orphaned" child spans are eventually flushed from memory.
+     * The traces which are due are found on the {@link TraceFlushWheel} rather than by scanning every trace in flight.
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
@@ -186,30 +195,20 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                     final long now = System.currentTimeMillis();
                     lastTraceFlushTime = now;
 
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    fillInServiceName(span);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
+                    if (isShuttingDown) {
+                        final Iterator<SpanSet> spanSetIterator = traceIdSpanSetMap.values().iterator();
+                        while (spanSetIterator.hasNext()) {
+                            final SpanSet spanSet = spanSetIterator.next();
+                            spanSetIterator.remove();
+                            flushSpanSet(spanSet, recordsToFlush);
                         }
+                        traceFlushWheel.clear();
+                    } else {
+                        traceFlushWheel.expire(now, spanSet -> {
+                            if (traceIdSpanSetMap.remove(spanSet.getTraceId(), spanSet)) {
+                                flushSpanSet(spanSet, recordsToFlush);
+                            }
+                        });
                     }
                     if (!recordsToFlush.isEmpty()) {
                         LOG.info("Flushing {} records", recordsToFlush.size());
@@ -223,6 +222,24 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         return recordsToFlush;
     }
 
+    private void flushSpanSet(final SpanSet spanSet, final List<Span> recordsToFlush) {
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(spanSet.getTraceId());
+        final List<Span> spans = spanSet.getSpans();
+        if (traceGroup != null) {
+            spans.forEach(span -> {
+                fillInTraceGroupInfo(span, traceGroup);
+                fillInServiceName(span);
+                recordsToFlush.add(span);
+            });
+        } else {
+            LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+            spans.forEach(span -> {
+                recordsToFlush.add(span);
+                LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+            });
+        }
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
@@ -234,7 +251,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     }
 
     private boolean shouldGarbageCollect() {
-        return System.currentTimeMillis() - lastTraceFlushTime >= traceFlushInterval || isShuttingDown;
+        return System.currentTimeMillis() - lastTraceFlushTime >= traceFlushWheel.getTickMillis() || isShuttingDown;
     }
 
     /**
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * A timing wheel of span sets, bucketed by the tick in which they were first seen. Every span set waits the
+ * same trace flush interval, so flushing only visits the buckets which have come due since the last flush
+ * instead of every trace in flight.
+ * <p>
+ * Span sets are not removed from their bucket when their root span arrives. The caller skips them when
+ * their bucket comes due. A bucket may hold span sets from several turns of the wheel if it was not
+ * advanced for a while, so only the span sets which are due are taken from it.
+ * <p>
+ * Span sets may be added from any thread. {@link #expire(long, Consumer)} must be called by one thread at a time.
+ */
+class TraceFlushWheel {
+    static final int TICKS_PER_INTERVAL = 64;
+
+    private final long flushIntervalMillis;
+    private final long tickMillis;
+    private final List<Queue<SpanSet>> buckets;
+    private long nextTick = Long.MIN_VALUE;
+
+    TraceFlushWheel(final long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.tickMillis = Math.max(1L, flushIntervalMillis / TICKS_PER_INTERVAL);
+        final int bucketCount = (int) (flushIntervalMillis / tickMillis) + 2;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    void add(final SpanSet spanSet) {
+        bucket(Math.floorDiv(spanSet.getTimeSeen(), tickMillis)).add(spanSet);
+    }
+
+    /**
+     * Takes the span sets which were first seen at least the flush interval before now.
+     *
+     * @param now current time in milliseconds
+     * @param consumer called with each span set which is due
+     */
+    void expire(final long now, final Consumer<SpanSet> consumer) {
+        final long lastTick = Math.floorDiv(now - flushIntervalMillis, tickMillis);
+        final long firstTick = Math.max(nextTick, lastTick - buckets.size() + 1);
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            final Iterator<SpanSet> iterator = bucket(tick).iterator();
+            while (iterator.hasNext()) {
+                final SpanSet spanSet = iterator.next();
+                if (now - spanSet.getTimeSeen() >= flushIntervalMillis) {
+                    iterator.remove();
+                    consumer.accept(spanSet);
+                }
+            }
+        }
+        // The last bucket may still receive span sets which are not yet due, so it is visited again next time.
+        nextTick = Math.max(nextTick, lastTick);
+    }
+
+    void clear() {
+        buckets.forEach(Queue::clear);
+    }
+
+    private Queue<SpanSet> bucket(final long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+}
@@ -6,21 +6,37 @@
 package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
 
 import org.opensearch.dataprepper.model.trace.Span;
-import com.google.common.collect.Sets;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * The child spans of a trace whose root span has not arrived yet. Spans are only added while the span set
+ * is being computed in the processor's map, which serializes the writers of a trace, so a plain list is used
+ * rather than a concurrent set.
+ */
 public class SpanSet {
+    private static final int INITIAL_CAPACITY = 4;
 
-    private final Set<Span> spans;
+    private final TraceIdKey traceId;
+    private final List<Span> spans;
     private final long timeSeen;
 
-    public SpanSet() {
-        this.spans = Sets.newConcurrentHashSet();
-        this.timeSeen = System.currentTimeMillis();
+    public SpanSet(final TraceIdKey traceId) {
+        this(traceId, System.currentTimeMillis());
+    }
+
+    public SpanSet(final TraceIdKey traceId, final long timeSeen) {
+        this.traceId = traceId;
+        this.spans = new ArrayList<>(INITIAL_CAPACITY);
+        this.timeSeen = timeSeen;
+    }
+
+    public TraceIdKey getTraceId() {
+        return traceId;
     }
 
-    public Set<Span> getSpans() {
+    public List<Span> getSpans() {
         return spans;
     }
 
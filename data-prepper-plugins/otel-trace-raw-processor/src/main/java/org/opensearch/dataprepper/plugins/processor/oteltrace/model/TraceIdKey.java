@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import java.util.Objects;
+
+/**
+ * A trace ID held as its 16 bytes rather than as a 32 character hex string. Trace IDs which are not 16 hex
+ * encoded bytes are rare, and are kept as strings so that their spans are still grouped together.
+ */
+public final class TraceIdKey {
+    private static final int TRACE_ID_HEX_LENGTH = 32;
+    private static final int HEX_DIGITS_PER_LONG = 16;
+
+    private final long high;
+    private final long low;
+    private final String unparsedTraceId;
+
+    private TraceIdKey(final long high, final long low, final String unparsedTraceId) {
+        this.high = high;
+        this.low = low;
+        this.unparsedTraceId = unparsedTraceId;
+    }
+
+    public static TraceIdKey fromHex(final String traceId) {
+        if (traceId == null || traceId.length() != TRACE_ID_HEX_LENGTH || !isHex(traceId)) {
+            return new TraceIdKey(0L, 0L, traceId);
+        }
+        return new TraceIdKey(parseHex(traceId, 0), parseHex(traceId, HEX_DIGITS_PER_LONG), null);
+    }
+
+    private static boolean isHex(final String traceId) {
+        for (int i = 0; i < traceId.length(); i++) {
+            if (Character.digit(traceId.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(final String traceId, final int offset) {
+        long value = 0L;
+        for (int i = offset; i < offset + HEX_DIGITS_PER_LONG; i++) {
+            value = (value << 4) | Character.digit(traceId.charAt(i), 16);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final TraceIdKey that = (TraceIdKey) o;
+        return high == that.high && low == that.low && Objects.equals(unparsedTraceId, that.unparsedTraceId);
+    }
+
+    @Override
+    public int hashCode() {
+        if (unparsedTraceId != null) {
+            return unparsedTraceId.hashCode();
+        }
+        final long hash = (high * 31 + low) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -176,6 +176,23 @@ class OTelTraceRawProcessorTest {
         });
     }
 
+    @Test
+    void testSpansFlushedByParentSpanAreNotFlushedAgainByGC() {
+        final List<Record<Span>> processedRecords = new ArrayList<>();
+        processedRecords.addAll(oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS));
+        processedRecords.addAll(oTelTraceRawProcessor.doExecute(Collections.singletonList(new Record<>(TEST_TRACE_GROUP_1_ROOT_SPAN))));
+
+        Assertions.assertThat(processedRecords.size()).isEqualTo(3);
+        Assertions.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords)).isEqualTo(0);
+
+        await().atMost(2 * TEST_TRACE_FLUSH_INTERVAL, TimeUnit.SECONDS).untilAsserted(() -> {
+            processedRecords.addAll(oTelTraceRawProcessor.doExecute(Collections.emptyList()));
+            Assertions.assertThat(processedRecords.size()).isEqualTo(5);
+        });
+        Assertions.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords)).isEqualTo(2);
+        assertTrue(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
     @Test
     void testExportRequestFlushByMixedMultiThread() throws InterruptedException, ExecutionException {
         List<Record<Span>> processedRecords = new ArrayList<>();
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+class TraceFlushWheelTest {
+    private static final long FLUSH_INTERVAL_MILLIS = 6_400L;
+    private static final long TICK_MILLIS = FLUSH_INTERVAL_MILLIS / TraceFlushWheel.TICKS_PER_INTERVAL;
+    private static final long START = 1_000_000L;
+
+    private TraceFlushWheel objectUnderTest;
+    private List<SpanSet> expired;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new TraceFlushWheel(FLUSH_INTERVAL_MILLIS);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    void getTickMillis_divides_the_flush_interval() {
+        assertThat(objectUnderTest.getTickMillis(), equalTo(TICK_MILLIS));
+        assertThat(new TraceFlushWheel(10L).getTickMillis(), equalTo(1L));
+    }
+
+    @Test
+    void expire_takes_span_sets_once_the_flush_interval_has_passed() {
+        final SpanSet spanSet = spanSet(START);
+        objectUnderTest.add(spanSet);
+
+        objectUnderTest.expire(START + FLUSH_INTERVAL_MILLIS - 1, expired::add);
+        assertThat(expired, empty());
+
+        objectUnderTest.expire(START + FLUSH_INTERVAL_MILLIS, expired::add);
+        assertThat(expired, contains(spanSet));
+
+        objectUnderTest.expire(START + 2 * FLUSH_INTERVAL_MILLIS, expired::add);
+        assertThat(expired.size(), equalTo(1));
+    }
+
+    @Test
+    void expire_leaves_span_sets_of_the_same_tick_which_are_not_yet_due() {
+        final SpanSet earlySpanSet = spanSet(START);
+        final SpanSet lateSpanSet = spanSet(START + TICK_MILLIS - 1);
+        objectUnderTest.add(earlySpanSet);
+        objectUnderTest.add(lateSpanSet);
+
+        objectUnderTest.expire(START + FLUSH_INTERVAL_MILLIS, expired::add);
+        assertThat(expired, contains(earlySpanSet));
+
+        objectUnderTest.expire(START + FLUSH_INTERVAL_MILLIS + TICK_MILLIS - 1, expired::add);
+        assertThat(expired, contains(earlySpanSet, lateSpanSet));
+    }
+
+    @Test
+    void expire_takes_only_due_span_sets_when_the_wheel_has_not_been_advanced_for_a_full_turn() {
+        final SpanSet oldSpanSet = spanSet(START);
+        objectUnderTest.add(oldSpanSet);
+        objectUnderTest.expire(START, expired::add);
+
+        final long later = START + 10 * FLUSH_INTERVAL_MILLIS;
+        final SpanSet recentSpanSet = spanSet(later);
+        objectUnderTest.add(recentSpanSet);
+
+        objectUnderTest.expire(later + 1, expired::add);
+        assertThat(expired, contains(oldSpanSet));
+
+        objectUnderTest.expire(later + FLUSH_INTERVAL_MILLIS, expired::add);
+        assertThat(expired, contains(oldSpanSet, recentSpanSet));
+    }
+
+    @Test
+    void expire_takes_span_sets_from_many_ticks() {
+        final List<SpanSet> spanSets = new ArrayList<>();
+        for (int i = 0; i < 3 * TraceFlushWheel.TICKS_PER_INTERVAL; i++) {
+            final SpanSet spanSet = spanSet(START + i * TICK_MILLIS / 3);
+            spanSets.add(spanSet);
+            objectUnderTest.add(spanSet);
+        }
+
+        objectUnderTest.expire(START + 2 * FLUSH_INTERVAL_MILLIS, expired::add);
+
+        assertThat(expired, containsInAnyOrder(spanSets.toArray()));
+    }
+
+    @Test
+    void clear_removes_all_span_sets() {
+        objectUnderTest.add(spanSet(START));
+
+        objectUnderTest.clear();
+        objectUnderTest.expire(START + FLUSH_INTERVAL_MILLIS, expired::add);
+
+        assertThat(expired, empty());
+    }
+
+    private static SpanSet spanSet(final long timeSeen) {
+        return new SpanSet(TraceIdKey.fromHex(UUID.randomUUID().toString()), timeSeen);
+    }
+}
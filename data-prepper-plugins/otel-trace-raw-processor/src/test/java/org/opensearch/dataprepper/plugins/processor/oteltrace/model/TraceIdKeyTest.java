@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TraceIdKeyTest {
+    private static final String TRACE_ID = "0123456789abcdef0123456789abcdef";
+
+    @Test
+    void fromHex_returns_equal_keys_for_the_same_trace_id() {
+        final TraceIdKey traceIdKey = TraceIdKey.fromHex(TRACE_ID);
+        final TraceIdKey otherTraceIdKey = TraceIdKey.fromHex(new String(TRACE_ID.toCharArray()));
+
+        assertThat(traceIdKey, equalTo(otherTraceIdKey));
+        assertThat(traceIdKey.hashCode(), equalTo(otherTraceIdKey.hashCode()));
+    }
+
+    @Test
+    void fromHex_ignores_the_case_of_hex_digits() {
+        assertThat(TraceIdKey.fromHex(TRACE_ID), equalTo(TraceIdKey.fromHex(TRACE_ID.toUpperCase())));
+    }
+
+    @Test
+    void fromHex_returns_different_keys_for_different_trace_ids() {
+        assertThat(TraceIdKey.fromHex(TRACE_ID), not(equalTo(TraceIdKey.fromHex("0123456789abcdef0123456789abcdee"))));
+        assertThat(TraceIdKey.fromHex(TRACE_ID), not(equalTo(TraceIdKey.fromHex("1123456789abcdef0123456789abcdef"))));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"0123456789abcdef", "0123456789abcdef0123456789abcdeg", "not-a-trace-id"})
+    void fromHex_keeps_other_trace_ids_as_strings(final String traceId) {
+        assertThat(TraceIdKey.fromHex(traceId), equalTo(TraceIdKey.fromHex(traceId)));
+        assertThat(TraceIdKey.fromHex(traceId), not(equalTo(TraceIdKey.fromHex(TRACE_ID))));
+    }
+
+    @Test
+    void fromHex_does_not_confuse_a_string_trace_id_with_the_zero_trace_id() {
+        assertThat(TraceIdKey.fromHex("00000000000000000000000000000000"), not(equalTo(TraceIdKey.fromHex("0"))));
+    }
+}
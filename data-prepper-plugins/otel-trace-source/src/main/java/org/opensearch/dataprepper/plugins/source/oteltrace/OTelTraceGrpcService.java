@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.oteltrace;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
@@ -28,8 +29,11 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase {
@@ -43,6 +47,8 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     public static final String SUCCESS_REQUESTS = "successRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    public static final String RESOURCE_DEDUPLICATION_RATIO = "resourceDeduplicationRatio";
+    private static final String RESOURCE_KEY = "resource";
 
     private final int bufferWriteTimeoutInMillis;
     private final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder;
@@ -52,6 +58,7 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     private final Counter successRequestsCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
+    private final DistributionSummary resourceDeduplicationRatioSummary;
 
 
     public OTelTraceGrpcService(int bufferWriteTimeoutInMillis,
@@ -67,11 +74,13 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS, metricsPrefix);
             payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE, metricsPrefix);
             requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION, metricsPrefix);
+            resourceDeduplicationRatioSummary = pluginMetrics.summary(RESOURCE_DEDUPLICATION_RATIO, metricsPrefix);
         } else {
             requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
             successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
             payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE);
             requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
+            resourceDeduplicationRatioSummary = pluginMetrics.summary(RESOURCE_DEDUPLICATION_RATIO);
         }
 
         this.oTelProtoDecoder = oTelProtoDecoder;
@@ -103,6 +112,7 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             LOG.warn(DataPrepperMarkers.SENSITIVE, "Failed to parse request with error '{}'. Request body: {}.", e.getMessage(), request);
             throw new BadRequestException(e.getMessage(), e);
         }
+        recordResourceDeduplicationRatio(spans);
 
         try {
             if (buffer.isByteBuffer()) {
@@ -133,4 +143,23 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
         responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
         responseObserver.onCompleted();
     }
+
+    /**
+     * Records how many spans share each resource sub-tree. Spans in the OpenSearch output format have their
+     * resource attributes merged into the span attributes, so nothing is recorded for them.
+     */
+    private void recordResourceDeduplicationRatio(final Collection<Span> spans) {
+        final Set<JsonNode> resourceNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        int spansWithResource = 0;
+        for (final Span span : spans) {
+            final JsonNode resourceNode = span.getJsonNode().get(RESOURCE_KEY);
+            if (resourceNode != null) {
+                resourceNodes.add(resourceNode);
+                spansWithResource++;
+            }
+        }
+        if (!resourceNodes.isEmpty()) {
+            resourceDeduplicationRatioSummary.record((double) spansWithResource / resourceNodes.size());
+        }
+    }
 }
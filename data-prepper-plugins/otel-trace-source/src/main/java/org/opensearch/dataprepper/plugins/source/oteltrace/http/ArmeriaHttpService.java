@@ -1,6 +1,7 @@
 package org.opensearch.dataprepper.plugins.source.oteltrace.http;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,10 @@ import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoOpensearchCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.annotation.Consumes;
 import com.linecorp.armeria.server.annotation.Post;
@@ -73,6 +78,65 @@ public class ArmeriaHttpService {
         return ExportTraceServiceResponse.newBuilder().build();
     }
 
+    /**
+     * Accepts OTLP/HTTP requests in the binary protobuf encoding. The spans are decoded straight from the request
+     * body, without copying it into a byte array or building the intermediate {@link ExportTraceServiceRequest}.
+     */
+    @Post("/opentelemetry.proto.collector.trace.v1.TraceService/Export")
+    @Consumes(value = "application/x-protobuf")
+    public ExportTraceServiceResponse exportTraceProtobuf(final HttpData requestBody) {
+        requestsReceivedCounter.increment();
+        payloadSizeSummary.record(requestBody.length());
+
+        requestProcessDuration.record(() -> processProtobufRequest(requestBody));
+
+        return ExportTraceServiceResponse.newBuilder().build();
+    }
+
+    private void processProtobufRequest(final HttpData requestBody) {
+        final ByteString request = UnsafeByteOperations.unsafeWrap(requestBody.byteBuf().nioBuffer());
+
+        if (buffer.isByteBuffer()) {
+            // the byte buffer is written per trace id, which needs the whole request
+            final ExportTraceServiceRequest exportTraceServiceRequest;
+            try {
+                exportTraceServiceRequest = ExportTraceServiceRequest.parseFrom(request);
+            } catch (final InvalidProtocolBufferException e) {
+                LOG.warn("Failed to parse protobuf request with error '{}'.", e.getMessage());
+                throw new BadRequestException(e.getMessage(), e);
+            }
+            processRequest(exportTraceServiceRequest);
+            return;
+        }
+
+        final List<Record<Object>> records = new ArrayList<>();
+        try {
+            oTelProtoDecoder.parseExportTraceServiceRequest(request, Instant.now(), span -> records.add(new Record<>(span)));
+        } catch (final Exception e) {
+            LOG.warn("Failed to parse protobuf request with error '{}'.", e.getMessage());
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        try {
+            buffer.writeAll(records, bufferWriteTimeoutInMillis);
+        } catch (final Exception e) {
+            if (ServiceRequestContext.current().isTimedOut()) {
+                LOG.warn("Exception writing to buffer but request already timed out.", e);
+                return;
+            }
+
+            LOG.error("Failed to write the request of size {} due to:", requestBody.length(), e);
+            throw new BufferWriteException(e.getMessage(), e);
+        }
+
+        if (ServiceRequestContext.current().isTimedOut()) {
+            LOG.warn("Buffer write completed successfully but request already timed out.");
+            return;
+        }
+
+        successRequestsCounter.increment();
+    }
+
     private void processRequest(final ExportTraceServiceRequest request) {
         final Collection<Span> spans;
 
@@ -126,6 +126,8 @@ public class OTelTraceGrpcServiceTest {
     @Mock
     Timer requestProcessDuration;
     @Mock
+    DistributionSummary resourceDeduplicationRatioSummary;
+    @Mock
     private ServiceRequestContext serviceRequestContext;
 
     @Captor
@@ -155,6 +157,7 @@ public class OTelTraceGrpcServiceTest {
         when(mockPluginMetrics.counter(OTelTraceGrpcService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
         when(mockPluginMetrics.summary(OTelTraceGrpcService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(mockPluginMetrics.timer(OTelTraceGrpcService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
+        when(mockPluginMetrics.summary(OTelTraceGrpcService.RESOURCE_DEDUPLICATION_RATIO)).thenReturn(resourceDeduplicationRatioSummary);
         doAnswer(invocation -> {
             invocation.<Runnable>getArgument(0).run();
             return null;
@@ -338,6 +341,35 @@ public class OTelTraceGrpcServiceTest {
         JSONAssert.assertEquals(expected, result, false);
     }
 
+    @Test
+    public void export_with_StandardFormat_records_spans_sharing_each_resource() throws Exception {
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .addScopeSpans(ScopeSpans.newBuilder().addSpans(TEST_SPAN).addSpans(TEST_SPAN)).build())
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .addScopeSpans(ScopeSpans.newBuilder().addSpans(TEST_SPAN)).build())
+                .build();
+
+        objectUnderTest = generateOTelTraceGrpcService(new OTelProtoStandardCodec.OTelProtoDecoder());
+        try (MockedStatic<ServiceRequestContext> mockedStatic = mockStatic(ServiceRequestContext.class)) {
+            mockedStatic.when(ServiceRequestContext::current).thenReturn(serviceRequestContext);
+            objectUnderTest.export(request, responseObserver);
+        }
+
+        verify(resourceDeduplicationRatioSummary).record(1.5);
+    }
+
+    @Test
+    public void export_with_OpensearchFormat_does_not_record_resource_deduplication() throws Exception {
+        objectUnderTest = generateOTelTraceGrpcService(new OTelProtoOpensearchCodec.OTelProtoDecoder());
+        try (MockedStatic<ServiceRequestContext> mockedStatic = mockStatic(ServiceRequestContext.class)) {
+            mockedStatic.when(ServiceRequestContext::current).thenReturn(serviceRequestContext);
+            objectUnderTest.export(SUCCESS_REQUEST, responseObserver);
+        }
+
+        verifyNoInteractions(resourceDeduplicationRatioSummary);
+    }
+
     private OTelTraceGrpcService generateOTelTraceGrpcService(final OTelProtoCodec.OTelProtoDecoder decoder) {
         return new OTelTraceGrpcService(
                 bufferWriteTimeoutInMillis, decoder, buffer, mockPluginMetrics, null);
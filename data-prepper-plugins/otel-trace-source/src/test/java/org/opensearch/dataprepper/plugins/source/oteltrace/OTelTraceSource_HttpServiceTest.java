@@ -9,6 +9,7 @@ import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Named.named;
@@ -20,6 +21,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -28,6 +30,7 @@ import static org.opensearch.dataprepper.plugins.source.oteltrace.OTelTraceSourc
 import static org.opensearch.dataprepper.plugins.source.oteltrace.OTelTraceSourceConfig.DEFAULT_REQUEST_TIMEOUT_MS;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -122,6 +125,9 @@ class OTelTraceSource_HttpServiceTest {
     @Captor
     ArgumentCaptor<byte[]> bytesCaptor;
 
+    @Captor
+    ArgumentCaptor<Collection<Record<Object>>> recordsCaptor;
+
     private PluginMetrics pluginMetrics;
     private PipelineDescription pipelineDescription;
     private OTelTraceSource SOURCE;
@@ -233,6 +239,45 @@ class OTelTraceSource_HttpServiceTest {
         verify(buffer, times(1)).writeBytes(bytesCaptor.capture(), anyString(), anyInt());
     }
 
+    @Test
+    void protobuf_request_writes_the_decoded_spans_to_the_buffer() throws Exception {
+        final ExportTraceServiceRequest request = createExportTraceRequest();
+        SOURCE.start(buffer);
+
+        makeProtobufRequestAndAssertResponse(HttpData.wrap(request.toByteArray()),
+                (response, throwable) -> assertThat(response.status(), is(HttpStatus.OK)));
+
+        verify(buffer).writeAll(recordsCaptor.capture(), anyInt());
+        final Collection<Record<Object>> records = recordsCaptor.getValue();
+        assertThat(records, hasSize(1));
+        final org.opensearch.dataprepper.model.trace.Span span =
+                (org.opensearch.dataprepper.model.trace.Span) records.iterator().next().getData();
+        assertThat(span.getName(), equalTo(request.getResourceSpans(0).getScopeSpans(0).getSpans(0).getName()));
+    }
+
+    @Test
+    void protobuf_request_with_byte_buffer_writes_the_request_bytes() throws Exception {
+        when(buffer.isByteBuffer()).thenReturn(true);
+        final ExportTraceServiceRequest request = createExportTraceRequest();
+        SOURCE.start(buffer);
+
+        makeProtobufRequestAndAssertResponse(HttpData.wrap(request.toByteArray()),
+                (response, throwable) -> assertThat(response.status(), is(HttpStatus.OK)));
+
+        verify(buffer, times(1)).writeBytes(bytesCaptor.capture(), anyString(), anyInt());
+        assertThat(ExportTraceServiceRequest.parseFrom(bytesCaptor.getValue()), equalTo(request));
+    }
+
+    @Test
+    void protobuf_request_fails_because_of_invalid_payload() throws Exception {
+        SOURCE.start(buffer);
+
+        makeProtobufRequestAndAssertResponse(HttpData.wrap(createInvalidExportTraceRequest().toByteArray()),
+                (response, throwable) -> assertThat(response.status(), is(HttpStatus.BAD_REQUEST)));
+
+        verify(buffer, never()).writeAll(any(), anyInt());
+    }
+
     @Test
     void providing_unauthenticated_via_config_does_not_add_the_auth_decorator() {
         when(oTelTraceSourceConfig.getAuthentication()).thenReturn(new PluginModel(ArmeriaHttpAuthenticationProvider.UNAUTHENTICATED_PLUGIN_NAME, Map.of()));
@@ -344,6 +389,19 @@ class OTelTraceSource_HttpServiceTest {
                 .join();
     }
 
+    private void makeProtobufRequestAndAssertResponse(final HttpData body, final BiConsumer<AggregatedHttpResponse, Throwable> assertionFunction) {
+        WebClient.of().execute(RequestHeaders.builder()
+                        .scheme(SessionProtocol.HTTP)
+                        .authority("127.0.0.1:21890")
+                        .method(HttpMethod.POST)
+                        .path("/opentelemetry.proto.collector.trace.v1.TraceService/Export")
+                        .contentType(MediaType.X_PROTOBUF)
+                        .build(), body)
+                .aggregate()
+                .whenComplete(assertionFunction)
+                .join();
+    }
+
     private ExportTraceServiceRequest createInvalidExportTraceRequest() {
         final io.opentelemetry.proto.trace.v1.Span testSpan = Span.newBuilder()
 //                .setTraceId(ByteString.copyFromUtf8(UUID.randomUUID().toString()))
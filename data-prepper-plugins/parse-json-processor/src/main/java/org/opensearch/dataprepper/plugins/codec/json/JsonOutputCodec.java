@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 
 import java.io.IOException;
@@ -57,8 +58,15 @@ public class JsonOutputCodec implements OutputCodec {
         @Override
         public void writeEvent(final Event event) throws IOException {
             Objects.requireNonNull(event);
-            final Map<String, Object> dataMap = getDataMapToSerialize(event);
-            objectMapper.writeValue(generator, dataMap);
+            final String serializedJson = writesWholeEvent() && event instanceof JacksonEvent ?
+                    ((JacksonEvent) event).getSerializedJson() : null;
+            if (serializedJson != null) {
+                // the JSON the event was read from, which is still its data
+                generator.writeRawValue(serializedJson);
+            } else {
+                final Map<String, Object> dataMap = getDataMapToSerialize(event);
+                objectMapper.writeValue(generator, dataMap);
+            }
             generator.flush();
         }
 
@@ -71,6 +79,12 @@ public class JsonOutputCodec implements OutputCodec {
             outputStream.close();
         }
 
+        private boolean writesWholeEvent() {
+            return codecContext.getTagsTargetKey() == null &&
+                    (codecContext.getIncludeKeys() == null || codecContext.getIncludeKeys().isEmpty()) &&
+                    (codecContext.getExcludeKeys() == null || codecContext.getExcludeKeys().isEmpty());
+        }
+
         private Map<String, Object> getDataMapToSerialize(final Event event) throws JsonProcessingException {
             final Event modifiedEvent;
             if (codecContext.getTagsTargetKey() != null) {
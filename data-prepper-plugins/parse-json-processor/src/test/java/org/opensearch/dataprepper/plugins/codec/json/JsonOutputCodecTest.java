@@ -15,6 +15,9 @@ import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -263,6 +266,50 @@ class JsonOutputCodecTest {
         assertThat(index, equalTo(numberOfRecords));
     }
 
+    @Test
+    void writeEvent_writes_serialized_data_of_event() throws IOException {
+        JsonOutputCodec jsonOutputCodec = createObjectUnderTest();
+        outputStream = new ByteArrayOutputStream();
+        OutputCodecContext codecContext = new OutputCodecContext();
+        jsonOutputCodec.start(outputStream, null, codecContext);
+
+        final String serializedData = "{\"age\":0,\"name\":\"Person0\"}";
+        jsonOutputCodec.writeEvent(JacksonLog.builder().withSerializedData(serializedData).build(), outputStream);
+        jsonOutputCodec.writeEvent(convertToEvent(Map.of("name", "Person1")), outputStream);
+        jsonOutputCodec.complete(outputStream);
+
+        assertThat(outputStream.toString(), equalTo("{\"events\":[" + serializedData + ",{\"name\":\"Person1\"}]}"));
+    }
+
+    @Test
+    void writeEvent_writes_span_with_nested_attributes() throws IOException {
+        JsonOutputCodec jsonOutputCodec = createObjectUnderTest();
+        outputStream = new ByteArrayOutputStream();
+        OutputCodecContext codecContext = new OutputCodecContext();
+        jsonOutputCodec.start(outputStream, null, codecContext);
+
+        final Span span = JacksonSpan.builder()
+                .withSpanId("abc")
+                .withTraceId("def")
+                .withName("name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:01:00Z")
+                .withDurationInNanos(60_000_000_000L)
+                .withTraceGroup("group")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(Map.of("http.method", "GET"))
+                .build();
+        jsonOutputCodec.writeEvent(span, outputStream);
+        jsonOutputCodec.complete(outputStream);
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final JsonNode writtenSpan = mapper.readTree(outputStream.toByteArray()).get(JsonOutputCodecConfig.DEFAULT_KEY_NAME).get(0);
+        assertThat(writtenSpan, equalTo(mapper.valueToTree(span.toMap())));
+        assertThat(writtenSpan.get("attributes").get("http.method").asText(), equalTo("GET"));
+        assertThat(writtenSpan.has("http.method"), equalTo(false));
+    }
+
     @Test
     void testGetEstimatedSize() throws Exception {
         int numberOfRecords = 1;
@@ -50,7 +50,7 @@ public class ParquetOutputScenario implements OutputScenario {
 
     @Override
     public Set<BufferTypeOptions> getIncompatibleBufferTypes() {
-        return Set.of(BufferTypeOptions.LOCALFILE, BufferTypeOptions.MULTI_PART);
+        return Set.of(BufferTypeOptions.LOCALFILE);
     }
 
     @Override
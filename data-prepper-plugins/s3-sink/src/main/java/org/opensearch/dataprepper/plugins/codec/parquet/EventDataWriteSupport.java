@@ -0,0 +1,296 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes event data directly into the Parquet column writers, without first building an Avro
+ * {@link org.apache.avro.generic.GenericRecord} for every event.
+ * <p>
+ * The Parquet schema is converted from the Avro schema once. The Avro schema and the avro object model name
+ * are stored in the file metadata, so the files are the same as those written by the
+ * {@link org.apache.parquet.avro.AvroParquetWriter}.
+ * Only schemas which pass {@link #isSupported(Schema)} can be written. The field semantics follow the
+ * {@link org.opensearch.dataprepper.avro.EventDefinedAvroEventConverter} and the
+ * {@link org.opensearch.dataprepper.avro.SchemaDefinedAvroEventConverter}.
+ */
+class EventDataWriteSupport extends WriteSupport<Map<String, Object>> {
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+    private static final String AVRO_OBJECT_MODEL_NAME = "avro";
+    private static final String OLD_LIST_ELEMENT_NAME = "array";
+
+    private final Schema schema;
+    private final MessageType messageType;
+    private final boolean eventDefined;
+    private OutputCodecContext codecContext;
+    private RecordConsumer recordConsumer;
+
+    /**
+     * @param schema the Avro schema, which must be supported
+     * @param eventDefined true if every key of the event must be in the schema
+     */
+    EventDataWriteSupport(final Schema schema, final boolean eventDefined) {
+        this.schema = schema;
+        this.messageType = new AvroSchemaConverter().convert(schema);
+        this.eventDefined = eventDefined;
+    }
+
+    /**
+     * Determines whether event data for the schema can be written directly. Unions other than a nullable
+     * type, maps, fixed types, logical types and arrays of anything but primitives are not supported.
+     *
+     * @param schema the Avro record schema
+     * @return true if the schema is supported
+     */
+    static boolean isSupported(final Schema schema) {
+        if (schema.getType() != Schema.Type.RECORD) {
+            return false;
+        }
+        return schema.getFields().stream().allMatch(field -> isSupportedValue(field.schema()));
+    }
+
+    private static boolean isSupportedValue(final Schema schema) {
+        final Schema nonNullSchema = getNonNullSchema(schema);
+        if (nonNullSchema == null || nonNullSchema.getLogicalType() != null) {
+            return false;
+        }
+        switch (nonNullSchema.getType()) {
+            case RECORD:
+                return isSupported(nonNullSchema);
+            case ARRAY:
+                final Schema elementSchema = nonNullSchema.getElementType();
+                return elementSchema.getLogicalType() == null && isPrimitive(elementSchema.getType());
+            default:
+                return isPrimitive(nonNullSchema.getType());
+        }
+    }
+
+    private static boolean isPrimitive(final Schema.Type type) {
+        switch (type) {
+            case STRING:
+            case ENUM:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case BOOLEAN:
+            case BYTES:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the schema itself, the single non-null type of a nullable union, or null for any other union
+     */
+    private static Schema getNonNullSchema(final Schema schema) {
+        if (schema.getType() != Schema.Type.UNION) {
+            return schema;
+        }
+        final List<Schema> types = schema.getTypes();
+        if (types.size() != 2) {
+            return null;
+        }
+        if (types.get(0).getType() == Schema.Type.NULL && types.get(1).getType() != Schema.Type.UNION) {
+            return types.get(1);
+        }
+        if (types.get(1).getType() == Schema.Type.NULL && types.get(0).getType() != Schema.Type.UNION) {
+            return types.get(0);
+        }
+        return null;
+    }
+
+    Schema getSchema() {
+        return schema;
+    }
+
+    MessageType getMessageType() {
+        return messageType;
+    }
+
+    void setCodecContext(final OutputCodecContext codecContext) {
+        this.codecContext = codecContext;
+    }
+
+    /**
+     * @return the object model name which the {@link ParquetWriter} stores as <code>writer.model.name</code>
+     */
+    @Override
+    public String getName() {
+        return AVRO_OBJECT_MODEL_NAME;
+    }
+
+    @Override
+    public WriteContext init(final Configuration configuration) {
+        return new WriteContext(messageType, Map.of(AVRO_SCHEMA_METADATA_KEY, schema.toString()));
+    }
+
+    @Override
+    public WriteContext init(final ParquetConfiguration configuration) {
+        return new WriteContext(messageType, Map.of(AVRO_SCHEMA_METADATA_KEY, schema.toString()));
+    }
+
+    @Override
+    public void prepareForWrite(final RecordConsumer recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    @Override
+    public void write(final Map<String, Object> eventData) {
+        recordConsumer.startMessage();
+        writeRecordFields(messageType, schema, eventData, true);
+        recordConsumer.endMessage();
+    }
+
+    private void writeRecordFields(final GroupType groupType,
+                                   final Schema recordSchema,
+                                   final Map<String, Object> eventData,
+                                   final boolean rootOfData) {
+        if (eventDefined) {
+            for (final String key : eventData.keySet()) {
+                if (rootOfData && codecContext != null && codecContext.shouldNotIncludeKey(key)) {
+                    continue;
+                }
+                if (recordSchema.getField(key) == null) {
+                    throw new RuntimeException("The event has a key ('" + key + "') which is not included in the schema.");
+                }
+            }
+        }
+
+        final List<Schema.Field> fields = recordSchema.getFields();
+        for (int index = 0; index < fields.size(); index++) {
+            final Schema.Field field = fields.get(index);
+            final Type fieldType = groupType.getType(index);
+            final Object value;
+            if (eventDefined && rootOfData && codecContext != null && codecContext.shouldNotIncludeKey(field.name())) {
+                value = null;
+            } else {
+                value = eventData.get(field.name());
+            }
+
+            if (value == null) {
+                if (fieldType.isRepetition(Type.Repetition.REQUIRED)) {
+                    throw new RuntimeException("Null-value for required field: " + field.name());
+                }
+                continue;
+            }
+
+            recordConsumer.startField(fieldType.getName(), index);
+            writeValue(fieldType, getNonNullSchema(field.schema()), value);
+            recordConsumer.endField(fieldType.getName(), index);
+        }
+    }
+
+    private void writeValue(final Type type, final Schema valueSchema, final Object value) {
+        switch (valueSchema.getType()) {
+            case RECORD:
+                if (!(value instanceof Map)) {
+                    throw new ClassCastException("The value for record '" + valueSchema.getName() + "' is not an object.");
+                }
+                recordConsumer.startGroup();
+                writeRecordFields(type.asGroupType(), valueSchema, (Map<String, Object>) value, false);
+                recordConsumer.endGroup();
+                break;
+            case ARRAY:
+                writeArray(type.asGroupType(), valueSchema.getElementType(), (List<?>) value);
+                break;
+            default:
+                writePrimitive(valueSchema, value);
+        }
+    }
+
+    private void writeArray(final GroupType listType, final Schema elementSchema, final List<?> elements) {
+        recordConsumer.startGroup();
+        if (!elements.isEmpty()) {
+            recordConsumer.startField(OLD_LIST_ELEMENT_NAME, 0);
+            for (final Object element : elements) {
+                if (element == null) {
+                    throw new RuntimeException("Array contains a null element for field: " + listType.getName());
+                }
+                writePrimitive(elementSchema, element);
+            }
+            recordConsumer.endField(OLD_LIST_ELEMENT_NAME, 0);
+        }
+        recordConsumer.endGroup();
+    }
+
+    private void writePrimitive(final Schema valueSchema, final Object value) {
+        switch (valueSchema.getType()) {
+            case STRING:
+            case ENUM:
+                recordConsumer.addBinary(Binary.fromString(value.toString()));
+                break;
+            case INT:
+                recordConsumer.addInteger(((Number) value).intValue());
+                break;
+            case LONG:
+                recordConsumer.addLong(((Number) value).longValue());
+                break;
+            case FLOAT:
+                recordConsumer.addFloat(((Number) value).floatValue());
+                break;
+            case DOUBLE:
+                recordConsumer.addDouble(((Number) value).doubleValue());
+                break;
+            case BOOLEAN:
+                recordConsumer.addBoolean((Boolean) value);
+                break;
+            case BYTES:
+                if (value instanceof byte[]) {
+                    recordConsumer.addBinary(Binary.fromReusedByteArray((byte[]) value));
+                } else {
+                    recordConsumer.addBinary(Binary.fromReusedByteBuffer((ByteBuffer) value));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported Avro type " + valueSchema.getType());
+        }
+    }
+
+    /**
+     * Builds a {@link ParquetWriter} which writes through an existing {@link EventDataWriteSupport}.
+     */
+    static class Builder extends ParquetWriter.Builder<Map<String, Object>, Builder> {
+        private final EventDataWriteSupport writeSupport;
+
+        Builder(final OutputFile outputFile, final EventDataWriteSupport writeSupport) {
+            super(outputFile);
+            this.writeSupport = writeSupport;
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<Map<String, Object>> getWriteSupport(final Configuration configuration) {
+            return writeSupport;
+        }
+
+        @Override
+        protected WriteSupport<Map<String, Object>> getWriteSupport(final ParquetConfiguration configuration) {
+            return writeSupport;
+        }
+    }
+}
@@ -37,7 +37,10 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
     private static Schema schema;
     private final AvroEventConverter avroEventConverter;
     private final AvroAutoSchemaGenerator avroAutoSchemaGenerator;
-    private ParquetWriter<GenericRecord> writer;
+    private ParquetWriter<GenericRecord> avroWriter;
+    private ParquetWriter<Map<String, Object>> eventDataWriter;
+    private Schema writeSupportSchema;
+    private EventDataWriteSupport eventDataWriteSupport;
     private OutputCodecContext codecContext;
     private boolean isClosed = false;
 
@@ -94,13 +97,43 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
     }
 
     private void buildWriter(OutputFile outputFile, CompressionCodecName compressionCodecName) throws IOException {
-        writer = AvroParquetWriter.<GenericRecord>builder(outputFile)
-                .withSchema(schema)
-                .withCompressionCodec(compressionCodecName)
-                .build();
+        prepareEventDataWriteSupport();
+        avroWriter = null;
+        eventDataWriter = null;
+        if (eventDataWriteSupport != null) {
+            eventDataWriteSupport.setCodecContext(codecContext);
+            eventDataWriter = new EventDataWriteSupport.Builder(outputFile, eventDataWriteSupport)
+                    .withCompressionCodec(compressionCodecName)
+                    .withRowGroupSize(config.getRowGroupSize().getBytes())
+                    .build();
+        } else {
+            avroWriter = AvroParquetWriter.<GenericRecord>builder(outputFile)
+                    .withSchema(schema)
+                    .withCompressionCodec(compressionCodecName)
+                    .withRowGroupSize(config.getRowGroupSize().getBytes())
+                    .build();
+        }
         isClosed = false;
     }
 
+    /**
+     * The write support, and the Parquet schema converted from the Avro schema, are kept for every
+     * object this codec writes as long as the schema does not change.
+     */
+    private void prepareEventDataWriteSupport() {
+        if (writeSupportSchema == schema) {
+            return;
+        }
+        writeSupportSchema = schema;
+        eventDataWriteSupport = EventDataWriteSupport.isSupported(schema)
+                ? new EventDataWriteSupport(schema, config.getSchema() == null)
+                : null;
+    }
+
+    private ParquetWriter<?> getWriter() {
+        return eventDataWriter != null ? eventDataWriter : avroWriter;
+    }
+
     @Override
     public void writeEvent(final Event event, final OutputStream outputStream) throws IOException {
         final Event modifiedEvent;
@@ -109,13 +142,18 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
         } else {
             modifiedEvent = event;
         }
+        if (eventDataWriter != null) {
+            eventDataWriter.write(modifiedEvent.toMap());
+            return;
+        }
         GenericRecord parquetRecord = avroEventConverter.convertEventDataToAvro(schema, modifiedEvent.toMap(), codecContext);
-        writer.write(parquetRecord);
+        avroWriter.write(parquetRecord);
     }
 
     @Override
     public synchronized void complete(final OutputStream outputStream) throws IOException {
         isClosed = true;
+        final ParquetWriter<?> writer = getWriter();
         if (writer != null) {
             writer.close();
         }
@@ -143,6 +181,7 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
 
     @Override
     public Optional<Long> getSize() {
+        final ParquetWriter<?> writer = getWriter();
         if(writer == null)
             return Optional.of(0L);
 
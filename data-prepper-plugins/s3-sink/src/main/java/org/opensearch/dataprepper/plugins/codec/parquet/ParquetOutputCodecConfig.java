@@ -6,19 +6,33 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 public class ParquetOutputCodecConfig {
+    static final ByteCount DEFAULT_ROW_GROUP_SIZE = ByteCount.parse("128mb");
+    private static final long MINIMUM_ROW_GROUP_SIZE_BYTES = ByteCount.parse("1mb").getBytes();
+
     @JsonProperty("schema")
     private String schema;
 
     @JsonProperty("auto_schema")
     private boolean autoSchema;
 
+    @JsonProperty("row_group_size")
+    @NotNull
+    private ByteCount rowGroupSize = DEFAULT_ROW_GROUP_SIZE;
+
     @AssertTrue(message = "The Parquet codec requires either defining a schema or setting auto_schema to true to automatically generate a schema.")
     boolean isSchemaOrAutoSchemaDefined() {
         return schema != null ^ autoSchema;
     }
 
+    @AssertTrue(message = "row_group_size must be at least 1mb")
+    boolean isRowGroupSizeValid() {
+        return rowGroupSize == null || rowGroupSize.getBytes() >= MINIMUM_ROW_GROUP_SIZE_BYTES;
+    }
+
     public String getSchema() {
         return schema;
     }
@@ -34,5 +48,8 @@ public class ParquetOutputCodecConfig {
     void setAutoSchema(final boolean autoSchema) {
         this.autoSchema = autoSchema;
     }
-}
 
+    public ByteCount getRowGroupSize() {
+        return rowGroupSize;
+    }
+}
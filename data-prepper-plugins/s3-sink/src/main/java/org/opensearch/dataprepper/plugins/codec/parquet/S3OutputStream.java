@@ -6,6 +6,7 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 
 import org.apache.parquet.io.PositionOutputStream;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.PartBufferPool;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,19 +22,23 @@ import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * Uploads an object as a multipart upload while it is being written. Once a part is full, its
+ * upload is started and writing continues into a new part, so parts are encoded and uploaded at
+ * the same time. At most maximumPartsInFlight uploads of one object are running; a write which
+ * fills a part waits while that many are running.
+ */
 public class S3OutputStream extends PositionOutputStream {
     private static final Logger LOG = LoggerFactory.getLogger(S3OutputStream.class);
 
@@ -55,18 +60,27 @@ public class S3OutputStream extends PositionOutputStream {
     private final String key;
 
     /**
-     * The temporary buffer used for storing the chunks
+     * The buffer of the part being written, taken from the part buffer pool on the first write to a part
      */
-    private final byte[] buf;
+    private byte[] buf;
+
+    private final PartBufferPool partBufferPool;
+
+    private final int maximumPartsInFlight;
 
     private final S3AsyncClient s3Client;
 
     private final BucketOwnerProvider bucketOwnerProvider;
 
     /**
-     * Collection of the etags for the parts that have been uploaded
+     * The etags of the parts that have been started, in part number order
+     */
+    private final List<CompletableFuture<String>> etagFutures;
+
+    /**
+     * The parts whose upload may not have finished yet
      */
-    private final List<String> etags;
+    private final Deque<CompletableFuture<String>> partsInFlight;
     /**
      * The position in the buffer
      */
@@ -85,7 +99,22 @@ public class S3OutputStream extends PositionOutputStream {
      */
     private final String defaultBucket;
 
-    private final ExecutorService executorService;
+    /**
+     * Creates a new S3 OutputStream which uploads one part at a time
+     *
+     * @param s3Client the AmazonS3 client
+     * @param bucketSupplier  name of the bucket
+     * @param keySupplier     path within the bucket
+     * @param defaultBucket default bucket
+     * @param bucketOwnerProvider bucket owner provider
+     */
+    public S3OutputStream(final S3AsyncClient s3Client,
+                          final Supplier<String> bucketSupplier,
+                          final Supplier<String> keySupplier,
+                          final String defaultBucket,
+                          final BucketOwnerProvider bucketOwnerProvider) {
+        this(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider, new PartBufferPool(BUFFER_SIZE, 2), 1);
+    }
 
     /**
      * Creates a new S3 OutputStream
@@ -95,33 +124,36 @@ public class S3OutputStream extends PositionOutputStream {
      * @param keySupplier     path within the bucket
      * @param defaultBucket default bucket
      * @param bucketOwnerProvider bucket owner provider
+     * @param partBufferPool the pool of part buffers, which also defines the part size
+     * @param maximumPartsInFlight the maximum number of parts of this object uploaded at the same time
      */
     public S3OutputStream(final S3AsyncClient s3Client,
                           final Supplier<String> bucketSupplier,
                           final Supplier<String> keySupplier,
                           final String defaultBucket,
-                          final BucketOwnerProvider bucketOwnerProvider) {
+                          final BucketOwnerProvider bucketOwnerProvider,
+                          final PartBufferPool partBufferPool,
+                          final int maximumPartsInFlight) {
         this.s3Client = s3Client;
         this.bucket = bucketSupplier.get();
         this.key = keySupplier.get();
-        buf = new byte[BUFFER_SIZE];
+        this.partBufferPool = partBufferPool;
+        this.maximumPartsInFlight = maximumPartsInFlight;
         position = 0;
-        etags = new ArrayList<>();
+        etagFutures = new ArrayList<>();
+        partsInFlight = new ArrayDeque<>();
         open = true;
         this.defaultBucket = defaultBucket;
-        this.executorService = Executors.newSingleThreadExecutor();
         this.bucketOwnerProvider = bucketOwnerProvider;
     }
 
     @Override
     public void write(int b) {
         assertOpen();
+        acquireBufferIfNeeded();
         if (position >= buf.length) {
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            flushBufferAndRewind();
+            acquireBufferIfNeeded();
         }
         buf[position++] = (byte) b;
     }
@@ -148,17 +180,15 @@ public class S3OutputStream extends PositionOutputStream {
     @Override
     public void write(byte[] byteArray, int o, int l) {
         assertOpen();
+        acquireBufferIfNeeded();
         int ofs = o;
         int len = l;
         int size;
         while (len > (size = buf.length - position)) {
             System.arraycopy(byteArray, ofs, buf, position, size);
             position += size;
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            flushBufferAndRewind();
+            acquireBufferIfNeeded();
 
             ofs += size;
             len -= size;
@@ -184,10 +214,10 @@ public class S3OutputStream extends PositionOutputStream {
                     uploadPart();
                 }
 
-                CompletedPart[] completedParts = new CompletedPart[etags.size()];
-                for (int i = 0; i < etags.size(); i++) {
+                CompletedPart[] completedParts = new CompletedPart[etagFutures.size()];
+                for (int i = 0; i < etagFutures.size(); i++) {
                     completedParts[i] = CompletedPart.builder()
-                            .eTag(etags.get(i))
+                            .eTag(etagFutures.get(i).join())
                             .partNumber(i + 1)
                             .build();
                 }
@@ -213,6 +243,8 @@ public class S3OutputStream extends PositionOutputStream {
             } catch (final Exception e) {
                 runOnError.accept(e);
                 runOnCompletion.accept(false);
+            } finally {
+                releaseBuffer();
             }
         }
 
@@ -229,10 +261,22 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
-    private void flushBufferAndRewind() throws ExecutionException, InterruptedException {
+    private void acquireBufferIfNeeded() {
+        if (buf == null) {
+            buf = partBufferPool.acquire();
+        }
+    }
+
+    private void releaseBuffer() {
+        if (buf != null) {
+            partBufferPool.release(buf);
+            buf = null;
+        }
+    }
+
+    private void flushBufferAndRewind() {
         possiblyStartMultipartUpload();
         uploadPart();
-        position = 0;
     }
 
     private void possiblyStartMultipartUpload() {
@@ -255,8 +299,14 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
+    /**
+     * Starts the upload of the current part and hands its buffer over to the upload, which returns
+     * the buffer to the pool once it has finished.
+     */
     private void uploadPart() {
-        int partNumber = etags.size() + 1;
+        awaitPartsInFlightBelowMaximum();
+
+        int partNumber = etagFutures.size() + 1;
         UploadPartRequest uploadRequest = UploadPartRequest.builder()
                 .bucket(bucket)
                 .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
@@ -266,22 +316,33 @@ public class S3OutputStream extends PositionOutputStream {
                 .contentLength((long) position)
                 .build();
 
-        final InputStream inputStream = new ByteArrayInputStream(buf, 0, position);
+        final byte[] partBuffer = buf;
+        // the buffer is not copied, so it must not be reused until the upload, including retries, has finished
+        AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(partBuffer, 0, position));
 
-        AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromInputStream(inputStream, (long) position, executorService);
+        LOG.debug("Writing {} bytes to S3 multipart part number {}.", position, partNumber);
 
-        LOG.debug("Writing {} bytes to S3 multipart part number {}.", buf.length, partNumber);
+        final CompletableFuture<String> etagFuture = partBufferPool
+                .releaseWhenComplete(partBuffer, s3Client.uploadPart(uploadRequest, asyncRequestBody))
+                .thenApply(UploadPartResponse::eTag);
 
-        CompletableFuture<UploadPartResponse> uploadPartResponseFuture = s3Client.uploadPart(uploadRequest, asyncRequestBody);
-
-        final UploadPartResponse uploadPartResponse = uploadPartResponseFuture.join();
+        etagFutures.add(etagFuture);
+        partsInFlight.add(etagFuture);
+        buf = null;
+        position = 0;
+    }
 
-        etags.add(uploadPartResponse.eTag());
+    private void awaitPartsInFlightBelowMaximum() {
+        partsInFlight.removeIf(CompletableFuture::isDone);
+        while (partsInFlight.size() >= maximumPartsInFlight) {
+            partsInFlight.poll().join();
+            partsInFlight.removeIf(CompletableFuture::isDone);
+        }
     }
 
     @Override
     public long getPos() throws IOException {
-        return position + (long) etags.size() * (long) BUFFER_SIZE;
+        return position + (long) etagFutures.size() * (long) partBufferPool.getPartSize();
     }
 
     private void createMultipartUpload() {
@@ -25,6 +25,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CodecBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CompressionBufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.MultipartBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.codec.BufferedCodec;
 import org.opensearch.dataprepper.plugins.sink.s3.codec.CodecFactory;
 import org.opensearch.dataprepper.model.codec.CompressionEngine;
@@ -86,8 +87,11 @@ public class S3Sink extends AbstractSink<Record<Event>> {
 
         final S3AsyncClient s3Client = ClientFactory.createS3AsyncClient(s3SinkConfig, awsCredentialsSupplier);
         BufferFactory innerBufferFactory = s3SinkConfig.getBufferType().getBufferFactory();
-        if(testCodec instanceof ParquetOutputCodec && s3SinkConfig.getBufferType() != BufferTypeOptions.INMEMORY) {
-            throw new InvalidPluginConfigurationException("The Parquet sink codec is an in_memory buffer only.");
+        if (s3SinkConfig.getBufferType() == BufferTypeOptions.MULTI_PART) {
+            innerBufferFactory = new MultipartBufferFactory(s3SinkConfig.getMultipartUploadOptions());
+        }
+        if(testCodec instanceof ParquetOutputCodec && s3SinkConfig.getBufferType() == BufferTypeOptions.LOCALFILE) {
+            throw new InvalidPluginConfigurationException("The Parquet sink codec requires an in_memory or multipart buffer.");
         }
         if(testCodec instanceof BufferedCodec) {
             innerBufferFactory = new CodecBufferFactory(innerBufferFactory, (BufferedCodec) testCodec);
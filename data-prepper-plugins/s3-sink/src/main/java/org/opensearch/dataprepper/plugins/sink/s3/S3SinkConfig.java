@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ClientOptions;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.MultipartUploadOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ThresholdOptions;
 
@@ -93,6 +94,10 @@ public class S3SinkConfig {
     @JsonProperty("buffer_type")
     private BufferTypeOptions bufferType = BufferTypeOptions.INMEMORY;
 
+    @JsonProperty("multipart_upload")
+    @Valid
+    private MultipartUploadOptions multipartUploadOptions = new MultipartUploadOptions();
+
     private int maxConnectionRetries = DEFAULT_CONNECTION_RETRIES;
 
     @JsonProperty("max_retries")
@@ -180,6 +185,14 @@ public class S3SinkConfig {
         return bufferType;
     }
 
+    /**
+     * Multipart upload configuration Options, used with the multipart buffer type.
+     * @return multipart upload options.
+     */
+    public MultipartUploadOptions getMultipartUploadOptions() {
+        return multipartUploadOptions;
+    }
+
     /**
      * S3 client connection retries configuration Options.
      * @return max connection retries value.
@@ -44,6 +44,8 @@ public class S3SinkService {
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED = "s3SinkObjectsEventsFailed";
 
     private static final String CURRENT_S3_GROUPS = "s3SinkNumberOfGroups";
+    private static final String CURRENT_S3_GROUPS_SIZE = "s3SinkGroupsSizeBytes";
+    static final String NUMBER_OF_GROUPS_SPILLED = "s3SinkGroupsSpilledToLocalFile";
 
     static final String NUMBER_OF_GROUPS_FORCE_FLUSHED = "s3SinkObjectsForceFlushed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
@@ -60,6 +62,7 @@ public class S3SinkService {
     private final DistributionSummary s3ObjectSizeSummary;
 
     private final Counter numberOfObjectsForceFlushed;
+    private final Counter numberOfGroupsSpilled;
     private final OutputCodecContext codecContext;
     private final Duration retrySleepTime;
 
@@ -94,7 +97,9 @@ public class S3SinkService {
         numberOfRecordsFailedCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED);
         s3ObjectSizeSummary = pluginMetrics.summary(S3_OBJECTS_SIZE);
         numberOfObjectsForceFlushed = pluginMetrics.counter(NUMBER_OF_GROUPS_FORCE_FLUSHED);
+        numberOfGroupsSpilled = pluginMetrics.counter(NUMBER_OF_GROUPS_SPILLED);
         pluginMetrics.gauge(CURRENT_S3_GROUPS, s3GroupManager, S3GroupManager::getNumberOfGroups);
+        pluginMetrics.gauge(CURRENT_S3_GROUPS_SIZE, s3GroupManager, S3GroupManager::getTotalGroupSize);
 
 
         this.s3GroupManager = s3GroupManager;
@@ -146,6 +151,7 @@ public class S3SinkService {
 
             if (s3SinkConfig.getAggregateThresholdOptions() != null) {
                 checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+                spillColdGroupsIfConfigured();
             }
 
             if (!completableFutures.isEmpty()) {
@@ -222,6 +228,19 @@ public class S3SinkService {
         LOG.error("Exception occurred while uploading records to s3 bucket: {}", e.getMessage());
     }
 
+    private void spillColdGroupsIfConfigured() {
+        final Duration spillColdGroupsAfter = s3SinkConfig.getAggregateThresholdOptions().getSpillColdGroupsAfter();
+        if (spillColdGroupsAfter == null) {
+            return;
+        }
+
+        final int spilledGroups = s3GroupManager.spillColdGroups(spillColdGroupsAfter);
+        if (spilledGroups > 0) {
+            LOG.info("Spilled {} groups which did not receive events for {} to local files", spilledGroups, spillColdGroupsAfter);
+            numberOfGroupsSpilled.increment(spilledGroups);
+        }
+    }
+
     private void checkAggregateThresholdsAndFlushIfNeeded(final List<CompletableFuture<?>> completableFutures) {
         long currentTotalGroupSize = s3GroupManager.recalculateAndGetGroupSize();
         LOG.debug("Total groups size is {} bytes", currentTotalGroupSize);
@@ -235,11 +254,13 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
+                // a group spilled to a local file counts for nothing in the total, whatever the size of its buffer
+                final long groupSizeInMemory = s3Group.getIndexedSize();
                 final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
                 numberOfObjectsForceFlushed.increment();
 
                 if (flushed) {
-                    currentTotalGroupSize -= s3Group.getBuffer().getSize();
+                    currentTotalGroupSize -= groupSizeInMemory;
                 }
 
                 if (currentTotalGroupSize <= aggregateThresholdBytes * aggregateThresholdFlushRatio) {
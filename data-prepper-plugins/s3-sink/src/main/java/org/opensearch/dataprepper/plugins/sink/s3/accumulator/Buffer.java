@@ -32,4 +32,20 @@ public interface Buffer {
     void setEventCount(int eventCount);
 
     String getKey();
+
+    /**
+     * Moves the data which this buffer holds in memory to a local file. Later writes to the output
+     * stream also go to the file.
+     * @return true if the buffer holds its data in a local file afterwards
+     */
+    default boolean spillToLocalFile() {
+        return false;
+    }
+
+    /**
+     * @return true if the data of this buffer was moved from memory to a local file
+     */
+    default boolean isSpilledToLocalFile() {
+        return false;
+    }
 }
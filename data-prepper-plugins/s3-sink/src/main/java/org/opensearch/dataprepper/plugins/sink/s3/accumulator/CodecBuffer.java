@@ -52,4 +52,14 @@ public class CodecBuffer implements Buffer {
     public String getKey() {
         return innerBuffer.getKey();
     }
+
+    @Override
+    public boolean spillToLocalFile() {
+        return innerBuffer.spillToLocalFile();
+    }
+
+    @Override
+    public boolean isSpilledToLocalFile() {
+        return innerBuffer.isSpilledToLocalFile();
+    }
 }
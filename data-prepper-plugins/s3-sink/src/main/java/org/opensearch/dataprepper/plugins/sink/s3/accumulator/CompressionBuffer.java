@@ -71,4 +71,14 @@ class CompressionBuffer implements Buffer {
     public String getKey() {
         return innerBuffer.getKey();
     }
+
+    @Override
+    public boolean spillToLocalFile() {
+        return innerBuffer.spillToLocalFile();
+    }
+
+    @Override
+    public boolean isSpilledToLocalFile() {
+        return innerBuffer.isSpilledToLocalFile();
+    }
 }
@@ -7,11 +7,15 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.apache.commons.lang3.time.StopWatch;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
@@ -26,8 +30,11 @@ import java.util.function.Function;
  */
 public class InMemoryBuffer implements Buffer {
 
-    private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    private final ByteArrayPositionOutputStream byteArrayPositionOutputStream = new ByteArrayPositionOutputStream(byteArrayOutputStream);
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryBuffer.class);
+    static final String SPILL_FILE_PREFIX = "s3-group";
+    static final String SPILL_FILE_SUFFIX = ".spill";
+
+    private final SpillablePositionOutputStream outputStream = new SpillablePositionOutputStream();
     private final S3AsyncClient s3Client;
     private final Supplier<String> bucketSupplier;
     private final Supplier<String> keySupplier;
@@ -52,7 +59,6 @@ public class InMemoryBuffer implements Buffer {
         this.bucketSupplier = bucketSupplier;
         this.keySupplier = keySupplier;
         this.metadataSupplier = metadataSupplier;
-        byteArrayOutputStream.reset();
         eventCount = 0;
         watch = new StopWatch();
         watch.start();
@@ -63,7 +69,7 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public long getSize() {
-        return byteArrayOutputStream.size();
+        return outputStream.getPos();
     }
 
     @Override
@@ -80,12 +86,60 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public Optional<CompletableFuture<?>> flushToS3(final Consumer<Boolean> consumeOnCompletion, final Consumer<Throwable> consumeOnException) {
-        final byte[] byteArray = byteArrayOutputStream.toByteArray();
+        if (outputStream.isSpilled()) {
+            return flushSpillFileToS3(consumeOnCompletion, consumeOnException);
+        }
+        final byte[] byteArray = outputStream.toByteArray();
         return Optional.ofNullable(BufferUtilities.putObjectOrSendToDefaultBucket(s3Client, AsyncRequestBody.fromBytes(byteArray),
                 consumeOnCompletion, consumeOnException,
                 getKey(), getBucket(), defaultBucket, getMetadata(getEventCount()), bucketOwnerProvider));
     }
 
+    private Optional<CompletableFuture<?>> flushSpillFileToS3(final Consumer<Boolean> consumeOnCompletion, final Consumer<Throwable> consumeOnException) {
+        final File spillFile = outputStream.getSpillFile();
+        try {
+            outputStream.close();
+        } catch (final IOException e) {
+            LOG.error("An exception occurred while closing the spill file {}", spillFile, e);
+        }
+        return Optional.of(BufferUtilities.putObjectOrSendToDefaultBucket(s3Client, AsyncRequestBody.fromFile(spillFile),
+                consumeOnCompletion, consumeOnException,
+                getKey(), getBucket(), defaultBucket, getMetadata(getEventCount()), bucketOwnerProvider)
+                .whenComplete((response, throwable) -> deleteSpillFile(spillFile)));
+    }
+
+    @Override
+    public boolean spillToLocalFile() {
+        if (outputStream.isSpilled()) {
+            return true;
+        }
+        File spillFile = null;
+        try {
+            spillFile = File.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+            outputStream.spillTo(spillFile);
+            return true;
+        } catch (final IOException e) {
+            LOG.warn("Unable to spill the buffer for {} to a local file, keeping it in memory", getKey(), e);
+            if (spillFile != null) {
+                deleteSpillFile(spillFile);
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isSpilledToLocalFile() {
+        return outputStream.isSpilled();
+    }
+
+    private static void deleteSpillFile(final File spillFile) {
+        try {
+            Files.deleteIfExists(spillFile.toPath());
+        } catch (final IOException e) {
+            LOG.error("Unable to delete spill file {}", spillFile, e);
+        }
+    }
+
     private String getBucket() {
         if(bucket == null)
             bucket = bucketSupplier.get();
@@ -114,6 +168,6 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public OutputStream getOutputStream() {
-        return byteArrayPositionOutputStream;
+        return outputStream;
     }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.opensearch.dataprepper.plugins.codec.parquet.S3OutputStream;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.MultipartUploadOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
@@ -15,6 +16,19 @@ import java.util.function.Function;
 
 
 public class MultipartBufferFactory implements BufferFactory {
+    private final PartBufferPool partBufferPool;
+    private final int concurrency;
+
+    public MultipartBufferFactory() {
+        this(new MultipartUploadOptions());
+    }
+
+    public MultipartBufferFactory(final MultipartUploadOptions multipartUploadOptions) {
+        concurrency = multipartUploadOptions.getConcurrency();
+        // shared by all groups, bounding the part buffers to concurrency parts in flight and the part being written
+        partBufferPool = new PartBufferPool((int) multipartUploadOptions.getPartSize().getBytes(), concurrency + 1);
+    }
+
     @Override
     public Buffer getBuffer(final S3AsyncClient s3Client,
                             final Supplier<String> bucketSupplier,
@@ -22,6 +36,7 @@ public class MultipartBufferFactory implements BufferFactory {
                             final String defaultBucket,
                             final Function<Integer, Map<String, String>> metadataSupplier,
                             final BucketOwnerProvider bucketOwnerProvider) {
-        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider));
+        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider,
+                partBufferPool, concurrency));
     }
 }
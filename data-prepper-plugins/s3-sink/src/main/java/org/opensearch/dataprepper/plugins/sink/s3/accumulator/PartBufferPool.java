@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reuses the byte arrays which hold multipart upload parts. A buffer is taken when an object starts
+ * a new part and returned once the upload of that part has finished, so that large objects do not
+ * allocate a new part-sized array for every part.
+ * <p>
+ * At most capacity buffers are taken at a time. Acquiring waits while they are all taken and some of
+ * them are held by part uploads, which return them when they finish. When all of them are held by
+ * objects being written, none would be returned while waiting, so acquiring fails instead.
+ */
+public class PartBufferPool {
+    private final int partSize;
+    private final int capacity;
+    private final Deque<byte[]> availableBuffers;
+    private int takenBuffers;
+    private int uploadingBuffers;
+
+    public PartBufferPool(final int partSize, final int capacity) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("partSize must be greater than 0");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.partSize = partSize;
+        this.capacity = capacity;
+        this.availableBuffers = new ArrayDeque<>(capacity);
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Takes a buffer of part size, waiting for a part upload to return one when all buffers are taken.
+     *
+     * @return a buffer of part size
+     * @throws IllegalStateException if all buffers are held by objects being written, or the thread is interrupted
+     * while waiting
+     */
+    public synchronized byte[] acquire() {
+        while (takenBuffers >= capacity) {
+            if (uploadingBuffers == 0) {
+                throw new IllegalStateException(String.format(
+                        "All %d part buffers are held by objects being written", capacity));
+            }
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a part buffer", e);
+            }
+        }
+        takenBuffers++;
+        final byte[] buffer = availableBuffers.pollFirst();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    public synchronized void release(final byte[] buffer) {
+        if (buffer != null && buffer.length == partSize) {
+            takenBuffers--;
+            availableBuffers.addFirst(buffer);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Hands a taken buffer over to the upload of a part, and releases it once the upload has finished.
+     *
+     * @param buffer the buffer holding the part
+     * @param upload the upload of the part
+     * @param <T> the upload result type
+     * @return a future which completes like the upload, after the buffer has been released
+     */
+    public synchronized <T> CompletableFuture<T> releaseWhenComplete(final byte[] buffer, final CompletableFuture<T> upload) {
+        uploadingBuffers++;
+        return upload.whenComplete((result, throwable) -> finishUpload(buffer));
+    }
+
+    private synchronized void finishUpload(final byte[] buffer) {
+        uploadingBuffers--;
+        release(buffer);
+    }
+
+    synchronized int getAvailableBuffers() {
+        return availableBuffers.size();
+    }
+
+    synchronized int getTakenBuffers() {
+        return takenBuffers;
+    }
+}
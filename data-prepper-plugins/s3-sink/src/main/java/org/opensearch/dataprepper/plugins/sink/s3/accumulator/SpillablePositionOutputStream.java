@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
+
+import org.apache.parquet.io.PositionOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream which writes to memory until it is spilled to a local file. Codecs and
+ * compression streams keep writing to the same stream object after a spill, so a buffer can be
+ * moved out of memory without restarting the object.
+ */
+class SpillablePositionOutputStream extends PositionOutputStream {
+    private ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    private OutputStream targetOutputStream = byteArrayOutputStream;
+    private File spillFile;
+    private long position;
+
+    @Override
+    public void write(final int b) throws IOException {
+        targetOutputStream.write(b);
+        position++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        targetOutputStream.write(b, off, len);
+        position += len;
+    }
+
+    @Override
+    public long getPos() {
+        return position;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        targetOutputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        targetOutputStream.close();
+    }
+
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    File getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * @return the bytes written so far; only available while the stream has not been spilled
+     */
+    byte[] toByteArray() {
+        if (isSpilled()) {
+            throw new IllegalStateException("The stream has been spilled to " + spillFile);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Writes the bytes held in memory to the file and sends every later write to the file.
+     */
+    void spillTo(final File file) throws IOException {
+        if (isSpilled()) {
+            return;
+        }
+        final OutputStream fileOutputStream = new BufferedOutputStream(new FileOutputStream(file), 32 * 1024);
+        try {
+            byteArrayOutputStream.writeTo(fileOutputStream);
+        } catch (final IOException e) {
+            fileOutputStream.close();
+            throw e;
+        }
+        targetOutputStream = fileOutputStream;
+        spillFile = file;
+        // drop the reference so the in-memory bytes can be collected
+        byteArrayOutputStream = null;
+    }
+}
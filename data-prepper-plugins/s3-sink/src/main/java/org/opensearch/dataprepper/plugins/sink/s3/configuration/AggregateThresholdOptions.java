@@ -9,8 +9,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.opensearch.dataprepper.model.types.ByteCount;
 
+import java.time.Duration;
+
 
 /**
  * An implementation class of s3 index configuration Options
@@ -30,6 +33,14 @@ public class AggregateThresholdOptions {
     @Max(value = 1, message = "flush_capacity_ratio must be between 0.0 and 1.0")
     private double flushCapacityRatio = 0.5;
 
+    /**
+     * Groups which have not received an event for this long are moved from memory to a local file,
+     * so that they no longer count towards maximum_size. Only the in_memory buffer type supports this.
+     */
+    @JsonProperty("spill_cold_groups_after")
+    @DurationMin(seconds = 1)
+    private Duration spillColdGroupsAfter;
+
     /**
      * Read byte capacity configuration.
      * @return maximum byte count.
@@ -39,4 +50,6 @@ public class AggregateThresholdOptions {
     }
 
     public double getFlushCapacityRatio() { return flushCapacityRatio; }
+
+    public Duration getSpillColdGroupsAfter() { return spillColdGroupsAfter; }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configuration for the multipart buffer type. Each object is uploaded in parts of part_size,
+ * and up to concurrency parts of one object are uploaded at the same time. All objects share
+ * concurrency + 1 part buffers, so at most that many objects can be written at the same time.
+ */
+public class MultipartUploadOptions {
+    static final ByteCount DEFAULT_PART_SIZE = ByteCount.parse("10mb");
+    static final int DEFAULT_CONCURRENCY = 2;
+    private static final long MINIMUM_PART_SIZE_BYTES = ByteCount.parse("5mb").getBytes();
+    private static final long MAXIMUM_PART_SIZE_BYTES = ByteCount.parse("512mb").getBytes();
+
+    @JsonProperty("part_size")
+    @NotNull
+    private ByteCount partSize = DEFAULT_PART_SIZE;
+
+    @JsonProperty("concurrency")
+    @Min(1)
+    @Max(64)
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    @AssertTrue(message = "part_size must be between 5mb and 512mb")
+    boolean isPartSizeValid() {
+        return partSize == null || (partSize.getBytes() >= MINIMUM_PART_SIZE_BYTES && partSize.getBytes() <= MAXIMUM_PART_SIZE_BYTES);
+    }
+
+    /**
+     * The size of every part except the last part of an object.
+     * @return part size
+     */
+    public ByteCount getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * The maximum number of parts of one object which are uploaded at the same time.
+     * @return part upload concurrency
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
@@ -11,9 +11,12 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class S3Group implements Comparable<S3Group> {
 
+    private static final AtomicLong CREATION_SEQUENCE = new AtomicLong();
+
     private final Buffer buffer;
 
     private OutputCodec outputCodec;
@@ -22,6 +25,20 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private final long creationSequence;
+
+    private volatile long lastWriteTimeMillis;
+
+    /**
+     * The size and write time under which the {@link S3GroupManager} has indexed this group.
+     * They only change while the group is not in the indexes.
+     */
+    private long indexedSize;
+
+    private long indexedLastWriteTimeMillis;
+
+    private boolean spillCandidate;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -29,6 +46,10 @@ public class S3Group implements Comparable<S3Group> {
         this.s3GroupIdentifier = s3GroupIdentifier;
         this.outputCodec = outputCodec;
         this.groupEventHandles = new LinkedList<>();
+        this.creationSequence = CREATION_SEQUENCE.getAndIncrement();
+        this.lastWriteTimeMillis = System.currentTimeMillis();
+        this.indexedLastWriteTimeMillis = lastWriteTimeMillis;
+        this.spillCandidate = true;
     }
 
     public Buffer getBuffer() {
@@ -41,6 +62,34 @@ public class S3Group implements Comparable<S3Group> {
 
     S3GroupIdentifier getS3GroupIdentifier() { return s3GroupIdentifier; }
 
+    long getCreationSequence() { return creationSequence; }
+
+    long getLastWriteTimeMillis() { return lastWriteTimeMillis; }
+
+    void recordWrite() { lastWriteTimeMillis = System.currentTimeMillis(); }
+
+    /**
+     * @return the number of bytes in memory counted for this group as of the last refresh of the group sizes
+     */
+    public long getIndexedSize() { return indexedSize; }
+
+    void setIndexedSize(final long indexedSize) { this.indexedSize = indexedSize; }
+
+    long getIndexedLastWriteTimeMillis() { return indexedLastWriteTimeMillis; }
+
+    void setIndexedLastWriteTimeMillis(final long indexedLastWriteTimeMillis) { this.indexedLastWriteTimeMillis = indexedLastWriteTimeMillis; }
+
+    boolean isSpillCandidate() { return spillCandidate; }
+
+    void setSpillCandidate(final boolean spillCandidate) { this.spillCandidate = spillCandidate; }
+
+    /**
+     * @return the number of bytes this group holds in memory
+     */
+    long getSizeInMemory() {
+        return buffer.isSpilledToLocalFile() ? 0 : buffer.getSize();
+    }
+
     public void addEventHandle(final EventHandle eventHandle) {
         groupEventHandles.add(eventHandle);
     }
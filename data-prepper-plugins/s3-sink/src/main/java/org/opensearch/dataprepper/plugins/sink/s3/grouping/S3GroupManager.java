@@ -17,15 +17,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
-
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the active groups. Besides the lookup by identifier, groups are indexed by their size in
+ * memory (largest first, then oldest first) and by the time of their last write, so that flush and
+ * spill candidates can be taken from the front of an index instead of scanning every group.
+ * <p>
+ * The indexed sizes are refreshed only for the groups which received events since the last refresh.
+ */
 public class S3GroupManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(S3GroupManager.class);
+    private static final Comparator<S3Group> LARGEST_FIRST = Comparator.comparingLong(S3Group::getIndexedSize).reversed()
+            .thenComparingLong(S3Group::getCreationSequence);
+    private static final Comparator<S3Group> LEAST_RECENTLY_WRITTEN_FIRST = Comparator.comparingLong(S3Group::getIndexedLastWriteTimeMillis)
+            .thenComparingLong(S3Group::getCreationSequence);
+
     private final Map<S3GroupIdentifier, S3Group> allGroups = Maps.newConcurrentMap();
+    private final NavigableSet<S3Group> groupsBySize = new ConcurrentSkipListSet<>(LARGEST_FIRST);
+    private final NavigableSet<S3Group> groupsByLastWrite = new ConcurrentSkipListSet<>(LEAST_RECENTLY_WRITTEN_FIRST);
+    private final Set<S3Group> groupsWrittenSinceRefresh = new LinkedHashSet<>();
+    private final AtomicLong totalGroupSize = new AtomicLong();
     private final S3SinkConfig s3SinkConfig;
     private final S3GroupIdentifierFactory s3GroupIdentifierFactory;
     private final BufferFactory bufferFactory;
@@ -36,8 +59,6 @@ public class S3GroupManager {
 
     private final BucketOwnerProvider bucketOwnerProvider;
 
-    private long totalGroupSize;
-
 
     public S3GroupManager(final S3SinkConfig s3SinkConfig,
                           final S3GroupIdentifierFactory s3GroupIdentifierFactory,
@@ -50,7 +71,6 @@ public class S3GroupManager {
         this.bufferFactory = bufferFactory;
         this.codecFactory = codecFactory;
         this.s3Client = s3Client;
-        totalGroupSize = 0;
         this.bucketOwnerProvider = bucketOwnerProvider;
     }
 
@@ -60,41 +80,117 @@ public class S3GroupManager {
 
     public int getNumberOfGroups() { return allGroups.size(); }
 
-    public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+    public synchronized void removeGroup(final S3Group s3Group) {
+        if (allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group)) {
+            groupsBySize.remove(s3Group);
+            groupsByLastWrite.remove(s3Group);
+            groupsWrittenSinceRefresh.remove(s3Group);
+            totalGroupSize.addAndGet(-s3Group.getIndexedSize());
+        }
     }
 
     public Collection<S3Group> getS3GroupEntries() {
         return allGroups.values();
     }
 
-    public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+    /**
+     * Returns the groups ordered from the largest in memory to the smallest. The collection is a
+     * live view, so groups may be removed while iterating over it, and taking the first groups
+     * does not sort all of them.
+     *
+     * @return the groups, largest first
+     */
+    public synchronized Collection<S3Group> getS3GroupsSortedBySize() {
+        refreshWrittenGroups();
+        return Collections.unmodifiableCollection(groupsBySize);
     }
 
-    public S3Group getOrCreateGroupForEvent(final Event event) {
+    public synchronized S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
+        S3Group s3Group = allGroups.get(s3GroupIdentifier);
+        if (s3Group == null) {
             final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider);
             final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
+            s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
             allGroups.put(s3GroupIdentifier, s3Group);
+            groupsBySize.add(s3Group);
+            groupsByLastWrite.add(s3Group);
             LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
-            return s3Group;
+        } else {
+            s3Group.recordWrite();
+        }
+        groupsWrittenSinceRefresh.add(s3Group);
+        return s3Group;
+    }
+
+    /**
+     * Refreshes the size of the groups which received events since the last refresh.
+     *
+     * @return the total number of bytes held in memory by all groups
+     */
+    public synchronized long recalculateAndGetGroupSize() {
+        refreshWrittenGroups();
+        return totalGroupSize.get();
+    }
+
+    /**
+     * @return the total size of all groups as of the last refresh
+     */
+    public long getTotalGroupSize() {
+        return totalGroupSize.get();
+    }
+
+    /**
+     * Moves the buffers of groups which have not been written to for the given time to local files.
+     * Each group is only considered once, whether or not its buffer supports spilling.
+     *
+     * @param coldGroupAge the time since the last write after which a group is spilled
+     * @return the number of groups which were spilled
+     */
+    public synchronized int spillColdGroups(final Duration coldGroupAge) {
+        refreshWrittenGroups();
+        final long coldBeforeMillis = System.currentTimeMillis() - coldGroupAge.toMillis();
+        int spilledGroups = 0;
+
+        final Iterator<S3Group> leastRecentlyWritten = groupsByLastWrite.iterator();
+        while (leastRecentlyWritten.hasNext()) {
+            final S3Group s3Group = leastRecentlyWritten.next();
+            if (s3Group.getIndexedLastWriteTimeMillis() >= coldBeforeMillis) {
+                break;
+            }
+            leastRecentlyWritten.remove();
+            s3Group.setSpillCandidate(false);
+
+            if (s3Group.getBuffer().spillToLocalFile()) {
+                LOG.debug("Spilled S3 group with key {} and {} bytes to a local file", s3Group.getBuffer().getKey(), s3Group.getIndexedSize());
+                updateIndexedSize(s3Group);
+                spilledGroups++;
+            }
         }
+
+        return spilledGroups;
     }
 
-    public long recalculateAndGetGroupSize() {
-        long totalSize = 0;
+    private void refreshWrittenGroups() {
+        for (final S3Group s3Group : groupsWrittenSinceRefresh) {
+            updateIndexedSize(s3Group);
 
-        for (final S3Group s3Group : allGroups.values()) {
-            totalSize += s3Group.getBuffer().getSize();
+            if (s3Group.isSpillCandidate()) {
+                groupsByLastWrite.remove(s3Group);
+                s3Group.setIndexedLastWriteTimeMillis(s3Group.getLastWriteTimeMillis());
+                groupsByLastWrite.add(s3Group);
+            }
         }
+        groupsWrittenSinceRefresh.clear();
+    }
 
-        return totalSize;
+    private void updateIndexedSize(final S3Group s3Group) {
+        groupsBySize.remove(s3Group);
+        final long sizeInMemory = s3Group.getSizeInMemory();
+        totalGroupSize.addAndGet(sizeInMemory - s3Group.getIndexedSize());
+        s3Group.setIndexedSize(sizeInMemory);
+        groupsBySize.add(s3Group);
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EventDataWriteSupportTest {
+    @Test
+    void isSupported_returns_true_for_primitive_nullable_nested_and_array_fields() {
+        final Schema nestedSchema = SchemaBuilder.record("nested")
+                .fields()
+                .name("value").type().nullable().intType().noDefault()
+                .endRecord();
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("name").type().stringType().noDefault()
+                .name("age").type().nullable().longType().noDefault()
+                .name("score").type().doubleType().noDefault()
+                .name("active").type().booleanType().noDefault()
+                .name("tags").type().nullable().array().items().stringType().noDefault()
+                .name("nested").type(nestedSchema).noDefault()
+                .endRecord();
+
+        assertThat(EventDataWriteSupport.isSupported(schema), equalTo(true));
+    }
+
+    @Test
+    void isSupported_returns_false_for_map_fields() {
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("attributes").type().map().values().stringType().noDefault()
+                .endRecord();
+
+        assertThat(EventDataWriteSupport.isSupported(schema), equalTo(false));
+    }
+
+    @Test
+    void isSupported_returns_false_for_unions_of_several_types() {
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("value").type().unionOf().nullType().and().intType().and().stringType().endUnion().noDefault()
+                .endRecord();
+
+        assertThat(EventDataWriteSupport.isSupported(schema), equalTo(false));
+    }
+
+    @Test
+    void isSupported_returns_false_for_logical_types() {
+        final Schema timestampSchema = LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG));
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("time").type(timestampSchema).noDefault()
+                .endRecord();
+
+        assertThat(EventDataWriteSupport.isSupported(schema), equalTo(false));
+    }
+
+    @Test
+    void isSupported_returns_false_for_arrays_of_records() {
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("items").type().array().items().record("item").fields()
+                .name("value").type().intType().noDefault()
+                .endRecord().noDefault()
+                .endRecord();
+
+        assertThat(EventDataWriteSupport.isSupported(schema), equalTo(false));
+    }
+
+    @Test
+    void init_returns_converted_schema_and_avro_schema_metadata() {
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("name").type().stringType().noDefault()
+                .endRecord();
+        final EventDataWriteSupport objectUnderTest = new EventDataWriteSupport(schema, true);
+
+        assertThat(objectUnderTest.getMessageType(), notNullValue());
+        assertThat(objectUnderTest.getMessageType().getFieldCount(), equalTo(1));
+        assertThat(objectUnderTest.init(new Configuration()).getExtraMetaData().get("parquet.avro.schema"),
+                equalTo(schema.toString()));
+    }
+
+    @Test
+    void getName_returns_avro_object_model_name() {
+        final Schema schema = SchemaBuilder.record("Person")
+                .fields()
+                .name("name").type().stringType().noDefault()
+                .endRecord();
+
+        assertThat(new EventDataWriteSupport(schema, true).getName(), equalTo("avro"));
+    }
+}
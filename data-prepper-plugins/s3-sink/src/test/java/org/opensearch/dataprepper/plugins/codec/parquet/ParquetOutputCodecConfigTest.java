@@ -45,4 +45,11 @@ class ParquetOutputCodecConfigTest {
         assertThat(objectUnderTest.isSchemaOrAutoSchemaDefined(), equalTo(false));
     }
 
+    @Test
+    void getRowGroupSize_returns_default_and_is_valid() {
+        ParquetOutputCodecConfig objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getRowGroupSize(), equalTo(ParquetOutputCodecConfig.DEFAULT_ROW_GROUP_SIZE));
+        assertThat(objectUnderTest.isRowGroupSizeValid(), equalTo(true));
+    }
 }
\ No newline at end of file
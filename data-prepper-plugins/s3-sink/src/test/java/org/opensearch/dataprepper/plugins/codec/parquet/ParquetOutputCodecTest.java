@@ -185,6 +185,58 @@ public class ParquetOutputCodecTest {
         tempFile.delete();
     }
 
+    @Test
+    void complete_writes_avro_schema_and_object_model_to_file_metadata() throws IOException {
+        final Schema standardSchema = createStandardSchema();
+        config.setSchema(standardSchema.toString());
+        when(codecContext.getCompressionOption()).thenReturn(CompressionOption.NONE);
+        final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
+        final File tempFile = new File(tempDirectory, FILE_NAME);
+        final LocalFilePositionOutputStream outputStream = LocalFilePositionOutputStream.create(tempFile);
+
+        objectUnderTest.start(outputStream, null, codecContext);
+        for (final Map<String, Object> inputMap : generateRecords(10)) {
+            objectUnderTest.writeEvent(createEventRecord(inputMap), outputStream);
+        }
+        objectUnderTest.complete(outputStream);
+        outputStream.close();
+
+        try (ParquetFileReader parquetFileReader = new ParquetFileReader(HadoopInputFile.fromPath(new Path(tempFile.toURI()), new Configuration()), ParquetReadOptions.builder().build())) {
+            final Map<String, String> keyValueMetadata = parquetFileReader.getFooter().getFileMetaData().getKeyValueMetaData();
+            assertThat(keyValueMetadata.get("parquet.avro.schema"), equalTo(standardSchema.toString()));
+            assertThat(keyValueMetadata.get("writer.model.name"), equalTo("avro"));
+            assertThat(parquetFileReader.getRecordCount(), equalTo(10L));
+        }
+    }
+
+    @Test
+    void writeEvent_writes_records_with_schema_which_is_not_written_directly() throws IOException {
+        final Schema schemaWithMap = SchemaBuilder.record("Person")
+                .fields()
+                .name("name").type().stringType().noDefault()
+                .name("attributes").type().map().values().stringType().noDefault()
+                .endRecord();
+        config.setSchema(schemaWithMap.toString());
+        when(codecContext.getCompressionOption()).thenReturn(CompressionOption.NONE);
+        final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
+        final File tempFile = new File(tempDirectory, FILE_NAME);
+        final LocalFilePositionOutputStream outputStream = LocalFilePositionOutputStream.create(tempFile);
+
+        objectUnderTest.start(outputStream, null, codecContext);
+        for (int i = 0; i < 5; i++) {
+            final Map<String, Object> eventData = new HashMap<>();
+            eventData.put("name", "Person" + i);
+            eventData.put("attributes", Map.of("key", UUID.randomUUID().toString()));
+            objectUnderTest.writeEvent(createEventRecord(eventData), outputStream);
+        }
+        objectUnderTest.complete(outputStream);
+        outputStream.close();
+
+        try (ParquetFileReader parquetFileReader = new ParquetFileReader(HadoopInputFile.fromPath(new Path(tempFile.toURI()), new Configuration()), ParquetReadOptions.builder().build())) {
+            assertThat(parquetFileReader.getRecordCount(), equalTo(5L));
+        }
+    }
+
     @Test
     public void test_getExtension() {
         ParquetOutputCodec parquetOutputCodec = createObjectUnderTest();
@@ -11,11 +11,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.PartBufferPool;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
@@ -24,6 +26,7 @@ import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
@@ -32,6 +35,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -242,4 +246,55 @@ public class S3OutputStreamTest {
         assertThat(exception, instanceOf(CompletionException.class));
         assertThat(exception.getCause(), equalTo(mockException));
     }
+
+    @Test
+    void write_uploads_full_parts_concurrently_and_close_completes_parts_in_order() throws Exception {
+        final int partSize = 5;
+        final String uploadId = UUID.randomUUID().toString();
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(uploadId);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+
+        final CompletableFuture<UploadPartResponse> firstPartFuture = new CompletableFuture<>();
+        final CompletableFuture<UploadPartResponse> secondPartFuture = new CompletableFuture<>();
+        final UploadPartResponse lastPartResponse = mock(UploadPartResponse.class);
+        when(lastPartResponse.eTag()).thenReturn("etag-3");
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(firstPartFuture)
+                .thenReturn(secondPartFuture)
+                .thenReturn(CompletableFuture.completedFuture(lastPartResponse));
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(CompleteMultipartUploadResponse.class)));
+
+        final PartBufferPool partBufferPool = new PartBufferPool(partSize, 3);
+        final S3OutputStream s3OutputStream = new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider,
+                partBufferPool, 2);
+
+        s3OutputStream.write(new byte[12]);
+
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(s3OutputStream.getPos(), equalTo(12L));
+
+        final UploadPartResponse firstPartResponse = mock(UploadPartResponse.class);
+        when(firstPartResponse.eTag()).thenReturn("etag-1");
+        final UploadPartResponse secondPartResponse = mock(UploadPartResponse.class);
+        when(secondPartResponse.eTag()).thenReturn("etag-2");
+        secondPartFuture.complete(secondPartResponse);
+        firstPartFuture.complete(firstPartResponse);
+
+        final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
+        assertThat(completableFuture, notNullValue());
+
+        final ArgumentCaptor<UploadPartRequest> uploadPartRequestArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(uploadPartRequestArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartRequestArgumentCaptor.getAllValues().stream().map(UploadPartRequest::contentLength).collect(Collectors.toList()),
+                contains(5L, 5L, 2L));
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeMultipartUploadRequestArgumentCaptor.capture());
+        final List<CompletedPart> completedParts = completeMultipartUploadRequestArgumentCaptor.getValue().multipartUpload().parts();
+        assertThat(completedParts.stream().map(CompletedPart::eTag).collect(Collectors.toList()), contains("etag-1", "etag-2", "etag-3"));
+        assertThat(completedParts.stream().map(CompletedPart::partNumber).collect(Collectors.toList()), contains(1, 2, 3));
+
+        verify(runOnCompletion).accept(true);
+    }
 }
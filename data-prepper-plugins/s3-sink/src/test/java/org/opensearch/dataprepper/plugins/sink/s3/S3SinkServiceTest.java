@@ -614,6 +614,7 @@ class S3SinkServiceTest {
         when(firstGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
         when(firstGroupBuffer.getSize()).thenReturn(bufferOneSize);
         when(firstGroup.getBuffer()).thenReturn(firstGroupBuffer);
+        when(firstGroup.getIndexedSize()).thenReturn(bufferOneSize);
         when(s3GroupManager.getOrCreateGroupForEvent(firstGroupEvent)).thenReturn(firstGroup);
 
         final Event secondGroupEvent = mock(Event.class);
@@ -633,6 +634,7 @@ class S3SinkServiceTest {
         when(thirdGroupBuffer.getSize()).thenReturn(bufferThreeSize);
         when(thirdGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
         when(thirdGroup.getBuffer()).thenReturn(thirdGroupBuffer);
+        when(thirdGroup.getIndexedSize()).thenReturn(bufferThreeSize);
         when(s3GroupManager.getOrCreateGroupForEvent(thirdGroupEvent)).thenReturn(thirdGroup);
 
         when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(firstGroup, secondGroup, thirdGroup));
@@ -665,6 +667,77 @@ class S3SinkServiceTest {
         verify(s3ObjectsForceFlushedCounter, times(2)).increment();
     }
 
+    @Test
+    void output_does_not_count_the_buffer_of_a_spilled_group_when_flushing_for_aggregate_threshold() throws IOException {
+        final long bytesThreshold = 100_000L;
+        final long spilledBufferSize = 500_000L;
+        final long firstBufferSize = 90_000L;
+        final long secondBufferSize = 40_000L;
+
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(bytesThreshold));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.recalculateAndGetGroupSize()).thenReturn(firstBufferSize + secondBufferSize);
+
+        when(s3SinkConfig.getThresholdOptions().getMaximumSize()).thenReturn(ByteCount.parse("1gb"));
+
+        final Event spilledGroupEvent = mock(Event.class);
+        final S3Group spilledGroup = mock(S3Group.class);
+        final Buffer spilledGroupBuffer = mock(Buffer.class);
+        when(spilledGroup.getOutputCodec()).thenReturn(codec);
+        when(spilledGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
+        when(spilledGroupBuffer.getSize()).thenReturn(spilledBufferSize);
+        when(spilledGroup.getBuffer()).thenReturn(spilledGroupBuffer);
+        when(spilledGroup.getIndexedSize()).thenReturn(0L);
+        when(s3GroupManager.getOrCreateGroupForEvent(spilledGroupEvent)).thenReturn(spilledGroup);
+
+        final Event firstGroupEvent = mock(Event.class);
+        final S3Group firstGroup = mock(S3Group.class);
+        final Buffer firstGroupBuffer = mock(Buffer.class);
+        when(firstGroup.getOutputCodec()).thenReturn(codec);
+        when(firstGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
+        when(firstGroupBuffer.getSize()).thenReturn(firstBufferSize);
+        when(firstGroup.getBuffer()).thenReturn(firstGroupBuffer);
+        when(firstGroup.getIndexedSize()).thenReturn(firstBufferSize);
+        when(s3GroupManager.getOrCreateGroupForEvent(firstGroupEvent)).thenReturn(firstGroup);
+
+        final Event secondGroupEvent = mock(Event.class);
+        final S3Group secondGroup = mock(S3Group.class);
+        final Buffer secondGroupBuffer = mock(Buffer.class);
+        when(secondGroup.getOutputCodec()).thenReturn(codec);
+        when(secondGroupBuffer.getOutputStream()).thenReturn(mock(OutputStream.class));
+        when(secondGroupBuffer.getSize()).thenReturn(secondBufferSize);
+        when(secondGroup.getBuffer()).thenReturn(secondGroupBuffer);
+        when(s3GroupManager.getOrCreateGroupForEvent(secondGroupEvent)).thenReturn(secondGroup);
+
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(spilledGroup, firstGroup, secondGroup));
+        when(s3GroupManager.getS3GroupsSortedBySize()).thenReturn(List.of(spilledGroup, firstGroup, secondGroup));
+
+        doNothing().when(codec).start(any(OutputStream.class), any(Event.class), any(OutputCodecContext.class));
+        doNothing().when(codec).writeEvent(any(Event.class), any(OutputStream.class));
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+
+        try (final MockedStatic<CompletableFuture> completableFutureMockedStatic = mockStatic(CompletableFuture.class)) {
+            final CompletableFuture<Void> mockCompletableFuture = mock(CompletableFuture.class);
+            when(mockCompletableFuture.thenRun(any(Runnable.class))).thenReturn(mockCompletableFuture);
+            when(mockCompletableFuture.join()).thenReturn(null);
+            completableFutureMockedStatic.when(() -> CompletableFuture.allOf(any())).thenReturn(mockCompletableFuture);
+            s3SinkService.output(List.of(new Record<>(spilledGroupEvent), new Record<>(firstGroupEvent), new Record<>(secondGroupEvent)));
+        }
+
+        verify(spilledGroupBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(firstGroupBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(secondGroupBuffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+
+        verify(s3GroupManager).removeGroup(spilledGroup);
+        verify(s3GroupManager).removeGroup(firstGroup);
+        verify(s3GroupManager, never()).removeGroup(secondGroup);
+
+        verify(s3ObjectsForceFlushedCounter, times(2)).increment();
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -197,4 +198,40 @@ class InMemoryBufferTest {
         }
         return bytes;
     }
-}
\ No newline at end of file
+
+    @Test
+    void spillToLocalFile_moves_written_bytes_to_a_file_and_keeps_later_writes() throws IOException {
+        final String key = UUID.randomUUID().toString();
+        final String bucket = UUID.randomUUID().toString();
+        when(keySupplier.get()).thenReturn(key);
+        when(bucketSupplier.get()).thenReturn(bucket);
+        inMemoryBuffer = new InMemoryBuffer(s3Client, bucketSupplier, keySupplier, null, null, bucketOwnerProvider);
+
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+        assertThat(inMemoryBuffer.isSpilledToLocalFile(), equalTo(false));
+
+        assertThat(inMemoryBuffer.spillToLocalFile(), equalTo(true));
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+
+        assertThat(inMemoryBuffer.isSpilledToLocalFile(), equalTo(true));
+        assertThat(inMemoryBuffer.getSize(), equalTo(2000L));
+        assertThat(((PositionOutputStream) inMemoryBuffer.getOutputStream()).getPos(), equalTo(2000L));
+
+        try (final MockedStatic<BufferUtilities> bufferUtilitiesMockedStatic = mockStatic(BufferUtilities.class)) {
+            final ArgumentCaptor<AsyncRequestBody> requestBodyArgumentCaptor = ArgumentCaptor.forClass(AsyncRequestBody.class);
+            final CompletableFuture<PutObjectResponse> putObjectFuture = new CompletableFuture<>();
+            bufferUtilitiesMockedStatic.when(() ->
+                            BufferUtilities.putObjectOrSendToDefaultBucket(eq(s3Client), requestBodyArgumentCaptor.capture(),
+                                    eq(mockRunOnCompletion), eq(mockRunOnFailure), eq(key), eq(bucket), eq(null), eq(null), eq(bucketOwnerProvider)))
+                    .thenReturn(putObjectFuture);
+
+            final Optional<CompletableFuture<?>> result = inMemoryBuffer.flushToS3(mockRunOnCompletion, mockRunOnFailure);
+
+            assertThat(result.isPresent(), equalTo(true));
+            assertThat(requestBodyArgumentCaptor.getValue().contentLength(), equalTo(Optional.of(2000L)));
+            putObjectFuture.complete(mock(PutObjectResponse.class));
+            assertThat(result.get().isDone(), equalTo(true));
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartBufferPoolTest {
+    private static final int PART_SIZE = 16;
+
+    @Test
+    void acquire_allocates_buffers_of_part_size_when_pool_is_empty() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, 2);
+
+        final byte[] firstBuffer = objectUnderTest.acquire();
+        final byte[] secondBuffer = objectUnderTest.acquire();
+
+        assertThat(firstBuffer.length, equalTo(PART_SIZE));
+        assertThat(secondBuffer.length, equalTo(PART_SIZE));
+        assertThat(firstBuffer, not(sameInstance(secondBuffer)));
+    }
+
+    @Test
+    void acquire_reuses_released_buffers() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, 2);
+        final byte[] buffer = objectUnderTest.acquire();
+
+        objectUnderTest.release(buffer);
+
+        assertThat(objectUnderTest.getAvailableBuffers(), equalTo(1));
+        assertThat(objectUnderTest.acquire(), sameInstance(buffer));
+        assertThat(objectUnderTest.getAvailableBuffers(), equalTo(0));
+    }
+
+    @Test
+    void release_ignores_buffers_not_of_part_size() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, 2);
+        final byte[] firstBuffer = objectUnderTest.acquire();
+        final byte[] secondBuffer = objectUnderTest.acquire();
+
+        objectUnderTest.release(firstBuffer);
+        objectUnderTest.release(secondBuffer);
+        objectUnderTest.release(new byte[PART_SIZE + 1]);
+
+        assertThat(objectUnderTest.getAvailableBuffers(), equalTo(2));
+        assertThat(objectUnderTest.getTakenBuffers(), equalTo(0));
+    }
+
+    @Test
+    void acquire_throws_when_all_buffers_are_held_by_writers() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, 2);
+        objectUnderTest.acquire();
+        objectUnderTest.acquire();
+
+        assertThrows(IllegalStateException.class, objectUnderTest::acquire);
+        assertThat(objectUnderTest.getTakenBuffers(), equalTo(2));
+    }
+
+    @Test
+    void acquire_waits_for_an_upload_to_release_its_buffer() throws Exception {
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, 1);
+        final byte[] buffer = objectUnderTest.acquire();
+        final CompletableFuture<String> upload = new CompletableFuture<>();
+        final CompletableFuture<String> releasedUpload = objectUnderTest.releaseWhenComplete(buffer, upload);
+
+        final CompletableFuture<byte[]> acquired = CompletableFuture.supplyAsync(objectUnderTest::acquire);
+        Thread.sleep(100);
+        assertThat(acquired.isDone(), equalTo(false));
+
+        upload.complete("etag");
+
+        assertThat(acquired.get(5, TimeUnit.SECONDS), sameInstance(buffer));
+        assertThat(releasedUpload.get(), equalTo("etag"));
+    }
+
+    @Test
+    void taken_buffers_never_exceed_capacity_with_concurrent_writers_and_uploads() throws Exception {
+        final int capacity = 3;
+        final PartBufferPool objectUnderTest = new PartBufferPool(PART_SIZE, capacity);
+        final Set<byte[]> buffersInUse = ConcurrentHashMap.newKeySet();
+        final AtomicInteger maximumBuffersInUse = new AtomicInteger();
+        final ExecutorService uploadExecutor = Executors.newFixedThreadPool(4);
+        final ExecutorService writerExecutor = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            final List<CompletableFuture<Void>> uploads = new CopyOnWriteArrayList<>();
+            for (int writer = 0; writer < 2; writer++) {
+                writers.add(writerExecutor.submit(() -> {
+                    for (int part = 0; part < 200; part++) {
+                        final byte[] buffer = objectUnderTest.acquire();
+                        buffersInUse.add(buffer);
+                        maximumBuffersInUse.accumulateAndGet(buffersInUse.size(), Math::max);
+                        final CompletableFuture<Void> upload = CompletableFuture.runAsync(() -> {
+                            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+                            buffersInUse.remove(buffer);
+                        }, uploadExecutor);
+                        uploads.add(objectUnderTest.releaseWhenComplete(buffer, upload));
+                    }
+                }));
+            }
+            for (final Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            writerExecutor.shutdownNow();
+            uploadExecutor.shutdownNow();
+        }
+
+        assertThat(maximumBuffersInUse.get() <= capacity, equalTo(true));
+        assertThat(objectUnderTest.getTakenBuffers(), equalTo(0));
+        assertThat(objectUnderTest.getAvailableBuffers() <= capacity, equalTo(true));
+    }
+
+    @Test
+    void constructor_throws_when_part_size_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new PartBufferPool(0, 1));
+    }
+
+    @Test
+    void constructor_throws_when_capacity_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new PartBufferPool(PART_SIZE, 0));
+    }
+}
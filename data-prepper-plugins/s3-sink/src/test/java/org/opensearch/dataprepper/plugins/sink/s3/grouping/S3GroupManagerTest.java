@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.codec.CodecFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -258,4 +259,71 @@ public class S3GroupManagerTest {
         assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
         assertThat(sortedGroupsAfterRemoval, contains(thirdGroup, firstGroup));
     }
+
+    @Test
+    void recalculateAndGetGroupSize_only_refreshes_groups_written_since_the_last_refresh() {
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(UUID.randomUUID().toString());
+
+        final Event event = mock(Event.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(mock(S3GroupIdentifier.class));
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getSize()).thenReturn(100L).thenReturn(500L);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), any(), any(Function.class), eq(bucketOwnerProvider)))
+                .thenReturn(buffer);
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group s3Group = objectUnderTest.getOrCreateGroupForEvent(event);
+        assertThat(objectUnderTest.recalculateAndGetGroupSize(), equalTo(100L));
+        assertThat(objectUnderTest.recalculateAndGetGroupSize(), equalTo(100L));
+
+        objectUnderTest.getOrCreateGroupForEvent(event);
+        assertThat(objectUnderTest.recalculateAndGetGroupSize(), equalTo(500L));
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(500L));
+        verify(buffer, times(2)).getSize();
+
+        objectUnderTest.removeGroup(s3Group);
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(0L));
+        assertThat(objectUnderTest.getS3GroupsSortedBySize().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void spillColdGroups_spills_only_groups_not_written_within_the_given_time() throws InterruptedException {
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(UUID.randomUUID().toString());
+
+        final Event coldEvent = mock(Event.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(coldEvent)).thenReturn(mock(S3GroupIdentifier.class));
+        final Buffer coldBuffer = mock(Buffer.class);
+        when(coldBuffer.getSize()).thenReturn(300L);
+        when(coldBuffer.spillToLocalFile()).thenReturn(true);
+        when(coldBuffer.isSpilledToLocalFile()).thenReturn(false).thenReturn(true);
+
+        final Event recentEvent = mock(Event.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(recentEvent)).thenReturn(mock(S3GroupIdentifier.class));
+        final Buffer recentBuffer = mock(Buffer.class);
+        when(recentBuffer.getSize()).thenReturn(200L);
+
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), any(), any(Function.class), eq(bucketOwnerProvider)))
+                .thenReturn(coldBuffer).thenReturn(recentBuffer);
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group coldGroup = objectUnderTest.getOrCreateGroupForEvent(coldEvent);
+        Thread.sleep(300);
+        final S3Group recentGroup = objectUnderTest.getOrCreateGroupForEvent(recentEvent);
+        assertThat(objectUnderTest.recalculateAndGetGroupSize(), equalTo(500L));
+
+        assertThat(objectUnderTest.spillColdGroups(Duration.ofMillis(150)), equalTo(1));
+
+        verify(coldBuffer).spillToLocalFile();
+        verify(recentBuffer, times(0)).spillToLocalFile();
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(200L));
+        assertThat(objectUnderTest.getS3GroupsSortedBySize(), contains(recentGroup, coldGroup));
+
+        assertThat(objectUnderTest.spillColdGroups(Duration.ofMillis(150)), equalTo(0));
+        verify(coldBuffer).spillToLocalFile();
+    }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A bounded pool of equally sized direct {@link ByteBuffer}s. Buffers are allocated lazily
+ * and reused once released. {@link #acquire()} blocks while all buffers are in use.
+ */
+class DirectByteBufferPool {
+    private final int bufferSize;
+    private final int maximumBuffers;
+    private final Semaphore availableBuffers;
+    private final Queue<ByteBuffer> freeBuffers;
+
+    DirectByteBufferPool(final int bufferSize, final int maximumBuffers) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        if (maximumBuffers <= 0) {
+            throw new IllegalArgumentException("maximumBuffers must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maximumBuffers = maximumBuffers;
+        this.availableBuffers = new Semaphore(maximumBuffers);
+        this.freeBuffers = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, waiting if none are currently available.
+     *
+     * @return a buffer with a capacity of the pool's buffer size
+     * @throws InterruptedException if interrupted while waiting for a buffer
+     */
+    ByteBuffer acquire() throws InterruptedException {
+        availableBuffers.acquire();
+        final ByteBuffer buffer = freeBuffers.poll();
+        if (buffer != null) {
+            buffer.clear();
+            return buffer;
+        }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must have been taken from this pool
+     * and must not be used by the caller afterward.
+     *
+     * @param buffer the buffer to return
+     */
+    void release(final ByteBuffer buffer) {
+        buffer.clear();
+        freeBuffers.offer(buffer);
+        availableBuffers.release();
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getMaximumBuffers() {
+        return maximumBuffers;
+    }
+
+    int getAvailableBuffers() {
+        return availableBuffers.availablePermits();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads an input stream as chunks of roughly the configured size which always end at a newline,
+ * except for the last chunk when the stream does not end with one. A line longer than the chunk
+ * size is returned whole in a larger chunk.
+ */
+class NewlineChunkReader {
+    private static final byte NEWLINE = '\n';
+
+    private final InputStream inputStream;
+    private final int chunkSize;
+    private byte[] buffer;
+    private int filled;
+    private boolean endOfStream;
+
+    NewlineChunkReader(final InputStream inputStream, final int chunkSize) {
+        this.inputStream = inputStream;
+        this.chunkSize = chunkSize;
+        this.buffer = new byte[chunkSize];
+    }
+
+    /**
+     * Reads the next chunk.
+     *
+     * @return the next chunk, or null when the stream is exhausted
+     * @throws IOException if reading the stream fails
+     */
+    Chunk next() throws IOException {
+        while (!endOfStream) {
+            final int bytesRead = inputStream.read(buffer, filled, buffer.length - filled);
+            if (bytesRead < 0) {
+                endOfStream = true;
+                break;
+            }
+            filled += bytesRead;
+            if (filled < buffer.length) {
+                continue;
+            }
+
+            final int lastNewline = lastIndexOfNewline(buffer, filled);
+            if (lastNewline < 0) {
+                // a single line is larger than the chunk, so keep reading until it ends
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                continue;
+            }
+
+            final int chunkLength = lastNewline + 1;
+            final int remaining = filled - chunkLength;
+            final byte[] nextBuffer = new byte[Math.max(chunkSize, remaining * 2)];
+            System.arraycopy(buffer, chunkLength, nextBuffer, 0, remaining);
+            final Chunk chunk = new Chunk(buffer, chunkLength);
+            buffer = nextBuffer;
+            filled = remaining;
+            return chunk;
+        }
+
+        if (filled > 0) {
+            final Chunk chunk = new Chunk(buffer, filled);
+            buffer = new byte[0];
+            filled = 0;
+            return chunk;
+        }
+        return null;
+    }
+
+    private static int lastIndexOfNewline(final byte[] buffer, final int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static class Chunk {
+        private final byte[] bytes;
+        private final int length;
+
+        private Chunk(final byte[] bytes, final int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        InputStream newInputStream() {
+            return new ByteArrayInputStream(bytes, 0, length);
+        }
+    }
+}
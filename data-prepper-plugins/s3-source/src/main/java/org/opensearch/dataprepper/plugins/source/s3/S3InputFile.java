@@ -22,6 +22,7 @@ public class S3InputFile implements InputFile {
 
     private final BucketOwnerProvider bucketOwnerProvider;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final S3ReadAheadContext readAheadContext;
 
     private HeadObjectResponse metadata;
 
@@ -30,11 +31,22 @@ public class S3InputFile implements InputFile {
             final S3ObjectReference s3ObjectReference,
             final BucketOwnerProvider bucketOwnerProvider,
             final S3ObjectPluginMetrics s3ObjectPluginMetrics
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, null);
+    }
+
+    public S3InputFile(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final S3ReadAheadContext readAheadContext
     ) {
         this.s3Client = s3Client;
         this.s3ObjectReference = s3ObjectReference;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.readAheadContext = readAheadContext;
     }
 
     public S3ObjectReference getObjectReference() {
@@ -61,11 +73,16 @@ public class S3InputFile implements InputFile {
     }
 
     /**
-     * Create an input stream from the input file
+     * Create an input stream from the input file. When read-ahead is configured and the object
+     * spans more than one part, the stream downloads parts concurrently with ranged requests.
      * @return an implementation of a SeekableInputStream into the S3 object.
      */
     @Override
     public SeekableInputStream newStream() {
+        if (readAheadContext != null && readAheadContext.shouldReadAhead(getLength())) {
+            return new S3ReadAheadInputStream(
+                s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, readAheadContext, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
+        }
         return new S3InputStream(
             s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Periodically saves how far into an object records have been written to the buffer, so that
+ * another node which picks up the partition can resume from that point instead of from the start.
+ * <p>
+ * A checkpoint flushes the buffer accumulator before it is saved, so every record before the
+ * checkpoint has been written to the buffer. Checkpoints are only safe when the buffer keeps
+ * written records after this node fails, which is why they are only used with buffers that
+ * write off the JVM heap. Records before a checkpoint may still be rejected by a sink, so a
+ * negative acknowledgement of the object clears its checkpoint before the partition is given up.
+ */
+class S3ObjectCheckpointer {
+    private static final Logger LOG = LoggerFactory.getLogger(S3ObjectCheckpointer.class);
+
+    private final SourceCoordinator<S3SourceProgressState> sourceCoordinator;
+    private final String partitionKey;
+    private final S3SourceProgressState progressState;
+    private final BufferAccumulator<Record<Event>> bufferAccumulator;
+    private final long checkpointIntervalMillis;
+    private final long recordsToSkip;
+    private long recordsSeen;
+    private long lastCheckpointTime;
+
+    S3ObjectCheckpointer(final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
+                         final String partitionKey,
+                         final S3SourceProgressState progressState,
+                         final BufferAccumulator<Record<Event>> bufferAccumulator,
+                         final Duration checkpointInterval) {
+        this.sourceCoordinator = sourceCoordinator;
+        this.partitionKey = partitionKey;
+        this.progressState = progressState;
+        this.bufferAccumulator = bufferAccumulator;
+        this.checkpointIntervalMillis = checkpointInterval.toMillis();
+        final long checkpointRecordCount = progressState.getCheckpointRecordCount() != null ? progressState.getCheckpointRecordCount() : 0;
+        // records before a byte offset checkpoint are not read again, so only count them
+        this.recordsToSkip = progressState.getCheckpointByteOffset() == null ? checkpointRecordCount : 0;
+        this.recordsSeen = checkpointRecordCount - recordsToSkip;
+        this.lastCheckpointTime = System.currentTimeMillis();
+    }
+
+    /**
+     * @return the byte offset at which reading should start, or 0 when there is no byte offset checkpoint
+     */
+    long getResumeByteOffset() {
+        return progressState.getCheckpointByteOffset() != null ? progressState.getCheckpointByteOffset() : 0;
+    }
+
+    /**
+     * Counts a record read from the object.
+     *
+     * @return true if the record was written to the buffer before the last checkpoint and must be skipped
+     */
+    boolean shouldSkipRecord() {
+        recordsSeen++;
+        return recordsSeen <= recordsToSkip;
+    }
+
+    /**
+     * Saves a checkpoint by record count if the checkpoint interval has elapsed. Used for formats which
+     * cannot be resumed from a byte offset; a new owner reads the object again and skips the records.
+     */
+    void checkpointRecordCountIfDue() throws Exception {
+        if (isDue() && recordsSeen > recordsToSkip) {
+            checkpoint(null);
+        }
+    }
+
+    /**
+     * Saves a checkpoint at the given byte offset if the checkpoint interval has elapsed.
+     *
+     * @param nextRecordByteOffset the offset at which the first record which has not been read starts
+     */
+    void checkpointByteOffsetIfDue(final long nextRecordByteOffset) throws Exception {
+        if (isDue()) {
+            checkpoint(nextRecordByteOffset);
+        }
+    }
+
+    private boolean isDue() {
+        return System.currentTimeMillis() - lastCheckpointTime > checkpointIntervalMillis;
+    }
+
+    private void checkpoint(final Long nextRecordByteOffset) throws Exception {
+        bufferAccumulator.flush();
+        progressState.setCheckpointRecordCount(recordsSeen);
+        progressState.setCheckpointByteOffset(nextRecordByteOffset);
+        LOG.debug("Saving checkpoint for {} at record {} and byte offset {}", partitionKey, recordsSeen, nextRecordByteOffset);
+        sourceCoordinator.saveProgressStateForPartition(partitionKey, progressState);
+        lastCheckpointTime = System.currentTimeMillis();
+    }
+}
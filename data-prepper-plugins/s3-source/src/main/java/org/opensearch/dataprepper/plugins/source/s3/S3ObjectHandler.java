@@ -30,6 +30,27 @@ public interface S3ObjectHandler {
                        final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
                        final String partitionKey) throws IOException;
 
+    /**
+     * Process S3 object content for an object partition, resuming from the checkpoint in the
+     * partition progress state when the handler supports it.
+     * @param s3ObjectReference Contains bucket and s3 object details
+     * @param acknowledgementSet acknowledgement set for the object
+     * @param sourceCoordinator source coordinator
+     * @param partitionKey partition key of the object partition
+     * @param dataSelection the parts of the object to write to the buffer
+     * @param progressState progress state of the object partition, which checkpoints are saved to
+     *
+     * @throws IOException exception is thrown if the object cannot be read
+     */
+    default void processS3Object(final S3ObjectReference s3ObjectReference,
+                                 final S3DataSelection dataSelection,
+                                 final AcknowledgementSet acknowledgementSet,
+                                 final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
+                                 final String partitionKey,
+                                 final S3SourceProgressState progressState) throws IOException {
+        processS3Object(s3ObjectReference, dataSelection, acknowledgementSet, sourceCoordinator, partitionKey);
+    }
+
     /**
      * delete S3 object using S3 object reference
      * @param s3ObjectReference Contains bucket and s3 object details
@@ -38,6 +38,8 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
+    private final S3ReadAheadContext readAheadContext;
+    private final S3ParallelDecoder parallelDecoder;
 
 
     private S3ObjectRequest(Builder builder) {
@@ -59,6 +61,8 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.readAheadContext = builder.readAheadContext;
+        this.parallelDecoder = builder.parallelDecoder;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -129,6 +133,14 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public S3ReadAheadContext getReadAheadContext() {
+        return readAheadContext;
+    }
+
+    public S3ParallelDecoder getParallelDecoder() {
+        return parallelDecoder;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -147,6 +159,8 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private S3ReadAheadContext readAheadContext;
+        private S3ParallelDecoder parallelDecoder;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -226,5 +240,15 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder readAheadContext(S3ReadAheadContext readAheadContext) {
+            this.readAheadContext = readAheadContext;
+            return this;
+        }
+
+        public Builder parallelDecoder(S3ParallelDecoder parallelDecoder) {
+            this.parallelDecoder = parallelDecoder;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
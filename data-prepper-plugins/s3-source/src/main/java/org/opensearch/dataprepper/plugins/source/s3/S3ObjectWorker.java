@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.s3;
 
+import org.apache.parquet.io.SeekableInputStream;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -23,12 +24,14 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -40,6 +43,7 @@ import java.util.function.BiConsumer;
 class S3ObjectWorker implements S3ObjectHandler {
     private static final Logger LOG = LoggerFactory.getLogger(S3ObjectWorker.class);
     private static final long DEFAULT_CHECKPOINT_INTERVAL_MILLS = 5 * 60_000;
+    private static final int CHECKPOINT_CHUNK_SIZE = 1024 * 1024;
 
     private static final int MAX_RETRIES_DELETE_OBJECT = 3;
     private static final long DELETE_OBJECT_RETRY_DELAY_MS = 1000;
@@ -58,6 +62,9 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final S3ReadAheadContext readAheadContext;
+    private final S3ParallelDecoder parallelDecoder;
+    private final AtomicBoolean parallelDecodeDisabledLogged = new AtomicBoolean();
     private Instant lastModified;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
@@ -71,6 +78,8 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.s3Client = s3ObjectRequest.getS3Client();
         this.lastModified = Instant.now();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.readAheadContext = s3ObjectRequest.getReadAheadContext();
+        this.parallelDecoder = s3ObjectRequest.getParallelDecoder();
     }
 
     public void processS3Object(final S3ObjectReference s3ObjectReference,
@@ -78,11 +87,21 @@ class S3ObjectWorker implements S3ObjectHandler {
                               final AcknowledgementSet acknowledgementSet,
                               final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
                               final String partitionKey) throws IOException {
+        processS3Object(s3ObjectReference, dataSelection, acknowledgementSet, sourceCoordinator, partitionKey, null);
+    }
+
+    @Override
+    public void processS3Object(final S3ObjectReference s3ObjectReference,
+                                final S3DataSelection dataSelection,
+                                final AcknowledgementSet acknowledgementSet,
+                                final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
+                                final String partitionKey,
+                                final S3SourceProgressState progressState) throws IOException {
         final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(buffer, numberOfRecordsToAccumulate, bufferTimeout);
         try {
             s3ObjectPluginMetrics.getS3ObjectReadTimer().recordCallable((Callable<Void>) () -> {
                     doProcessObject(acknowledgementSet, s3ObjectReference, bufferAccumulator, sourceCoordinator, partitionKey,
-                        dataSelection);
+                        progressState, dataSelection);
                 return null;
             });
         } catch (final IllegalArgumentException e) {
@@ -138,6 +157,13 @@ class S3ObjectWorker implements S3ObjectHandler {
     }
 
     public long consumeS3Object(final S3InputFile inputFile, final S3DataSelection dataSelection, final BiConsumer<Record<Event>, S3DataSelection> consumer) throws Exception {
+        return consumeS3Object(inputFile, dataSelection, consumer, true);
+    }
+
+    private long consumeS3Object(final S3InputFile inputFile,
+                                 final S3DataSelection dataSelection,
+                                 final BiConsumer<Record<Event>, S3DataSelection> consumer,
+                                 final boolean allowParallelDecode) throws Exception {
         final S3ObjectReference s3ObjectReference = inputFile.getObjectReference();
         if (dataSelection == S3DataSelection.METADATA_ONLY) {
             Map<String, Object> data = new HashMap<>();
@@ -156,9 +182,17 @@ class S3ObjectWorker implements S3ObjectHandler {
                     compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
 
             try {
-                codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(), record -> {
-                    consumer.accept(record, dataSelection);
-                });
+                // checkpoints count records in object order, which the parallel decoder does not preserve
+                if (allowParallelDecode && parallelDecoder != null && parallelDecoder.canDecode(codec, inputFile.getLength())) {
+                    try (final InputStream inputStream = inputFile.newStream()) {
+                        parallelDecoder.parse(fileCompressionOption.getDecompressionEngine().createInputStream(inputStream), codec,
+                                record -> consumer.accept(record, dataSelection));
+                    }
+                } else {
+                    codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(), record -> {
+                        consumer.accept(record, dataSelection);
+                    });
+                }
                 return inputFile.getLength();
             } catch (final Exception e) {
                 s3ObjectPluginMetrics.getS3ObjectReadFailedCounter().increment();
@@ -167,11 +201,60 @@ class S3ObjectWorker implements S3ObjectHandler {
         }
     }
 
+    /**
+     * Reads an uncompressed object with a codec which is splittable on newlines from the byte offset of the
+     * last checkpoint, saving new checkpoints at chunk boundaries.
+     */
+    private long consumeS3ObjectFromByteOffset(final S3InputFile inputFile,
+                                               final S3DataSelection dataSelection,
+                                               final S3ObjectCheckpointer checkpointer,
+                                               final BiConsumer<Record<Event>, S3DataSelection> consumer) throws Exception {
+        long nextRecordByteOffset = checkpointer.getResumeByteOffset();
+        if (nextRecordByteOffset > 0) {
+            LOG.info("Resuming S3 object {} from byte offset {}", inputFile.getObjectReference(), nextRecordByteOffset);
+        }
+        try (final SeekableInputStream inputStream = inputFile.newStream()) {
+            inputStream.seek(nextRecordByteOffset);
+            final NewlineChunkReader chunkReader = new NewlineChunkReader(inputStream, CHECKPOINT_CHUNK_SIZE);
+            NewlineChunkReader.Chunk chunk;
+            while ((chunk = chunkReader.next()) != null) {
+                codec.parse(chunk.newInputStream(), record -> consumer.accept(record, dataSelection));
+                nextRecordByteOffset += chunk.getLength();
+                checkpointer.checkpointByteOffsetIfDue(nextRecordByteOffset);
+            }
+            return inputFile.getLength();
+        } catch (final Exception e) {
+            s3ObjectPluginMetrics.getS3ObjectReadFailedCounter().increment();
+            throw new S3ReadFailedException(e);
+        }
+    }
+
+    private boolean canResumeFromByteOffset(final S3ObjectReference s3ObjectReference) {
+        final CompressionOption fileCompressionOption = compressionOption != CompressionOption.AUTOMATIC ?
+                compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
+        return fileCompressionOption == CompressionOption.NONE && codec.isSplittableOnNewlines();
+    }
+
+    private S3ObjectCheckpointer createCheckpointer(final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
+                                                    final String partitionKey,
+                                                    final S3SourceProgressState progressState,
+                                                    final BufferAccumulator<Record<Event>> bufferAccumulator,
+                                                    final S3DataSelection dataSelection) {
+        // records in a buffer which is held in memory are lost with this node, so they cannot be checkpointed
+        if (sourceCoordinator == null || partitionKey == null || progressState == null
+                || dataSelection == S3DataSelection.METADATA_ONLY || !buffer.isWrittenOffHeapOnly()) {
+            return null;
+        }
+        return new S3ObjectCheckpointer(sourceCoordinator, partitionKey, progressState, bufferAccumulator,
+                Duration.ofMillis(DEFAULT_CHECKPOINT_INTERVAL_MILLS));
+    }
+
     private void doProcessObject(final AcknowledgementSet acknowledgementSet,
                                final S3ObjectReference s3ObjectReference,
                                final BufferAccumulator<Record<Event>> bufferAccumulator,
                                final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
                                final String partitionKey,
+                               final S3SourceProgressState progressState,
                                final S3DataSelection dataSelection) throws Exception {
         final long s3ObjectSize;
         final long totalBytesRead;
@@ -179,14 +262,23 @@ class S3ObjectWorker implements S3ObjectHandler {
         LOG.info("Read S3 object: {}", s3ObjectReference);
         AtomicLong lastCheckpointTime = new AtomicLong(System.currentTimeMillis());
 
-        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, readAheadContext);
 
         final AtomicInteger saveStateCounter = new AtomicInteger();
+        final S3ObjectCheckpointer checkpointer = createCheckpointer(sourceCoordinator, partitionKey, progressState, bufferAccumulator, dataSelection);
+        final boolean resumeFromByteOffset = checkpointer != null && canResumeFromByteOffset(s3ObjectReference);
+        if (checkpointer != null && parallelDecoder != null && parallelDecodeDisabledLogged.compareAndSet(false, true)) {
+            LOG.warn("S3 objects are not decoded in parallel while they are checkpointed, because checkpoints count records " +
+                    "in object order. Parallel decoding is only used for objects read without a buffer which writes off the heap.");
+        }
         try {
             final Instant lastModifiedTime = inputFile.getLastModified();
             final Instant now = Instant.now();
             final Instant originationTime = (lastModifiedTime == null || lastModifiedTime.isAfter(now)) ? now : lastModifiedTime;
-            s3ObjectSize = consumeS3Object(inputFile, dataSelection, (record, objectDataSelection) -> {
+            final BiConsumer<Record<Event>, S3DataSelection> recordConsumer = (record, objectDataSelection) -> {
+                if (checkpointer != null && checkpointer.shouldSkipRecord()) {
+                    return;
+                }
                 try {
                     Event event = record.getData();
                     // eventConsumer invoked only for S3DataSelection.DATA_AND_METADATA
@@ -203,7 +295,11 @@ class S3ObjectWorker implements S3ObjectHandler {
                         acknowledgementSet.add(event);
                     }
                     bufferAccumulator.add(record);
-                    if (acknowledgementSet != null && sourceCoordinator != null && partitionKey != null &&
+                    if (checkpointer != null) {
+                        if (!resumeFromByteOffset) {
+                            checkpointer.checkpointRecordCountIfDue();
+                        }
+                    } else if (acknowledgementSet != null && sourceCoordinator != null && partitionKey != null &&
                             (System.currentTimeMillis() - lastCheckpointTime.get() > DEFAULT_CHECKPOINT_INTERVAL_MILLS)) {
                         LOG.debug("Renew partition ownership for the object {}", partitionKey);
                         sourceCoordinator.saveProgressStateForPartition(partitionKey, null);
@@ -213,7 +309,10 @@ class S3ObjectWorker implements S3ObjectHandler {
                 } catch (final Exception e) {
                     LOG.error("Failed writing S3 objects to buffer due to: {}", e.getMessage());
                 }
-            });
+            };
+            s3ObjectSize = resumeFromByteOffset ?
+                    consumeS3ObjectFromByteOffset(inputFile, dataSelection, checkpointer, recordConsumer) :
+                    consumeS3Object(inputFile, dataSelection, recordConsumer, checkpointer == null);
 
         } catch (final Exception ex) {
             s3ObjectPluginMetrics.getS3ObjectsFailedCounter().increment();
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ParallelDecodeOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Parses one object on several threads. The calling thread reads the decompressed object and
+ * cuts it into chunks which end at a newline. Each chunk is parsed independently by the
+ * {@link InputCodec} on a shared thread pool. Only codecs which report
+ * {@link InputCodec#isSplittableOnNewlines()} can be parsed this way.
+ * <p>
+ * Parsing is parallel, but calls to the event consumer are serialized so that consumers which
+ * are not thread-safe, such as a buffer accumulator, can be used unchanged. Events of one object
+ * are not produced in object order.
+ */
+class S3ParallelDecoder {
+    private final int chunkSize;
+    private final long minimumObjectSize;
+    private final int maximumChunksInFlight;
+    private final ExecutorService executorService;
+
+    S3ParallelDecoder(final S3ParallelDecodeOptions parallelDecodeOptions) {
+        this(parallelDecodeOptions,
+                Executors.newFixedThreadPool(parallelDecodeOptions.getThreads(),
+                        BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-parallel-decode")));
+    }
+
+    S3ParallelDecoder(final S3ParallelDecodeOptions parallelDecodeOptions, final ExecutorService executorService) {
+        this.chunkSize = (int) parallelDecodeOptions.getChunkSize().getBytes();
+        this.minimumObjectSize = parallelDecodeOptions.getMinimumObjectSize().getBytes();
+        this.maximumChunksInFlight = parallelDecodeOptions.getThreads() * 2;
+        this.executorService = executorService;
+    }
+
+    boolean canDecode(final InputCodec codec, final long objectSize) {
+        return codec.isSplittableOnNewlines() && objectSize >= minimumObjectSize;
+    }
+
+    /**
+     * Parses the whole input stream and returns once every chunk has been parsed. When any chunk
+     * fails, the remaining chunks are abandoned and this method only throws once no chunk is still
+     * running, so the event consumer is never called after this method has returned.
+     *
+     * @param inputStream the decompressed object content
+     * @param codec the codec used for every chunk
+     * @param eventConsumer receives every event; calls are never concurrent
+     * @throws IOException if reading the stream or parsing any chunk fails
+     */
+    void parse(final InputStream inputStream, final InputCodec codec, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final Object consumerLock = new Object();
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final Consumer<Record<Event>> serializedConsumer = record -> {
+            synchronized (consumerLock) {
+                if (aborted.get()) {
+                    throw new CancellationException("Parsing was aborted because another chunk failed");
+                }
+                eventConsumer.accept(record);
+            }
+        };
+        final Semaphore chunksInFlight = new Semaphore(maximumChunksInFlight);
+        final List<Future<?>> chunkFutures = new ArrayList<>();
+
+        try {
+            final NewlineChunkReader chunkReader = new NewlineChunkReader(inputStream, chunkSize);
+            NewlineChunkReader.Chunk chunk;
+            while ((chunk = chunkReader.next()) != null) {
+                chunkFutures.add(submitChunk(chunk, codec, serializedConsumer, chunksInFlight, aborted));
+                failFastOnCompletedChunks(chunkFutures);
+            }
+
+            for (final Future<?> chunkFuture : chunkFutures) {
+                awaitChunk(chunkFuture);
+            }
+        } catch (final IOException | RuntimeException e) {
+            aborted.set(true);
+            awaitAbortedChunks(chunkFutures);
+            throw e;
+        }
+    }
+
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private Future<?> submitChunk(final NewlineChunkReader.Chunk chunk,
+                                  final InputCodec codec,
+                                  final Consumer<Record<Event>> eventConsumer,
+                                  final Semaphore chunksInFlight,
+                                  final AtomicBoolean aborted) throws IOException {
+        try {
+            chunksInFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to submit a chunk for parsing");
+        }
+
+        try {
+            return executorService.submit(() -> {
+                try {
+                    if (aborted.get()) {
+                        return null;
+                    }
+                    codec.parse(chunk.newInputStream(), eventConsumer);
+                    return null;
+                } finally {
+                    chunksInFlight.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            chunksInFlight.release();
+            throw e;
+        }
+    }
+
+    private static void failFastOnCompletedChunks(final List<Future<?>> chunkFutures) throws IOException {
+        final Iterator<Future<?>> iterator = chunkFutures.iterator();
+        while (iterator.hasNext()) {
+            final Future<?> chunkFuture = iterator.next();
+            if (chunkFuture.isDone()) {
+                awaitChunk(chunkFuture);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Waits for chunks which are still running after a failure. Chunks which have not started yet
+     * return without parsing, and running chunks stop at their next event.
+     */
+    private static void awaitAbortedChunks(final List<Future<?>> chunkFutures) {
+        boolean interrupted = false;
+        for (final Future<?> chunkFuture : chunkFutures) {
+            while (true) {
+                try {
+                    chunkFuture.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitChunk(final Future<?> chunkFuture) throws IOException {
+        try {
+            chunkFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for chunks to be parsed");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ReadAheadOptions;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the resources shared by all {@link S3ReadAheadInputStream}s of one S3 source: the
+ * pool of part buffers and the threads performing the ranged GET requests.
+ */
+class S3ReadAheadContext {
+    private final int partSize;
+    private final int concurrency;
+    private final DirectByteBufferPool bufferPool;
+    private final ExecutorService executorService;
+
+    /**
+     * @param readAheadOptions the part size and the number of parts held for each object
+     * @param maximumConcurrentObjects the number of objects which can be read at the same time. Every
+     *                                 object holds up to {@code concurrency} buffers while it waits for
+     *                                 more, so a smaller pool could leave all readers waiting on each other.
+     */
+    S3ReadAheadContext(final S3ReadAheadOptions readAheadOptions, final int maximumConcurrentObjects) {
+        this(readAheadOptions, maximumConcurrentObjects,
+                Executors.newCachedThreadPool(BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-read-ahead")));
+    }
+
+    S3ReadAheadContext(final S3ReadAheadOptions readAheadOptions, final int maximumConcurrentObjects, final ExecutorService executorService) {
+        this.partSize = (int) readAheadOptions.getPartSize().getBytes();
+        this.concurrency = readAheadOptions.getConcurrency();
+        this.bufferPool = new DirectByteBufferPool(partSize, concurrency * maximumConcurrentObjects);
+        this.executorService = executorService;
+    }
+
+    /**
+     * Objects which fit in a single part gain nothing from ranged requests.
+     *
+     * @param contentLength the length of the S3 object
+     * @return true if the object should be read with parallel ranged requests
+     */
+    boolean shouldReadAhead(final long contentLength) {
+        return contentLength > partSize;
+    }
+
+    int getPartSize() {
+        return partSize;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    DirectByteBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+}
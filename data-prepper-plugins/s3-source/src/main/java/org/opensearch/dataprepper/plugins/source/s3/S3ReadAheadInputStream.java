@@ -0,0 +1,443 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import com.google.common.base.Preconditions;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import org.apache.parquet.io.SeekableInputStream;
+import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SeekableInputStream} which downloads an S3 object as fixed size parts using
+ * concurrent ranged GET requests. While the caller consumes one part, the following parts
+ * are already being downloaded into direct buffers taken from a shared {@link DirectByteBufferPool}.
+ * <p>
+ * At most {@code concurrency} parts of one object are held at a time, including the part
+ * currently being read. Seeking outside of this window discards the prefetched parts and
+ * continues downloading from the new position.
+ */
+class S3ReadAheadInputStream extends SeekableInputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(S3ReadAheadInputStream.class);
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final S3Client s3Client;
+
+    private final S3ObjectReference s3ObjectReference;
+
+    private final Optional<String> bucketOwner;
+
+    private final long contentLength;
+
+    private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+
+    private final int partSize;
+
+    private final int concurrency;
+
+    private final DirectByteBufferPool bufferPool;
+
+    private final ExecutorService executorService;
+
+    private final RetryPolicy<Object> retryPolicy;
+
+    private final LongAdder bytesCounter;
+
+    private final Map<Long, CompletableFuture<ByteBuffer>> pendingParts;
+
+    private ByteBuffer currentPart;
+
+    private long currentPartIndex = -1;
+
+    private long next = 0;
+
+    private long mark = 0;
+
+    private long markLimit = 0;
+
+    private boolean closed = false;
+
+    S3ReadAheadInputStream(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final HeadObjectResponse metadata,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final S3ReadAheadContext readAheadContext,
+            final Duration retryDelay,
+            final int retries
+    ) {
+        this.s3Client = s3Client;
+        this.s3ObjectReference = s3ObjectReference;
+        this.bucketOwner = bucketOwnerProvider.getBucketOwner(s3ObjectReference.getBucketName());
+        this.contentLength = metadata.contentLength();
+        this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.partSize = readAheadContext.getPartSize();
+        this.concurrency = readAheadContext.getConcurrency();
+        this.bufferPool = readAheadContext.getBufferPool();
+        this.executorService = readAheadContext.getExecutorService();
+        this.bytesCounter = new LongAdder();
+        this.pendingParts = new HashMap<>();
+
+        this.retryPolicy = RetryPolicy.builder()
+                .handle(S3InputStream.RETRYABLE_EXCEPTIONS)
+                .withDelay(retryDelay)
+                .withMaxRetries(retries)
+                .build();
+    }
+
+    /**
+     * Returns the number of bytes which can be read without waiting for a download.
+     *
+     * @return bytes available in the current part
+     */
+    @Override
+    public int available() {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (currentPart == null || partIndexOf(next) != currentPartIndex) {
+            return 0;
+        }
+        return currentPart.limit() - offsetInCurrentPart();
+    }
+
+    /**
+     * Close the stream and return all part buffers to the pool.
+     */
+    @Override
+    public void close() throws IOException {
+        super.close();
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releaseCurrentPart();
+        pendingParts.values().forEach(this::releaseWhenDone);
+        pendingParts.clear();
+        s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary().record(bytesCounter.doubleValue());
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        mark = next;
+        markLimit = mark + readlimit;
+    }
+
+    @Override
+    public synchronized boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        if (next > markLimit) {
+            throw new IOException("Cannot reset stream because mark limit exceeded");
+        }
+
+        next = mark;
+    }
+
+    @Override
+    public int read() throws IOException {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (!positionPart()) {
+            return -1;
+        }
+
+        final int byteRead = currentPart.get(offsetInCurrentPart()) & 0xFF;
+        advance(1);
+        return byteRead;
+    }
+
+    @Override
+    public int read(final byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    /**
+     * Reads up to {@code len} bytes, never crossing a part boundary in a single call.
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (len == 0) {
+            return 0;
+        }
+        if (!positionPart()) {
+            return -1;
+        }
+
+        final ByteBuffer source = currentPart.duplicate();
+        source.position(offsetInCurrentPart());
+        final int bytesRead = Math.min(len, source.remaining());
+        source.get(b, off, bytesRead);
+        advance(bytesRead);
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n <= 0 || next >= contentLength) {
+            return 0;
+        }
+
+        final long toSkip = Math.min(n, contentLength - next);
+        next += toSkip;
+        return toSkip;
+    }
+
+    @Override
+    public long getPos() {
+        return next;
+    }
+
+    /**
+     * Seek the specified offset into the object. Parts are downloaded lazily, so
+     * seeking itself does not issue any requests.
+     *
+     * @param newPos the new position to seek to
+     */
+    @Override
+    public void seek(final long newPos) {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        Preconditions.checkArgument(newPos >= 0, "position is negative: %s", newPos);
+
+        // this allows a seek beyond the end of the stream but the next read will fail
+        next = newPos;
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int start, final int len) throws IOException {
+        int offset = start;
+        int remaining = len;
+        while (remaining > 0) {
+            final int bytesRead = read(bytes, offset, remaining);
+            if (bytesRead < 0) {
+                throw new EOFException(
+                        "Reached the end of stream with " + remaining + " bytes left to read");
+            }
+            offset += bytesRead;
+            remaining -= bytesRead;
+        }
+    }
+
+    @Override
+    public int read(final ByteBuffer buf) throws IOException {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (!buf.hasRemaining()) {
+            return 0;
+        }
+        if (!positionPart()) {
+            return -1;
+        }
+
+        final ByteBuffer source = currentPart.duplicate();
+        source.position(offsetInCurrentPart());
+        final int bytesRead = Math.min(buf.remaining(), source.remaining());
+        source.limit(source.position() + bytesRead);
+        buf.put(source);
+        advance(bytesRead);
+        return bytesRead;
+    }
+
+    @Override
+    public void readFully(final ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (read(buf) < 0) {
+                throw new EOFException(
+                        "Reached the end of stream with " + buf.remaining() + " bytes left to read");
+            }
+        }
+    }
+
+    private void advance(final int bytesRead) {
+        next += bytesRead;
+        bytesCounter.add(bytesRead);
+    }
+
+    private long partIndexOf(final long position) {
+        return position / partSize;
+    }
+
+    private int offsetInCurrentPart() {
+        return (int) (next - currentPartIndex * partSize);
+    }
+
+    /**
+     * Makes the part containing the next position the current part and schedules downloads
+     * for the following parts of the read-ahead window.
+     *
+     * @return false if the next position is at or beyond the end of the object
+     * @throws IOException if the part could not be downloaded
+     */
+    private boolean positionPart() throws IOException {
+        if (next >= contentLength) {
+            return false;
+        }
+
+        final long partIndex = partIndexOf(next);
+        if (currentPart != null && partIndex == currentPartIndex) {
+            return true;
+        }
+
+        releaseCurrentPart();
+        discardPendingParts(partIndex, partIndex + concurrency);
+
+        final long lastPartIndex = partIndexOf(contentLength - 1);
+        for (long index = partIndex; index < partIndex + concurrency && index <= lastPartIndex; index++) {
+            pendingParts.computeIfAbsent(index, this::downloadPart);
+        }
+
+        currentPart = awaitPart(pendingParts.remove(partIndex));
+        currentPartIndex = partIndex;
+        return true;
+    }
+
+    private ByteBuffer awaitPart(final CompletableFuture<ByteBuffer> partFuture) throws IOException {
+        try {
+            return partFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseWhenDone(partFuture);
+            throw new InterruptedIOException("Interrupted while waiting for S3 object part");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            LOG.error("Error reading from S3 object: s3ObjectReference={}", s3ObjectReference);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void releaseCurrentPart() {
+        if (currentPart != null) {
+            bufferPool.release(currentPart);
+            currentPart = null;
+            currentPartIndex = -1;
+        }
+    }
+
+    /**
+     * Discards all pending parts outside of the range [fromIndex, toIndex). Their buffers return to
+     * the pool once the downloads which are already running finish.
+     */
+    private void discardPendingParts(final long fromIndex, final long toIndex) {
+        final Iterator<Map.Entry<Long, CompletableFuture<ByteBuffer>>> iterator = pendingParts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, CompletableFuture<ByteBuffer>> entry = iterator.next();
+            if (entry.getKey() < fromIndex || entry.getKey() >= toIndex) {
+                releaseWhenDone(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void releaseWhenDone(final CompletableFuture<ByteBuffer> partFuture) {
+        partFuture.whenComplete((buffer, throwable) -> {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        });
+    }
+
+    private CompletableFuture<ByteBuffer> downloadPart(final long partIndex) {
+        final long start = partIndex * partSize;
+        final long end = Math.min(start + partSize, contentLength) - 1;
+        return CompletableFuture.supplyAsync(() -> {
+            final ByteBuffer buffer;
+            try {
+                buffer = bufferPool.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(new InterruptedIOException("Interrupted while waiting for a part buffer"));
+            }
+
+            try {
+                Failsafe.with(retryPolicy).run(() -> readRange(start, end, buffer));
+                buffer.flip();
+                return buffer;
+            } catch (final FailsafeException e) {
+                bufferPool.release(buffer);
+                throw new CompletionException(new IOException(e.getCause()));
+            } catch (final RuntimeException e) {
+                bufferPool.release(buffer);
+                throw e;
+            }
+        }, executorService);
+    }
+
+    private void readRange(final long start, final long end, final ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        buffer.limit((int) (end - start + 1));
+
+        final GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+                .bucket(s3ObjectReference.getBucketName())
+                .key(s3ObjectReference.getKey())
+                .range(String.format("bytes=%s-%s", start, end));
+        bucketOwner.ifPresent(requestBuilder::expectedBucketOwner);
+
+        final ResponseInputStream<GetObjectResponse> stream;
+        try {
+            stream = s3Client.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+        } catch (final S3Exception e) {
+            recordS3Exception(e);
+            throw new IOException(e.getMessage(), e);
+        }
+
+        LOG.debug("Downloading range {}-{} of {}", start, end, s3ObjectReference);
+        try {
+            S3InputStream.readFullyDirectBuffer(stream, buffer, new byte[COPY_BUFFER_SIZE]);
+        } catch (final IOException e) {
+            // abort so that the HTTP client does not try to drain the remaining bytes of the range
+            stream.abort();
+            throw e;
+        }
+        stream.close();
+    }
+
+    private void recordS3Exception(final S3Exception ex) {
+        if (ex.statusCode() == HttpStatusCode.NOT_FOUND) {
+            s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter().increment();
+        } else if (ex.statusCode() == HttpStatusCode.FORBIDDEN) {
+            s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter().increment();
+        } else if (ex.isThrottlingException()) {
+            s3ObjectPluginMetrics.getS3ObjectsThrottledCounter().increment();
+        }
+    }
+}
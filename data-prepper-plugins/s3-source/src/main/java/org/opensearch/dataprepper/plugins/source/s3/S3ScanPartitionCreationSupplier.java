@@ -5,16 +5,19 @@
 
 package org.opensearch.dataprepper.plugins.source.s3;
 
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.model.source.coordinator.PartitionIdentifier;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.FolderPartitioningOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanKeyPathOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanListingOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanSchedulingOptions;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.utils.Pair;
@@ -31,6 +34,11 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,6 +52,9 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
     static final String SCAN_COUNT = "SCAN_COUNT";
     static final String LAST_SCAN_TIME = "LAST_SCAN_TIME";
     static final String SINGLE_SCAN_COMPLETE = "SINGLE_SCAN_COMPLETE";
+    static final String LAST_LISTED_KEY_FORMAT = "LAST_LISTED_KEY|%s|%s";
+    static final String LAST_MODIFIED_WATERMARK_FORMAT = "LAST_MODIFIED_WATERMARK|%s|%s";
+    private static final String PREFIX_DELIMITER = "/";
 
     private final S3Client s3Client;
     private final BucketOwnerProvider bucketOwnerProvider;
@@ -56,6 +67,10 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
 
     private final SourceCoordinator<S3SourceProgressState> sourceCoordinator;
 
+    private final S3ScanListingOptions listingOptions;
+
+    private final Object createPartitionsLock = new Object();
+
     public S3ScanPartitionCreationSupplier(final S3Client s3Client,
                                            final BucketOwnerProvider bucketOwnerProvider,
                                            final List<ScanOptions> scanOptionsList,
@@ -63,6 +78,18 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
                                            final FolderPartitioningOptions folderPartitioningOptions,
                                            final boolean deleteS3ObjectsOnRead,
                                            final SourceCoordinator<S3SourceProgressState> sourceCoordinator) {
+        this(s3Client, bucketOwnerProvider, scanOptionsList, schedulingOptions, folderPartitioningOptions, deleteS3ObjectsOnRead,
+                sourceCoordinator, new S3ScanListingOptions());
+    }
+
+    public S3ScanPartitionCreationSupplier(final S3Client s3Client,
+                                           final BucketOwnerProvider bucketOwnerProvider,
+                                           final List<ScanOptions> scanOptionsList,
+                                           final S3ScanSchedulingOptions schedulingOptions,
+                                           final FolderPartitioningOptions folderPartitioningOptions,
+                                           final boolean deleteS3ObjectsOnRead,
+                                           final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
+                                           final S3ScanListingOptions listingOptions) {
 
         this.s3Client = s3Client;
         this.bucketOwnerProvider = bucketOwnerProvider;
@@ -71,6 +98,7 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
         this.folderPartitioningOptions = folderPartitioningOptions;
         this.deleteS3ObjectsOnRead = deleteS3ObjectsOnRead;
         this.sourceCoordinator = sourceCoordinator;
+        this.listingOptions = listingOptions != null ? listingOptions : new S3ScanListingOptions();
     }
 
     @Override
@@ -86,7 +114,7 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
 
         final List<PartitionIdentifier> objectsToProcess = new ArrayList<>();
 
-        Map<String, String> bucketScanTime = new HashMap<>();
+        final Map<String, String> prefixScanTimes = new HashMap<>();
 
         for (final ScanOptions scanOptions : scanOptionsList) {
             final String bucketName = scanOptions.getBucketOption().getName();
@@ -106,20 +134,19 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
                     listObjectsV2Request.prefix(includePath);
                     createFilteredS3ObjectPartitionsForBucket(excludeItems, listObjectsV2Request,
                             bucketName, scanOptions.getUseStartDateTime(), scanOptions.getUseEndDateTime(), globalStateMap);
+                    prefixScanTimes.putIfAbsent(getLastModifiedWatermarkStateKey(bucketName, includePath), updatedScanTime.toString());
                 });
-            else
+            else {
                 createFilteredS3ObjectPartitionsForBucket(excludeItems, listObjectsV2Request,
                         bucketName, scanOptions.getUseStartDateTime(), scanOptions.getUseEndDateTime(), globalStateMap);
-
-            if (!bucketScanTime.containsKey(bucketName)) {
-                bucketScanTime.put(bucketName, updatedScanTime.toString());
+                prefixScanTimes.putIfAbsent(getLastModifiedWatermarkStateKey(bucketName, null), updatedScanTime.toString());
             }
         }
 
-        // Update last scan time for all buckets outside the loop, so that if the same bucket is
-        // used multiple times in the bucket options with different data selection or include prefixes
-        // or exclude prefixes, they are still processed.
-        globalStateMap.putAll(bucketScanTime);
+        // Update last scan time for all prefixes outside the loop, so that if the same bucket and prefix are
+        // used multiple times in the bucket options with different data selection or exclude suffixes,
+        // they are still processed.
+        globalStateMap.putAll(prefixScanTimes);
         globalStateMap.put(SCAN_COUNT, (Integer) globalStateMap.get(SCAN_COUNT) + 1);
         globalStateMap.put(LAST_SCAN_TIME, Instant.now().toEpochMilli());
 
@@ -133,24 +160,151 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
                                                                      final LocalDateTime startDateTime,
                                                                      final LocalDateTime endDateTime,
                                                                      final Map<String, Object> globalStateMap) {
-        final Instant previousScanTime = globalStateMap.get(bucket) != null ? Instant.parse((String) globalStateMap.get(bucket)) : null;
+        final Instant previousScanTime = getPreviousScanTime(globalStateMap, bucket, listObjectsV2Request.build().prefix());
         final boolean isFirstScan = previousScanTime == null;
+        final Function<List<S3Object>, List<PartitionIdentifier>> partitionsForObjects = s3Objects -> s3Objects.stream()
+                .filter(s3Object -> deleteS3ObjectsOnRead || isLastModifiedTimeAfterMostRecentScanForBucket(previousScanTime, s3Object))
+                .map(s3Object -> Pair.of(s3Object.key(), instantToLocalDateTime(s3Object.lastModified())))
+                .filter(keyTimestampPair -> !keyTimestampPair.left().endsWith("/"))
+                .filter(keyTimestampPair -> excludeKeyPaths.stream()
+                        .noneMatch(excludeItem -> keyTimestampPair.left().endsWith(excludeItem)))
+                .filter(keyTimestampPair -> isKeyMatchedBetweenTimeRange(keyTimestampPair.right(), startDateTime, endDateTime, isFirstScan))
+                .map(Pair::left)
+                .map(objectKey -> PartitionIdentifier.builder().withPartitionKey(String.format(BUCKET_OBJECT_PARTITION_KEY_FORMAT, bucket, objectKey)).build())
+                .collect(Collectors.toList());
+
+        final ListObjectsV2Request request = listObjectsV2Request.fetchOwner(true).build();
+        if (listingOptions.getConcurrency() <= 1) {
+            listPrefix(request, bucket, partitionsForObjects, globalStateMap);
+            return;
+        }
+
+        final List<String> subPrefixes = listObjectsAndSubPrefixes(request, bucket, partitionsForObjects);
+        LOG.info("Listing {} sub-prefixes of bucket {} and prefix {} with {} threads",
+                subPrefixes.size(), bucket, request.prefix(), listingOptions.getConcurrency());
+
+        final Map<String, String> lastListedKeys = new ConcurrentHashMap<>();
+        final ExecutorService listingExecutor = Executors.newFixedThreadPool(
+                Math.min(listingOptions.getConcurrency(), Math.max(subPrefixes.size(), 1)),
+                BackgroundThreadFactory.defaultExecutorThreadFactory("s3-scan-listing"));
+        try {
+            final List<CompletableFuture<Void>> listingFutures = subPrefixes.stream()
+                    .map(subPrefix -> {
+                        final ListObjectsV2Request subPrefixRequest = request.toBuilder().prefix(subPrefix).build();
+                        final String startAfter = getStartAfter(globalStateMap, bucket, subPrefix);
+                        return CompletableFuture.runAsync(() -> {
+                            final String lastListedKey = listPages(subPrefixRequest, startAfter, bucket, partitionsForObjects);
+                            if (lastListedKey != null) {
+                                lastListedKeys.put(getLastListedKeyStateKey(bucket, subPrefix), lastListedKey);
+                            }
+                        }, listingExecutor);
+                    })
+                    .collect(Collectors.toList());
+            CompletableFuture.allOf(listingFutures.toArray(new CompletableFuture[0])).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            listingExecutor.shutdownNow();
+            // keep the progress of the sub-prefixes which did finish, even when another failed
+            globalStateMap.putAll(lastListedKeys);
+        }
+    }
+
+    private void listPrefix(final ListObjectsV2Request request,
+                            final String bucket,
+                            final Function<List<S3Object>, List<PartitionIdentifier>> partitionsForObjects,
+                            final Map<String, Object> globalStateMap) {
+        final String lastListedKey = listPages(request, getStartAfter(globalStateMap, bucket, request.prefix()), bucket, partitionsForObjects);
+        if (lastListedKey != null) {
+            globalStateMap.put(getLastListedKeyStateKey(bucket, request.prefix()), lastListedKey);
+        }
+    }
+
+    /**
+     * Lists every page of the request and creates the partitions for each page.
+     *
+     * @return the last key listed when listing is incremental, otherwise null
+     */
+    private String listPages(final ListObjectsV2Request request,
+                             final String startAfter,
+                             final String bucket,
+                             final Function<List<S3Object>, List<PartitionIdentifier>> partitionsForObjects) {
+        final ListObjectsV2Request.Builder requestBuilder = request.toBuilder();
+        if (startAfter != null) {
+            requestBuilder.startAfter(startAfter);
+        }
+        String lastListedKey = null;
         ListObjectsV2Response listObjectsV2Response = null;
 
         do {
-            listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request.fetchOwner(true).continuationToken(Objects.nonNull(listObjectsV2Response) ? listObjectsV2Response.nextContinuationToken() : null).build());
-            final List<PartitionIdentifier> partitionsForPage = listObjectsV2Response.contents().stream()
-                    .filter(s3Object -> deleteS3ObjectsOnRead || isLastModifiedTimeAfterMostRecentScanForBucket(previousScanTime, s3Object))
-                    .map(s3Object -> Pair.of(s3Object.key(), instantToLocalDateTime(s3Object.lastModified())))
-                    .filter(keyTimestampPair -> !keyTimestampPair.left().endsWith("/"))
-                    .filter(keyTimestampPair -> excludeKeyPaths.stream()
-                            .noneMatch(excludeItem -> keyTimestampPair.left().endsWith(excludeItem)))
-                    .filter(keyTimestampPair -> isKeyMatchedBetweenTimeRange(keyTimestampPair.right(), startDateTime, endDateTime, isFirstScan))
-                    .map(Pair::left)
-                    .map(objectKey -> PartitionIdentifier.builder().withPartitionKey(String.format(BUCKET_OBJECT_PARTITION_KEY_FORMAT, bucket, objectKey)).build())
-                    .collect(Collectors.toList());
+            listObjectsV2Response = s3Client.listObjectsV2(requestBuilder.continuationToken(Objects.nonNull(listObjectsV2Response) ? listObjectsV2Response.nextContinuationToken() : null).build());
+            final List<PartitionIdentifier> partitionsForPage = partitionsForObjects.apply(listObjectsV2Response.contents());
             LOG.info("Found page of {} objects from bucket {}", listObjectsV2Response.keyCount(), bucket);
+            createPartitions(partitionsForPage, bucket);
 
+            if (listingOptions.isIncremental() && !listObjectsV2Response.contents().isEmpty()) {
+                lastListedKey = listObjectsV2Response.contents().get(listObjectsV2Response.contents().size() - 1).key();
+            }
+        } while (listObjectsV2Response.isTruncated());
+
+        return lastListedKey;
+    }
+
+    /**
+     * Lists the request with a delimiter, creating partitions for the objects directly under the prefix.
+     *
+     * @return the sub-prefixes of the request prefix
+     */
+    private List<String> listObjectsAndSubPrefixes(final ListObjectsV2Request request,
+                                                   final String bucket,
+                                                   final Function<List<S3Object>, List<PartitionIdentifier>> partitionsForObjects) {
+        final ListObjectsV2Request.Builder requestBuilder = request.toBuilder().delimiter(PREFIX_DELIMITER);
+        final List<String> subPrefixes = new ArrayList<>();
+        ListObjectsV2Response listObjectsV2Response = null;
+
+        do {
+            listObjectsV2Response = s3Client.listObjectsV2(requestBuilder.continuationToken(Objects.nonNull(listObjectsV2Response) ? listObjectsV2Response.nextContinuationToken() : null).build());
+            createPartitions(partitionsForObjects.apply(listObjectsV2Response.contents()), bucket);
+            listObjectsV2Response.commonPrefixes().stream()
+                    .map(CommonPrefix::prefix)
+                    .forEach(subPrefixes::add);
+        } while (listObjectsV2Response.isTruncated());
+
+        return subPrefixes;
+    }
+
+    private String getStartAfter(final Map<String, Object> globalStateMap, final String bucket, final String prefix) {
+        if (!listingOptions.isIncremental()) {
+            return null;
+        }
+        return (String) globalStateMap.get(getLastListedKeyStateKey(bucket, prefix));
+    }
+
+    /**
+     * Gets the last modified watermark of the prefix. State saved before the watermark was kept per prefix
+     * holds it under the bucket name, which is used until the prefix has been scanned once.
+     */
+    private Instant getPreviousScanTime(final Map<String, Object> globalStateMap, final String bucket, final String prefix) {
+        final String watermarkStateKey = getLastModifiedWatermarkStateKey(bucket, prefix);
+        final Object previousScanTime = globalStateMap.containsKey(watermarkStateKey) ?
+                globalStateMap.get(watermarkStateKey) : globalStateMap.get(bucket);
+        return previousScanTime != null ? Instant.parse((String) previousScanTime) : null;
+    }
+
+    static String getLastModifiedWatermarkStateKey(final String bucket, final String prefix) {
+        return String.format(LAST_MODIFIED_WATERMARK_FORMAT, bucket, Objects.toString(prefix, ""));
+    }
+
+    static String getLastListedKeyStateKey(final String bucket, final String prefix) {
+        return String.format(LAST_LISTED_KEY_FORMAT, bucket, Objects.toString(prefix, ""));
+    }
+
+    private void createPartitions(final List<PartitionIdentifier> partitionsForPage, final String bucket) {
+        // pages of different sub-prefixes may be listed in parallel
+        synchronized (createPartitionsLock) {
             if (folderPartitioningOptions != null) {
                 final List<PartitionIdentifier> folderPartitionsForPage = getFolderPartitionIdentifiers(partitionsForPage);
                 sourceCoordinator.createPartitions(folderPartitionsForPage);
@@ -158,7 +312,7 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
                 LOG.info("Creating partitions for {} S3 objects from bucket {}", partitionsForPage.size(), bucket);
                 sourceCoordinator.createPartitions(partitionsForPage);
             }
-        } while (listObjectsV2Response.isTruncated());
+        }
     }
 
     private LocalDateTime instantToLocalDateTime(final Instant instant) {
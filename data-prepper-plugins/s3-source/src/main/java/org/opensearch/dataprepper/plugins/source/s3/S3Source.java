@@ -46,6 +46,8 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
     private final AwsCredentialsSupplier awsCredentialsSupplier;
     private final boolean acknowledgementsEnabled;
     private SourceCoordinator<S3SourceProgressState> sourceCoordinator;
+    private S3ReadAheadContext readAheadContext;
+    private S3ParallelDecoder parallelDecoder;
 
 
     @DataPrepperPluginConstructor
@@ -109,8 +111,16 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
             final PluginModel codecConfiguration = s3SourceConfig.getCodec();
             final PluginSetting codecPluginSettings = new PluginSetting(codecConfiguration.getPluginName(), codecConfiguration.getPluginSettings());
             final InputCodec codec = pluginFactory.loadPlugin(InputCodec.class, codecPluginSettings);
+            if (s3SourceConfig.getReadAheadOptions() != null) {
+                readAheadContext = new S3ReadAheadContext(s3SourceConfig.getReadAheadOptions(), getMaximumConcurrentObjectReads());
+            }
+            if (s3SourceConfig.getParallelDecodeOptions() != null) {
+                parallelDecoder = new S3ParallelDecoder(s3SourceConfig.getParallelDecodeOptions());
+            }
             final S3ObjectRequest s3ObjectRequest = s3ObjectRequestBuilder
                     .bucketOwnerProvider(bucketOwnerProvider)
+                    .readAheadContext(readAheadContext)
+                    .parallelDecoder(parallelDecoder)
                     .codec(codec)
                     .eventConsumer(eventMetadataModifier)
                     .s3Client(s3ClientBuilderFactory.getS3Client())
@@ -139,6 +149,30 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
         if (Objects.nonNull(s3ScanService) && Objects.nonNull(sourceCoordinator)) {
             s3ScanService.stop();
         }
+
+        if (Objects.nonNull(readAheadContext)) {
+            readAheadContext.shutdown();
+        }
+
+        if (Objects.nonNull(parallelDecoder)) {
+            parallelDecoder.shutdown();
+        }
+    }
+
+    /**
+     * The SQS and scan services each run their own workers against the same object handler,
+     * and every SQS worker reads up to s3_object_concurrency objects at once. The read-ahead
+     * buffer pool must hold a full read-ahead window for every object which can be read at once.
+     */
+    int getMaximumConcurrentObjectReads() {
+        int objectReads = 0;
+        if (Objects.nonNull(s3SourceConfig.getSqsOptions())) {
+            objectReads += s3SourceConfig.getNumWorkers() * Math.max(s3SourceConfig.getSqsOptions().getS3ObjectConcurrency(), 1);
+        }
+        if (s3ScanScanOptional.isPresent()) {
+            objectReads += s3SourceConfig.getNumWorkers();
+        }
+        return Math.max(objectReads, s3SourceConfig.getNumWorkers());
     }
 
     @Override
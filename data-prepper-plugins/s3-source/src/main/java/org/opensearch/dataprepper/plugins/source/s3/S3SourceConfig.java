@@ -18,6 +18,8 @@ import org.opensearch.dataprepper.plugins.source.s3.configuration.AwsAuthenticat
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationTypeOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.OnErrorOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ParallelDecodeOptions;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ReadAheadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.SqsOptions;
@@ -104,6 +106,14 @@ public class S3SourceConfig {
     @JsonProperty("data_selection")
     private S3DataSelection dataSelection = S3DataSelection.DATA_AND_METADATA;
 
+    @JsonProperty("read_ahead")
+    @Valid
+    private S3ReadAheadOptions readAheadOptions;
+
+    @JsonProperty("parallel_decode")
+    @Valid
+    private S3ParallelDecodeOptions parallelDecodeOptions;
+
     @AssertTrue(message = "A codec is required for reading objects.")
     boolean isCodecProvidedWhenNeeded() {
         if(s3SelectOptions == null)
@@ -222,4 +232,12 @@ public class S3SourceConfig {
     public S3DataSelection getDataSelection() {
         return dataSelection;
     }
+
+    public S3ReadAheadOptions getReadAheadOptions() {
+        return readAheadOptions;
+    }
+
+    public S3ParallelDecodeOptions getParallelDecodeOptions() {
+        return parallelDecodeOptions;
+    }
 }
@@ -14,9 +14,33 @@ public class S3SourceProgressState {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Long lastTimeObjectsFound;
 
+    /**
+     * The number of records of the object which have been written to the buffer
+     * before the last checkpoint.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("checkpoint_record_count")
+    private Long checkpointRecordCount;
+
+    /**
+     * The byte offset in the object at which the first record after the last checkpoint starts.
+     * Only set for formats which can be resumed from a byte offset.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("checkpoint_byte_offset")
+    private Long checkpointByteOffset;
+
+    public S3SourceProgressState(final Long lastTimeObjectsFound) {
+        this(lastTimeObjectsFound, null, null);
+    }
+
     @JsonCreator
-    public S3SourceProgressState(@JsonProperty("last_time_objects_found") final Long lastTimeObjectsFound) {
+    public S3SourceProgressState(@JsonProperty("last_time_objects_found") final Long lastTimeObjectsFound,
+                                 @JsonProperty("checkpoint_record_count") final Long checkpointRecordCount,
+                                 @JsonProperty("checkpoint_byte_offset") final Long checkpointByteOffset) {
         this.lastTimeObjectsFound = lastTimeObjectsFound;
+        this.checkpointRecordCount = checkpointRecordCount;
+        this.checkpointByteOffset = checkpointByteOffset;
     }
 
     public Long getLastTimeObjectsFound() {
@@ -26,4 +50,20 @@ public class S3SourceProgressState {
     public void setLastTimeObjectsFound(final Long lastTimeObjectsFound) {
         this.lastTimeObjectsFound = lastTimeObjectsFound;
     }
+
+    public Long getCheckpointRecordCount() {
+        return checkpointRecordCount;
+    }
+
+    public void setCheckpointRecordCount(final Long checkpointRecordCount) {
+        this.checkpointRecordCount = checkpointRecordCount;
+    }
+
+    public Long getCheckpointByteOffset() {
+        return checkpointByteOffset;
+    }
+
+    public void setCheckpointByteOffset(final Long checkpointByteOffset) {
+        this.checkpointByteOffset = checkpointByteOffset;
+    }
 }
@@ -101,6 +101,7 @@ public class ScanObjectWorker implements Runnable {
     private final Map<String, Set<DeleteObjectRequest>> objectsToDeleteForAcknowledgmentSets;
 
     private final Map<String, AtomicInteger> acknowledgmentsRemainingForPartitions;
+    private final Map<String, S3SourceProgressState> progressStatesForAcknowledgmentSets;
     private final Map<String, Map<String, S3DataSelection>> bucketDataSelectionMap;
 
     private final Duration acknowledgmentSetTimeout;
@@ -156,9 +157,10 @@ public class ScanObjectWorker implements Runnable {
         this.folderPartitioningOptions = s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions();
         this.acknowledgmentSetTimeout = s3SourceConfig.getS3ScanScanOptions().getAcknowledgmentTimeout();
 
-        this.partitionCreationSupplier = new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsBuilderList, s3ScanSchedulingOptions, s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions(), s3SourceConfig.isDeleteS3ObjectsOnRead(), sourceCoordinator);
+        this.partitionCreationSupplier = new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsBuilderList, s3ScanSchedulingOptions, s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions(), s3SourceConfig.isDeleteS3ObjectsOnRead(), sourceCoordinator, s3SourceConfig.getS3ScanScanOptions().getListingOptions());
         this.acknowledgmentsRemainingForPartitions = new ConcurrentHashMap<>();
         this.objectsToDeleteForAcknowledgmentSets = new ConcurrentHashMap<>();
+        this.progressStatesForAcknowledgmentSets = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -187,6 +189,7 @@ public class ScanObjectWorker implements Runnable {
         }
         for (String partitionKey: partitionKeys) {
             LOG.debug("Scan object worker is stopped, giving up partitions.");
+            clearCheckpointAwaitingAcknowledgment(partitionKey);
             sourceCoordinator.giveUpPartition(partitionKey);
         }
     }
@@ -224,12 +227,18 @@ public class ScanObjectWorker implements Runnable {
         final String bucket = objectToProcess.get().getPartitionKey().split("\\|")[0];
         final String objectKey = objectToProcess.get().getPartitionKey().split("\\|")[1];
 
+        // the progress state of an object partition holds the checkpoint to resume the object from
+        final S3SourceProgressState progressState = objectToProcess.get().getPartitionState()
+                .orElseGet(() -> new S3SourceProgressState(null));
+
         try {
             AcknowledgementSet acknowledgementSet = null;
 
             if (endToEndAcknowledgementsEnabled) {
+                progressStatesForAcknowledgmentSets.put(objectToProcess.get().getPartitionKey(), progressState);
                 acknowledgementSet = acknowledgementSetManager.create((result) -> {
                     acknowledgementSetCallbackCounter.increment();
+                    progressStatesForAcknowledgmentSets.remove(objectToProcess.get().getPartitionKey());
                     // Delete only if this is positive acknowledgement
                     if (result == true) {
                         sourceCoordinator.completePartition(objectToProcess.get().getPartitionKey(), true);
@@ -238,6 +247,7 @@ public class ScanObjectWorker implements Runnable {
                         objectsToDeleteForAcknowledgmentSets.remove(objectToProcess.get().getPartitionKey());
                     } else {
                         LOG.debug("Did not receive positive acknowledgement, giving up partition.");
+                        clearCheckpoint(objectToProcess.get().getPartitionKey(), progressState);
                         sourceCoordinator.giveUpPartition(objectToProcess.get().getPartitionKey());
                     }
                     partitionKeys.remove(objectToProcess.get().getPartitionKey());
@@ -246,9 +256,8 @@ public class ScanObjectWorker implements Runnable {
                 addProgressCheck(acknowledgementSet, objectToProcess.get());
             }
 
-
             final Optional<DeleteObjectRequest> deleteObjectRequest = processS3Object(S3ObjectReference.bucketAndKey(bucket, objectKey).build(),
-                    acknowledgementSet, sourceCoordinator, objectToProcess.get());
+                    acknowledgementSet, sourceCoordinator, objectToProcess.get(), progressState);
 
             if (endToEndAcknowledgementsEnabled) {
                 deleteObjectRequest.ifPresent(deleteRequest -> objectsToDeleteForAcknowledgmentSets.put(objectToProcess.get().getPartitionKey(), Set.of(deleteRequest)));
@@ -270,14 +279,40 @@ public class ScanObjectWorker implements Runnable {
             sourceCoordinator.completePartition(objectToProcess.get().getPartitionKey(), false);
         } catch (final PartitionNotOwnedException | PartitionNotFoundException | PartitionUpdateException e) {
             LOG.warn("S3 scan object worker received an exception from the source coordinator. There is a potential for duplicate data from {}, giving up partition and getting next partition: {}", objectKey, e.getMessage());
+            clearCheckpointAwaitingAcknowledgment(objectToProcess.get().getPartitionKey());
             sourceCoordinator.giveUpPartition(objectToProcess.get().getPartitionKey());
         }
     }
 
+    private void clearCheckpointAwaitingAcknowledgment(final String partitionKey) {
+        final S3SourceProgressState progressState = progressStatesForAcknowledgmentSets.remove(partitionKey);
+        if (progressState != null) {
+            clearCheckpoint(partitionKey, progressState);
+        }
+    }
+
+    /**
+     * Records before the checkpoint may be among the records which were not acknowledged, so the next
+     * owner of the partition reads the object from its start again.
+     */
+    private void clearCheckpoint(final String partitionKey, final S3SourceProgressState progressState) {
+        if (progressState.getCheckpointRecordCount() == null && progressState.getCheckpointByteOffset() == null) {
+            return;
+        }
+        progressState.setCheckpointRecordCount(null);
+        progressState.setCheckpointByteOffset(null);
+        try {
+            sourceCoordinator.saveProgressStateForPartition(partitionKey, progressState);
+        } catch (final Exception e) {
+            LOG.warn("Unable to clear the checkpoint of partition {} before giving it up: {}", partitionKey, e.getMessage());
+        }
+    }
+
     private Optional<DeleteObjectRequest> processS3Object(final S3ObjectReference s3ObjectReference,
                                                           final AcknowledgementSet acknowledgementSet,
                                                           final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
-                                                          final SourcePartition<S3SourceProgressState> sourcePartition) {
+                                                          final SourcePartition<S3SourceProgressState> sourcePartition,
+                                                          final S3SourceProgressState progressState) {
         try {
             Map<String, S3DataSelection> prefixMap = bucketDataSelectionMap.get(s3ObjectReference.getBucketName());
             S3DataSelection dataSelection = S3DataSelection.DATA_AND_METADATA;
@@ -290,7 +325,11 @@ public class ScanObjectWorker implements Runnable {
                     }
                 }
             }
-            s3ObjectHandler.processS3Object(s3ObjectReference, dataSelection, acknowledgementSet, sourceCoordinator, sourcePartition.getPartitionKey());
+            if (progressState != null) {
+                s3ObjectHandler.processS3Object(s3ObjectReference, dataSelection, acknowledgementSet, sourceCoordinator, sourcePartition.getPartitionKey(), progressState);
+            } else {
+                s3ObjectHandler.processS3Object(s3ObjectReference, dataSelection, acknowledgementSet, sourceCoordinator, sourcePartition.getPartitionKey());
+            }
             if (deleteS3ObjectsOnRead && endToEndAcknowledgementsEnabled && s3ObjectDeleteWorker != null) {
                 final DeleteObjectRequest deleteObjectRequest = s3ObjectDeleteWorker.buildDeleteObjectRequest(s3ObjectReference.getBucketName(), s3ObjectReference.getKey());
                 return Optional.of(deleteObjectRequest);
@@ -405,7 +444,7 @@ public class ScanObjectWorker implements Runnable {
             }
 
             final Optional<DeleteObjectRequest> deleteObjectRequest = processS3Object(s3ObjectReference,
-                    acknowledgementSet, sourceCoordinator, folderPartition);
+                    acknowledgementSet, sourceCoordinator, folderPartition, null);
 
             if (deleteObjectRequest.isPresent()) {
                 objectsToDeleteForAcknowledgmentSets.get(activeAcknowledgmentSetId).add(deleteObjectRequest.get());
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects entries for SQS batch APIs such as DeleteMessageBatch so that entries from
+ * different S3 objects share requests. A batch is sent once it holds the maximum number
+ * of entries SQS accepts per request, or once its oldest entry has waited for the flush interval.
+ * <p>
+ * Entries may be added from any thread. Batches are passed to the consumer outside the lock.
+ */
+class SqsEntryBatcher<T> {
+    static final int MAXIMUM_BATCH_SIZE = 10;
+
+    private final Duration flushInterval;
+    private final Consumer<List<T>> batchConsumer;
+    private final List<T> pendingEntries;
+    private Instant oldestEntryTime;
+
+    SqsEntryBatcher(final Duration flushInterval, final Consumer<List<T>> batchConsumer) {
+        this.flushInterval = flushInterval;
+        this.batchConsumer = batchConsumer;
+        this.pendingEntries = new ArrayList<>();
+    }
+
+    void add(final T entry) {
+        final List<T> fullBatch;
+        synchronized (this) {
+            if (pendingEntries.isEmpty()) {
+                oldestEntryTime = Instant.now();
+            }
+            pendingEntries.add(entry);
+            fullBatch = pendingEntries.size() >= MAXIMUM_BATCH_SIZE ? takeBatch() : null;
+        }
+        if (fullBatch != null) {
+            batchConsumer.accept(fullBatch);
+        }
+    }
+
+    void addAll(final Collection<T> entries) {
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Sends the pending entries if the oldest of them has waited at least the flush interval.
+     *
+     * @param now the current time
+     */
+    void flushIfDue(final Instant now) {
+        final boolean due;
+        synchronized (this) {
+            due = !pendingEntries.isEmpty() && !now.isBefore(oldestEntryTime.plus(flushInterval));
+        }
+        if (due) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all pending entries regardless of their age.
+     */
+    void flush() {
+        while (true) {
+            final List<T> batch;
+            synchronized (this) {
+                if (pendingEntries.isEmpty()) {
+                    return;
+                }
+                batch = takeBatch();
+            }
+            batchConsumer.accept(batch);
+        }
+    }
+
+    synchronized int getPendingCount() {
+        return pendingEntries.size();
+    }
+
+    private List<T> takeBatch() {
+        final int batchSize = Math.min(pendingEntries.size(), MAXIMUM_BATCH_SIZE);
+        final List<T> batch = new ArrayList<>(pendingEntries.subList(0, batchSize));
+        pendingEntries.subList(0, batchSize).clear();
+        oldestEntryTime = Instant.now();
+        return batch;
+    }
+}
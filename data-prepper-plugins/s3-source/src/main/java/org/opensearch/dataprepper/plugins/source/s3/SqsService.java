@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -34,6 +35,7 @@ public class SqsService {
     private final ExecutorService executorService;
     private final List<SqsWorker> sqsWorkers;
     private final Backoff backoff;
+    private ScheduledExecutorService batchFlushExecutorService;
 
     public SqsService(final AcknowledgementSetManager acknowledgementSetManager,
                       final S3SourceConfig s3SourceConfig,
@@ -54,16 +56,38 @@ public class SqsService {
 
     public void start() {
         sqsWorkers.forEach(executorService::submit);
+        if (s3SourceConfig.getSqsOptions().getS3ObjectConcurrency() > 1) {
+            batchFlushExecutorService = Executors.newSingleThreadScheduledExecutor(
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-sqs-batch-flush"));
+            final long flushIntervalMillis = SqsWorker.BATCH_FLUSH_INTERVAL.toMillis();
+            batchFlushExecutorService.scheduleWithFixedDelay(this::flushPendingBatches,
+                    flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushPendingBatches() {
+        try {
+            sqsWorkers.forEach(SqsWorker::flushPendingBatches);
+        } catch (final Exception e) {
+            LOG.error("Failed to flush pending SQS batches", e);
+        }
     }
 
     public void stop() {
         executorService.shutdown();
+        // Workers send their pending batches while stopping, so the flush executor is only stopped afterward.
         sqsWorkers.forEach(SqsWorker::stop);
+        if (batchFlushExecutorService != null) {
+            batchFlushExecutorService.shutdown();
+        }
         try {
             if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
                 LOG.warn("Failed to terminate SqsWorkers");
                 executorService.shutdownNow();
             }
+            if (batchFlushExecutorService != null && !batchFlushExecutorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                batchFlushExecutorService.shutdownNow();
+            }
         } catch (InterruptedException e) {
             if (e.getCause() instanceof InterruptedException) {
                 LOG.error("Interrupted during shutdown, exiting uncleanly...", e);
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.source.s3;
 import com.linecorp.armeria.client.retry.Backoff;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
@@ -26,6 +27,9 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
@@ -49,6 +53,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class SqsWorker implements Runnable {
@@ -66,6 +76,7 @@ public class SqsWorker implements Runnable {
     static final String SQS_MESSAGE_ACCESS_DENIED_METRIC_NAME = "sqsMessagesAccessDenied";
     static final String SQS_MESSAGE_THROTTLED_METRIC_NAME = "sqsMessagesThrottled";
     static final String SQS_RESOURCE_NOT_FOUND_METRIC_NAME = "sqsResourceNotFound";
+    static final Duration BATCH_FLUSH_INTERVAL = Duration.ofSeconds(1);
 
     private final S3SourceConfig s3SourceConfig;
     private final SqsClient sqsClient;
@@ -93,6 +104,10 @@ public class SqsWorker implements Runnable {
     private final AcknowledgementSetManager acknowledgementSetManager;
     private volatile boolean isStopped = false;
     private Map<ParsedMessage, Integer> parsedMessageVisibilityTimesMap;
+    private final ExecutorService s3ObjectExecutor;
+    private final Semaphore s3ObjectPermits;
+    private final SqsEntryBatcher<DeleteMessageBatchRequestEntry> deleteMessageBatcher;
+    private final SqsEntryBatcher<ChangeMessageVisibilityBatchRequestEntry> changeVisibilityBatcher;
 
     public SqsWorker(final AcknowledgementSetManager acknowledgementSetManager,
                      final SqsClient sqsClient,
@@ -111,7 +126,7 @@ public class SqsWorker implements Runnable {
         evenBridgeObjectCreatedFilter = new EventBridgeObjectCreatedFilter();
         sqsMessageParser = new SqsMessageParser(s3SourceConfig);
         failedAttemptCount = 0;
-        parsedMessageVisibilityTimesMap = new HashMap<>();
+        parsedMessageVisibilityTimesMap = new ConcurrentHashMap<>();
         sqsMessagesReceivedCounter = pluginMetrics.counter(SQS_MESSAGES_RECEIVED_METRIC_NAME);
         sqsMessagesDeletedCounter = pluginMetrics.counter(SQS_MESSAGES_DELETED_METRIC_NAME);
         sqsMessagesFailedCounter = pluginMetrics.counter(SQS_MESSAGES_FAILED_METRIC_NAME);
@@ -125,11 +140,33 @@ public class SqsWorker implements Runnable {
         sqsMessageAccessDeniedCounter = pluginMetrics.counter(SQS_MESSAGE_ACCESS_DENIED_METRIC_NAME);
         sqsMessageThrottledCounter = pluginMetrics.counter(SQS_MESSAGE_THROTTLED_METRIC_NAME);
         sqsResourceNotFoundCounter = pluginMetrics.counter(SQS_RESOURCE_NOT_FOUND_METRIC_NAME);
+
+        final int s3ObjectConcurrency = sqsOptions.getS3ObjectConcurrency();
+        if (s3ObjectConcurrency > 1) {
+            s3ObjectExecutor = Executors.newFixedThreadPool(s3ObjectConcurrency,
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-sqs-object-reader"));
+            s3ObjectPermits = new Semaphore(s3ObjectConcurrency);
+            deleteMessageBatcher = new SqsEntryBatcher<>(BATCH_FLUSH_INTERVAL, this::deleteSqsMessages);
+            changeVisibilityBatcher = new SqsEntryBatcher<>(BATCH_FLUSH_INTERVAL, this::changeVisibilityTimeouts);
+        } else {
+            s3ObjectExecutor = null;
+            s3ObjectPermits = null;
+            deleteMessageBatcher = null;
+            changeVisibilityBatcher = null;
+        }
+    }
+
+    private boolean isAsynchronous() {
+        return s3ObjectExecutor != null;
+    }
+
+    private boolean isReceiving() {
+        return !isStopped && (!isAsynchronous() || !s3ObjectExecutor.isShutdown());
     }
 
     @Override
     public void run() {
-        while (!isStopped) {
+        while (isReceiving()) {
             int messagesProcessed = 0;
             try {
                 messagesProcessed = processSqsMessages();
@@ -160,13 +197,28 @@ public class SqsWorker implements Runnable {
             final List<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntries = processS3EventNotificationRecords(s3MessageEventNotificationRecords);
 
             // delete sqs messages
-            if (!deleteMessageBatchRequestEntries.isEmpty()) {
+            if (isAsynchronous()) {
+                deleteMessageBatcher.addAll(deleteMessageBatchRequestEntries);
+            } else if (!deleteMessageBatchRequestEntries.isEmpty()) {
                 deleteSqsMessages(deleteMessageBatchRequestEntries);
             }
         }
         return sqsMessages.size();
     }
 
+    /**
+     * Sends the delete and visibility timeout batches which have waited for the flush interval.
+     * Only used when S3 objects are read asynchronously.
+     */
+    void flushPendingBatches() {
+        if (!isAsynchronous()) {
+            return;
+        }
+        final Instant now = Instant.now();
+        deleteMessageBatcher.flushIfDue(now);
+        changeVisibilityBatcher.flushIfDue(now);
+    }
+
     private List<Message> getMessagesFromSqs() {
         try {
             final ReceiveMessageRequest receiveMessageRequest = createReceiveMessageRequest();
@@ -284,6 +336,10 @@ public class SqsWorker implements Runnable {
                             parsedMessageVisibilityTimesMap.remove(parsedMessage);
                         }
                         if (result == true) {
+                            if (isAsynchronous() && !s3SourceConfig.isDeleteS3ObjectsOnRead()) {
+                                deleteMessageBatcher.addAll(waitingForAcknowledgements);
+                                return;
+                            }
                             final boolean successfullyDeletedAllMessages = deleteSqsMessages(waitingForAcknowledgements);
                             if (successfullyDeletedAllMessages && s3SourceConfig.isDeleteS3ObjectsOnRead()) {
                                 deleteS3Objects(s3ObjectDeletionWaitingForAcknowledgments);
@@ -323,6 +379,11 @@ public class SqsWorker implements Runnable {
             final List<DeleteMessageBatchRequestEntry> waitingForAcknowledgements = messageWaitingForAcknowledgementsMap.get(parsedMessage);
             final List<S3ObjectReference> s3ObjectDeletionsWaitingForAcknowledgments = messagesWaitingForS3ObjectDeletion.get(parsedMessage);
             final S3ObjectReference s3ObjectReference = populateS3Reference(parsedMessage.getBucketName(), parsedMessage.getObjectKey());
+            if (isAsynchronous()) {
+                submitS3Object(parsedMessage, s3ObjectReference, acknowledgementSet,
+                        waitingForAcknowledgements, s3ObjectDeletionsWaitingForAcknowledgments);
+                continue;
+            }
             final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = processS3Object(parsedMessage, s3ObjectReference, acknowledgementSet);
             if (endToEndAcknowledgementsEnabled) {
                 deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
@@ -338,11 +399,69 @@ public class SqsWorker implements Runnable {
         return deleteMessageBatchRequestEntryCollection;
     }
 
+    /**
+     * Reads the S3 object on the object executor so that this worker can receive the next messages
+     * while objects are still being read. Blocks while the configured number of objects are in flight.
+     * When the object is not read, the acknowledgement set is still completed without the message,
+     * so that the message is received again once its visibility timeout expires.
+     */
+    private void submitS3Object(final ParsedMessage parsedMessage,
+                                final S3ObjectReference s3ObjectReference,
+                                final AcknowledgementSet acknowledgementSet,
+                                final List<DeleteMessageBatchRequestEntry> waitingForAcknowledgements,
+                                final List<S3ObjectReference> s3ObjectDeletionsWaitingForAcknowledgments) {
+        try {
+            s3ObjectPermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Thread is interrupted while waiting to read S3 object {}.", s3ObjectReference.getKey());
+            completeWithoutReading(acknowledgementSet);
+            return;
+        }
+
+        try {
+            s3ObjectExecutor.execute(() -> {
+                try {
+                    final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = readS3Object(parsedMessage, s3ObjectReference, acknowledgementSet);
+                    if (endToEndAcknowledgementsEnabled) {
+                        deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
+                        if (deleteMessageBatchRequestEntry.isPresent() && s3SourceConfig.isDeleteS3ObjectsOnRead()) {
+                            s3ObjectDeletionsWaitingForAcknowledgments.add(s3ObjectReference);
+                        }
+                        acknowledgementSet.complete();
+                    } else {
+                        deleteMessageBatchRequestEntry.ifPresent(deleteMessageBatcher::add);
+                    }
+                } finally {
+                    s3ObjectPermits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            s3ObjectPermits.release();
+            LOG.info("Not reading S3 object {} because the worker is shutting down.", s3ObjectReference.getKey());
+            completeWithoutReading(acknowledgementSet);
+        }
+    }
+
+    private void completeWithoutReading(final AcknowledgementSet acknowledgementSet) {
+        if (endToEndAcknowledgementsEnabled) {
+            acknowledgementSet.complete();
+        }
+    }
+
     private void increaseVisibilityTimeout(final ParsedMessage parsedMessage, final int newVisibilityTimeoutSeconds) {
         if(isStopped) {
             LOG.info("Some messages are pending completion of acknowledgments. Data Prepper will not increase the visibility timeout because it is shutting down. {}", parsedMessage);
             return;
         }
+        if (isAsynchronous()) {
+            changeVisibilityBatcher.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                    .id(parsedMessage.getMessage().messageId())
+                    .receiptHandle(parsedMessage.getMessage().receiptHandle())
+                    .visibilityTimeout(newVisibilityTimeoutSeconds)
+                    .build());
+            return;
+        }
         final ChangeMessageVisibilityRequest changeMessageVisibilityRequest = ChangeMessageVisibilityRequest.builder()
                 .visibilityTimeout(newVisibilityTimeoutSeconds)
                 .queueUrl(sqsOptions.getSqsUrl())
@@ -359,6 +478,29 @@ public class SqsWorker implements Runnable {
         }
     }
 
+    private void changeVisibilityTimeouts(final List<ChangeMessageVisibilityBatchRequestEntry> changeVisibilityEntries) {
+        if (isStopped) {
+            return;
+        }
+        final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest = ChangeMessageVisibilityBatchRequest.builder()
+                .queueUrl(sqsOptions.getSqsUrl())
+                .entries(changeVisibilityEntries)
+                .build();
+        try {
+            final ChangeMessageVisibilityBatchResponse response = sqsClient.changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+            if (response.hasSuccessful()) {
+                sqsVisibilityTimeoutChangedCount.increment(response.successful().size());
+            }
+            if (response.hasFailed() && !response.failed().isEmpty()) {
+                sqsVisibilityTimeoutChangeFailedCount.increment(response.failed().size());
+                LOG.error("Failed to set visibility timeout for {} messages: {}", response.failed().size(), response.failed());
+            }
+        } catch (final Exception e) {
+            LOG.error("Failed to set visibility timeout for {} messages", changeVisibilityEntries.size(), e);
+            sqsVisibilityTimeoutChangeFailedCount.increment(changeVisibilityEntries.size());
+        }
+    }
+
     private Optional<DeleteMessageBatchRequestEntry> processS3Object(
             final ParsedMessage parsedMessage,
             final S3ObjectReference s3ObjectReference,
@@ -374,6 +516,20 @@ public class SqsWorker implements Runnable {
         }
     }
 
+    private Optional<DeleteMessageBatchRequestEntry> readS3Object(
+            final ParsedMessage parsedMessage,
+            final S3ObjectReference s3ObjectReference,
+            final AcknowledgementSet acknowledgementSet) {
+        // The backoff is not applied on the object executor; the message becomes visible again after its visibility timeout
+        try {
+            s3Service.addS3Object(s3ObjectReference, s3SourceConfig.getDataSelection(), acknowledgementSet);
+            return Optional.of(buildDeleteMessageBatchRequestEntry(parsedMessage.getMessage()));
+        } catch (final Exception e) {
+            LOG.error("Error processing from S3: {}. The SQS message will not be deleted.", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private boolean deleteSqsMessages(final List<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntryCollection) {
         if(isStopped)
             return false;
@@ -464,10 +620,32 @@ public class SqsWorker implements Runnable {
                 Integer.parseInt(message.attributes().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)) : 0;
     }
 
+    /**
+     * Stops receiving messages. When S3 objects are read asynchronously, the objects being read are
+     * finished and the pending delete and visibility timeout batches are sent before the worker stops,
+     * so that messages which were already processed are not received again.
+     */
     void stop() {
+        if (isAsynchronous()) {
+            s3ObjectExecutor.shutdown();
+            awaitObjectReads();
+            deleteMessageBatcher.flush();
+            changeVisibilityBatcher.flush();
+        }
         isStopped = true;
     }
 
+    private void awaitObjectReads() {
+        try {
+            if (!s3ObjectExecutor.awaitTermination(SqsService.SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                LOG.warn("S3 objects were still being read when the SQS worker stopped. Their SQS messages will not be deleted.");
+            }
+        } catch (final InterruptedException e) {
+            LOG.warn("Interrupted while waiting for S3 objects to be read.");
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void recordSqsException(final AwsServiceException e) {
         // AWS SQS emits some of their exceptions without the matching HTTP code. As we want to generate an aggregate version of
         // these exceptions, we have to explicitly catch the type alongside the status code for the ones that leverage the status
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configuration for parsing a single large S3 object on multiple threads. Objects which are checkpointed,
+ * because the pipeline buffer writes off the heap, are always parsed on the worker thread.
+ */
+public class S3ParallelDecodeOptions {
+    static final int DEFAULT_THREADS = 4;
+    static final ByteCount DEFAULT_CHUNK_SIZE = ByteCount.parse("4mb");
+    static final ByteCount DEFAULT_MINIMUM_OBJECT_SIZE = ByteCount.parse("64mb");
+    private static final long MAXIMUM_CHUNK_SIZE_BYTES = ByteCount.parse("256mb").getBytes();
+
+    @JsonPropertyDescription("The number of threads which parse chunks of one object. The threads are shared by all workers.")
+    @JsonProperty("threads")
+    @Min(1)
+    @Max(64)
+    private int threads = DEFAULT_THREADS;
+
+    @JsonPropertyDescription("The approximate size of each chunk. Chunks always end at a newline.")
+    @JsonProperty("chunk_size")
+    @NotNull
+    private ByteCount chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @JsonPropertyDescription("Objects smaller than this size are parsed on the worker thread.")
+    @JsonProperty("minimum_object_size")
+    @NotNull
+    private ByteCount minimumObjectSize = DEFAULT_MINIMUM_OBJECT_SIZE;
+
+    @AssertTrue(message = "chunk_size must be between 1b and 256mb")
+    boolean isChunkSizeValid() {
+        return chunkSize == null || (chunkSize.getBytes() > 0 && chunkSize.getBytes() <= MAXIMUM_CHUNK_SIZE_BYTES);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public ByteCount getChunkSize() {
+        return chunkSize;
+    }
+
+    public ByteCount getMinimumObjectSize() {
+        return minimumObjectSize;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configuration for reading large S3 objects with parallel ranged GET requests.
+ */
+public class S3ReadAheadOptions {
+    static final ByteCount DEFAULT_PART_SIZE = ByteCount.parse("8mb");
+    static final int DEFAULT_CONCURRENCY = 4;
+    private static final long MINIMUM_PART_SIZE_BYTES = ByteCount.parse("256kb").getBytes();
+    private static final long MAXIMUM_PART_SIZE_BYTES = ByteCount.parse("1gb").getBytes();
+
+    @JsonPropertyDescription("The size of each ranged GET request. Objects smaller than this are read with a single request.")
+    @JsonProperty("part_size")
+    @NotNull
+    private ByteCount partSize = DEFAULT_PART_SIZE;
+
+    @JsonPropertyDescription("The number of parts of one object which are downloaded concurrently.")
+    @JsonProperty("concurrency")
+    @Min(1)
+    @Max(64)
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    @AssertTrue(message = "part_size must be between 256kb and 1gb")
+    boolean isPartSizeValid() {
+        return partSize == null ||
+                (partSize.getBytes() >= MINIMUM_PART_SIZE_BYTES && partSize.getBytes() <= MAXIMUM_PART_SIZE_BYTES);
+    }
+
+    public ByteCount getPartSize() {
+        return partSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Options for how S3 scan lists the objects of each bucket and prefix.
+ */
+public class S3ScanListingOptions {
+    static final int DEFAULT_CONCURRENCY = 1;
+
+    @JsonPropertyDescription("The number of sub-prefixes listed in parallel. When greater than 1, the sub-prefixes of each " +
+            "prefix are found with a delimiter of \"/\" and each is listed on its own thread.")
+    @JsonProperty("concurrency")
+    @Min(1)
+    @Max(64)
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    @JsonPropertyDescription("When true, each scan only lists keys after the last key listed for a prefix in the previous scan. " +
+            "Only use this when new keys always sort after existing keys, such as keys which start with a timestamp. " +
+            "Objects which are overwritten in place are not listed again.")
+    @JsonProperty("incremental")
+    private boolean incremental = false;
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+}
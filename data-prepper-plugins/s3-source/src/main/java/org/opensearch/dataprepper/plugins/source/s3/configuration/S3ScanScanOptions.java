@@ -29,6 +29,10 @@ public class S3ScanScanOptions {
     @Valid
     private FolderPartitioningOptions folderPartitioningOptions;
 
+    @JsonProperty("listing")
+    @Valid
+    private S3ScanListingOptions listingOptions = new S3ScanListingOptions();
+
     @JsonProperty("range")
     private Duration range;
 
@@ -90,4 +94,6 @@ public class S3ScanScanOptions {
 
     public Duration getAcknowledgmentTimeout() { return acknowledgmentTimeout; }
 
+    public S3ScanListingOptions getListingOptions() { return listingOptions; }
+
 }
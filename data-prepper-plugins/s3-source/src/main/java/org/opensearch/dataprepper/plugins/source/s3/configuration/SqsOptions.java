@@ -22,6 +22,7 @@ public class SqsOptions {
     private static final Duration DEFAULT_VISIBILITY_DUPLICATE_PROTECTION_TIMEOUT = Duration.ofHours(2);
     private static final Duration DEFAULT_WAIT_TIME_SECONDS = Duration.ofSeconds(20);
     private static final Duration DEFAULT_POLL_DELAY_SECONDS = Duration.ofSeconds(0);
+    private static final int DEFAULT_S3_OBJECT_CONCURRENCY = 1;
 
     @JsonProperty("queue_url")
     @NotBlank(message = "SQS URL cannot be null or empty")
@@ -54,6 +55,13 @@ public class SqsOptions {
     @DurationMin(seconds = 0)
     private Duration pollDelay = DEFAULT_POLL_DELAY_SECONDS;
 
+    @JsonPropertyDescription("The number of S3 objects each worker reads concurrently. When greater than 1, receiving from SQS " +
+            "overlaps with reading objects, and message deletions and visibility timeout changes are sent in batches.")
+    @JsonProperty("s3_object_concurrency")
+    @Min(1)
+    @Max(100)
+    private int s3ObjectConcurrency = DEFAULT_S3_OBJECT_CONCURRENCY;
+
     @JsonPropertyDescription("Messages that contain an ApproximateReceiveCount greater than this value will be deleted")
     @JsonProperty("max_receive_attempts")
     @Min(1)
@@ -88,4 +96,8 @@ public class SqsOptions {
     }
 
     public Integer getMaxReceiveAttempts() { return maxReceiveAttempts; }
+
+    public int getS3ObjectConcurrency() {
+        return s3ObjectConcurrency;
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectByteBufferPoolTest {
+
+    @Test
+    void constructor_throws_for_invalid_sizes() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectByteBufferPool(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DirectByteBufferPool(1, 0));
+    }
+
+    @Test
+    void acquire_returns_direct_buffer_of_configured_size() throws InterruptedException {
+        final DirectByteBufferPool objectUnderTest = new DirectByteBufferPool(64, 2);
+
+        final ByteBuffer buffer = objectUnderTest.acquire();
+
+        assertThat(buffer.isDirect(), equalTo(true));
+        assertThat(buffer.capacity(), equalTo(64));
+        assertThat(objectUnderTest.getAvailableBuffers(), equalTo(1));
+    }
+
+    @Test
+    void release_makes_buffer_available_for_reuse() throws InterruptedException {
+        final DirectByteBufferPool objectUnderTest = new DirectByteBufferPool(64, 1);
+
+        final ByteBuffer buffer = objectUnderTest.acquire();
+        buffer.put((byte) 1);
+        objectUnderTest.release(buffer);
+        final ByteBuffer reusedBuffer = objectUnderTest.acquire();
+
+        assertThat(reusedBuffer, sameInstance(buffer));
+        assertThat(reusedBuffer.position(), equalTo(0));
+        assertThat(reusedBuffer.limit(), equalTo(64));
+    }
+
+    @Test
+    void acquire_blocks_until_a_buffer_is_released() throws Exception {
+        final DirectByteBufferPool objectUnderTest = new DirectByteBufferPool(64, 1);
+        final ByteBuffer buffer = objectUnderTest.acquire();
+
+        final CompletableFuture<ByteBuffer> waitingAcquire = CompletableFuture.supplyAsync(() -> {
+            try {
+                return objectUnderTest.acquire();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> waitingAcquire.get(100, TimeUnit.MILLISECONDS));
+
+        objectUnderTest.release(buffer);
+
+        assertThat(waitingAcquire.get(5, TimeUnit.SECONDS), sameInstance(buffer));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class NewlineChunkReaderTest {
+
+    private static List<String> readAllChunks(final String content, final int chunkSize) throws IOException {
+        final NewlineChunkReader objectUnderTest = new NewlineChunkReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), chunkSize);
+        final List<String> chunks = new ArrayList<>();
+        NewlineChunkReader.Chunk chunk;
+        while ((chunk = objectUnderTest.next()) != null) {
+            chunks.add(new String(chunk.newInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return chunks;
+    }
+
+    @Test
+    void next_returns_chunks_which_end_at_a_newline() throws IOException {
+        final List<String> chunks = readAllChunks("aaa\nbbb\nccc\nddd\n", 10);
+
+        assertThat(chunks, equalTo(List.of("aaa\nbbb\n", "ccc\nddd\n")));
+    }
+
+    @Test
+    void next_returns_lines_longer_than_the_chunk_size_whole() throws IOException {
+        final List<String> chunks = readAllChunks("a\n" + "b".repeat(20) + "\nc\n", 4);
+
+        assertThat(String.join("", chunks), equalTo("a\n" + "b".repeat(20) + "\nc\n"));
+        assertThat(chunks.stream().allMatch(chunk -> chunk.endsWith("\n")), equalTo(true));
+    }
+
+    @Test
+    void next_returns_final_chunk_without_trailing_newline() throws IOException {
+        final List<String> chunks = readAllChunks("aaa\nbbb", 64);
+
+        assertThat(chunks, equalTo(List.of("aaa\nbbb")));
+    }
+
+    @Test
+    void next_returns_null_for_empty_stream() throws IOException {
+        final NewlineChunkReader objectUnderTest = new NewlineChunkReader(new ByteArrayInputStream(new byte[0]), 8);
+
+        assertThat(objectUnderTest.next(), nullValue());
+    }
+}
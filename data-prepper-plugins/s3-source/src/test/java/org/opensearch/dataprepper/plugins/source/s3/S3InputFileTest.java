@@ -101,4 +101,33 @@ public class S3InputFileTest {
         assertThat(seekableInputStream.getClass(), equalTo(S3InputStream.class));
     }
 
+    @Test
+    public void newStream_returns_S3ReadAheadInputStream_when_read_ahead_applies() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(12345L);
+        final S3ReadAheadContext readAheadContext = mock(S3ReadAheadContext.class);
+        when(readAheadContext.shouldReadAhead(12345L)).thenReturn(true);
+        when(readAheadContext.getPartSize()).thenReturn(1024);
+        when(readAheadContext.getConcurrency()).thenReturn(2);
+
+        final SeekableInputStream seekableInputStream =
+                new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, readAheadContext).newStream();
+
+        assertThat(seekableInputStream.getClass(), equalTo(S3ReadAheadInputStream.class));
+    }
+
+    @Test
+    public void newStream_returns_S3InputStream_when_read_ahead_does_not_apply() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(100L);
+        final S3ReadAheadContext readAheadContext = mock(S3ReadAheadContext.class);
+        when(readAheadContext.shouldReadAhead(100L)).thenReturn(false);
+
+        final SeekableInputStream seekableInputStream =
+                new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, readAheadContext).newStream();
+
+        assertThat(seekableInputStream.getClass(), equalTo(S3InputStream.class));
+    }
 }
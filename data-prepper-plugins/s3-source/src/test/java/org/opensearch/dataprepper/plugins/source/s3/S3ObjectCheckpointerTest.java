@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectCheckpointerTest {
+    @Mock
+    private SourceCoordinator<S3SourceProgressState> sourceCoordinator;
+    @Mock
+    private BufferAccumulator<Record<Event>> bufferAccumulator;
+
+    private String partitionKey;
+
+    @BeforeEach
+    void setUp() {
+        partitionKey = UUID.randomUUID().toString();
+    }
+
+    private S3ObjectCheckpointer createObjectUnderTest(final S3SourceProgressState progressState, final Duration checkpointInterval) {
+        return new S3ObjectCheckpointer(sourceCoordinator, partitionKey, progressState, bufferAccumulator, checkpointInterval);
+    }
+
+    @Test
+    void shouldSkipRecord_skips_records_before_record_count_checkpoint() {
+        final S3ObjectCheckpointer objectUnderTest = createObjectUnderTest(new S3SourceProgressState(null, 2L, null), Duration.ofMinutes(5));
+
+        assertThat(objectUnderTest.getResumeByteOffset(), equalTo(0L));
+        assertThat(objectUnderTest.shouldSkipRecord(), equalTo(true));
+        assertThat(objectUnderTest.shouldSkipRecord(), equalTo(true));
+        assertThat(objectUnderTest.shouldSkipRecord(), equalTo(false));
+    }
+
+    @Test
+    void shouldSkipRecord_does_not_skip_records_after_byte_offset_checkpoint() {
+        final S3ObjectCheckpointer objectUnderTest = createObjectUnderTest(new S3SourceProgressState(null, 2L, 100L), Duration.ofMinutes(5));
+
+        assertThat(objectUnderTest.getResumeByteOffset(), equalTo(100L));
+        assertThat(objectUnderTest.shouldSkipRecord(), equalTo(false));
+    }
+
+    @Test
+    void checkpoints_are_not_saved_before_the_interval_elapses() throws Exception {
+        final S3ObjectCheckpointer objectUnderTest = createObjectUnderTest(new S3SourceProgressState(null), Duration.ofMinutes(5));
+
+        objectUnderTest.shouldSkipRecord();
+        objectUnderTest.checkpointRecordCountIfDue();
+        objectUnderTest.checkpointByteOffsetIfDue(10);
+
+        verifyNoInteractions(sourceCoordinator, bufferAccumulator);
+    }
+
+    @Test
+    void checkpointByteOffsetIfDue_flushes_buffer_then_saves_offset_and_record_count() throws Exception {
+        final S3SourceProgressState progressState = new S3SourceProgressState(null, 3L, 50L);
+        final S3ObjectCheckpointer objectUnderTest = createObjectUnderTest(progressState, Duration.ofMillis(-1));
+
+        objectUnderTest.shouldSkipRecord();
+        objectUnderTest.shouldSkipRecord();
+        objectUnderTest.checkpointByteOffsetIfDue(120);
+
+        final InOrder inOrder = inOrder(bufferAccumulator, sourceCoordinator);
+        inOrder.verify(bufferAccumulator).flush();
+        inOrder.verify(sourceCoordinator).saveProgressStateForPartition(partitionKey, progressState);
+        assertThat(progressState.getCheckpointRecordCount(), equalTo(5L));
+        assertThat(progressState.getCheckpointByteOffset(), equalTo(120L));
+    }
+
+    @Test
+    void checkpointRecordCountIfDue_saves_record_count_without_offset() throws Exception {
+        final S3SourceProgressState progressState = new S3SourceProgressState(null);
+        final S3ObjectCheckpointer objectUnderTest = createObjectUnderTest(progressState, Duration.ofMillis(-1));
+
+        objectUnderTest.shouldSkipRecord();
+        objectUnderTest.checkpointRecordCountIfDue();
+
+        final InOrder inOrder = inOrder(bufferAccumulator, sourceCoordinator);
+        inOrder.verify(bufferAccumulator).flush();
+        inOrder.verify(sourceCoordinator).saveProgressStateForPartition(partitionKey, progressState);
+        assertThat(progressState.getCheckpointRecordCount(), equalTo(1L));
+        assertThat(progressState.getCheckpointByteOffset(), nullValue());
+    }
+}
@@ -40,11 +40,16 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -61,12 +66,14 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -254,6 +261,141 @@ class S3ObjectWorkerTest {
         assertThat(actualInputFile, instanceOf(S3InputFile.class));
     }
 
+    @Test
+    void processS3Object_uses_parallel_decoder_when_it_can_decode_the_object() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(s3ObjectNoRecordsFound);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        final S3ParallelDecoder parallelDecoder = mock(S3ParallelDecoder.class);
+        when(parallelDecoder.canDecode(codec, objectSize)).thenReturn(true);
+
+        final S3ObjectRequest request = new S3ObjectRequest
+                .Builder(buffer, recordsToAccumulate, bufferTimeout, s3ObjectPluginMetrics)
+                .bucketOwnerProvider(bucketOwnerProvider)
+                .eventConsumer(eventConsumer).codec(codec).s3Client(s3Client)
+                .compressionOption(CompressionOption.NONE)
+                .parallelDecoder(parallelDecoder)
+                .build();
+        new S3ObjectWorker(request).processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        verify(parallelDecoder).parse(any(InputStream.class), eq(codec), any(Consumer.class));
+        verify(codec, never()).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+    }
+
+    private void emitRecordsFromCodec(final int numberOfRecords) throws IOException {
+        doAnswer(a -> {
+            final Consumer<Record<Event>> consumer = a.getArgument(2);
+            for (int i = 0; i < numberOfRecords; i++) {
+                final Record<Event> record = mock(Record.class);
+                final Event event = mock(Event.class);
+                // records before a checkpoint are skipped without being read
+                lenient().when(record.getData()).thenReturn(event);
+                lenient().when(event.getMetadata()).thenReturn(mock(EventMetadata.class));
+                lenient().when(event.getEventHandle()).thenReturn(mock(EventHandle.class));
+                consumer.accept(record);
+            }
+            return null;
+        }).when(codec).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+    }
+
+    @Test
+    void processS3Object_with_progress_state_skips_records_before_checkpoint_when_buffer_is_written_off_heap() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(buffer.isWrittenOffHeapOnly()).thenReturn(true);
+        emitRecordsFromCodec(3);
+        final S3SourceProgressState progressState = new S3SourceProgressState(null, 2L, null);
+
+        createObjectUnderTest(s3ObjectPluginMetrics).processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA,
+                acknowledgementSet, sourceCoordinator, UUID.randomUUID().toString(), progressState);
+
+        assertThat(numEventsAdded, equalTo(1));
+        verifyNoInteractions(sourceCoordinator);
+    }
+
+    @Test
+    void processS3Object_with_byte_offset_checkpoint_resumes_at_the_next_record_without_duplicates_or_gaps() throws Exception {
+        final int numberOfLines = 100;
+        final int checkpointLines = 37;
+        final List<String> lines = new ArrayList<>();
+        final StringBuilder content = new StringBuilder();
+        long checkpointByteOffset = 0;
+        for (int i = 0; i < numberOfLines; i++) {
+            final String line = "line-" + i + "-" + UUID.randomUUID();
+            lines.add(line);
+            content.append(line).append('\n');
+            if (i == checkpointLines - 1) {
+                checkpointByteOffset = content.length();
+            }
+        }
+        final byte[] objectBytes = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        when(headObjectResponse.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        final List<String> requestedRanges = new ArrayList<>();
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(a -> {
+            final String range = a.getArgument(0, GetObjectRequest.class).range();
+            requestedRanges.add(range);
+            final int start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+            return new ByteArrayInputStream(objectBytes, start, objectBytes.length - start);
+        });
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(buffer.isWrittenOffHeapOnly()).thenReturn(true);
+        when(codec.isSplittableOnNewlines()).thenReturn(true);
+        doAnswer(a -> {
+            final Consumer<Record<Event>> consumer = a.getArgument(1);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(a.getArgument(0, InputStream.class), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Record<Event> record = mock(Record.class);
+                final Event event = mock(Event.class);
+                when(record.getData()).thenReturn(event);
+                when(event.getMetadata()).thenReturn(mock(EventMetadata.class));
+                when(event.getEventHandle()).thenReturn(mock(EventHandle.class));
+                when(event.toJsonString()).thenReturn(line);
+                consumer.accept(record);
+            }
+            return null;
+        }).when(codec).parse(any(InputStream.class), any(Consumer.class));
+        final List<String> linesRead = new ArrayList<>();
+        doAnswer(a -> {
+            linesRead.add(a.getArgument(0, Event.class).toJsonString());
+            return null;
+        }).when(acknowledgementSet).add(any(Event.class));
+        final S3SourceProgressState progressState = new S3SourceProgressState(null, (long) checkpointLines, checkpointByteOffset);
+
+        createObjectUnderTest(s3ObjectPluginMetrics).processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA,
+                acknowledgementSet, sourceCoordinator, UUID.randomUUID().toString(), progressState);
+
+        assertThat(requestedRanges.get(0), equalTo("bytes=" + checkpointByteOffset + "-"));
+        assertThat(linesRead, equalTo(lines.subList(checkpointLines, numberOfLines)));
+        verify(codec, never()).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+    }
+
+    @Test
+    void processS3Object_with_progress_state_reads_all_records_when_buffer_is_in_memory() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(buffer.isWrittenOffHeapOnly()).thenReturn(false);
+        emitRecordsFromCodec(3);
+        final S3SourceProgressState progressState = new S3SourceProgressState(null, 2L, null);
+
+        createObjectUnderTest(s3ObjectPluginMetrics).processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA,
+                acknowledgementSet, sourceCoordinator, UUID.randomUUID().toString(), progressState);
+
+        assertThat(numEventsAdded, equalTo(3));
+    }
+
     @Test
     void S3ObjectWorker_with_MetadataOnly_Test() throws Exception {
         when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
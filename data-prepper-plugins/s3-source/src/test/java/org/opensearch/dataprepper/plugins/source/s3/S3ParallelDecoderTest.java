@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.event.TestEventFactory;
+import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputCodec;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputConfig;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ParallelDecodeOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3ParallelDecoderTest {
+    private static final int THREADS = 3;
+
+    @Mock(lenient = true)
+    private S3ParallelDecodeOptions parallelDecodeOptions;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        when(parallelDecodeOptions.getThreads()).thenReturn(THREADS);
+        when(parallelDecodeOptions.getChunkSize()).thenReturn(ByteCount.ofBytes(64));
+        when(parallelDecodeOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(1000));
+        executorService = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private S3ParallelDecoder createObjectUnderTest() {
+        return new S3ParallelDecoder(parallelDecodeOptions, executorService);
+    }
+
+    private static InputCodec createNewlineCodec() {
+        return new NewlineDelimitedInputCodec(mock(NewlineDelimitedInputConfig.class), TestEventFactory.getTestEventFactory());
+    }
+
+    @Test
+    void canDecode_requires_splittable_codec_and_minimum_size() {
+        final InputCodec splittableCodec = mock(InputCodec.class);
+        when(splittableCodec.isSplittableOnNewlines()).thenReturn(true);
+        final InputCodec otherCodec = mock(InputCodec.class);
+
+        final S3ParallelDecoder objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.canDecode(splittableCodec, 1000), equalTo(true));
+        assertThat(objectUnderTest.canDecode(splittableCodec, 999), equalTo(false));
+        assertThat(objectUnderTest.canDecode(otherCodec, 1000), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void parse_produces_one_event_per_line(final int numberOfLines) throws IOException {
+        final List<String> lines = IntStream.range(0, numberOfLines)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .collect(Collectors.toList());
+        final InputStream inputStream = new ByteArrayInputStream(
+                (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+
+        final List<String> actualLines = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, createNewlineCodec(),
+                record -> actualLines.add(record.getData().get("message", String.class)));
+
+        assertThat(actualLines.size(), equalTo(numberOfLines));
+        assertThat(actualLines, containsInAnyOrder(lines.toArray()));
+    }
+
+    @Test
+    void parse_handles_lines_longer_than_chunk_and_missing_final_newline() throws IOException {
+        final String longLine = "a".repeat(500);
+        final InputStream inputStream = new ByteArrayInputStream(
+                ("first\n" + longLine + "\nlast").getBytes(StandardCharsets.UTF_8));
+
+        final List<String> actualLines = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, createNewlineCodec(),
+                record -> actualLines.add(record.getData().get("message", String.class)));
+
+        assertThat(actualLines, containsInAnyOrder("first", longLine, "last"));
+    }
+
+    @Test
+    void parse_throws_when_a_chunk_fails_to_parse() throws IOException {
+        final InputCodec codec = mock(InputCodec.class);
+        doThrow(new IOException("parse failure")).when(codec).parse(any(InputStream.class), any(Consumer.class));
+        final InputStream inputStream = new ByteArrayInputStream("a\nb\n".getBytes(StandardCharsets.UTF_8));
+        final Consumer<Record<Event>> eventConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> createObjectUnderTest().parse(inputStream, codec, eventConsumer));
+    }
+
+    @Test
+    void parse_waits_for_running_chunks_before_throwing() throws IOException {
+        final CountDownLatch slowChunkStarted = new CountDownLatch(1);
+        final AtomicBoolean slowChunkFinished = new AtomicBoolean();
+        final InputCodec codec = mock(InputCodec.class);
+        doAnswer(invocation -> {
+            final String chunk = new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8);
+            if (chunk.startsWith("fail")) {
+                assertThat(slowChunkStarted.await(10, TimeUnit.SECONDS), equalTo(true));
+                throw new IOException("parse failure");
+            }
+            slowChunkStarted.countDown();
+            Thread.sleep(200);
+            try {
+                invocation.<Consumer<Record<Event>>>getArgument(1).accept(mock(Record.class));
+            } finally {
+                slowChunkFinished.set(true);
+            }
+            return null;
+        }).when(codec).parse(any(InputStream.class), any(Consumer.class));
+        final InputStream inputStream = new ByteArrayInputStream(
+                ("fail" + "a".repeat(80) + "\nslow" + "b".repeat(80) + "\n").getBytes(StandardCharsets.UTF_8));
+        final Consumer<Record<Event>> eventConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> createObjectUnderTest().parse(inputStream, codec, eventConsumer));
+
+        assertThat(slowChunkFinished.get(), equalTo(true));
+        verify(eventConsumer, never()).accept(any());
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ReadAheadOptions;
+import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3ReadAheadInputStreamTest {
+    private static final int PART_SIZE = 16;
+    private static final int CONCURRENCY = 3;
+    private static final int OBJECT_SIZE = 100;
+
+    @Mock(lenient = true)
+    private S3Client s3Client;
+    @Mock(lenient = true)
+    private S3ObjectReference s3ObjectReference;
+    @Mock
+    private BucketOwnerProvider bucketOwnerProvider;
+    @Mock(lenient = true)
+    private HeadObjectResponse metadata;
+    @Mock(lenient = true)
+    private S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    @Mock(lenient = true)
+    private S3ReadAheadOptions readAheadOptions;
+
+    private DistributionSummary s3ObjectSizeProcessedSummary;
+    private ExecutorService executorService;
+    private S3ReadAheadContext readAheadContext;
+    private byte[] objectContent;
+    private String bucketName;
+
+    @BeforeEach
+    void setUp() {
+        s3ObjectSizeProcessedSummary = mock(DistributionSummary.class);
+        bucketName = UUID.randomUUID().toString();
+        when(s3ObjectReference.getBucketName()).thenReturn(bucketName);
+        when(s3ObjectReference.getKey()).thenReturn(UUID.randomUUID().toString());
+        when(metadata.contentLength()).thenReturn((long) OBJECT_SIZE);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(readAheadOptions.getPartSize()).thenReturn(ByteCount.ofBytes(PART_SIZE));
+        when(readAheadOptions.getConcurrency()).thenReturn(CONCURRENCY);
+
+        objectContent = new byte[OBJECT_SIZE];
+        new Random().nextBytes(objectContent);
+
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(invocation -> {
+            final GetObjectRequest request = invocation.getArgument(0);
+            final String[] range = request.range().substring("bytes=".length()).split("-");
+            final int start = Integer.parseInt(range[0]);
+            final int end = Integer.parseInt(range[1]);
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(Arrays.copyOfRange(objectContent, start, end + 1))));
+        });
+
+        executorService = Executors.newFixedThreadPool(CONCURRENCY);
+        readAheadContext = new S3ReadAheadContext(readAheadOptions, 1, executorService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private S3ReadAheadInputStream createObjectUnderTest() {
+        return new S3ReadAheadInputStream(s3Client, s3ObjectReference, bucketOwnerProvider, metadata,
+                s3ObjectPluginMetrics, readAheadContext, Duration.ofMillis(10), 2);
+    }
+
+    @Test
+    void readAllBytes_returns_the_whole_object() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        final byte[] actualBytes = objectUnderTest.readAllBytes();
+
+        assertArrayEquals(objectContent, actualBytes);
+        assertThat(objectUnderTest.getPos(), equalTo((long) OBJECT_SIZE));
+        assertThat(objectUnderTest.read(), equalTo(-1));
+
+        objectUnderTest.close();
+        verify(s3ObjectSizeProcessedSummary).record(OBJECT_SIZE);
+        assertThat(readAheadContext.getBufferPool().getAvailableBuffers(), equalTo(CONCURRENCY));
+    }
+
+    @Test
+    void objects_read_at_the_same_time_each_get_a_full_read_ahead_window() {
+        final int concurrentObjects = 4;
+        final ExecutorService readAheadExecutorService = Executors.newCachedThreadPool();
+        readAheadContext = new S3ReadAheadContext(readAheadOptions, concurrentObjects, readAheadExecutorService);
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                final List<S3ReadAheadInputStream> streams = new ArrayList<>();
+                final List<byte[]> contents = new ArrayList<>();
+                for (int i = 0; i < concurrentObjects; i++) {
+                    streams.add(createObjectUnderTest());
+                    contents.add(new byte[OBJECT_SIZE]);
+                }
+
+                for (int position = 0; position < OBJECT_SIZE; position++) {
+                    for (int i = 0; i < concurrentObjects; i++) {
+                        contents.get(i)[position] = (byte) streams.get(i).read();
+                    }
+                }
+
+                for (int i = 0; i < concurrentObjects; i++) {
+                    assertArrayEquals(objectContent, contents.get(i));
+                    streams.get(i).close();
+                }
+            });
+            assertThat(readAheadContext.getBufferPool().getMaximumBuffers(), equalTo(CONCURRENCY * concurrentObjects));
+        } finally {
+            readAheadExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void read_single_bytes_returns_all_bytes_in_order() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < OBJECT_SIZE; i++) {
+            assertThat(objectUnderTest.read(), equalTo(objectContent[i] & 0xFF));
+        }
+        assertThat(objectUnderTest.read(), equalTo(-1));
+        objectUnderTest.close();
+    }
+
+    @Test
+    void requests_use_ranges_aligned_to_part_size() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.readAllBytes();
+        objectUnderTest.close();
+
+        final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, atLeastOnce()).getObject(requestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        final List<String> ranges = requestArgumentCaptor.getAllValues().stream().map(GetObjectRequest::range)
+                .collect(Collectors.toList());
+        assertThat(ranges, hasItem("bytes=0-15"));
+        assertThat(ranges, hasItem("bytes=96-99"));
+    }
+
+    @Test
+    void seek_and_readFully_return_bytes_at_new_position() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.seek(70);
+        final byte[] actualBytes = new byte[20];
+        objectUnderTest.readFully(actualBytes);
+        assertArrayEquals(Arrays.copyOfRange(objectContent, 70, 90), actualBytes);
+
+        objectUnderTest.seek(5);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(30);
+        objectUnderTest.readFully(directBuffer);
+        directBuffer.flip();
+        final byte[] directBytes = new byte[30];
+        directBuffer.get(directBytes);
+        assertArrayEquals(Arrays.copyOfRange(objectContent, 5, 35), directBytes);
+        assertThat(objectUnderTest.getPos(), equalTo(35L));
+    }
+
+    @Test
+    void readFully_throws_EOFException_when_object_ends() {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.seek(90);
+
+        assertThrows(EOFException.class, () -> objectUnderTest.readFully(new byte[20]));
+    }
+
+    @Test
+    void mark_and_reset_return_to_marked_position() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.seek(20);
+        objectUnderTest.mark(10);
+        objectUnderTest.read(new byte[5]);
+        objectUnderTest.reset();
+
+        assertThat(objectUnderTest.getPos(), equalTo(20L));
+        assertThat(objectUnderTest.read(), equalTo(objectContent[20] & 0xFF));
+    }
+
+    @Test
+    void skip_does_not_move_past_end_of_object() {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.skip(60), equalTo(60L));
+        assertThat(objectUnderTest.skip(60), equalTo(40L));
+        assertThat(objectUnderTest.skip(60), equalTo(0L));
+    }
+
+    @Test
+    void read_after_close_throws() throws IOException {
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+        objectUnderTest.close();
+
+        assertThrows(IllegalStateException.class, objectUnderTest::read);
+    }
+
+    @Test
+    void read_throws_IOException_and_records_metric_when_object_is_not_found() {
+        final Counter notFoundCounter = mock(Counter.class);
+        when(s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter()).thenReturn(notFoundCounter);
+        final S3Exception notFoundException = (S3Exception) S3Exception.builder()
+                .statusCode(HttpStatusCode.NOT_FOUND)
+                .build();
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenThrow(notFoundException);
+
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        assertThrows(IOException.class, objectUnderTest::read);
+        verify(notFoundCounter, atLeastOnce()).increment();
+    }
+
+    @Test
+    void read_uses_expected_bucket_owner_when_present() throws IOException {
+        final String owner = UUID.randomUUID().toString();
+        when(bucketOwnerProvider.getBucketOwner(bucketName)).thenReturn(Optional.of(owner));
+        final S3ReadAheadInputStream objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.read();
+        objectUnderTest.close();
+
+        final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, atLeastOnce()).getObject(requestArgumentCaptor.capture(), any(ResponseTransformer.class));
+        assertThat(requestArgumentCaptor.getValue().expectedBucketOwner(), equalTo(owner));
+    }
+}
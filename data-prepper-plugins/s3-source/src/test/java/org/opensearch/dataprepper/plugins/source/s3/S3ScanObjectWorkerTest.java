@@ -56,6 +56,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -205,9 +206,9 @@ class S3ScanObjectWorkerTest {
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
         final ArgumentCaptor<S3DataSelection> dataSelectionArgumentCaptor = ArgumentCaptor.forClass(S3DataSelection.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey1));
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey2));
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey3));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey1), any(S3SourceProgressState.class));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey2), any(S3SourceProgressState.class));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), dataSelectionArgumentCaptor.capture(), eq(null), eq(sourceCoordinator), eq(partitionKey3), any(S3SourceProgressState.class));
 
         final SourcePartition<S3SourceProgressState> partitionToProcess = SourcePartition.builder(S3SourceProgressState.class)
                 .withPartitionKey(partitionKey1)
@@ -272,7 +273,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doThrow(exception).when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doThrow(exception).when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).giveUpPartition(any());
 
         createObjectUnderTest().runWithoutInfiniteLoop();
@@ -294,7 +295,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(anyString(), eq(false));
 
         createObjectUnderTest().runWithoutInfiniteLoop();
@@ -322,7 +323,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(acknowledgementSet), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(acknowledgementSet), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(anyString(), eq(true));
 
         final ScanObjectWorker scanObjectWorker = createObjectUnderTest();
@@ -377,7 +378,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(acknowledgementSet), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(acknowledgementSet), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(anyString(), eq(true));
 
         final ScanObjectWorker scanObjectWorker = createObjectUnderTest();
@@ -415,6 +416,45 @@ class S3ScanObjectWorkerTest {
         assertThat(processedObject.getKey(), equalTo(objectKey));
     }
 
+    @Test
+    void negative_acknowledgement_clears_checkpoint_before_giving_up_partition() throws IOException {
+        final String objectKey = UUID.randomUUID().toString();
+        final String partitionKey = bucket + "|" + objectKey;
+
+        when(s3SourceConfig.getAcknowledgements()).thenReturn(true);
+
+        final SourcePartition<S3SourceProgressState> partitionToProcess = SourcePartition.builder(S3SourceProgressState.class)
+                .withPartitionKey(partitionKey)
+                .withPartitionState(new S3SourceProgressState(null, 5L, 100L))
+                .withPartitionClosedCount(0L)
+                .build();
+
+        given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
+
+        doNothing().when(s3ObjectHandler).processS3Object(any(S3ObjectReference.class), eq(S3DataSelection.DATA_AND_METADATA), eq(acknowledgementSet), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
+
+        final ScanObjectWorker scanObjectWorker = createObjectUnderTest();
+
+        when(acknowledgementSetManager.create(any(Consumer.class), any(Duration.class))).thenReturn(acknowledgementSet);
+
+        scanObjectWorker.runWithoutInfiniteLoop();
+
+        final ArgumentCaptor<Consumer> consumerArgumentCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(acknowledgementSetManager).create(consumerArgumentCaptor.capture(), any(Duration.class));
+
+        final Consumer<Boolean> ackCallback = consumerArgumentCaptor.getValue();
+        ackCallback.accept(false);
+
+        final ArgumentCaptor<S3SourceProgressState> progressStateArgumentCaptor = ArgumentCaptor.forClass(S3SourceProgressState.class);
+        final InOrder inOrder = inOrder(sourceCoordinator);
+        inOrder.verify(sourceCoordinator).saveProgressStateForPartition(eq(partitionKey), progressStateArgumentCaptor.capture());
+        inOrder.verify(sourceCoordinator).giveUpPartition(partitionKey);
+        verify(sourceCoordinator, never()).completePartition(anyString(), anyBoolean());
+
+        assertThat(progressStateArgumentCaptor.getValue().getCheckpointRecordCount(), nullValue());
+        assertThat(progressStateArgumentCaptor.getValue().getCheckpointByteOffset(), nullValue());
+    }
+
     @Test
     void buildDeleteObjectRequest_should_not_be_invoked_after_processing_when_deleteS3Objects_is_true_acknowledgements_is_false() throws IOException {
         final String objectKey = UUID.randomUUID().toString();
@@ -432,7 +472,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(anyString(), eq(false));
 
         final ScanObjectWorker scanObjectWorker = createObjectUnderTest();
@@ -466,7 +506,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(anyString(), eq(false));
 
         final ScanObjectWorker scanObjectWorker = createObjectUnderTest();
@@ -500,7 +540,7 @@ class S3ScanObjectWorkerTest {
         given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
 
         final ArgumentCaptor<S3ObjectReference> objectReferenceArgumentCaptor = ArgumentCaptor.forClass(S3ObjectReference.class);
-        doThrow(NoSuchKeyException.class).when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doThrow(NoSuchKeyException.class).when(s3ObjectHandler).processS3Object(objectReferenceArgumentCaptor.capture(), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey), any(S3SourceProgressState.class));
         doNothing().when(sourceCoordinator).completePartition(partitionKey, false);
 
         createObjectUnderTest().runWithoutInfiniteLoop();
@@ -17,9 +17,11 @@ import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.FolderPartitioningOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanBucketOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanKeyPathOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanListingOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanSchedulingOptions;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
@@ -56,6 +58,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.source.s3.S3ScanPartitionCreationSupplier.LAST_SCAN_TIME;
 import static org.opensearch.dataprepper.plugins.source.s3.S3ScanPartitionCreationSupplier.SCAN_COUNT;
+import static org.opensearch.dataprepper.plugins.source.s3.S3ScanPartitionCreationSupplier.SINGLE_SCAN_COMPLETE;
+import static org.opensearch.dataprepper.plugins.source.s3.S3ScanPartitionCreationSupplier.getLastModifiedWatermarkStateKey;
 
 @ExtendWith(MockitoExtension.class)
 public class S3ScanPartitionCreationSupplierTest {
@@ -77,16 +81,151 @@ public class S3ScanPartitionCreationSupplierTest {
 
     private boolean isDeleteS3ObjectsOnRead;
 
+    private S3ScanListingOptions listingOptions;
+
     @BeforeEach
     void setup() {
         scanOptionsList = new ArrayList<>();
         folderPartitioningOptions = null;
         isDeleteS3ObjectsOnRead = false;
+        listingOptions = null;
     }
 
 
     private Function<Map<String, Object>, List<PartitionIdentifier>> createObjectUnderTest() {
-        return new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsList, schedulingOptions, folderPartitioningOptions, isDeleteS3ObjectsOnRead, sourceCoordinator);
+        return new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsList, schedulingOptions, folderPartitioningOptions, isDeleteS3ObjectsOnRead, sourceCoordinator, listingOptions);
+    }
+
+    private ScanOptions createScanOptionsForBucket(final String bucket) {
+        final ScanOptions scanOptions = mock(ScanOptions.class);
+        final S3ScanBucketOption scanBucketOption = mock(S3ScanBucketOption.class);
+        given(scanOptions.getBucketOption()).willReturn(scanBucketOption);
+        given(scanBucketOption.getName()).willReturn(bucket);
+        return scanOptions;
+    }
+
+    private static S3Object createS3Object(final String key) {
+        final S3Object s3Object = mock(S3Object.class);
+        given(s3Object.key()).willReturn(key);
+        given(s3Object.lastModified()).willReturn(Instant.now());
+        return s3Object;
+    }
+
+    private static Map<String, Object> createGlobalStateMapBeforeFirstScan() {
+        final Map<String, Object> globalStateMap = new HashMap<>();
+        globalStateMap.put(SCAN_COUNT, 0);
+        globalStateMap.put(SINGLE_SCAN_COMPLETE, false);
+        return globalStateMap;
+    }
+
+    @Test
+    void incremental_listing_starts_after_the_last_listed_key_and_saves_the_new_last_key() {
+        schedulingOptions = null;
+        listingOptions = mock(S3ScanListingOptions.class);
+        given(listingOptions.getConcurrency()).willReturn(1);
+        given(listingOptions.isIncremental()).willReturn(true);
+        final String bucket = UUID.randomUUID().toString();
+        scanOptionsList.add(createScanOptionsForBucket(bucket));
+
+        final List<S3Object> s3Objects = List.of(createS3Object("2024/01/02/b"), createS3Object("2024/01/02/c"));
+        final ListObjectsV2Response listObjectsResponse = mock(ListObjectsV2Response.class);
+        given(listObjectsResponse.contents()).willReturn(s3Objects);
+        final ArgumentCaptor<ListObjectsV2Request> listObjectsV2RequestArgumentCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        given(s3Client.listObjectsV2(listObjectsV2RequestArgumentCaptor.capture())).willReturn(listObjectsResponse);
+
+        final String lastListedKeyStateKey = S3ScanPartitionCreationSupplier.getLastListedKeyStateKey(bucket, null);
+        final Map<String, Object> globalStateMap = createGlobalStateMapBeforeFirstScan();
+        globalStateMap.put(lastListedKeyStateKey, "2024/01/02/a");
+
+        createObjectUnderTest().apply(globalStateMap);
+
+        assertThat(listObjectsV2RequestArgumentCaptor.getValue().startAfter(), equalTo("2024/01/02/a"));
+        assertThat(globalStateMap.get(lastListedKeyStateKey), equalTo("2024/01/02/c"));
+    }
+
+    @Test
+    void last_modified_watermark_is_kept_for_each_prefix_of_a_bucket() {
+        schedulingOptions = mock(S3ScanSchedulingOptions.class);
+        given(schedulingOptions.getCount()).willReturn(2);
+        final String bucket = UUID.randomUUID().toString();
+        final ScanOptions scanOptions = createScanOptionsForBucket(bucket);
+        final S3ScanKeyPathOption scanKeyPathOption = mock(S3ScanKeyPathOption.class);
+        final S3ScanBucketOption scanBucketOption = scanOptions.getBucketOption();
+        given(scanBucketOption.getS3ScanFilter()).willReturn(scanKeyPathOption);
+        given(scanKeyPathOption.getS3scanIncludePrefixOptions()).willReturn(List.of("a/", "b/"));
+        scanOptionsList.add(scanOptions);
+
+        // filtered out on the watermark of its prefix before the key is read
+        final S3Object firstPrefixObject = mock(S3Object.class);
+        given(firstPrefixObject.lastModified()).willReturn(Instant.now());
+        final ListObjectsV2Response firstPrefixResponse = mock(ListObjectsV2Response.class);
+        given(firstPrefixResponse.contents()).willReturn(List.of(firstPrefixObject));
+        final S3Object secondPrefixObject = createS3Object("b/object");
+        final ListObjectsV2Response secondPrefixResponse = mock(ListObjectsV2Response.class);
+        given(secondPrefixResponse.contents()).willReturn(List.of(secondPrefixObject));
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).willAnswer(invocation -> {
+            final ListObjectsV2Request request = invocation.getArgument(0);
+            return "a/".equals(request.prefix()) ? firstPrefixResponse : secondPrefixResponse;
+        });
+
+        final ArgumentCaptor<List<PartitionIdentifier>> createPartitionsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(sourceCoordinator).createPartitions(createPartitionsArgumentCaptor.capture());
+
+        final Map<String, Object> globalStateMap = createGlobalStateMapBeforeFirstScan();
+        final String firstPrefixWatermarkStateKey = getLastModifiedWatermarkStateKey(bucket, "a/");
+        final String secondPrefixWatermarkStateKey = getLastModifiedWatermarkStateKey(bucket, "b/");
+        globalStateMap.put(firstPrefixWatermarkStateKey, Instant.now().plus(1, ChronoUnit.HOURS).toString());
+
+        final Instant beforeScan = Instant.now();
+        createObjectUnderTest().apply(globalStateMap);
+
+        final List<String> createdPartitionKeys = createPartitionsArgumentCaptor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(PartitionIdentifier::getPartitionKey)
+                .collect(Collectors.toList());
+        assertThat(createdPartitionKeys, equalTo(List.of(bucket + "|b/object")));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstPrefixWatermarkStateKey)), greaterThanOrEqualTo(beforeScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondPrefixWatermarkStateKey)), greaterThanOrEqualTo(beforeScan));
+        assertThat(globalStateMap.containsKey(bucket), equalTo(false));
+    }
+
+    @Test
+    void listing_with_concurrency_lists_each_sub_prefix() {
+        schedulingOptions = null;
+        listingOptions = mock(S3ScanListingOptions.class);
+        given(listingOptions.getConcurrency()).willReturn(2);
+        final String bucket = UUID.randomUUID().toString();
+        scanOptionsList.add(createScanOptionsForBucket(bucket));
+
+        final S3Object topLevelObject = createS3Object("top-level");
+        final ListObjectsV2Response delimiterResponse = mock(ListObjectsV2Response.class);
+        given(delimiterResponse.contents()).willReturn(List.of(topLevelObject));
+        given(delimiterResponse.commonPrefixes()).willReturn(List.of(
+                CommonPrefix.builder().prefix("a/").build(), CommonPrefix.builder().prefix("b/").build()));
+        final S3Object firstPrefixObject = createS3Object("a/object");
+        final ListObjectsV2Response firstPrefixResponse = mock(ListObjectsV2Response.class);
+        given(firstPrefixResponse.contents()).willReturn(List.of(firstPrefixObject));
+        final S3Object secondPrefixObject = createS3Object("b/object");
+        final ListObjectsV2Response secondPrefixResponse = mock(ListObjectsV2Response.class);
+        given(secondPrefixResponse.contents()).willReturn(List.of(secondPrefixObject));
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).willAnswer(invocation -> {
+            final ListObjectsV2Request request = invocation.getArgument(0);
+            if (request.delimiter() != null) {
+                return delimiterResponse;
+            }
+            return "a/".equals(request.prefix()) ? firstPrefixResponse : secondPrefixResponse;
+        });
+
+        final ArgumentCaptor<List<PartitionIdentifier>> createPartitionsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(sourceCoordinator).createPartitions(createPartitionsArgumentCaptor.capture());
+
+        createObjectUnderTest().apply(createGlobalStateMapBeforeFirstScan());
+
+        final List<String> createdPartitionKeys = createPartitionsArgumentCaptor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(PartitionIdentifier::getPartitionKey)
+                .collect(Collectors.toList());
+        assertThat(createdPartitionKeys, containsInAnyOrder(bucket + "|top-level", bucket + "|a/object", bucket + "|b/object"));
     }
 
     @Test
@@ -206,7 +345,10 @@ public class S3ScanPartitionCreationSupplierTest {
         given(firstBucketScanOptions.getUseEndDateTime()).willReturn(null);
         final S3ScanKeyPathOption firstBucketScanKeyPath = mock(S3ScanKeyPathOption.class);
         given(firstBucketScanBucketOption.getS3ScanFilter()).willReturn(firstBucketScanKeyPath);
-        given(firstBucketScanKeyPath.getS3scanIncludePrefixOptions()).willReturn(List.of(UUID.randomUUID().toString()));
+        final String firstBucketPrefix = UUID.randomUUID().toString();
+        given(firstBucketScanKeyPath.getS3scanIncludePrefixOptions()).willReturn(List.of(firstBucketPrefix));
+        final String firstBucketWatermarkStateKey = getLastModifiedWatermarkStateKey(firstBucket, firstBucketPrefix);
+        final String secondBucketWatermarkStateKey = getLastModifiedWatermarkStateKey(secondBucket, null);
         given(firstBucketScanKeyPath.getS3ScanExcludeSuffixOptions()).willReturn(List.of(".invalid"));
         scanOptionsList.add(firstBucketScanOptions);
 
@@ -285,12 +427,12 @@ public class S3ScanPartitionCreationSupplierTest {
         assertThat(globalStateMap, notNullValue());
         assertThat(globalStateMap.containsKey(SCAN_COUNT), equalTo(true));
         assertThat(globalStateMap.get(SCAN_COUNT), equalTo(1));
-        assertThat(globalStateMap.containsKey(firstBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), lessThanOrEqualTo(mostRecentFirstScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), greaterThanOrEqualTo(beforeFirstScan));
-        assertThat(globalStateMap.containsKey(secondBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), lessThanOrEqualTo(mostRecentFirstScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), greaterThanOrEqualTo(beforeFirstScan));
+        assertThat(globalStateMap.containsKey(firstBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentFirstScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeFirstScan));
+        assertThat(globalStateMap.containsKey(secondBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentFirstScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeFirstScan));
 
         final Instant beforeSecondScan = Instant.now();
         final List<PartitionIdentifier> secondScanPartitions = partitionCreationSupplier.apply(globalStateMap);
@@ -317,12 +459,12 @@ public class S3ScanPartitionCreationSupplierTest {
         assertThat(globalStateMap, notNullValue());
         assertThat(globalStateMap.containsKey(SCAN_COUNT), equalTo(true));
         assertThat(globalStateMap.get(SCAN_COUNT), equalTo(2));
-        assertThat(globalStateMap.containsKey(firstBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), lessThanOrEqualTo(mostRecentSecondScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), greaterThanOrEqualTo(beforeSecondScan));
-        assertThat(globalStateMap.containsKey(secondBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), lessThanOrEqualTo(mostRecentSecondScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), greaterThan(beforeSecondScan));
+        assertThat(globalStateMap.containsKey(firstBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentSecondScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeSecondScan));
+        assertThat(globalStateMap.containsKey(secondBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentSecondScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), greaterThan(beforeSecondScan));
         assertThat(Instant.ofEpochMilli((Long) globalStateMap.get(LAST_SCAN_TIME)).isBefore(Instant.now()), equalTo(true));
 
         assertThat(partitionCreationSupplier.apply(globalStateMap), equalTo(Collections.emptyList()));
@@ -544,7 +686,10 @@ public class S3ScanPartitionCreationSupplierTest {
         given(firstBucketScanOptions.getUseEndDateTime()).willReturn(null);
         final S3ScanKeyPathOption firstBucketScanKeyPath = mock(S3ScanKeyPathOption.class);
         given(firstBucketScanBucketOption.getS3ScanFilter()).willReturn(firstBucketScanKeyPath);
-        given(firstBucketScanKeyPath.getS3scanIncludePrefixOptions()).willReturn(List.of(UUID.randomUUID().toString()));
+        final String firstBucketPrefix = UUID.randomUUID().toString();
+        given(firstBucketScanKeyPath.getS3scanIncludePrefixOptions()).willReturn(List.of(firstBucketPrefix));
+        final String firstBucketWatermarkStateKey = getLastModifiedWatermarkStateKey(firstBucket, firstBucketPrefix);
+        final String secondBucketWatermarkStateKey = getLastModifiedWatermarkStateKey(secondBucket, null);
         given(firstBucketScanKeyPath.getS3ScanExcludeSuffixOptions()).willReturn(List.of(".invalid"));
         scanOptionsList.add(firstBucketScanOptions);
 
@@ -623,12 +768,12 @@ public class S3ScanPartitionCreationSupplierTest {
         assertThat(globalStateMap, notNullValue());
         assertThat(globalStateMap.containsKey(SCAN_COUNT), equalTo(true));
         assertThat(globalStateMap.get(SCAN_COUNT), equalTo(1));
-        assertThat(globalStateMap.containsKey(firstBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), lessThanOrEqualTo(mostRecentFirstScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), greaterThanOrEqualTo(beforeFirstScan));
-        assertThat(globalStateMap.containsKey(secondBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), lessThanOrEqualTo(mostRecentFirstScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), greaterThanOrEqualTo(beforeFirstScan));
+        assertThat(globalStateMap.containsKey(firstBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentFirstScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeFirstScan));
+        assertThat(globalStateMap.containsKey(secondBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentFirstScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeFirstScan));
 
         final Instant beforeSecondScan = Instant.now();
         final List<PartitionIdentifier> secondScanPartitions = partitionCreationSupplier.apply(globalStateMap);
@@ -663,12 +808,12 @@ public class S3ScanPartitionCreationSupplierTest {
         assertThat(globalStateMap, notNullValue());
         assertThat(globalStateMap.containsKey(SCAN_COUNT), equalTo(true));
         assertThat(globalStateMap.get(SCAN_COUNT), equalTo(2));
-        assertThat(globalStateMap.containsKey(firstBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), lessThanOrEqualTo(mostRecentSecondScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucket)), greaterThanOrEqualTo(beforeSecondScan));
-        assertThat(globalStateMap.containsKey(secondBucket), equalTo(true));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), lessThanOrEqualTo(mostRecentSecondScan));
-        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucket)), greaterThan(beforeSecondScan));
+        assertThat(globalStateMap.containsKey(firstBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentSecondScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(firstBucketWatermarkStateKey)), greaterThanOrEqualTo(beforeSecondScan));
+        assertThat(globalStateMap.containsKey(secondBucketWatermarkStateKey), equalTo(true));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), lessThanOrEqualTo(mostRecentSecondScan));
+        assertThat(Instant.parse((CharSequence) globalStateMap.get(secondBucketWatermarkStateKey)), greaterThan(beforeSecondScan));
         assertThat(Instant.ofEpochMilli((Long) globalStateMap.get(LAST_SCAN_TIME)).isBefore(Instant.now()), equalTo(true));
 
         assertThat(partitionCreationSupplier.apply(globalStateMap), equalTo(Collections.emptyList()));
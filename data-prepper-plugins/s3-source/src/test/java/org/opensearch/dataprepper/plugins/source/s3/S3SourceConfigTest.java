@@ -53,6 +53,11 @@ class S3SourceConfigTest {
         assertThat(new S3SourceConfig().isDeleteS3ObjectsOnRead(), equalTo(false));
     }
 
+    @Test
+    void default_read_ahead_options_test() {
+        assertThat(new S3SourceConfig().getReadAheadOptions(), equalTo(null));
+    }
+
     @Test
     void default_notification_source_test() {
         assertThat(new S3SourceConfig().getNotificationSource(), equalTo(NotificationSourceOption.S3));
@@ -12,7 +12,11 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.SqsOptions;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -46,4 +50,37 @@ class S3SourceTest {
     void start_should_throw_IllegalStateException_when_buffer_is_null() {
         assertThrows(IllegalStateException.class, () -> s3Source.start(null));
     }
+
+    @Test
+    void getMaximumConcurrentObjectReads_counts_every_object_of_every_sqs_worker() {
+        final SqsOptions sqsOptions = mock(SqsOptions.class);
+        when(sqsOptions.getS3ObjectConcurrency()).thenReturn(4);
+        when(s3SourceConfig.getSqsOptions()).thenReturn(sqsOptions);
+        when(s3SourceConfig.getNumWorkers()).thenReturn(2);
+
+        assertThat(s3Source.getMaximumConcurrentObjectReads(), equalTo(8));
+    }
+
+    @Test
+    void getMaximumConcurrentObjectReads_adds_scan_workers_to_sqs_workers() {
+        final SqsOptions sqsOptions = mock(SqsOptions.class);
+        when(sqsOptions.getS3ObjectConcurrency()).thenReturn(4);
+        when(s3SourceConfig.getSqsOptions()).thenReturn(sqsOptions);
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(mock(S3ScanScanOptions.class));
+        when(s3SourceConfig.getNumWorkers()).thenReturn(2);
+
+        s3Source = new S3Source(pluginMetrics, s3SourceConfig, pluginFactory, acknowledgementSetManager, awsCredentialsSupplier);
+
+        assertThat(s3Source.getMaximumConcurrentObjectReads(), equalTo(10));
+    }
+
+    @Test
+    void getMaximumConcurrentObjectReads_is_the_number_of_workers_without_sqs() {
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(mock(S3ScanScanOptions.class));
+        when(s3SourceConfig.getNumWorkers()).thenReturn(3);
+
+        s3Source = new S3Source(pluginMetrics, s3SourceConfig, pluginFactory, acknowledgementSetManager, awsCredentialsSupplier);
+
+        assertThat(s3Source.getMaximumConcurrentObjectReads(), equalTo(3));
+    }
 }
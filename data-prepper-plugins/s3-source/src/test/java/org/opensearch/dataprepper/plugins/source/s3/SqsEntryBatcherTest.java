@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+class SqsEntryBatcherTest {
+    private static final Duration FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    private List<List<Integer>> sentBatches;
+
+    @BeforeEach
+    void setUp() {
+        sentBatches = new ArrayList<>();
+    }
+
+    private SqsEntryBatcher<Integer> createObjectUnderTest() {
+        return new SqsEntryBatcher<>(FLUSH_INTERVAL, sentBatches::add);
+    }
+
+    @Test
+    void add_sends_batch_when_maximum_batch_size_is_reached() {
+        final SqsEntryBatcher<Integer> objectUnderTest = createObjectUnderTest();
+
+        IntStream.range(0, SqsEntryBatcher.MAXIMUM_BATCH_SIZE + 1).forEach(objectUnderTest::add);
+
+        assertThat(sentBatches.size(), equalTo(1));
+        assertThat(sentBatches.get(0), equalTo(IntStream.range(0, SqsEntryBatcher.MAXIMUM_BATCH_SIZE).boxed().collect(Collectors.toList())));
+        assertThat(objectUnderTest.getPendingCount(), equalTo(1));
+    }
+
+    @Test
+    void flushIfDue_sends_only_after_flush_interval() {
+        final SqsEntryBatcher<Integer> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1);
+
+        objectUnderTest.flushIfDue(Instant.now());
+        assertThat(sentBatches, empty());
+
+        objectUnderTest.flushIfDue(Instant.now().plus(FLUSH_INTERVAL));
+        assertThat(sentBatches, equalTo(List.of(List.of(1))));
+        assertThat(objectUnderTest.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    void flushIfDue_does_nothing_when_empty() {
+        createObjectUnderTest().flushIfDue(Instant.now().plus(FLUSH_INTERVAL));
+
+        assertThat(sentBatches, empty());
+    }
+
+    @Test
+    void flush_sends_all_pending_entries_in_batches_of_maximum_size() {
+        final SqsEntryBatcher<Integer> objectUnderTest = createObjectUnderTest();
+        final int entryCount = SqsEntryBatcher.MAXIMUM_BATCH_SIZE - 1;
+        objectUnderTest.addAll(IntStream.range(0, entryCount).boxed().collect(Collectors.toList()));
+
+        objectUnderTest.flush();
+
+        assertThat(sentBatches.size(), equalTo(1));
+        assertThat(sentBatches.get(0).size(), equalTo(entryCount));
+        assertThat(objectUnderTest.getPendingCount(), equalTo(0));
+    }
+}
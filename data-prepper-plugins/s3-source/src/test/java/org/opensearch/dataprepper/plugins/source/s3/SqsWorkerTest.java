@@ -72,12 +72,14 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -216,6 +218,71 @@ class SqsWorkerTest {
             assertThat(actualDelay, greaterThanOrEqualTo(Duration.ofHours(1).minus(Duration.ofSeconds(5))));
         }
 
+        @Test
+        void processSqsMessages_with_s3_object_concurrency_reads_objects_asynchronously_and_batches_deletes() throws Exception {
+            when(sqsOptions.getS3ObjectConcurrency()).thenReturn(2);
+            when(s3SourceConfig.getDataSelection()).thenReturn(S3DataSelection.DATA_AND_METADATA);
+            final Message message = mock(Message.class);
+            when(message.body()).thenReturn(createPutNotification(Instant.now()));
+            final String testReceiptHandle = UUID.randomUUID().toString();
+            when(message.messageId()).thenReturn(testReceiptHandle);
+            when(message.receiptHandle()).thenReturn(testReceiptHandle);
+
+            final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+            when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+            when(receiveMessageResponse.messages()).thenReturn(Collections.singletonList(message));
+
+            final SqsWorker objectUnderTest = createObjectUnderTest();
+            final int messagesProcessed = objectUnderTest.processSqsMessages();
+
+            assertThat(messagesProcessed, equalTo(1));
+            verify(s3Service, timeout(5000)).addS3Object(any(S3ObjectReference.class), eq(S3DataSelection.DATA_AND_METADATA), any());
+            verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+
+            Thread.sleep(SqsWorker.BATCH_FLUSH_INTERVAL.toMillis());
+            objectUnderTest.flushPendingBatches();
+
+            final ArgumentCaptor<DeleteMessageBatchRequest> deleteMessageBatchRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+            verify(sqsClient).deleteMessageBatch(deleteMessageBatchRequestArgumentCaptor.capture());
+            assertThat(deleteMessageBatchRequestArgumentCaptor.getValue().entries().size(), equalTo(1));
+            assertThat(deleteMessageBatchRequestArgumentCaptor.getValue().entries().get(0).receiptHandle(), equalTo(testReceiptHandle));
+            verify(sqsMessageDelayTimer).record(any(Duration.class));
+            verify(sqsMessagesReceivedCounter).increment(1);
+            verify(sqsMessagesDeletedCounter).increment(1);
+            objectUnderTest.stop();
+        }
+
+        @Test
+        void stop_with_s3_object_concurrency_waits_for_object_reads_and_sends_pending_deletes() throws Exception {
+            when(sqsOptions.getS3ObjectConcurrency()).thenReturn(2);
+            when(s3SourceConfig.getDataSelection()).thenReturn(S3DataSelection.DATA_AND_METADATA);
+            final Message message = mock(Message.class);
+            when(message.body()).thenReturn(createPutNotification(Instant.now()));
+            final String testReceiptHandle = UUID.randomUUID().toString();
+            when(message.messageId()).thenReturn(testReceiptHandle);
+            when(message.receiptHandle()).thenReturn(testReceiptHandle);
+
+            final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+            when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+            when(receiveMessageResponse.messages()).thenReturn(Collections.singletonList(message));
+            doAnswer(invocation -> {
+                Thread.sleep(200);
+                return null;
+            }).when(s3Service).addS3Object(any(S3ObjectReference.class), eq(S3DataSelection.DATA_AND_METADATA), any());
+
+            final SqsWorker objectUnderTest = createObjectUnderTest();
+            objectUnderTest.processSqsMessages();
+            objectUnderTest.stop();
+
+            final ArgumentCaptor<DeleteMessageBatchRequest> deleteMessageBatchRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+            verify(sqsClient).deleteMessageBatch(deleteMessageBatchRequestArgumentCaptor.capture());
+            assertThat(deleteMessageBatchRequestArgumentCaptor.getValue().entries().size(), equalTo(1));
+            assertThat(deleteMessageBatchRequestArgumentCaptor.getValue().entries().get(0).receiptHandle(), equalTo(testReceiptHandle));
+            verify(sqsMessageDelayTimer).record(any(Duration.class));
+            verify(sqsMessagesReceivedCounter).increment(1);
+            verify(sqsMessagesDeletedCounter).increment(1);
+        }
+
         @Test
         void processSqsMessages_with_max_receive_count_reached_deletes_message_and_skips_processing() throws IOException {
             when(sqsOptions.getMaxReceiveAttempts()).thenReturn(4);
@@ -643,6 +710,59 @@ class SqsWorkerTest {
         assertThat(actualDelay, greaterThanOrEqualTo(Duration.ofHours(1).minus(Duration.ofSeconds(5))));
     }
 
+    @Test
+    void processSqsMessages_with_s3_object_concurrency_completes_acknowledgement_set_when_object_read_is_rejected() throws IOException {
+        when(sqsOptions.getS3ObjectConcurrency()).thenReturn(2);
+        when(acknowledgementSetManager.create(any(), any(Duration.class))).thenReturn(acknowledgementSet);
+        when(s3SourceConfig.getAcknowledgements()).thenReturn(true);
+        final Message message = mock(Message.class);
+        when(message.body()).thenReturn(createPutNotification(Instant.now()));
+
+        final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+        when(receiveMessageResponse.messages()).thenReturn(Collections.singletonList(message));
+
+        final SqsWorker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.stop();
+        final int messagesProcessed = objectUnderTest.processSqsMessages();
+
+        assertThat(messagesProcessed, equalTo(1));
+        verify(acknowledgementSet).complete();
+        verify(s3Service, never()).addS3Object(any(S3ObjectReference.class), any(), any());
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        verify(sqsMessageDelayTimer).record(any(Duration.class));
+        verify(sqsMessagesReceivedCounter).increment(1);
+    }
+
+    @Test
+    void processSqsMessages_with_s3_object_concurrency_completes_acknowledgement_set_when_interrupted() throws IOException {
+        when(sqsOptions.getS3ObjectConcurrency()).thenReturn(2);
+        when(acknowledgementSetManager.create(any(), any(Duration.class))).thenReturn(acknowledgementSet);
+        when(s3SourceConfig.getAcknowledgements()).thenReturn(true);
+        final Message message = mock(Message.class);
+        when(message.body()).thenReturn(createPutNotification(Instant.now()));
+
+        final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+        when(receiveMessageResponse.messages()).thenReturn(Collections.singletonList(message));
+
+        final SqsWorker objectUnderTest = createObjectUnderTest();
+        final int messagesProcessed;
+        Thread.currentThread().interrupt();
+        try {
+            messagesProcessed = objectUnderTest.processSqsMessages();
+        } finally {
+            Thread.interrupted();
+            objectUnderTest.stop();
+        }
+
+        assertThat(messagesProcessed, equalTo(1));
+        verify(acknowledgementSet).complete();
+        verify(s3Service, never()).addS3Object(any(S3ObjectReference.class), any(), any());
+        verify(sqsMessageDelayTimer).record(any(Duration.class));
+        verify(sqsMessagesReceivedCounter).increment(1);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"ObjectCreated:Put", "ObjectCreated:Post", "ObjectCreated:Copy", "ObjectCreated:CompleteMultipartUpload"})
     void processSqsMessages_should_call_s3Service_to_delete_objects_if_deleteS3ObjectsOnRead_is_enabled_on_acknowledgment_callback(final String eventName) throws IOException {
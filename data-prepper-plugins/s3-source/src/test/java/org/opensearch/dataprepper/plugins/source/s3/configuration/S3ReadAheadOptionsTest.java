@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class S3ReadAheadOptionsTest {
+
+    @Test
+    void defaults_are_used_when_not_configured() {
+        final S3ReadAheadOptions objectUnderTest = new S3ReadAheadOptions();
+
+        assertThat(objectUnderTest.getPartSize(), equalTo(S3ReadAheadOptions.DEFAULT_PART_SIZE));
+        assertThat(objectUnderTest.getConcurrency(), equalTo(S3ReadAheadOptions.DEFAULT_CONCURRENCY));
+        assertThat(objectUnderTest.isPartSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"256kb", "16mb", "1gb"})
+    void isPartSizeValid_returns_true_for_supported_sizes(final String partSize) throws NoSuchFieldException, IllegalAccessException {
+        final S3ReadAheadOptions objectUnderTest = new S3ReadAheadOptions();
+        ReflectivelySetField.setField(S3ReadAheadOptions.class, objectUnderTest, "partSize", ByteCount.parse(partSize));
+
+        assertThat(objectUnderTest.isPartSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1kb", "255kb", "2gb"})
+    void isPartSizeValid_returns_false_for_unsupported_sizes(final String partSize) throws NoSuchFieldException, IllegalAccessException {
+        final S3ReadAheadOptions objectUnderTest = new S3ReadAheadOptions();
+        ReflectivelySetField.setField(S3ReadAheadOptions.class, objectUnderTest, "partSize", ByteCount.parse(partSize));
+
+        assertThat(objectUnderTest.isPartSizeValid(), equalTo(false));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.google.common.primitives.SignedBytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one service map window: storing the spans, looking up the parent of every span and the trace group
+ * of its trace, and clearing the window for reuse. The compact {@link ServiceMapWindow} is compared with the
+ * MapDB heap database which the processor used before.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceMapWindowBenchmark {
+    private static final String[] SERVICE_NAMES = {"frontend", "checkout", "cart", "payment", "auth"};
+    private static final String SPAN_KIND = "SPAN_KIND_SERVER";
+    private static final int SPANS_PER_TRACE = 10;
+
+    @Param({"10000", "100000"})
+    private int spanCount;
+
+    private long[] spanIds;
+    private long[] traceIdsHigh;
+    private long[] traceIdsLow;
+    private ServiceMapWindow serviceMapWindow;
+    private MapDbProcessorState<SpanData> spanState;
+    private MapDbProcessorState<String> traceGroupState;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Random random = new Random(42);
+        spanIds = new long[spanCount];
+        traceIdsHigh = new long[spanCount];
+        traceIdsLow = new long[spanCount];
+        for (int i = 0; i < spanCount; i++) {
+            spanIds[i] = random.nextLong();
+            if (i % SPANS_PER_TRACE == 0) {
+                traceIdsHigh[i] = random.nextLong();
+                traceIdsLow[i] = random.nextLong();
+            } else {
+                traceIdsHigh[i] = traceIdsHigh[i - 1];
+                traceIdsLow[i] = traceIdsLow[i - 1];
+            }
+        }
+        serviceMapWindow = new ServiceMapWindow();
+        final File dbPath = Files.createTempDirectory("service-map-benchmark").toFile();
+        spanState = new MapDbProcessorState<>(dbPath, "db-benchmark", 1);
+        traceGroupState = new MapDbProcessorState<>(dbPath, "trace-db-benchmark", 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        spanState.delete();
+        traceGroupState.delete();
+    }
+
+    @Benchmark
+    public void service_map_window(final Blackhole blackhole) {
+        for (int i = 0; i < spanCount; i++) {
+            final boolean root = isRoot(i);
+            serviceMapWindow.putSpan(spanIds[i], !root, root ? 0L : spanIds[i - 1], traceIdsHigh[i], traceIdsLow[i],
+                    serviceName(i), SPAN_KIND, "span-" + (i % SPANS_PER_TRACE));
+            if (root) {
+                serviceMapWindow.putTraceGroup(traceIdsHigh[i], traceIdsLow[i], "trace-group");
+            }
+        }
+        serviceMapWindow.forEachSpan(1, 0, child -> {
+            if (child.hasParent) {
+                blackhole.consume(serviceMapWindow.getSpan(child.parentSpanId));
+                blackhole.consume(serviceMapWindow.getTraceGroup(child.traceIdHigh, child.traceIdLow));
+            }
+        });
+        serviceMapWindow.clear();
+    }
+
+    @Benchmark
+    public void mapdb_processor_state(final Blackhole blackhole) {
+        final TreeMap<byte[], SpanData> batch = new TreeMap<>(SignedBytes.lexicographicalComparator());
+        for (int i = 0; i < spanCount; i++) {
+            final boolean root = isRoot(i);
+            final byte[] traceId = ByteBuffer.allocate(16).putLong(traceIdsHigh[i]).putLong(traceIdsLow[i]).array();
+            batch.put(toBytes(spanIds[i]), new SpanData(serviceName(i), root ? null : toBytes(spanIds[i - 1]),
+                    traceId, SPAN_KIND, "span-" + (i % SPANS_PER_TRACE)));
+            if (root) {
+                traceGroupState.put(traceId, "trace-group");
+            }
+        }
+        spanState.putAll(batch);
+        spanState.getIterator(1, 0).forEachRemaining(entry -> {
+            final SpanData child = entry.getValue();
+            if (child.parentSpanId != null) {
+                blackhole.consume(spanState.get(child.parentSpanId));
+                blackhole.consume(traceGroupState.get(child.traceId));
+            }
+        });
+        spanState.clear();
+        traceGroupState.clear();
+    }
+
+    private static boolean isRoot(final int index) {
+        return index % SPANS_PER_TRACE == 0;
+    }
+
+    private static String serviceName(final int index) {
+        return SERVICE_NAMES[index % SERVICE_NAMES.length];
+    }
+
+    private static byte[] toBytes(final long id) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+    }
+
+    private static class SpanData implements Serializable {
+        private final String serviceName;
+        private final byte[] parentSpanId;
+        private final byte[] traceId;
+        private final String spanKind;
+        private final String name;
+
+        private SpanData(final String serviceName, final byte[] parentSpanId, final byte[] traceId,
+                         final String spanKind, final String name) {
+            this.serviceName = serviceName;
+            this.parentSpanId = parentSpanId;
+            this.traceId = traceId;
+            this.spanKind = spanKind;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the workers of a pipeline putting spans into the same {@link ServiceMapWindow} at the same time.
+ * A window with one stripe has a single lock for all the workers, as the window had before it was striped.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceMapWindowConcurrentBenchmark {
+    private static final String[] SERVICE_NAMES = {"frontend", "checkout", "cart", "payment", "auth"};
+    private static final String SPAN_KIND = "SPAN_KIND_SERVER";
+    private static final int SPANS_PER_WORKER = 10_000;
+    private static final int SPANS_PER_TRACE = 10;
+
+    @Param({"1", "16"})
+    private int stripes;
+
+    private ServiceMapWindow serviceMapWindow;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        serviceMapWindow = new ServiceMapWindow(ServiceMapWindow.DEFAULT_INITIAL_CAPACITY, stripes);
+    }
+
+    @State(Scope.Thread)
+    public static class WorkerSpans {
+        private long[] spanIds;
+        private long[] traceIdsHigh;
+        private long[] traceIdsLow;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            final Random random = new Random(Thread.currentThread().getId());
+            spanIds = new long[SPANS_PER_WORKER];
+            traceIdsHigh = new long[SPANS_PER_WORKER];
+            traceIdsLow = new long[SPANS_PER_WORKER];
+            for (int i = 0; i < SPANS_PER_WORKER; i++) {
+                spanIds[i] = random.nextLong();
+                if (i % SPANS_PER_TRACE == 0) {
+                    traceIdsHigh[i] = random.nextLong();
+                    traceIdsLow[i] = random.nextLong();
+                } else {
+                    traceIdsHigh[i] = traceIdsHigh[i - 1];
+                    traceIdsLow[i] = traceIdsLow[i - 1];
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void put_span(final WorkerSpans workerSpans) {
+        final int i = workerSpans.next;
+        workerSpans.next = (i + 1) % SPANS_PER_WORKER;
+        final boolean root = i % SPANS_PER_TRACE == 0;
+        serviceMapWindow.putSpan(workerSpans.spanIds[i], !root, root ? 0L : workerSpans.spanIds[i - 1],
+                workerSpans.traceIdsHigh[i], workerSpans.traceIdsLow[i],
+                SERVICE_NAMES[i % SERVICE_NAMES.length], SPAN_KIND, "span-" + (i % SPANS_PER_TRACE));
+        if (root) {
+            serviceMapWindow.putTraceGroup(workerSpans.traceIdsHigh[i], workerSpans.traceIdsLow[i], "trace-group");
+        }
+    }
+}
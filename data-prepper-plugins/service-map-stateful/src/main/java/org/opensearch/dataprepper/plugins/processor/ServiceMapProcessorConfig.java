@@ -27,8 +27,7 @@ public class ServiceMapProcessorConfig {
 
     @NotEmpty
     @JsonProperty(value = DB_PATH, defaultValue = DEFAULT_DB_PATH)
-    @JsonPropertyDescription("Represents folder path for creating database files storing transient data off heap memory" +
-            "when processing service-map data.")
+    @JsonPropertyDescription("No longer used. The service map windows are kept in memory.")
     private String dbPath = DEFAULT_DB_PATH;
 
     public int getWindowDuration() {
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor;
 
-import org.apache.commons.codec.DecoderException;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -18,28 +17,20 @@ import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
-import com.google.common.primitives.SignedBytes;
-import org.apache.commons.codec.binary.Hex;
-import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.Serializable;
 import java.time.Clock;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @SingleThread
 @DataPrepperPlugin(name = "service_map", deprecatedName = "service_map_stateful", pluginType = Processor.class,
@@ -53,29 +44,21 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     static final String RELATIONSHIP_COUNT = "relationshipCount";
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulProcessor.class);
-    private static final String EMPTY_SUFFIX = "-empty";
     private static final String EVENT_TYPE = "event";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Collection<Record<Event>> EMPTY_COLLECTION = Collections.emptySet();
     private static final Integer TO_MILLIS = 1_000;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int HEX_DIGITS_PER_LONG = 16;
 
-    // TODO: This should not be tracked in this class, move it up to the creator
-    private static final AtomicInteger processorsCreated = new AtomicInteger(0);
-    private static long previousTimestamp;
-    private static long windowDurationMillis;
-    private static CyclicBarrier allThreadsCyclicBarrier;
-
-    private static volatile MapDbProcessorState<ServiceMapStateData> previousWindow;
-    private static volatile MapDbProcessorState<ServiceMapStateData> currentWindow;
-    private static volatile MapDbProcessorState<String> previousTraceGroupWindow;
-    private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
-    private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
-    private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
-    //TODO: Consider keeping this state in a db
-    private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
-    private static File dbPath;
-    private static Clock clock;
+    /**
+     * Shared states of the service map processors still being created, by the pipeline description of the
+     * processor. The worker instances of one processor share its description, while each service map processor
+     * of each pipeline has its own. A state is removed once all the workers of its processor have joined it.
+     */
+    private static final Map<PipelineDescription, SharedState> JOINING_STATES = new IdentityHashMap<>();
 
+    private final SharedState sharedState;
     private final int thisProcessorId;
 
     @DataPrepperPluginConstructor
@@ -84,58 +67,44 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             final PluginMetrics pluginMetrics,
             final PipelineDescription pipelineDescription) {
         this((long) serviceMapProcessorConfig.getWindowDuration() * TO_MILLIS,
-                new File(serviceMapProcessorConfig.getDbPath()),
+                pipelineDescription,
                 Clock.systemUTC(),
-                pipelineDescription.getNumberOfProcessWorkers(),
                 pluginMetrics);
     }
 
     ServiceMapStatefulProcessor(final long windowDurationMillis,
-                                       final File databasePath,
-                                       final Clock clock,
-                                       final int processWorkers,
-                                       final PluginMetrics pluginMetrics) {
+                                final PipelineDescription pipelineDescription,
+                                final Clock clock,
+                                final PluginMetrics pluginMetrics) {
         super(pluginMetrics);
 
-        ServiceMapStatefulProcessor.clock = clock;
-        this.thisProcessorId = processorsCreated.getAndIncrement();
-
-        if (isMasterInstance()) {
-            previousTimestamp = ServiceMapStatefulProcessor.clock.millis();
-            ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
-            ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
-
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
-            currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
-            previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
-
-            allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+        final int processWorkers = pipelineDescription.getNumberOfProcessWorkers();
+        synchronized (JOINING_STATES) {
+            SharedState joiningState = JOINING_STATES.get(pipelineDescription);
+            if (joiningState == null) {
+                joiningState = new SharedState(windowDurationMillis, clock, processWorkers);
+                JOINING_STATES.put(pipelineDescription, joiningState);
+            }
+            this.sharedState = joiningState;
+            this.thisProcessorId = joiningState.processorsCreated++;
+            if (joiningState.processorsCreated >= processWorkers) {
+                JOINING_STATES.remove(pipelineDescription);
+            }
         }
 
-        pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
-        pluginMetrics.gauge(TRACE_GROUP_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbSize());
-        pluginMetrics.gauge(SPANS_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getSpansDbCount());
-        pluginMetrics.gauge(TRACE_GROUP_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbCount());
-        pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
-    }
-
-    /**
-     * This function creates the directory if it doesn't exists and returns the File.
-     *
-     * @param path
-     * @return path
-     * @throws RuntimeException if the directory can not be created.
-     */
-    private static File createPath(File path) {
-        if (!path.exists()) {
-            if (!path.mkdirs()) {
-                throw new RuntimeException(String.format("Unable to create the directory at the provided path: %s", path.getName()));
+        try {
+            pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
+            pluginMetrics.gauge(TRACE_GROUP_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbSize());
+            pluginMetrics.gauge(SPANS_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getSpansDbCount());
+            pluginMetrics.gauge(TRACE_GROUP_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbCount());
+            pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
+        } catch (final RuntimeException e) {
+            // No other worker may join a state which will never have all of its workers.
+            synchronized (JOINING_STATES) {
+                JOINING_STATES.remove(pipelineDescription, sharedState);
             }
+            throw e;
         }
-        return path;
     }
 
     /**
@@ -148,46 +117,54 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final Collection<Record<Event>> relationships = windowDurationHasPassed() ? evaluateEdges() : EMPTY_COLLECTION;
-        final Map<byte[], ServiceMapStateData> batchStateData = new TreeMap<>(SignedBytes.lexicographicalComparator());
-        records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
-        try {
-            currentWindow.putAll(batchStateData);
-        } catch (RuntimeException e) {
-            LOG.error("Caught exception trying to put batch state data", e);
-        }
+        final ServiceMapWindow currentWindow = sharedState.currentWindow;
+        final Set<ServiceNodeData> currentIsolatedServiceNodes = sharedState.currentIsolatedServiceNodes;
+        records.forEach(i -> processSpan((Span) i.getData(), currentWindow, currentIsolatedServiceNodes));
         return relationships;
     }
 
-    private void processSpan(final Span span, final Map<byte[], ServiceMapStateData> batchStateData) {
+    private void processSpan(final Span span,
+                             final ServiceMapWindow currentWindow,
+                             final Set<ServiceNodeData> currentIsolatedServiceNodes) {
         if (span.getServiceName() != null) {
             final String serviceName = span.getServiceName();
             final String spanId = span.getSpanId();
             final String parentSpanId = span.getParentSpanId();
-            final String spanKind = span.getKind();
-            final byte[] traceId;
+            final boolean hasParent = parentSpanId != null && !parentSpanId.isEmpty();
+            final long traceIdHigh;
+            final long traceIdLow;
 
             try {
-                traceId = Hex.decodeHex(span.getTraceId());
-            } catch (DecoderException e) {
-                LOG.error("Caught DecoderException when decoding the traceId.", e);
+                final String traceId = span.getTraceId();
+                checkHexId(traceId, TRACE_ID_LENGTH);
+                final int lowStart = Math.max(0, traceId.length() - HEX_DIGITS_PER_LONG);
+                traceIdHigh = decodeHex(traceId, 0, lowStart);
+                traceIdLow = decodeHex(traceId, lowStart, traceId.length());
+            } catch (IllegalArgumentException e) {
+                LOG.error("Caught exception when decoding the traceId.", e);
                 return;
             }
-            currentIsolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
+            currentIsolatedServiceNodes.add(new ServiceNodeData(traceIdHigh, traceIdLow, serviceName));
             try {
-                batchStateData.put(
-                        Hex.decodeHex(spanId),
-                        new ServiceMapStateData(
-                                serviceName,
-                                parentSpanId.isEmpty()? null : Hex.decodeHex(parentSpanId),
-                                traceId,
-                                spanKind,
-                                span.getName()));
+                checkHexId(spanId, SPAN_ID_LENGTH);
+                if (hasParent) {
+                    checkHexId(parentSpanId, SPAN_ID_LENGTH);
+                }
+                currentWindow.putSpan(
+                        decodeHex(spanId, 0, spanId.length()),
+                        hasParent,
+                        hasParent ? decodeHex(parentSpanId, 0, parentSpanId.length()) : 0L,
+                        traceIdHigh,
+                        traceIdLow,
+                        serviceName,
+                        span.getKind(),
+                        span.getName());
             } catch (Exception e) {
-                LOG.error("Caught exception trying to put service map state data into batch", e);
+                LOG.error("Caught exception trying to put service map state data into window", e);
             }
-            if (parentSpanId.isEmpty()) {
+            if (!hasParent) {
                 try {
-                    currentTraceGroupWindow.put(traceId, span.getName());
+                    currentWindow.putTraceGroup(traceIdHigh, traceIdLow, span.getName());
                 } catch (Exception e) {
                     LOG.error("Caught exception trying to put trace group name", e);
                 }
@@ -195,6 +172,32 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
+    /**
+     * Checks that an ID is hex encoded bytes which fit the window tables.
+     *
+     * @param id hex encoded ID
+     * @param maxLength maximum number of hex digits
+     * @throws IllegalArgumentException if the ID is null, has an odd number of digits or is too long
+     */
+    private static void checkHexId(final String id, final int maxLength) {
+        if (id == null || id.length() % 2 != 0 || id.length() > maxLength) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected an even number of at most %d hex digits but found: %s", maxLength, id));
+        }
+    }
+
+    private static long decodeHex(final String id, final int start, final int end) {
+        long value = 0L;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(id.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Illegal hexadecimal character " + id.charAt(i) + " at index " + i);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
     /**
      * This function parses the current and previous windows to find the edges, and rotates the window state objects.
      *
@@ -205,12 +208,12 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         try {
             final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
 
-            serviceDependencyRecords.addAll(iterateProcessorState(previousWindow));
-            serviceDependencyRecords.addAll(iterateProcessorState(currentWindow));
+            serviceDependencyRecords.addAll(iterateProcessorState(sharedState.previousWindow));
+            serviceDependencyRecords.addAll(iterateProcessorState(sharedState.currentWindow));
             LOG.debug("Done evaluating service map edges");
 
             // Wait for all workers before rotating windows
-            allThreadsCyclicBarrier.await();
+            sharedState.allThreadsCyclicBarrier.await();
 
             if (isMasterInstance()) {
                 processIsolatedServiceMapNodes(serviceDependencyRecords);
@@ -218,7 +221,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             }
 
             // Wait for all workers before exiting this method
-            allThreadsCyclicBarrier.await();
+            sharedState.allThreadsCyclicBarrier.await();
 
             return serviceDependencyRecords;
         } catch (InterruptedException | BrokenBarrierException e) {
@@ -226,58 +229,54 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
-    private Collection<Record<Event>> iterateProcessorState(final MapDbProcessorState<ServiceMapStateData> processorState) {
+    private Collection<Record<Event>> iterateProcessorState(final ServiceMapWindow window) {
         final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
 
-        if (processorState.getAll() != null && !processorState.getAll().isEmpty()) {
-            processorState.getIterator(processorsCreated.get(), thisProcessorId).forEachRemaining(entry -> {
-                final ServiceMapStateData child = entry.getValue();
-
-                if (child.parentSpanId == null) {
-                    return;
-                }
+        window.forEachSpan(sharedState.processWorkers, thisProcessorId, child -> {
+            if (!child.hasParent) {
+                return;
+            }
 
-                ServiceMapStateData parent = currentWindow.get(child.parentSpanId);
-                if (parent == null) {
-                    parent = previousWindow.get(child.parentSpanId);
-                }
+            ServiceMapWindow.SpanState parent = sharedState.currentWindow.getSpan(child.parentSpanId);
+            if (parent == null) {
+                parent = sharedState.previousWindow.getSpan(child.parentSpanId);
+            }
 
-                final String traceGroupName = getTraceGroupName(child.traceId);
-                if (parent == null || parent.serviceName.equals(child.serviceName)) {
-                    return;
-                }
+            if (parent == null || parent.serviceName.equals(child.serviceName)) {
+                return;
+            }
+            final String traceGroupName = getTraceGroupName(child.traceIdHigh, child.traceIdLow);
 
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
+            sharedState.previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceIdHigh, parent.traceIdLow, parent.serviceName));
+            sharedState.currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceIdHigh, parent.traceIdLow, parent.serviceName));
+            sharedState.previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceIdHigh, parent.traceIdLow, child.serviceName));
+            sharedState.currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceIdHigh, parent.traceIdLow, child.serviceName));
 
-                final ServiceMapRelationship destinationRelationship =
-                        ServiceMapRelationship.newDestinationRelationship(parent.serviceName,
-                                parent.spanKind, child.serviceName, child.name, traceGroupName);
-                final ServiceMapRelationship targetRelationship = ServiceMapRelationship.newTargetRelationship(child.serviceName,
-                        child.spanKind, child.serviceName, child.name, traceGroupName);
+            final ServiceMapRelationship destinationRelationship =
+                    ServiceMapRelationship.newDestinationRelationship(parent.serviceName,
+                            parent.spanKind, child.serviceName, child.name, traceGroupName);
+            final ServiceMapRelationship targetRelationship = ServiceMapRelationship.newTargetRelationship(child.serviceName,
+                    child.spanKind, child.serviceName, child.name, traceGroupName);
 
 
-                // check if relationshipState has the above
-                addServiceMapRelationship(serviceDependencyRecords, destinationRelationship);
-                addServiceMapRelationship(serviceDependencyRecords, targetRelationship);
-            });
-        }
+            // check if relationshipState has the above
+            addServiceMapRelationship(serviceDependencyRecords, destinationRelationship);
+            addServiceMapRelationship(serviceDependencyRecords, targetRelationship);
+        });
 
         return serviceDependencyRecords;
     }
 
     private void addServiceMapRelationship(
             final Collection<Record<Event>> serviceDependencyRecords, final ServiceMapRelationship serviceMapRelationship) {
-        if (!RELATIONSHIP_STATE.contains(serviceMapRelationship)) {
+        if (!sharedState.relationshipState.contains(serviceMapRelationship)) {
             try {
                 final Event destinationRelationshipEvent = JacksonEvent.builder()
                         .withEventType(EVENT_TYPE)
                         .withData(serviceMapRelationship)
                         .build();
                 serviceDependencyRecords.add(new Record<>(destinationRelationshipEvent));
-                RELATIONSHIP_STATE.add(serviceMapRelationship);
+                sharedState.relationshipState.add(serviceMapRelationship);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -287,45 +286,39 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     /**
      * Checks both current and previous trace group windows for the trace id
      *
-     * @param traceId
+     * @param traceIdHigh high 8 bytes of the trace id
+     * @param traceIdLow low 8 bytes of the trace id
      * @return Trace group name for the given trace if it exists. Otherwise null.
      */
-    private String getTraceGroupName(final byte[] traceId) {
-        try {
-            final String traceGroupName = currentTraceGroupWindow.get(traceId);
-            return traceGroupName != null ? traceGroupName : previousTraceGroupWindow.get(traceId);
-        } catch (RuntimeException e) {
-            LOG.error("Caught exception trying to get trace group name", e);
-            return null;
-        }
+    private String getTraceGroupName(final long traceIdHigh, final long traceIdLow) {
+        final String traceGroupName = sharedState.currentWindow.getTraceGroup(traceIdHigh, traceIdLow);
+        return traceGroupName != null ? traceGroupName : sharedState.previousWindow.getTraceGroup(traceIdHigh, traceIdLow);
     }
 
 
     @Override
     public void prepareForShutdown() {
-        previousTimestamp = 0L;
+        sharedState.previousTimestamp = 0L;
     }
 
     @Override
     public boolean isReadyForShutdown() {
-        return currentWindow.size() == 0;
+        return sharedState.currentWindow.spanCount() == 0;
     }
 
     @Override
     public void shutdown() {
-        previousWindow.delete();
-        currentWindow.delete();
-        previousTraceGroupWindow.delete();
-        currentTraceGroupWindow.delete();
-        previousIsolatedServiceNodes.clear();
-        currentIsolatedServiceNodes.clear();
+        sharedState.previousWindow.clear();
+        sharedState.currentWindow.clear();
+        sharedState.previousIsolatedServiceNodes.clear();
+        sharedState.currentIsolatedServiceNodes.clear();
     }
 
     private void processIsolatedServiceMapNodes(final Collection<Record<Event>> serviceDependencyRecords) {
         LOG.debug("Add isolated service nodes into service-map relationships.");
-        previousIsolatedServiceNodes.forEach(serviceNodeData -> {
+        sharedState.previousIsolatedServiceNodes.forEach(serviceNodeData -> {
             final String traceGroupName;
-            traceGroupName = getTraceGroupName(serviceNodeData.traceId);
+            traceGroupName = getTraceGroupName(serviceNodeData.traceIdHigh, serviceNodeData.traceIdLow);
             final ServiceMapRelationship serviceMapRelationship = ServiceMapRelationship.newIsolatedService(
                     serviceNodeData.serviceName, traceGroupName);
             addServiceMapRelationship(serviceDependencyRecords, serviceMapRelationship);
@@ -336,74 +329,55 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * Rotate windows for processor state
+     * Rotate windows for processor state. The window being reused is cleared in constant time.
      */
-    private void rotateWindows() throws InterruptedException {
-        LOG.debug("Rotating service map windows at " + clock.instant().toString());
-
-        MapDbProcessorState tempWindow = previousWindow;
-        previousWindow = currentWindow;
-        currentWindow = tempWindow;
-        currentWindow.clear();
+    private void rotateWindows() {
+        LOG.debug("Rotating service map windows at " + sharedState.clock.instant().toString());
 
-        tempWindow = previousTraceGroupWindow;
-        previousTraceGroupWindow = currentTraceGroupWindow;
-        currentTraceGroupWindow = tempWindow;
-        currentTraceGroupWindow.clear();
+        final ServiceMapWindow tempWindow = sharedState.previousWindow;
+        sharedState.previousWindow = sharedState.currentWindow;
+        sharedState.currentWindow = tempWindow;
+        sharedState.currentWindow.clear();
 
-        Set<ServiceNodeData> tempNodesWindow = previousIsolatedServiceNodes;
-        previousIsolatedServiceNodes = currentIsolatedServiceNodes;
-        currentIsolatedServiceNodes = tempNodesWindow;
-        currentIsolatedServiceNodes.clear();
+        final Set<ServiceNodeData> tempNodesWindow = sharedState.previousIsolatedServiceNodes;
+        sharedState.previousIsolatedServiceNodes = sharedState.currentIsolatedServiceNodes;
+        sharedState.currentIsolatedServiceNodes = tempNodesWindow;
+        sharedState.currentIsolatedServiceNodes.clear();
 
-        previousTimestamp = clock.millis();
+        sharedState.previousTimestamp = sharedState.clock.millis();
         LOG.debug("Done rotating service map windows");
     }
 
 
     /**
-     * @return Spans database size in bytes
+     * @return Spans table size in bytes
      */
     public double getSpansDbSize() {
-        return currentWindow.sizeInBytes() + previousWindow.sizeInBytes();
+        return sharedState.currentWindow.spansSizeInBytes() + sharedState.previousWindow.spansSizeInBytes();
     }
 
     public double getSpansDbCount() {
-        return currentWindow.size() + previousWindow.size();
+        return sharedState.currentWindow.spanCount() + sharedState.previousWindow.spanCount();
     }
 
     /**
-     * @return Trace group database size in bytes
+     * @return Trace group table size in bytes
      */
     public double getTraceGroupDbSize() {
-        return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
+        return sharedState.currentWindow.traceGroupsSizeInBytes() + sharedState.previousWindow.traceGroupsSizeInBytes();
     }
     public double getTraceGroupDbCount() {
-        return currentTraceGroupWindow.size() + previousTraceGroupWindow.size();
+        return sharedState.currentWindow.traceGroupCount() + sharedState.previousWindow.traceGroupCount();
     }
     public double getRelationshipCount() {
-        return RELATIONSHIP_STATE.size();
-    }
-
-    /**
-     * @return Next database name
-     */
-    private String getNewDbName() {
-        return "db-" + clock.millis();
-    }
-
-    /**
-     * @return Next database name
-     */
-    private String getNewTraceDbName() {
-        return "trace-db-" + clock.millis();
+        return sharedState.relationshipState.size();
     }
 
     /**
      * @return Boolean indicating whether the window duration has lapsed
      */
     private boolean windowDurationHasPassed() {
-        if ((clock.millis() - previousTimestamp) >= windowDurationMillis) {
+        if ((sharedState.clock.millis() - sharedState.previousTimestamp) >= sharedState.windowDurationMillis) {
             return true;
         }
         return false;
@@ -423,34 +397,41 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return Collections.singleton("traceId");
     }
 
-    private static class ServiceMapStateData implements Serializable {
-        public String serviceName;
-        public byte[] parentSpanId;
-        public byte[] traceId;
-        public String spanKind;
-        public String name;
-
-        public ServiceMapStateData() {
-        }
-
-        public ServiceMapStateData(final String serviceName, final byte[] parentSpanId,
-                                   final byte[] traceId,
-                                   final String spanKind,
-                                   final String name) {
-            this.serviceName = serviceName;
-            this.parentSpanId = parentSpanId;
-            this.traceId = traceId;
-            this.spanKind = spanKind;
-            this.name = name;
+    /**
+     * The windows and relationships shared by the processors of one pipeline, one processor for each worker.
+     */
+    private static class SharedState {
+        private final Clock clock;
+        private final long windowDurationMillis;
+        private final int processWorkers;
+        private final CyclicBarrier allThreadsCyclicBarrier;
+        //TODO: Consider keeping this state in a db
+        private final Set<ServiceMapRelationship> relationshipState = Sets.newConcurrentHashSet();
+        private int processorsCreated;
+
+        private volatile long previousTimestamp;
+        private volatile ServiceMapWindow previousWindow = new ServiceMapWindow();
+        private volatile ServiceMapWindow currentWindow = new ServiceMapWindow();
+        private volatile Set<ServiceNodeData> previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
+        private volatile Set<ServiceNodeData> currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
+
+        private SharedState(final long windowDurationMillis, final Clock clock, final int processWorkers) {
+            this.clock = clock;
+            this.windowDurationMillis = windowDurationMillis;
+            this.processWorkers = processWorkers;
+            this.allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+            this.previousTimestamp = clock.millis();
         }
     }
 
-    private static class ServiceNodeData implements Serializable {
-        public String serviceName;
-        public byte[] traceId;
+    private static class ServiceNodeData {
+        public final String serviceName;
+        public final long traceIdHigh;
+        public final long traceIdLow;
 
-        public ServiceNodeData(final byte[] traceId, final String serviceName) {
-            this.traceId = traceId;
+        public ServiceNodeData(final long traceIdHigh, final long traceIdLow, final String serviceName) {
+            this.traceIdHigh = traceIdHigh;
+            this.traceIdLow = traceIdLow;
             this.serviceName = serviceName;
         }
 
@@ -462,13 +443,14 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             ServiceNodeData that = (ServiceNodeData) o;
 
             if (!Objects.equals(serviceName, that.serviceName)) return false;
-            return Arrays.equals(traceId, that.traceId);
+            return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow;
         }
 
         @Override
         public int hashCode() {
             int result = serviceName != null ? serviceName.hashCode() : 0;
-            result = 31 * result + Arrays.hashCode(traceId);
+            result = 31 * result + Long.hashCode(traceIdHigh);
+            result = 31 * result + Long.hashCode(traceIdLow);
             return result;
         }
     }
@@ -0,0 +1,523 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * The spans and trace groups seen by the service map processor during one window.
+ * <p>
+ * Spans are kept in open addressing tables keyed by span ID, with the IDs of each span packed into a
+ * {@code long[]} and its names into an {@code int[]}. Service names, span kinds and span names repeat across
+ * spans, so each distinct name is stored once per stripe and referenced by index. Trace group names are kept
+ * in second tables keyed by trace ID. Span IDs must fit in 8 bytes and trace IDs in 16 bytes.
+ * <p>
+ * The workers of a pipeline put spans into the same window, so the tables are split into stripes by the hash
+ * of the key, each with its own lock. Workers putting spans of different stripes do not wait for each other.
+ * <p>
+ * Every entry is stamped with the generation of the window which wrote it. Clearing the window starts a new
+ * generation, so a rotation takes the same time however many spans the window held, and the tables are
+ * reused by the next window.
+ */
+class ServiceMapWindow {
+    static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    static final int DEFAULT_STRIPES = 16;
+    private static final int NO_NAME = -1;
+
+    private static final int SPAN_ID = 0;
+    private static final int PARENT_SPAN_ID = 1;
+    private static final int SPAN_TRACE_ID_HIGH = 2;
+    private static final int SPAN_TRACE_ID_LOW = 3;
+    private static final int SPAN_LONGS = 4;
+
+    private static final int SPAN_GENERATION = 0;
+    private static final int SERVICE_NAME = 1;
+    private static final int SPAN_KIND = 2;
+    private static final int SPAN_NAME = 3;
+    private static final int HAS_PARENT = 4;
+    private static final int SPAN_INTS = 5;
+
+    private static final int TRACE_ID_HIGH = 0;
+    private static final int TRACE_ID_LOW = 1;
+    private static final int TRACE_GROUP_LONGS = 2;
+
+    private static final int TRACE_GROUP_GENERATION = 0;
+    private static final int TRACE_GROUP_NAME = 1;
+    private static final int TRACE_GROUP_INTS = 2;
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    ServiceMapWindow() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    ServiceMapWindow(final int initialCapacity) {
+        this(initialCapacity, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param initialCapacity initial capacity of the span and trace group tables, split across the stripes
+     * @param stripes number of stripes
+     */
+    ServiceMapWindow(final int initialCapacity, final int stripes) {
+        if (initialCapacity <= 0 || Integer.bitCount(initialCapacity) != 1) {
+            throw new IllegalArgumentException("The initial capacity of a service map window must be a positive power of two.");
+        }
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("The stripes of a service map window must be a positive power of two.");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            this.stripes[stripe] = new Stripe(Math.max(1, initialCapacity / stripes));
+        }
+        this.stripeShift = Long.SIZE - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    /**
+     * Adds a span to the window, replacing any span with the same ID.
+     *
+     * @param spanId span ID
+     * @param hasParent whether the span has a parent span
+     * @param parentSpanId parent span ID, ignored if the span has no parent
+     * @param traceIdHigh high 8 bytes of the trace ID
+     * @param traceIdLow low 8 bytes of the trace ID
+     * @param serviceName service name
+     * @param spanKind span kind, which may be null
+     * @param name span name, which may be null
+     */
+    void putSpan(final long spanId,
+                 final boolean hasParent,
+                 final long parentSpanId,
+                 final long traceIdHigh,
+                 final long traceIdLow,
+                 final String serviceName,
+                 final String spanKind,
+                 final String name) {
+        stripeOf(spanId).putSpan(spanId, hasParent, parentSpanId, traceIdHigh, traceIdLow, serviceName, spanKind, name);
+    }
+
+    /**
+     * Gets a span of this window.
+     *
+     * @param spanId span ID
+     * @return the span, or null if the window has no span with this ID
+     */
+    SpanState getSpan(final long spanId) {
+        return stripeOf(spanId).getSpan(spanId);
+    }
+
+    /**
+     * Visits one segment of the spans of this window. The segments split the table of each stripe into ranges
+     * of equal size, so that each worker can evaluate its own segment.
+     *
+     * @param segments number of segments
+     * @param segment index of the segment to visit
+     * @param consumer called with each span of the segment
+     */
+    void forEachSpan(final int segments, final int segment, final Consumer<SpanState> consumer) {
+        for (final Stripe stripe : stripes) {
+            stripe.forEachSpan(segments, segment, consumer);
+        }
+    }
+
+    /**
+     * Sets the trace group name of a trace, replacing any name it had.
+     *
+     * @param traceIdHigh high 8 bytes of the trace ID
+     * @param traceIdLow low 8 bytes of the trace ID
+     * @param traceGroupName trace group name, which may be null
+     */
+    void putTraceGroup(final long traceIdHigh, final long traceIdLow, final String traceGroupName) {
+        stripeOf(traceKey(traceIdHigh, traceIdLow)).putTraceGroup(traceIdHigh, traceIdLow, traceGroupName);
+    }
+
+    /**
+     * Gets the trace group name of a trace.
+     *
+     * @param traceIdHigh high 8 bytes of the trace ID
+     * @param traceIdLow low 8 bytes of the trace ID
+     * @return the trace group name, or null if the window has none for this trace
+     */
+    String getTraceGroup(final long traceIdHigh, final long traceIdLow) {
+        return stripeOf(traceKey(traceIdHigh, traceIdLow)).getTraceGroup(traceIdHigh, traceIdLow);
+    }
+
+    /**
+     * Removes all the spans and trace groups, keeping the tables for reuse.
+     */
+    void clear() {
+        for (final Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    long spanCount() {
+        long spanCount = 0;
+        for (final Stripe stripe : stripes) {
+            spanCount += stripe.spanCount();
+        }
+        return spanCount;
+    }
+
+    long traceGroupCount() {
+        long traceGroupCount = 0;
+        for (final Stripe stripe : stripes) {
+            traceGroupCount += stripe.traceGroupCount();
+        }
+        return traceGroupCount;
+    }
+
+    /**
+     * @return bytes held by the span tables
+     */
+    long spansSizeInBytes() {
+        long sizeInBytes = 0;
+        for (final Stripe stripe : stripes) {
+            sizeInBytes += stripe.spansSizeInBytes();
+        }
+        return sizeInBytes;
+    }
+
+    /**
+     * @return bytes held by the trace group tables
+     */
+    long traceGroupsSizeInBytes() {
+        long sizeInBytes = 0;
+        for (final Stripe stripe : stripes) {
+            sizeInBytes += stripe.traceGroupsSizeInBytes();
+        }
+        return sizeInBytes;
+    }
+
+    /**
+     * Picks the stripe from the high bits of the hashed key, while the slot within the stripe is taken from
+     * the low bits, so that the keys of one stripe still spread over its table.
+     */
+    private Stripe stripeOf(final long key) {
+        return stripes.length == 1 ? stripes[0] : stripes[(int) ((key * HASH_MULTIPLIER) >>> stripeShift)];
+    }
+
+    private static long traceKey(final long traceIdHigh, final long traceIdLow) {
+        return traceIdHigh * 31 + traceIdLow;
+    }
+
+    private static int hash(final long key) {
+        final long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * The tables of one stripe, guarded by the lock of the stripe.
+     */
+    private static class Stripe {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private int generation = 1;
+
+        private int spanCapacity;
+        private int spanCount;
+        private long[] spanLongs;
+        private int[] spanInts;
+
+        private int traceGroupCapacity;
+        private int traceGroupCount;
+        private long[] traceGroupLongs;
+        private int[] traceGroupInts;
+
+        private Map<String, Integer> nameIndices = new HashMap<>();
+        private List<String> names = new ArrayList<>();
+
+        private Stripe(final int initialCapacity) {
+            spanCapacity = initialCapacity;
+            spanLongs = new long[initialCapacity * SPAN_LONGS];
+            spanInts = new int[initialCapacity * SPAN_INTS];
+            traceGroupCapacity = initialCapacity;
+            traceGroupLongs = new long[initialCapacity * TRACE_GROUP_LONGS];
+            traceGroupInts = new int[initialCapacity * TRACE_GROUP_INTS];
+        }
+
+        void putSpan(final long spanId,
+                     final boolean hasParent,
+                     final long parentSpanId,
+                     final long traceIdHigh,
+                     final long traceIdLow,
+                     final String serviceName,
+                     final String spanKind,
+                     final String name) {
+            lock.writeLock().lock();
+            try {
+                if (2 * (spanCount + 1) > spanCapacity) {
+                    resizeSpans(spanCapacity * 2);
+                }
+                final int slot = spanSlot(spanId);
+                final int ints = slot * SPAN_INTS;
+                if (spanInts[ints + SPAN_GENERATION] != generation) {
+                    spanInts[ints + SPAN_GENERATION] = generation;
+                    spanCount++;
+                }
+                final int longs = slot * SPAN_LONGS;
+                spanLongs[longs + SPAN_ID] = spanId;
+                spanLongs[longs + PARENT_SPAN_ID] = hasParent ? parentSpanId : 0L;
+                spanLongs[longs + SPAN_TRACE_ID_HIGH] = traceIdHigh;
+                spanLongs[longs + SPAN_TRACE_ID_LOW] = traceIdLow;
+                spanInts[ints + SERVICE_NAME] = nameIndex(serviceName);
+                spanInts[ints + SPAN_KIND] = nameIndex(spanKind);
+                spanInts[ints + SPAN_NAME] = nameIndex(name);
+                spanInts[ints + HAS_PARENT] = hasParent ? 1 : 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        SpanState getSpan(final long spanId) {
+            lock.readLock().lock();
+            try {
+                final int slot = spanSlot(spanId);
+                return isCurrentSpan(slot) ? spanStateAt(slot) : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void forEachSpan(final int segments, final int segment, final Consumer<SpanState> consumer) {
+            lock.readLock().lock();
+            try {
+                final int from = (int) ((long) spanCapacity * segment / segments);
+                final int to = (int) ((long) spanCapacity * (segment + 1) / segments);
+                for (int slot = from; slot < to; slot++) {
+                    if (isCurrentSpan(slot)) {
+                        consumer.accept(spanStateAt(slot));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void putTraceGroup(final long traceIdHigh, final long traceIdLow, final String traceGroupName) {
+            lock.writeLock().lock();
+            try {
+                if (2 * (traceGroupCount + 1) > traceGroupCapacity) {
+                    resizeTraceGroups(traceGroupCapacity * 2);
+                }
+                final int slot = traceGroupSlot(traceIdHigh, traceIdLow);
+                final int ints = slot * TRACE_GROUP_INTS;
+                if (traceGroupInts[ints + TRACE_GROUP_GENERATION] != generation) {
+                    traceGroupInts[ints + TRACE_GROUP_GENERATION] = generation;
+                    traceGroupCount++;
+                }
+                traceGroupLongs[slot * TRACE_GROUP_LONGS + TRACE_ID_HIGH] = traceIdHigh;
+                traceGroupLongs[slot * TRACE_GROUP_LONGS + TRACE_ID_LOW] = traceIdLow;
+                traceGroupInts[ints + TRACE_GROUP_NAME] = nameIndex(traceGroupName);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        String getTraceGroup(final long traceIdHigh, final long traceIdLow) {
+            lock.readLock().lock();
+            try {
+                final int slot = traceGroupSlot(traceIdHigh, traceIdLow);
+                if (traceGroupInts[slot * TRACE_GROUP_INTS + TRACE_GROUP_GENERATION] != generation) {
+                    return null;
+                }
+                return nameAt(traceGroupInts[slot * TRACE_GROUP_INTS + TRACE_GROUP_NAME]);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                generation++;
+                if (generation == 0) {
+                    Arrays.fill(spanInts, 0);
+                    Arrays.fill(traceGroupInts, 0);
+                    generation = 1;
+                }
+                spanCount = 0;
+                traceGroupCount = 0;
+                nameIndices = new HashMap<>();
+                names = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long spanCount() {
+            lock.readLock().lock();
+            try {
+                return spanCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long traceGroupCount() {
+            lock.readLock().lock();
+            try {
+                return traceGroupCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long spansSizeInBytes() {
+            lock.readLock().lock();
+            try {
+                return (long) spanCapacity * (SPAN_LONGS * Long.BYTES + SPAN_INTS * Integer.BYTES);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long traceGroupsSizeInBytes() {
+            lock.readLock().lock();
+            try {
+                return (long) traceGroupCapacity * (TRACE_GROUP_LONGS * Long.BYTES + TRACE_GROUP_INTS * Integer.BYTES);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private boolean isCurrentSpan(final int slot) {
+            return spanInts[slot * SPAN_INTS + SPAN_GENERATION] == generation;
+        }
+
+        private SpanState spanStateAt(final int slot) {
+            final int longs = slot * SPAN_LONGS;
+            final int ints = slot * SPAN_INTS;
+            return new SpanState(
+                    spanLongs[longs + SPAN_ID],
+                    spanInts[ints + HAS_PARENT] != 0,
+                    spanLongs[longs + PARENT_SPAN_ID],
+                    spanLongs[longs + SPAN_TRACE_ID_HIGH],
+                    spanLongs[longs + SPAN_TRACE_ID_LOW],
+                    nameAt(spanInts[ints + SERVICE_NAME]),
+                    nameAt(spanInts[ints + SPAN_KIND]),
+                    nameAt(spanInts[ints + SPAN_NAME]));
+        }
+
+        /**
+         * @return the slot of the span, or the free slot where it belongs
+         */
+        private int spanSlot(final long spanId) {
+            final int mask = spanCapacity - 1;
+            int slot = hash(spanId) & mask;
+            while (isCurrentSpan(slot) && spanLongs[slot * SPAN_LONGS + SPAN_ID] != spanId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * @return the slot of the trace, or the free slot where it belongs
+         */
+        private int traceGroupSlot(final long traceIdHigh, final long traceIdLow) {
+            final int mask = traceGroupCapacity - 1;
+            int slot = hash(traceKey(traceIdHigh, traceIdLow)) & mask;
+            while (traceGroupInts[slot * TRACE_GROUP_INTS + TRACE_GROUP_GENERATION] == generation
+                    && (traceGroupLongs[slot * TRACE_GROUP_LONGS + TRACE_ID_HIGH] != traceIdHigh
+                    || traceGroupLongs[slot * TRACE_GROUP_LONGS + TRACE_ID_LOW] != traceIdLow)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resizeSpans(final int newCapacity) {
+            final int oldCapacity = spanCapacity;
+            final long[] oldLongs = spanLongs;
+            final int[] oldInts = spanInts;
+            spanCapacity = newCapacity;
+            spanLongs = new long[newCapacity * SPAN_LONGS];
+            spanInts = new int[newCapacity * SPAN_INTS];
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                if (oldInts[oldSlot * SPAN_INTS + SPAN_GENERATION] == generation) {
+                    final int slot = spanSlot(oldLongs[oldSlot * SPAN_LONGS + SPAN_ID]);
+                    System.arraycopy(oldLongs, oldSlot * SPAN_LONGS, spanLongs, slot * SPAN_LONGS, SPAN_LONGS);
+                    System.arraycopy(oldInts, oldSlot * SPAN_INTS, spanInts, slot * SPAN_INTS, SPAN_INTS);
+                }
+            }
+        }
+
+        private void resizeTraceGroups(final int newCapacity) {
+            final int oldCapacity = traceGroupCapacity;
+            final long[] oldLongs = traceGroupLongs;
+            final int[] oldInts = traceGroupInts;
+            traceGroupCapacity = newCapacity;
+            traceGroupLongs = new long[newCapacity * TRACE_GROUP_LONGS];
+            traceGroupInts = new int[newCapacity * TRACE_GROUP_INTS];
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                if (oldInts[oldSlot * TRACE_GROUP_INTS + TRACE_GROUP_GENERATION] == generation) {
+                    final int slot = traceGroupSlot(oldLongs[oldSlot * TRACE_GROUP_LONGS + TRACE_ID_HIGH],
+                            oldLongs[oldSlot * TRACE_GROUP_LONGS + TRACE_ID_LOW]);
+                    System.arraycopy(oldLongs, oldSlot * TRACE_GROUP_LONGS, traceGroupLongs, slot * TRACE_GROUP_LONGS, TRACE_GROUP_LONGS);
+                    System.arraycopy(oldInts, oldSlot * TRACE_GROUP_INTS, traceGroupInts, slot * TRACE_GROUP_INTS, TRACE_GROUP_INTS);
+                }
+            }
+        }
+
+        private int nameIndex(final String name) {
+            if (name == null) {
+                return NO_NAME;
+            }
+            final Integer index = nameIndices.get(name);
+            if (index != null) {
+                return index;
+            }
+            final int newIndex = names.size();
+            names.add(name);
+            nameIndices.put(name, newIndex);
+            return newIndex;
+        }
+
+        private String nameAt(final int index) {
+            return index == NO_NAME ? null : names.get(index);
+        }
+    }
+
+    /**
+     * A copy of a span read from the window.
+     */
+    static class SpanState {
+        final long spanId;
+        final boolean hasParent;
+        final long parentSpanId;
+        final long traceIdHigh;
+        final long traceIdLow;
+        final String serviceName;
+        final String spanKind;
+        final String name;
+
+        SpanState(final long spanId,
+                  final boolean hasParent,
+                  final long parentSpanId,
+                  final long traceIdHigh,
+                  final long traceIdLow,
+                  final String serviceName,
+                  final String spanKind,
+                  final String name) {
+            this.spanId = spanId;
+            this.hasParent = hasParent;
+            this.parentSpanId = parentSpanId;
+            this.traceIdHigh = traceIdHigh;
+            this.traceIdLow = traceIdLow;
+            this.serviceName = serviceName;
+            this.spanKind = spanKind;
+            this.name = name;
+        }
+    }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor;
 
-import com.google.common.collect.Sets;
 import io.micrometer.core.instrument.Measurement;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Assertions;
@@ -20,8 +19,6 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 
-import java.io.File;
-import java.lang.reflect.Field;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Arrays;
@@ -32,10 +29,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT;
@@ -43,7 +40,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.processor.ServiceMapProcessorConfig.DEFAULT_WINDOW_DURATION;
@@ -61,10 +61,11 @@ public class ServiceMapStatefulProcessorTest {
     private PluginMetrics pluginMetrics;
     private PipelineDescription pipelineDescription;
     private ServiceMapProcessorConfig serviceMapProcessorConfig;
+    private String pipelineName;
 
     @BeforeEach
-    public void setup() throws NoSuchFieldException, IllegalAccessException {
-        resetServiceMapStatefulProcessorStatic();
+    public void setup() {
+        pipelineName = "testPipelineName-" + UUID.randomUUID();
         MetricsTestUtil.initMetrics();
         pluginSetting = mock(PluginSetting.class);
         pipelineDescription = mock(PipelineDescription.class);
@@ -76,37 +77,6 @@ public class ServiceMapStatefulProcessorTest {
         when(pluginSetting.getPipelineName()).thenReturn("testPipelineName");
     }
 
-    public void resetServiceMapStatefulProcessorStatic() throws NoSuchFieldException, IllegalAccessException {
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "RELATIONSHIP_STATE", Sets.newConcurrentHashSet());
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "processorsCreated", new AtomicInteger(0));
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTimestamp", 0);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "windowDurationMillis", 0);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "dbPath", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "clock", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "allThreadsCyclicBarrier", null);
-    }
-
-    private void reflectivelySetField(final Class<?> clazz, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
-        final Field field = clazz.getDeclaredField(fieldName);
-        field.setAccessible(true);
-        final Object fieldValue = field.get(clazz);
-        try {
-            if (fieldValue instanceof Set) {
-                ((Set) fieldValue).clear();
-            } else if (fieldValue instanceof AtomicInteger) {
-                ((AtomicInteger) fieldValue).set(0);
-            } else {
-                field.set(clazz, value);
-            }
-        } finally {
-            field.setAccessible(false);
-        }
-    }
-
     /**
      * This function mocks what the frontend will do to resolve the data in the service map index to find the edges
      * for the service map.
@@ -130,6 +100,7 @@ public class ServiceMapStatefulProcessorTest {
     @Test
     public void testDataPrepperConstructor() {
         when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(4);
+        when(pipelineDescription.getPipelineName()).thenReturn(pipelineName);
         when(serviceMapProcessorConfig.getDbPath()).thenReturn(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
         //Nothing is accessible to validate, so just verify that no exception is thrown.
         final ServiceMapStatefulProcessor serviceMapStatefulProcessor = new ServiceMapStatefulProcessor(
@@ -142,9 +113,9 @@ public class ServiceMapStatefulProcessorTest {
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
+        final PipelineDescription twoWorkersPipelineDescription = createPipelineDescription(pipelineName, 2);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, twoWorkersPipelineDescription, clock, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, twoWorkersPipelineDescription, clock, pluginMetrics);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] rootSpanId2Bytes = ServiceMapTestUtils.getRandomBytes(8);
@@ -341,9 +312,9 @@ public class ServiceMapStatefulProcessorTest {
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginMetrics);
+        final PipelineDescription twoWorkersPipelineDescription = createPipelineDescription(pipelineName, 2);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, twoWorkersPipelineDescription, clock, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, twoWorkersPipelineDescription, clock, pluginMetrics);
 
         final byte[] rootSpanIdBytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceIdBytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -397,8 +368,7 @@ public class ServiceMapStatefulProcessorTest {
 
     @Test
     public void testPrepareForShutdownWithEventRecordData() {
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, createPipelineDescription(pipelineName, 1), Clock.systemUTC(), pluginMetrics);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceId1Bytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -424,9 +394,87 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful.shutdown();
     }
 
+    @Test
+    public void testProcessorsOfDifferentPipelinesDoNotShareWindows() {
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, createPipelineDescription(pipelineName, 1), Clock.systemUTC(), pluginMetrics);
+        final ServiceMapStatefulProcessor otherServiceMapStateful = new ServiceMapStatefulProcessor(
+                100, createPipelineDescription("otherPipelineName-" + UUID.randomUUID(), 1), Clock.systemUTC(), pluginMetrics);
+
+        final Span frontendSpans = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "",
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16)), SPAN_KIND_CLIENT);
+
+        serviceMapStateful.execute(Collections.singletonList(new Record<>(frontendSpans)));
+        otherServiceMapStateful.execute(Collections.emptyList());
+
+        assertFalse(serviceMapStateful.isReadyForShutdown());
+        assertTrue(otherServiceMapStateful.isReadyForShutdown());
+
+        serviceMapStateful.shutdown();
+        otherServiceMapStateful.shutdown();
+    }
+
+    @Test
+    public void testProcessorsOfTheSamePipelineDoNotShareWindows() {
+        final Clock clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.millis()).thenReturn(1L);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(
+                100, createPipelineDescription(pipelineName, 2), clock, pluginMetrics);
+        final ServiceMapStatefulProcessor otherServiceMapStateful = new ServiceMapStatefulProcessor(
+                100, createPipelineDescription(pipelineName, 2), clock, pluginMetrics);
+
+        serviceMapStateful.execute(Collections.singletonList(new Record<>(createFrontendSpan())));
+
+        assertFalse(serviceMapStateful.isReadyForShutdown());
+        assertTrue(otherServiceMapStateful.isReadyForShutdown());
+    }
+
+    @Test
+    public void testWorkersJoinANewStateAfterAProcessorFailsToBeCreated() {
+        final Clock clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.millis()).thenReturn(1L);
+        final PipelineDescription twoWorkersPipelineDescription = createPipelineDescription(pipelineName, 2);
+        final PluginMetrics failingPluginMetrics = mock(PluginMetrics.class);
+        when(failingPluginMetrics.gauge(eq(ServiceMapStatefulProcessor.SPANS_DB_SIZE), any(), any()))
+                .thenThrow(RuntimeException.class);
+
+        assertThrows(RuntimeException.class, () -> new ServiceMapStatefulProcessor(
+                100, twoWorkersPipelineDescription, clock, failingPluginMetrics));
+
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(
+                100, twoWorkersPipelineDescription, clock, pluginMetrics);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(
+                100, twoWorkersPipelineDescription, clock, pluginMetrics);
+
+        serviceMapStateful1.execute(Collections.singletonList(new Record<>(createFrontendSpan())));
+
+        assertFalse(serviceMapStateful2.isReadyForShutdown());
+    }
+
+    @Test
+    public void testSpansWithInvalidIdsAreSkipped() {
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, createPipelineDescription(pipelineName, 1), Clock.systemUTC(), pluginMetrics);
+        final String traceId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+
+        final Span invalidTraceIdSpan = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "",
+                "not-hex", SPAN_KIND_CLIENT);
+        final Span longSpanIdSpan = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(9)),
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), traceId, SPAN_KIND_CLIENT);
+
+        serviceMapStateful.execute(Arrays.asList(new Record<>(invalidTraceIdSpan), new Record<>(longSpanIdSpan)));
+
+        assertThat(serviceMapStateful.getSpansDbCount(), equalTo(0.0));
+        assertTrue(serviceMapStateful.isReadyForShutdown());
+
+        serviceMapStateful.shutdown();
+    }
+
     @Test
     public void testGetIdentificationKeys() {
         when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(4);
+        when(pipelineDescription.getPipelineName()).thenReturn(pipelineName);
         when(serviceMapProcessorConfig.getDbPath()).thenReturn(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
         final ServiceMapStatefulProcessor serviceMapStatefulProcessor = new ServiceMapStatefulProcessor(
                 serviceMapProcessorConfig, pluginMetrics, pipelineDescription);
@@ -435,6 +483,19 @@ public class ServiceMapStatefulProcessorTest {
         assertThat(expectedIdentificationKeys, equalTo(Collections.singleton("traceId")));
     }
 
+    private static PipelineDescription createPipelineDescription(final String pipelineName, final int processWorkers) {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(pipelineName);
+        when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(processWorkers);
+        return pipelineDescription;
+    }
+
+    private static Span createFrontendSpan() {
+        return ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "",
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16)), SPAN_KIND_CLIENT);
+    }
+
     private static class ServiceMapSourceDest {
         final String source;
         final String dest;
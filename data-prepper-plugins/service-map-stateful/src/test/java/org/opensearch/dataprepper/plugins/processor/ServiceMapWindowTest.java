@@ -0,0 +1,233 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMapWindowTest {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private ServiceMapWindow objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new ServiceMapWindow(INITIAL_CAPACITY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 3, 100})
+    void constructor_throws_if_capacity_is_not_a_power_of_two(final int initialCapacity) {
+        assertThrows(IllegalArgumentException.class, () -> new ServiceMapWindow(initialCapacity));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 3, 100})
+    void constructor_throws_if_stripes_is_not_a_power_of_two(final int stripes) {
+        assertThrows(IllegalArgumentException.class, () -> new ServiceMapWindow(INITIAL_CAPACITY, stripes));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 64})
+    void window_keeps_spans_and_trace_groups_with_any_number_of_stripes(final int stripes) {
+        final ServiceMapWindow window = new ServiceMapWindow(INITIAL_CAPACITY, stripes);
+        final int spanCount = 100;
+        for (int i = 0; i < spanCount; i++) {
+            window.putSpan(i, false, 0L, 0L, i, "service", null, "name-" + i);
+            window.putTraceGroup(0L, i, "group-" + i);
+        }
+
+        assertThat(window.spanCount(), equalTo((long) spanCount));
+        assertThat(window.traceGroupCount(), equalTo((long) spanCount));
+        for (int i = 0; i < spanCount; i++) {
+            assertThat(window.getSpan(i).name, equalTo("name-" + i));
+            assertThat(window.getTraceGroup(0L, i), equalTo("group-" + i));
+        }
+    }
+
+    @Test
+    void getSpan_returns_the_span_which_was_put() {
+        objectUnderTest.putSpan(1L, true, 2L, 3L, 4L, "service", "SPAN_KIND_CLIENT", "name");
+
+        final ServiceMapWindow.SpanState spanState = objectUnderTest.getSpan(1L);
+
+        assertThat(spanState, notNullValue());
+        assertThat(spanState.spanId, equalTo(1L));
+        assertThat(spanState.hasParent, equalTo(true));
+        assertThat(spanState.parentSpanId, equalTo(2L));
+        assertThat(spanState.traceIdHigh, equalTo(3L));
+        assertThat(spanState.traceIdLow, equalTo(4L));
+        assertThat(spanState.serviceName, equalTo("service"));
+        assertThat(spanState.spanKind, equalTo("SPAN_KIND_CLIENT"));
+        assertThat(spanState.name, equalTo("name"));
+        assertThat(objectUnderTest.spanCount(), equalTo(1L));
+    }
+
+    @Test
+    void getSpan_returns_null_for_a_missing_span() {
+        objectUnderTest.putSpan(1L, false, 0L, 3L, 4L, "service", null, null);
+
+        assertThat(objectUnderTest.getSpan(2L), nullValue());
+        final ServiceMapWindow.SpanState spanState = objectUnderTest.getSpan(1L);
+        assertThat(spanState.hasParent, equalTo(false));
+        assertThat(spanState.spanKind, nullValue());
+        assertThat(spanState.name, nullValue());
+    }
+
+    @Test
+    void putSpan_replaces_a_span_with_the_same_id() {
+        objectUnderTest.putSpan(1L, false, 0L, 3L, 4L, "service", "SPAN_KIND_CLIENT", "name");
+        objectUnderTest.putSpan(1L, true, 2L, 3L, 4L, "other-service", "SPAN_KIND_SERVER", "other-name");
+
+        assertThat(objectUnderTest.spanCount(), equalTo(1L));
+        assertThat(objectUnderTest.getSpan(1L).serviceName, equalTo("other-service"));
+        assertThat(objectUnderTest.getSpan(1L).parentSpanId, equalTo(2L));
+    }
+
+    @Test
+    void putSpan_grows_the_table_and_keeps_all_spans() {
+        final long initialSizeInBytes = objectUnderTest.spansSizeInBytes();
+        final int spanCount = INITIAL_CAPACITY * 10;
+        for (int i = 0; i < spanCount; i++) {
+            objectUnderTest.putSpan(i * 1_000_003L, false, 0L, 0L, i, "service-" + (i % 3), null, "name");
+        }
+
+        assertThat(objectUnderTest.spanCount(), equalTo((long) spanCount));
+        assertThat(objectUnderTest.spansSizeInBytes() > initialSizeInBytes, equalTo(true));
+        for (int i = 0; i < spanCount; i++) {
+            final ServiceMapWindow.SpanState spanState = objectUnderTest.getSpan(i * 1_000_003L);
+            assertThat(spanState.traceIdLow, equalTo((long) i));
+            assertThat(spanState.serviceName, equalTo("service-" + (i % 3)));
+        }
+    }
+
+    @Test
+    void forEachSpan_visits_every_span_exactly_once_across_segments() {
+        final int spanCount = 100;
+        for (int i = 0; i < spanCount; i++) {
+            objectUnderTest.putSpan(i, false, 0L, 0L, 0L, "service", null, null);
+        }
+
+        final List<Long> visited = new ArrayList<>();
+        final int segments = 3;
+        for (int segment = 0; segment < segments; segment++) {
+            objectUnderTest.forEachSpan(segments, segment, spanState -> visited.add(spanState.spanId));
+        }
+
+        final Set<Long> distinct = new HashSet<>(visited);
+        assertThat(visited.size(), equalTo(spanCount));
+        assertThat(distinct.size(), equalTo(spanCount));
+    }
+
+    @Test
+    void putSpan_from_concurrent_workers_keeps_all_spans() throws Exception {
+        final int workers = 4;
+        final int spansPerWorker = 10_000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(workers);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int worker = 0; worker < workers; worker++) {
+                final long firstSpanId = (long) worker * spansPerWorker;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (long spanId = firstSpanId; spanId < firstSpanId + spansPerWorker; spanId++) {
+                        objectUnderTest.putSpan(spanId, false, 0L, 0L, spanId, "service-" + (spanId % 5), null, null);
+                        objectUnderTest.putTraceGroup(0L, spanId, "group");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        final long spanCount = (long) workers * spansPerWorker;
+        assertThat(objectUnderTest.spanCount(), equalTo(spanCount));
+        assertThat(objectUnderTest.traceGroupCount(), equalTo(spanCount));
+        for (long spanId = 0; spanId < spanCount; spanId++) {
+            assertThat(objectUnderTest.getSpan(spanId).traceIdLow, equalTo(spanId));
+            assertThat(objectUnderTest.getSpan(spanId).serviceName, equalTo("service-" + (spanId % 5)));
+        }
+    }
+
+    @Test
+    void getTraceGroup_returns_the_trace_group_which_was_put() {
+        objectUnderTest.putTraceGroup(1L, 2L, "checkout");
+        objectUnderTest.putTraceGroup(2L, 1L, "reset_password");
+
+        assertThat(objectUnderTest.getTraceGroup(1L, 2L), equalTo("checkout"));
+        assertThat(objectUnderTest.getTraceGroup(2L, 1L), equalTo("reset_password"));
+        assertThat(objectUnderTest.getTraceGroup(1L, 1L), nullValue());
+        assertThat(objectUnderTest.traceGroupCount(), equalTo(2L));
+    }
+
+    @Test
+    void putTraceGroup_grows_the_table_and_keeps_all_trace_groups() {
+        final int traceCount = INITIAL_CAPACITY * 10;
+        for (int i = 0; i < traceCount; i++) {
+            objectUnderTest.putTraceGroup(i, -i, "group-" + i);
+        }
+
+        assertThat(objectUnderTest.traceGroupCount(), equalTo((long) traceCount));
+        for (int i = 0; i < traceCount; i++) {
+            assertThat(objectUnderTest.getTraceGroup(i, -i), equalTo("group-" + i));
+        }
+        assertThat(objectUnderTest.traceGroupsSizeInBytes() > 0, equalTo(true));
+    }
+
+    @Test
+    void clear_removes_all_spans_and_trace_groups() {
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.putSpan(i, false, 0L, 0L, i, "service", null, null);
+            objectUnderTest.putTraceGroup(0L, i, "group");
+        }
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.spanCount(), equalTo(0L));
+        assertThat(objectUnderTest.traceGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpan(1L), nullValue());
+        assertThat(objectUnderTest.getTraceGroup(0L, 1L), nullValue());
+        final List<ServiceMapWindow.SpanState> visited = new ArrayList<>();
+        objectUnderTest.forEachSpan(1, 0, visited::add);
+        assertThat(visited.size(), equalTo(0));
+    }
+
+    @Test
+    void window_can_be_reused_after_clear() {
+        objectUnderTest.putSpan(1L, false, 0L, 0L, 1L, "service", null, "name");
+        objectUnderTest.clear();
+
+        objectUnderTest.putSpan(2L, true, 1L, 0L, 2L, "other-service", null, "other-name");
+
+        assertThat(objectUnderTest.spanCount(), equalTo(1L));
+        assertThat(objectUnderTest.getSpan(1L), nullValue());
+        assertThat(objectUnderTest.getSpan(2L).serviceName, equalTo("other-service"));
+        assertThat(objectUnderTest.getSpan(2L).name, equalTo("other-name"));
+    }
+}
@@ -7,11 +7,13 @@ package org.opensearch.dataprepper.plugins.processor.translate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -25,9 +27,12 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
@@ -101,11 +106,97 @@ public class TranslateProcessorBenchmark {
         ) throws IOException {
             try (InputStream is = getClass().getResourceAsStream("/jmh/" + configFile)) {
                 TranslateProcessorConfig config = objectMapper.readValue(is, TranslateProcessorConfig.class);
+                // Combines the mappings, which configuration validation otherwise does.
+                config.hasMappings();
                 return new TranslateProcessor(pluginMetrics, config, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
             }
         }
     }
 
+    /**
+     * A mapping table the size of an IP range or asset inventory file: one target with the given number of
+     * individual keys and the same number of numeric ranges. Half of the events miss the individual keys and
+     * are resolved through the ranges.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeTableState {
+        private static final int RECORD_COUNT = 1000;
+
+        @Param({"1000000"})
+        private int entryCount;
+
+        private TranslateProcessor largeTableProcessor;
+        private Collection<Record<Event>> largeTableRecords;
+
+        @Setup
+        public void setUp() {
+            largeTableProcessor = createLargeTableProcessor(entryCount);
+
+            final Random random = new Random(42);
+            largeTableRecords = new ArrayList<>(RECORD_COUNT);
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final int entry = random.nextInt(entryCount);
+                final String sourceValue = i % 2 == 0 ? "host-" + entry : String.valueOf(entry * 10 + 3);
+                largeTableRecords.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("sourceField", sourceValue))
+                        .build()));
+            }
+        }
+    }
+
+    private static TranslateProcessor createLargeTableProcessor(final int entryCount) {
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            map.put("host-" + i, "owner-" + (i % 100));
+            map.put((i * 10) + "-" + (i * 10 + 5), "zone-" + (i % 50));
+        }
+        final Map<String, Object> target = new HashMap<>();
+        target.put("target", "targetField");
+        target.put("map", map);
+        final Map<String, Object> mapping = new HashMap<>();
+        mapping.put("source", "sourceField");
+        mapping.put("targets", List.of(target));
+        final TranslateProcessorConfig config = new ObjectMapper()
+                .convertValue(Map.of("mappings", List.of(mapping)), TranslateProcessorConfig.class);
+        config.hasMappings();
+        return new TranslateProcessor(mock(PluginMetrics.class), config,
+                mock(ExpressionEvaluator.class), TestEventKeyFactory.getTestEventFactory());
+    }
+
+    /**
+     * The heap held by a processor after it is built from the large table, reported next to the build time.
+     * Only the processor is kept, so this shows whether the configured map is retained alongside the index.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeapCounters {
+        public long retainedHeapBytes;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public TranslateProcessor benchmark_large_table_retained_heap(LargeTableState state, RetainedHeapCounters counters) {
+        final long usedHeapBefore = usedHeapAfterGc();
+        final TranslateProcessor processor = createLargeTableProcessor(state.entryCount);
+        counters.retainedHeapBytes = usedHeapAfterGc() - usedHeapBefore;
+        return processor;
+    }
+
+    private static long usedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_table_translation(LargeTableState state) {
+        state.largeTableProcessor.doExecute(state.largeTableRecords);
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     public void benchmark_static_key_translation(BenchmarkState state) {
@@ -9,6 +9,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
 import java.util.List;
 
 public class FileParameterConfig {
@@ -23,6 +25,11 @@ public class FileParameterConfig {
     @Valid
     private S3ObjectConfig awsConfig;
 
+    @JsonProperty("refresh_interval")
+    @JsonPropertyDescription("How often to read the file or S3 object again and replace the mappings loaded from it. " +
+            "The mappings are only loaded at startup when this is not set.")
+    private Duration refreshInterval;
+
     public String getFileName(){
         return  fileName;
     }
@@ -31,6 +38,10 @@ public class FileParameterConfig {
         return awsConfig;
     }
 
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
     public List<MappingsParameterConfig> getFileMappings() {
         MappingsHandler handler = new MappingsHandler();
 
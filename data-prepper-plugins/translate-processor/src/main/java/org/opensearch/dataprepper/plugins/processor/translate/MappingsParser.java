@@ -5,26 +5,31 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
 public class MappingsParser {
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
-    private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final TranslationIndex.KeyTable.Builder individualMappings = new TranslationIndex.KeyTable.Builder();
+    private final List<String> numericKeys = new ArrayList<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private final List<RangeKey> rangeKeys = new ArrayList<>();
     public MappingsParser(TargetsParameterConfig targetConfig){
         RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
         if (Objects.nonNull(regexConfig)) {
             compilePatterns(regexConfig.getPatterns());
         }
         processMapField(targetConfig.getMap());
+        checkOverlappingRanges();
         checkOverlappingKeys();
     }
 
-    public Map<String, Object> fetchIndividualMappings() { return individualMappings; }
+    TranslationIndex.KeyTable fetchIndividualMappings() { return individualMappings.build(); }
 
     public LinkedHashMap<Range<Float>, Object> fetchRangeMappings() { return rangeMappings; }
 
@@ -57,19 +62,14 @@ public class MappingsParser {
     }
 
     private void addRangeMapping(Map.Entry<String, Object> mapEntry) {
-        String[] rangeKeys = mapEntry.getKey().split("-");
-        if (rangeKeys.length != 2 || !StringUtils.isNumericSpace(rangeKeys[0]) || !StringUtils.isNumericSpace(rangeKeys[1])) {
+        String[] rangeBounds = mapEntry.getKey().split("-");
+        if (rangeBounds.length != 2 || !StringUtils.isNumericSpace(rangeBounds[0]) || !StringUtils.isNumericSpace(rangeBounds[1])) {
             addIndividualMapping(mapEntry.getKey(), mapEntry.getValue());
         } else {
-            Float lowKey = Float.parseFloat(rangeKeys[0]);
-            Float highKey = Float.parseFloat(rangeKeys[1]);
-            Range<Float> rangeEntry = Range.between(lowKey, highKey);
-            if (isRangeOverlapping(rangeEntry)) {
-                String exceptionMsg = "map option contains key " + mapEntry.getKey() + " that overlaps with other range entries";
-                throw new InvalidPluginConfigurationException(exceptionMsg);
-            } else {
-                rangeMappings.put(Range.between(lowKey, highKey), mapEntry.getValue());
-            }
+            Float lowKey = Float.parseFloat(rangeBounds[0]);
+            Float highKey = Float.parseFloat(rangeBounds[1]);
+            rangeKeys.add(new RangeKey(mapEntry.getKey(), Range.between(lowKey, highKey)));
+            rangeMappings.put(Range.between(lowKey, highKey), mapEntry.getValue());
         }
     }
 
@@ -78,24 +78,65 @@ public class MappingsParser {
             String exceptionMsg = "map option contains duplicate entries of " + key;
             throw new InvalidPluginConfigurationException(exceptionMsg);
         } else {
-            individualMappings.put(key.strip(), value);
+            final String strippedKey = key.strip();
+            individualMappings.put(strippedKey, value);
+            if (NumberUtils.isParsable(strippedKey)) {
+                numericKeys.add(strippedKey);
+            }
         }
     }
 
-    private boolean isRangeOverlapping(Range<Float> rangeEntry) {
-        return rangeMappings.keySet().stream().anyMatch(range -> range.isOverlappedBy(rangeEntry));
+    /**
+     * Sorts the ranges by their lower bound, after which any overlap shows up between neighbours. This keeps
+     * the check linear after sorting for mapping files with millions of ranges.
+     */
+    private void checkOverlappingRanges() {
+        rangeKeys.sort(Comparator.comparing(rangeKey -> rangeKey.range.getMinimum()));
+        for (int i = 1; i < rangeKeys.size(); i++) {
+            if (rangeKeys.get(i - 1).range.isOverlappedBy(rangeKeys.get(i).range)) {
+                String exceptionMsg = "map option contains key " + rangeKeys.get(i).key + " that overlaps with other range entries";
+                throw new InvalidPluginConfigurationException(exceptionMsg);
+            }
+        }
     }
 
     private void checkOverlappingKeys() {
-        for (String individualKey : individualMappings.keySet()) {
-            if (NumberUtils.isParsable(individualKey)) {
-                Float floatKey = Float.parseFloat(individualKey);
-                Range<Float> range = Range.between(floatKey, floatKey);
-                if (isRangeOverlapping(range)) {
-                    String exceptionMsg = "map option contains key " + individualKey + " that overlaps with other range entries";
-                    throw new InvalidPluginConfigurationException(exceptionMsg);
-                }
+        if (rangeKeys.isEmpty()) {
+            return;
+        }
+        for (String individualKey : numericKeys) {
+            Float floatKey = Float.parseFloat(individualKey);
+            if (isInAnyRange(floatKey)) {
+                String exceptionMsg = "map option contains key " + individualKey + " that overlaps with other range entries";
+                throw new InvalidPluginConfigurationException(exceptionMsg);
             }
         }
     }
+
+    private boolean isInAnyRange(Float key) {
+        int low = 0;
+        int high = rangeKeys.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Range<Float> range = rangeKeys.get(middle).range;
+            if (range.isAfter(key)) {
+                high = middle - 1;
+            } else if (range.isBefore(key)) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class RangeKey {
+        private final String key;
+        private final Range<Float> range;
+
+        private RangeKey(String key, Range<Float> range) {
+            this.key = key;
+            this.range = range;
+        }
+    }
 }
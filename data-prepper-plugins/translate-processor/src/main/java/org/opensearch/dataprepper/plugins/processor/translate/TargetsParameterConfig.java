@@ -11,7 +11,6 @@ import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import com.google.common.annotations.VisibleForTesting;
 
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -22,9 +21,11 @@ import java.util.stream.Stream;
 public class TargetsParameterConfig {
     static final String MAP_KEY = "map";
     static final String REGEX_KEY = "regex";
-    private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
-    private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private volatile TranslationIndex translationIndex = TranslationIndex.EMPTY;
+    /**
+     * Set once the configured map is held by the translation index and the map itself has been released.
+     */
+    private boolean mapIndexed;
     @JsonProperty("target")
     @JsonPropertyDescription("The key that specifies the field in the output in which the translated value will be placed.")
     @NotNull
@@ -76,6 +77,11 @@ public class TargetsParameterConfig {
         return target;
     }
 
+    /**
+     * Returns the configured map until it is parsed, and null after that. The index holds the mappings once they
+     * are parsed, and the map is released so that a large table is not kept in memory twice. Use the fetch methods
+     * to read the parsed mappings.
+     */
     public Map<String, Object> getMap() {
         return map;
     }
@@ -96,16 +102,29 @@ public class TargetsParameterConfig {
         return regexParameterConfig;
     }
 
+    /**
+     * Returns a copy of the individual key mappings. Lookups go through {@link #getTranslationIndex()}.
+     */
     public Map<String, Object> fetchIndividualMappings() {
-        return individualMappings;
+        return translationIndex.individualMappings();
     }
 
+    /**
+     * Returns a copy of the range mappings, ordered by their lower bound.
+     */
     public LinkedHashMap<Range<Float>, Object> fetchRangeMappings() {
-        return rangeMappings;
+        return translationIndex.rangeMappings();
     }
 
+    /**
+     * Returns a copy of the compiled patterns, in the order they were configured.
+     */
     public Map<Pattern, Object> fetchCompiledPatterns() {
-        return compiledPatterns;
+        return translationIndex.compiledPatterns();
+    }
+
+    TranslationIndex getTranslationIndex() {
+        return translationIndex;
     }
 
     @AssertTrue(message = "pattern option is mandatory while configuring regex option")
@@ -115,11 +134,14 @@ public class TargetsParameterConfig {
 
     @AssertTrue(message = "Either map or patterns option needs to be configured under targets.")
     public boolean hasMappings() {
-        return Stream.of(map, regexParameterConfig).filter(n -> n != null).count() != 0;
+        return mapIndexed || Stream.of(map, regexParameterConfig).filter(n -> n != null).count() != 0;
     }
 
     @AssertTrue(message = "The mapped values do not match the target type provided")
     public boolean isMapTypeValid() {
+        if (mapIndexed) {
+            return translationIndex.allMapValuesMatch(this::checkTargetValueType);
+        }
         if(Objects.isNull(map)){
             return true;
         }
@@ -148,11 +170,49 @@ public class TargetsParameterConfig {
         return true;
     }
 
+    /**
+     * Parses the mappings into a new index and replaces the current one in a single write. The configured map is
+     * released once it is indexed, after which parsing again keeps the current index. Use
+     * {@link #replaceMappings(TargetsParameterConfig)} to load new mappings.
+     */
     public void parseMappings() {
+        if (mapIndexed && map == null) {
+            return;
+        }
         MappingsParser parser = new MappingsParser(this);
-        individualMappings.putAll(parser.fetchIndividualMappings());
-        rangeMappings.putAll(parser.fetchRangeMappings());
-        compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        final boolean exactPatterns = regexParameterConfig == null || !Boolean.FALSE.equals(regexParameterConfig.getExact());
+        translationIndex = TranslationIndex.build(parser.fetchIndividualMappings(), parser.fetchRangeMappings(),
+                parser.fetchCompiledPatterns(), exactPatterns);
+        if (map != null) {
+            map = null;
+            mapIndexed = true;
+        }
+    }
+
+    /**
+     * Replaces the mappings with those of a reloaded copy of this target. The new index is built first and swapped
+     * in with a single write, so lookups running at the same time see either the old or the new mappings.
+     *
+     * @param reloaded the target as read again from the mappings file
+     * @return false, keeping the current mappings, if the reloaded target has no mappings or its values do not
+     * match the target type
+     */
+    boolean replaceMappings(final TargetsParameterConfig reloaded) {
+        if (!reloaded.hasMappings() || !reloaded.isPatternPresent()) {
+            return false;
+        }
+        final Map<String, Object> reloadedPatterns = reloaded.regexParameterConfig == null ?
+                Map.of() : reloaded.regexParameterConfig.getPatterns();
+        if (!reloadedPatterns.values().stream().allMatch(this::checkTargetValueType)) {
+            return false;
+        }
+        reloaded.parseMappings();
+        final TranslationIndex reloadedIndex = reloaded.translationIndex;
+        if (!reloadedIndex.allMapValuesMatch(this::checkTargetValueType)) {
+            return false;
+        }
+        translationIndex = reloadedIndex;
+        return true;
     }
 
 }
@@ -5,8 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
-import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -23,15 +21,17 @@ import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -46,6 +46,9 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final JacksonEvent.Builder eventBuilder = JacksonEvent.builder();
     private final JsonExtractor jsonExtractor = new JsonExtractor();
     private final KeyResolver keyResolver;
+    private final FileParameterConfig fileParameterConfig;
+    private final Map<List<Object>, TargetsParameterConfig> fileTargetConfigs;
+    private final ScheduledExecutorService fileRefreshExecutor;
 
     @DataPrepperPluginConstructor
     public TranslateProcessor(
@@ -59,6 +62,75 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.keyResolver = new CachingKeyResolver(eventKeyFactory);
         Optional.ofNullable(mappingsConfig)
                 .ifPresent(configs -> configs.forEach(MappingsParameterConfig::parseMappings));
+        this.fileParameterConfig = translateProcessorConfig.getFileParameterConfig();
+        this.fileTargetConfigs = findFileTargetConfigs(translateProcessorConfig.getFileMappingsConfigs());
+        this.fileRefreshExecutor = scheduleFileRefresh();
+    }
+
+    /**
+     * Finds the targets read from the mappings file which are in use, keyed by their source and target. A file
+     * target is not in use when the pipeline configuration has a target of the same source and target.
+     */
+    private Map<List<Object>, TargetsParameterConfig> findFileTargetConfigs(final List<MappingsParameterConfig> fileMappingsConfigs) {
+        final Map<List<Object>, TargetsParameterConfig> fileTargets = new HashMap<>();
+        if (Objects.isNull(fileMappingsConfigs) || Objects.isNull(mappingsConfig)) {
+            return fileTargets;
+        }
+        for (final MappingsParameterConfig fileMappingConfig : fileMappingsConfigs) {
+            for (final TargetsParameterConfig fileTargetConfig : fileMappingConfig.getTargetsParameterConfigs()) {
+                final boolean inUse = mappingsConfig.stream()
+                        .flatMap(mappingConfig -> mappingConfig.getTargetsParameterConfigs().stream())
+                        .anyMatch(targetConfig -> targetConfig == fileTargetConfig);
+                if (inUse) {
+                    fileTargets.put(List.of(fileMappingConfig.getSource(), fileTargetConfig.getTarget()), fileTargetConfig);
+                }
+            }
+        }
+        return fileTargets;
+    }
+
+    private ScheduledExecutorService scheduleFileRefresh() {
+        final Duration refreshInterval = Objects.isNull(fileParameterConfig) ? null : fileParameterConfig.getRefreshInterval();
+        if (Objects.isNull(refreshInterval) || fileTargetConfigs.isEmpty()) {
+            return null;
+        }
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "translate-file-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reloadFileMappings,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Reads the mappings file again and replaces the mappings of its targets. Only the source and target pairs which
+     * the file had at startup are reloaded. The current mappings are kept when the file cannot be read.
+     */
+    void reloadFileMappings() {
+        try {
+            final List<MappingsParameterConfig> reloadedMappingsConfigs = fileParameterConfig.getFileMappings();
+            if (Objects.isNull(reloadedMappingsConfigs)) {
+                LOG.warn("Unable to reload the mappings from {}, keeping the current mappings", fileParameterConfig.getFileName());
+                return;
+            }
+            for (final MappingsParameterConfig reloadedMappingConfig : reloadedMappingsConfigs) {
+                for (final TargetsParameterConfig reloadedTargetConfig : reloadedMappingConfig.getTargetsParameterConfigs()) {
+                    final TargetsParameterConfig fileTargetConfig = fileTargetConfigs.get(
+                            List.of(reloadedMappingConfig.getSource(), reloadedTargetConfig.getTarget()));
+                    if (Objects.isNull(fileTargetConfig)) {
+                        LOG.warn("Ignoring the reloaded target [{}] of source [{}], which is not loaded from the mappings file",
+                                reloadedTargetConfig.getTarget(), reloadedMappingConfig.getSource());
+                    } else if (!fileTargetConfig.replaceMappings(reloadedTargetConfig)) {
+                        LOG.warn("The reloaded mappings of target [{}] of source [{}] are not valid, keeping the current mappings",
+                                reloadedTargetConfig.getTarget(), reloadedMappingConfig.getSource());
+                    }
+                }
+            }
+        } catch (final Exception ex) {
+            LOG.error("Error while reloading the mappings from {}", fileParameterConfig.getFileName(), ex);
+        }
     }
 
     @Override
@@ -189,55 +261,8 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private Optional<Object> getTargetValueForSource(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Optional<Object> targetValue = Optional.empty();
-        targetValue = targetValue
-                .or(() -> matchesIndividualEntry(sourceValue, targetConfig))
-                .or(() -> matchesRangeEntry(sourceValue, targetConfig))
-                .or(() -> matchesPatternEntry(sourceValue, targetConfig))
+        return targetConfig.getTranslationIndex().lookup(sourceValue)
                 .or(() -> Optional.ofNullable(targetConfig.getDefaultValue()));
-        return targetValue;
-    }
-
-    private Optional<Object> matchesIndividualEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<String, Object> individualMappings = targetConfig.fetchIndividualMappings();
-        if (individualMappings.containsKey(sourceValue)) {
-            return Optional.of(individualMappings.get(sourceValue));
-        }
-        return Optional.empty();
-    }
-
-    private Optional<Object> matchesRangeEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        if (!NumberUtils.isParsable(sourceValue)) {
-            return Optional.empty();
-        }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
-            return Optional.empty();
-        }
-        final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -268,5 +293,8 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
+        if (Objects.nonNull(fileRefreshExecutor)) {
+            fileRefreshExecutor.shutdownNow();
+        }
     }
 }
\ No newline at end of file
@@ -46,6 +46,10 @@ public class TranslateProcessorConfig {
         return mappingsParameterConfigs;
     }
 
+    public List<MappingsParameterConfig> getFileMappingsConfigs() {
+        return fileMappingsConfigs;
+    }
+
     public List<MappingsParameterConfig> getCombinedMappingsConfigs() {
         return combinedMappingsConfigs;
     }
@@ -0,0 +1,416 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable lookup index over the parsed mappings of one target. Lookups try the individual keys, then
+ * the numeric ranges, then the regex patterns, in the same order the processor always has.
+ * <ul>
+ *     <li>Individual keys are packed into one character array and found through an open addressing table,
+ *     so a mapping costs a few ints and its characters rather than a hash map node and a String.</li>
+ *     <li>Ranges never overlap, so they are kept sorted by their lower bound and found by binary search.</li>
+ *     <li>Patterns are tried in the order they were configured.</li>
+ * </ul>
+ * An index is never modified after it is built, so a new index can replace an old one while lookups are running.
+ */
+final class TranslationIndex {
+    static final TranslationIndex EMPTY = build(Map.of(), new LinkedHashMap<>(), Map.of(), true);
+
+    private final KeyTable keyTable;
+    private final RangeTable rangeTable;
+    private final Pattern[] patterns;
+    private final Object[] patternValues;
+    private final boolean exactPatterns;
+
+    private TranslationIndex(final KeyTable keyTable, final RangeTable rangeTable, final Pattern[] patterns,
+                             final Object[] patternValues, final boolean exactPatterns) {
+        this.keyTable = keyTable;
+        this.rangeTable = rangeTable;
+        this.patterns = patterns;
+        this.patternValues = patternValues;
+        this.exactPatterns = exactPatterns;
+    }
+
+    static TranslationIndex build(final Map<String, Object> individualMappings,
+                                  final Map<Range<Float>, Object> rangeMappings,
+                                  final Map<Pattern, Object> compiledPatterns,
+                                  final boolean exactPatterns) {
+        final KeyTable.Builder keyTableBuilder = new KeyTable.Builder();
+        individualMappings.forEach(keyTableBuilder::put);
+        return build(keyTableBuilder.build(), rangeMappings, compiledPatterns, exactPatterns);
+    }
+
+    static TranslationIndex build(final KeyTable keyTable,
+                                  final Map<Range<Float>, Object> rangeMappings,
+                                  final Map<Pattern, Object> compiledPatterns,
+                                  final boolean exactPatterns) {
+        final Pattern[] patterns = compiledPatterns.keySet().toArray(new Pattern[0]);
+        final Object[] patternValues = compiledPatterns.values().toArray();
+        return new TranslationIndex(keyTable, new RangeTable(rangeMappings), patterns, patternValues, exactPatterns);
+    }
+
+    /**
+     * Finds the mapped value for a source value.
+     *
+     * @param sourceValue the value of the source field
+     * @return the mapped value, or empty if no individual key, range or pattern matches
+     */
+    Optional<Object> lookup(final String sourceValue) {
+        final Object individualValue = keyTable.get(sourceValue);
+        if (individualValue != KeyTable.NOT_FOUND) {
+            return Optional.ofNullable(individualValue);
+        }
+        if (rangeTable.size() > 0 && NumberUtils.isParsable(sourceValue)) {
+            final Optional<Object> rangeValue = rangeTable.get(Float.parseFloat(sourceValue));
+            if (rangeValue.isPresent()) {
+                return rangeValue;
+            }
+        }
+        return matchPatterns(sourceValue);
+    }
+
+    private Optional<Object> matchPatterns(final String sourceValue) {
+        for (int i = 0; i < patterns.length; i++) {
+            final Matcher matcher = patterns[i].matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(patternValues[i]);
+            }
+            if (!exactPatterns && matcher.find()) {
+                return Optional.of(matcher.replaceAll((String) patternValues[i]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return true if the predicate holds for every value of the individual keys and ranges. Each distinct value
+     * is tested once.
+     */
+    boolean allMapValuesMatch(final Predicate<Object> predicate) {
+        return keyTable.allValuesMatch(predicate) && rangeTable.allValuesMatch(predicate);
+    }
+
+    Map<String, Object> individualMappings() {
+        return keyTable.toMap();
+    }
+
+    LinkedHashMap<Range<Float>, Object> rangeMappings() {
+        return rangeTable.toMap();
+    }
+
+    Map<Pattern, Object> compiledPatterns() {
+        final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+        for (int i = 0; i < patterns.length; i++) {
+            compiledPatterns.put(patterns[i], patternValues[i]);
+        }
+        return compiledPatterns;
+    }
+
+    /**
+     * Individual keys packed into a single array of characters. The characters are held one byte each when
+     * every key is Latin-1, which covers IP addresses, host names and most inventory identifiers. Mapped values
+     * are deduplicated, since large tables usually map many keys onto a few values.
+     */
+    static final class KeyTable {
+        static final Object NOT_FOUND = new Object();
+
+        private final byte[] latin1Chars;
+        private final char[] utf16Chars;
+        private final int[] offsets;
+        private final int[] hashes;
+        private final int[] valueIds;
+        private final Object[] values;
+        private final int[] slots;
+        private final int mask;
+
+        private KeyTable(final Builder builder) {
+            final int size = builder.size;
+            final int totalLength = builder.offsets[size];
+            if (builder.latin1) {
+                latin1Chars = new byte[totalLength];
+                for (int i = 0; i < totalLength; i++) {
+                    latin1Chars[i] = (byte) builder.chars[i];
+                }
+                utf16Chars = null;
+            } else {
+                latin1Chars = null;
+                utf16Chars = Arrays.copyOf(builder.chars, totalLength);
+            }
+            offsets = Arrays.copyOf(builder.offsets, size + 1);
+            hashes = Arrays.copyOf(builder.hashes, size);
+            valueIds = Arrays.copyOf(builder.valueIds, size);
+            values = builder.values.toArray();
+            slots = new int[tableSize(size)];
+            mask = slots.length - 1;
+            for (int entry = 0; entry < size; entry++) {
+                int slot = spread(hashes[entry]) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = entry + 1;
+            }
+        }
+
+        /**
+         * @return the mapped value, or {@link #NOT_FOUND}
+         */
+        Object get(final String key) {
+            final int hash = key.hashCode();
+            int slot = spread(hash) & mask;
+            int entry;
+            while ((entry = slots[slot]) != 0) {
+                entry--;
+                if (hashes[entry] == hash && keyEquals(entry, key)) {
+                    return values[valueIds[entry]];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NOT_FOUND;
+        }
+
+        int size() {
+            return hashes.length;
+        }
+
+        private boolean allValuesMatch(final Predicate<Object> predicate) {
+            for (final Object value : values) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean keyEquals(final int entry, final String key) {
+            final int start = offsets[entry];
+            final int length = offsets[entry + 1] - start;
+            if (length != key.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                final char c = latin1Chars != null ? (char) (latin1Chars[start + i] & 0xFF) : utf16Chars[start + i];
+                if (c != key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Map<String, Object> toMap() {
+            final Map<String, Object> mappings = new HashMap<>();
+            for (int entry = 0; entry < hashes.length; entry++) {
+                final int start = offsets[entry];
+                final int end = offsets[entry + 1];
+                final String key;
+                if (latin1Chars != null) {
+                    final char[] chars = new char[end - start];
+                    for (int i = start; i < end; i++) {
+                        chars[i - start] = (char) (latin1Chars[i] & 0xFF);
+                    }
+                    key = new String(chars);
+                } else {
+                    key = new String(utf16Chars, start, end - start);
+                }
+                mappings.put(key, values[valueIds[entry]]);
+            }
+            return mappings;
+        }
+
+        private static int tableSize(final int size) {
+            int tableSize = 2;
+            while (tableSize < size * 2) {
+                tableSize <<= 1;
+            }
+            return tableSize;
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Collects the keys into growing arrays, so mappings go straight from the configuration into the
+         * table without an intermediate map holding a String and a node for every key.
+         */
+        static final class Builder {
+            private char[] chars = new char[64];
+            private int[] offsets = new int[9];
+            private int[] hashes = new int[8];
+            private int[] valueIds = new int[8];
+            private int[] slots = new int[16];
+            private int size;
+            private boolean latin1 = true;
+            private final Map<Object, Integer> distinctValues = new HashMap<>();
+            private final List<Object> values = new ArrayList<>();
+
+            boolean containsKey(final String key) {
+                return find(key) >= 0;
+            }
+
+            /**
+             * Maps the key to the value, replacing the value if the key was already added.
+             */
+            void put(final String key, final Object value) {
+                final int valueId = distinctValues.computeIfAbsent(value, distinctValue -> {
+                    values.add(distinctValue);
+                    return values.size() - 1;
+                });
+                final int existing = find(key);
+                if (existing >= 0) {
+                    valueIds[existing] = valueId;
+                    return;
+                }
+                if (size == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, size * 2);
+                    valueIds = Arrays.copyOf(valueIds, size * 2);
+                    offsets = Arrays.copyOf(offsets, size * 2 + 1);
+                }
+                final int start = offsets[size];
+                if (start + key.length() > chars.length) {
+                    chars = Arrays.copyOf(chars, Math.max(chars.length * 2, start + key.length()));
+                }
+                for (int i = 0; i < key.length(); i++) {
+                    final char c = key.charAt(i);
+                    latin1 &= c <= 0xFF;
+                    chars[start + i] = c;
+                }
+                offsets[size + 1] = start + key.length();
+                hashes[size] = key.hashCode();
+                valueIds[size] = valueId;
+                size++;
+                if (size * 2 > slots.length) {
+                    slots = new int[slots.length * 2];
+                    for (int entry = 0; entry < size - 1; entry++) {
+                        insertSlot(entry);
+                    }
+                }
+                insertSlot(size - 1);
+            }
+
+            KeyTable build() {
+                return new KeyTable(this);
+            }
+
+            private void insertSlot(final int entry) {
+                final int mask = slots.length - 1;
+                int slot = spread(hashes[entry]) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = entry + 1;
+            }
+
+            private int find(final String key) {
+                final int hash = key.hashCode();
+                final int mask = slots.length - 1;
+                int slot = spread(hash) & mask;
+                int entry;
+                while ((entry = slots[slot]) != 0) {
+                    entry--;
+                    if (hashes[entry] == hash && keyEquals(entry, key)) {
+                        return entry;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                return -1;
+            }
+
+            private boolean keyEquals(final int entry, final String key) {
+                final int start = offsets[entry];
+                if (offsets[entry + 1] - start != key.length()) {
+                    return false;
+                }
+                for (int i = 0; i < key.length(); i++) {
+                    if (chars[start + i] != key.charAt(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Non-overlapping ranges sorted by their lower bound. A value can only fall in the last range which starts
+     * at or below it.
+     */
+    static final class RangeTable {
+        private final float[] minimums;
+        private final float[] maximums;
+        private final Object[] values;
+
+        RangeTable(final Map<Range<Float>, Object> mappings) {
+            final List<Map.Entry<Range<Float>, Object>> sorted = new ArrayList<>(mappings.entrySet());
+            sorted.sort(Comparator.comparing(entry -> entry.getKey().getMinimum()));
+            minimums = new float[sorted.size()];
+            maximums = new float[sorted.size()];
+            values = new Object[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                minimums[i] = sorted.get(i).getKey().getMinimum();
+                maximums[i] = sorted.get(i).getKey().getMaximum();
+                values[i] = sorted.get(i).getValue();
+            }
+        }
+
+        Optional<Object> get(final float key) {
+            if (Float.isNaN(key)) {
+                return Optional.empty();
+            }
+            int low = 0;
+            int high = minimums.length - 1;
+            int candidate = -1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (Float.compare(minimums[middle], key) <= 0) {
+                    candidate = middle;
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            if (candidate >= 0 && Float.compare(key, maximums[candidate]) <= 0) {
+                return Optional.of(values[candidate]);
+            }
+            return Optional.empty();
+        }
+
+        int size() {
+            return minimums.length;
+        }
+
+        private boolean allValuesMatch(final Predicate<Object> predicate) {
+            for (final Object value : values) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private LinkedHashMap<Range<Float>, Object> toMap() {
+            final LinkedHashMap<Range<Float>, Object> mappings = new LinkedHashMap<>();
+            for (int i = 0; i < minimums.length; i++) {
+                mappings.put(Range.between(minimums[i], maximums[i]), values[i]);
+            }
+            return mappings;
+        }
+    }
+}
@@ -5,7 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -65,4 +69,56 @@ class TargetsParameterConfigTest {
         assertThat(targetsParameterConfig.getTargetType(), is(TargetType.INTEGER));
     }
 
-}
\ No newline at end of file
+    @Test
+    void test_parse_mappings_releases_the_map_and_reads_from_the_index() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("key1", "1");
+        map.put("key2", "2");
+        map.put("10-20", "3");
+        targetsParameterConfig = new TargetsParameterConfig(map, "targetKey", null, null, null, TargetType.INTEGER);
+
+        assertNull(targetsParameterConfig.getMap());
+        assertTrue(targetsParameterConfig.hasMappings());
+        assertTrue(targetsParameterConfig.isMapTypeValid());
+        assertThat(targetsParameterConfig.fetchIndividualMappings(), is(Map.of("key1", "1", "key2", "2")));
+        assertThat(targetsParameterConfig.fetchRangeMappings().values(), contains("3"));
+
+        targetsParameterConfig.parseMappings();
+
+        assertThat(targetsParameterConfig.getTranslationIndex().lookup("key2"), is(Optional.of("2")));
+        assertThat(targetsParameterConfig.getTranslationIndex().lookup("15"), is(Optional.of("3")));
+    }
+
+    @Test
+    void test_replace_mappings_swaps_in_the_reloaded_index() {
+        targetsParameterConfig = new TargetsParameterConfig(Map.of("key1", "1"), "targetKey", null, null, null, TargetType.INTEGER);
+        final TargetsParameterConfig reloaded = new TargetsParameterConfig(Map.of("key1", "2", "key2", "3"),
+                "targetKey", null, null, null, TargetType.INTEGER);
+
+        assertTrue(targetsParameterConfig.replaceMappings(reloaded));
+
+        assertThat(targetsParameterConfig.getTranslationIndex().lookup("key1"), is(Optional.of("2")));
+        assertThat(targetsParameterConfig.getTranslationIndex().lookup("key2"), is(Optional.of("3")));
+    }
+
+    @Test
+    void test_replace_mappings_keeps_the_index_when_reloaded_values_do_not_match_the_target_type() {
+        targetsParameterConfig = new TargetsParameterConfig(Map.of("key1", "1"), "targetKey", null, null, null, TargetType.INTEGER);
+        final TargetsParameterConfig reloaded = new TargetsParameterConfig(Map.of("key1", "not-a-number"),
+                "targetKey", null, null, null, null);
+
+        assertFalse(targetsParameterConfig.replaceMappings(reloaded));
+
+        assertThat(targetsParameterConfig.getTranslationIndex().lookup("key1"), is(Optional.of("1")));
+    }
+
+    @Test
+    void test_map_type_is_validated_from_the_index() {
+        targetsParameterConfig = new TargetsParameterConfig(Map.of("key1", "1", "key2", "not-a-number"),
+                "targetKey", null, null, null, TargetType.INTEGER);
+
+        assertNull(targetsParameterConfig.getMap());
+        assertFalse(targetsParameterConfig.isMapTypeValid());
+    }
+
+}
@@ -65,6 +65,12 @@ class TranslateProcessorEnhancedTest {
         lenient().when(targetsParameterConfig.fetchIndividualMappings()).thenReturn(Collections.emptyMap());
         lenient().when(targetsParameterConfig.fetchRangeMappings()).thenReturn(new LinkedHashMap<>());
         lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(Collections.emptyMap());
+        lenient().when(targetsParameterConfig.getTranslationIndex()).thenAnswer(invocation -> TranslationIndex.build(
+                targetsParameterConfig.fetchIndividualMappings(),
+                targetsParameterConfig.fetchRangeMappings(),
+                targetsParameterConfig.fetchCompiledPatterns(),
+                targetsParameterConfig.getRegexParameterConfiguration() == null
+                        || targetsParameterConfig.getRegexParameterConfiguration().getExact()));
     }
 
     // Error Handling & Edge Cases Tests
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -240,6 +241,14 @@ class TranslateProcessorTest {
                 "targetField", null, null, null, null));
     }
 
+    @Test
+    void test_overlapping_ranges_should_fail_when_not_configured_next_to_each_other() {
+        assertThrows(InvalidPluginConfigurationException.class, () -> new TargetsParameterConfig(
+                createMapEntries(createMapping("20-30", "mappedValue1"), createMapping("1-10", "mappedValue2"),
+                        createMapping("25-26", "mappedValue3")),
+                "targetField", null, null, null, null));
+    }
+
     @Test
     void test_overlapping_key_and_range_in_map_option() {
         assertThrows(InvalidPluginConfigurationException.class, () -> new TargetsParameterConfig(
@@ -761,6 +770,55 @@ class TranslateProcessorTest {
             assertThat(translatedRecords.get(0).getData().get("fileTarget", String.class), is("mappedValue1"));
         }
 
+        @Test
+        void test_reload_replaces_file_mappings_while_translating() throws Exception {
+            parseMappings();
+            when(mockConfig.getFileParameterConfig()).thenReturn(fileParameterConfig);
+            when(mockConfig.getFileMappingsConfigs()).thenReturn(fileTranslateConfig.getFileMappingsConfigs());
+            final TranslateProcessor processor = createObjectUnderTest();
+
+            final AtomicBoolean reloaded = new AtomicBoolean();
+            final List<String> translatedValues = Collections.synchronizedList(new ArrayList<>());
+            final Thread translatingThread = new Thread(() -> {
+                boolean translatedAfterReload = false;
+                while (!translatedAfterReload) {
+                    translatedAfterReload = reloaded.get();
+                    final Record<Event> record = getEvent("key1");
+                    processor.doExecute(Collections.singletonList(record));
+                    translatedValues.add(record.getData().get("fileTarget", String.class));
+                }
+            });
+            translatingThread.start();
+
+            Files.write(testMappingsFile.toPath(), ("mappings:\n" +
+                    "  - source: sourceField\n" +
+                    "    targets:\n" +
+                    "      - target: fileTarget\n" +
+                    "        map:\n" +
+                    "          key1: reloadedValue").getBytes());
+            processor.reloadFileMappings();
+            reloaded.set(true);
+            translatingThread.join();
+
+            assertTrue(translatedValues.stream().allMatch(value -> "fileMappedValue".equals(value) || "reloadedValue".equals(value)));
+            assertThat(translatedValues.get(translatedValues.size() - 1), is("reloadedValue"));
+        }
+
+        @Test
+        void test_reload_keeps_file_mappings_when_file_is_not_readable() {
+            parseMappings();
+            when(mockConfig.getFileParameterConfig()).thenReturn(fileParameterConfig);
+            when(mockConfig.getFileMappingsConfigs()).thenReturn(fileTranslateConfig.getFileMappingsConfigs());
+            final TranslateProcessor processor = createObjectUnderTest();
+
+            testMappingsFile.delete();
+            processor.reloadFileMappings();
+
+            final Record<Event> record = getEvent("key1");
+            processor.doExecute(Collections.singletonList(record));
+            assertThat(record.getData().get("fileTarget", String.class), is("fileMappedValue"));
+        }
+
         void parseMappings() {
             fileTranslateConfig.hasMappings();
             fileTranslateConfig.getCombinedMappingsConfigs().get(0).parseMappings();
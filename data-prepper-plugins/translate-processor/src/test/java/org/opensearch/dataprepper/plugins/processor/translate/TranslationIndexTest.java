@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class TranslationIndexTest {
+
+    private static TranslationIndex keysOnly(final Map<String, Object> mappings) {
+        return TranslationIndex.build(mappings, new LinkedHashMap<>(), Map.of(), true);
+    }
+
+    @Test
+    void lookup_finds_every_individual_key_of_a_large_table() {
+        final Map<String, Object> mappings = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            mappings.put("10.0." + (i / 256) + "." + (i % 256), "asset-" + (i % 7));
+        }
+
+        final TranslationIndex objectUnderTest = keysOnly(mappings);
+
+        mappings.forEach((key, value) -> assertThat(objectUnderTest.lookup(key), equalTo(Optional.of(value))));
+        assertThat(objectUnderTest.lookup("10.0.255.255"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup("10.0.0"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup(""), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.individualMappings(), equalTo(mappings));
+    }
+
+    @Test
+    void lookup_distinguishes_keys_with_the_same_hash_code() {
+        // "Aa" and "BB" have the same String hash code.
+        final TranslationIndex objectUnderTest = keysOnly(Map.of("Aa", "first", "BB", "second"));
+
+        assertThat(objectUnderTest.lookup("Aa"), equalTo(Optional.of("first")));
+        assertThat(objectUnderTest.lookup("BB"), equalTo(Optional.of("second")));
+    }
+
+    @Test
+    void lookup_supports_keys_outside_latin1() {
+        final TranslationIndex objectUnderTest = keysOnly(Map.of("caf\u00e9", "latin1", "\u6771\u4eac", "utf16", "", "empty"));
+
+        assertThat(objectUnderTest.lookup("caf\u00e9"), equalTo(Optional.of("latin1")));
+        assertThat(objectUnderTest.lookup("\u6771\u4eac"), equalTo(Optional.of("utf16")));
+        assertThat(objectUnderTest.lookup(""), equalTo(Optional.of("empty")));
+        assertThat(objectUnderTest.lookup("\u6771"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_does_not_match_a_latin1_table_with_a_wider_character() {
+        final TranslationIndex objectUnderTest = keysOnly(Map.of("a\u0001", "value"));
+
+        assertThat(objectUnderTest.lookup("a\u0101"), equalTo(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "5.5", "10", "20", "25", "30"})
+    void lookup_finds_the_range_containing_a_number(final String sourceValue) {
+        final LinkedHashMap<Range<Float>, Object> ranges = new LinkedHashMap<>();
+        ranges.put(Range.between(20f, 30f), "high");
+        ranges.put(Range.between(1f, 10f), "low");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of(), ranges, Map.of(), true);
+
+        final float number = Float.parseFloat(sourceValue);
+        assertThat(objectUnderTest.lookup(sourceValue), equalTo(Optional.of(number <= 10 ? "low" : "high")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.5", "10.5", "19.99", "30.01", "NaN", "not-a-number"})
+    void lookup_returns_empty_outside_every_range(final String sourceValue) {
+        final LinkedHashMap<Range<Float>, Object> ranges = new LinkedHashMap<>();
+        ranges.put(Range.between(1f, 10f), "low");
+        ranges.put(Range.between(20f, 30f), "high");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of(), ranges, Map.of(), true);
+
+        assertThat(objectUnderTest.lookup(sourceValue), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.rangeMappings(), equalTo(ranges));
+    }
+
+    @Test
+    void lookup_prefers_individual_keys_then_ranges_then_patterns() {
+        final LinkedHashMap<Range<Float>, Object> ranges = new LinkedHashMap<>();
+        ranges.put(Range.between(100f, 200f), "range");
+        final Map<Pattern, Object> patterns = new LinkedHashMap<>();
+        patterns.put(Pattern.compile("\\d+"), "pattern");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of("150", "key"), ranges, patterns, true);
+
+        assertThat(objectUnderTest.lookup("150"), equalTo(Optional.of("key")));
+        assertThat(objectUnderTest.lookup("151"), equalTo(Optional.of("range")));
+        assertThat(objectUnderTest.lookup("250"), equalTo(Optional.of("pattern")));
+    }
+
+    @Test
+    void lookup_tries_patterns_in_the_configured_order() {
+        final Map<Pattern, Object> patterns = new LinkedHashMap<>();
+        patterns.put(Pattern.compile("key\\d"), "first");
+        patterns.put(Pattern.compile("key.*"), "second");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of(), new LinkedHashMap<>(), patterns, true);
+
+        assertThat(objectUnderTest.lookup("key1"), equalTo(Optional.of("first")));
+        assertThat(objectUnderTest.lookup("keyA"), equalTo(Optional.of("second")));
+        assertThat(objectUnderTest.lookup("other"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.compiledPatterns(), is(patterns));
+    }
+
+    @Test
+    void lookup_replaces_partial_pattern_matches_when_not_exact() {
+        final Map<Pattern, Object> patterns = new LinkedHashMap<>();
+        patterns.put(Pattern.compile("foo"), "bar");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of(), new LinkedHashMap<>(), patterns, false);
+
+        assertThat(objectUnderTest.lookup("foofoo"), equalTo(Optional.of("barbar")));
+    }
+
+    @Test
+    void key_table_builder_replaces_the_value_of_a_key_added_again() {
+        final TranslationIndex.KeyTable.Builder builder = new TranslationIndex.KeyTable.Builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.put("host-" + i, "first");
+        }
+        builder.put("host-7", "second");
+
+        assertThat(builder.containsKey("host-7"), is(true));
+        assertThat(builder.containsKey("host-1000"), is(false));
+        final TranslationIndex objectUnderTest = TranslationIndex.build(builder.build(), new LinkedHashMap<>(), Map.of(), true);
+
+        assertThat(objectUnderTest.individualMappings().size(), equalTo(1000));
+        assertThat(objectUnderTest.lookup("host-7"), equalTo(Optional.of("second")));
+        assertThat(objectUnderTest.lookup("host-999"), equalTo(Optional.of("first")));
+    }
+
+    @Test
+    void allMapValuesMatch_tests_the_values_of_keys_and_ranges() {
+        final LinkedHashMap<Range<Float>, Object> ranges = new LinkedHashMap<>();
+        ranges.put(Range.between(1f, 10f), "2");
+
+        final TranslationIndex objectUnderTest = TranslationIndex.build(Map.of("a", "1", "b", "1"), ranges, Map.of(), true);
+
+        assertThat(objectUnderTest.allMapValuesMatch(value -> value.equals("1") || value.equals("2")), is(true));
+        assertThat(objectUnderTest.allMapValuesMatch(value -> value.equals("1")), is(false));
+    }
+
+    @Test
+    void empty_index_finds_nothing() {
+        assertThat(TranslationIndex.EMPTY.lookup("anything"), equalTo(Optional.empty()));
+        assertThat(TranslationIndex.EMPTY.individualMappings().isEmpty(), is(true));
+    }
+}
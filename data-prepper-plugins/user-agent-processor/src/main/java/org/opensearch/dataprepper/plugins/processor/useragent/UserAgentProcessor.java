@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.processor.useragent;
 
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -14,10 +15,10 @@ import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.processor.useragent.extension.UserAgentParserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ua_parser.Client;
-import ua_parser.Parser;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,19 +31,27 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 @DataPrepperPlugin(name = "user_agent", pluginType = Processor.class, pluginConfigurationType = UserAgentProcessorConfig.class)
 public class UserAgentProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(UserAgentProcessor.class);
+    static final String CACHE_HITS = "cacheHits";
+    static final String CACHE_MISSES = "cacheMisses";
     private final UserAgentProcessorConfig config;
-    private final Parser userAgentParser;
+    private final UserAgentParserService userAgentParserService;
     private final EventKey sourceKey;
     private final EventKey targetKey;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
 
     @DataPrepperPluginConstructor
     public UserAgentProcessor(
             final UserAgentProcessorConfig config,
             final EventKeyFactory eventKeyFactory,
-            final PluginMetrics pluginMetrics) {
+            final PluginMetrics pluginMetrics,
+            final UserAgentParserService userAgentParserService) {
         super(pluginMetrics);
         this.config = config;
-        this.userAgentParser = new CaffeineCachingParser(config.getCacheSize());
+        this.userAgentParserService = userAgentParserService;
+        userAgentParserService.ensureCacheSize(config.getCacheSize());
+        this.cacheHitsCounter = pluginMetrics.counter(CACHE_HITS);
+        this.cacheMissesCounter = pluginMetrics.counter(CACHE_MISSES);
         this.sourceKey = config.getSource();
         this.targetKey = eventKeyFactory.createEventKey(config.getTarget(), EventKeyFactory.EventAction.PUT);
     }
@@ -56,7 +65,7 @@ public class UserAgentProcessor extends AbstractProcessor<Record<Event>, Record<
                 final String userAgentStr = event.get(sourceKey, String.class);
                 Objects.requireNonNull(userAgentStr);
 
-                final Client clientInfo = this.userAgentParser.parse(userAgentStr);
+                final Client clientInfo = parse(userAgentStr);
 
                 final Map<String, Object> parsedUserAgent = getParsedUserAgent(clientInfo);
                 if (!config.getExcludeOriginal()) {
@@ -89,6 +98,16 @@ public class UserAgentProcessor extends AbstractProcessor<Record<Event>, Record<
     public void shutdown() {
     }
 
+    private Client parse(final String userAgentStr) {
+        final Client cachedClientInfo = userAgentParserService.getIfCached(userAgentStr);
+        if (cachedClientInfo != null) {
+            cacheHitsCounter.increment();
+            return cachedClientInfo;
+        }
+        cacheMissesCounter.increment();
+        return userAgentParserService.parse(userAgentStr);
+    }
+
     private Map<String, Object> getParsedUserAgent(Client clientInfo) {
         String version = getFullVersion(clientInfo.userAgent.major, clientInfo.userAgent.minor, clientInfo.userAgent.patch);
 
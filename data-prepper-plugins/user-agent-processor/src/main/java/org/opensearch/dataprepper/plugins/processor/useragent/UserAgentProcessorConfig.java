@@ -42,7 +42,8 @@ public class UserAgentProcessorConfig {
     private boolean excludeOriginal = false;
 
     @JsonProperty(value = "cache_size", defaultValue = "1000")
-    @JsonPropertyDescription("The cache size of the parser in megabytes. Defaults to <code>1000</code>.")
+    @JsonPropertyDescription("The minimum number of parsed user agents in the cache which all <code>user_agent</code> processors share. " +
+            "The shared cache holds the largest size of any processor. Defaults to <code>1000</code>.")
     private int cacheSize = DEFAULT_CACHE_SIZE;
 
     @JsonProperty("tags_on_parse_failure")
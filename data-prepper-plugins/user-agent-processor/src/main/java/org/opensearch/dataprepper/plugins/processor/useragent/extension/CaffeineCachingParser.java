@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ua_parser.Client;
+import ua_parser.Device;
+import ua_parser.OS;
+import ua_parser.UserAgent;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parses user agents with a {@link PrefilteringParser} and uses Caffeine as a cache.
+ */
+class CaffeineCachingParser {
+    private final PrefilteringParser parser;
+    private final Cache<String, Client> clientCache;
+    private final Cache<String, UserAgent> userAgentCache;
+    private final Cache<String, Device> deviceCache;
+    private final Cache<String, OS> osCache;
+
+    /**
+     * Constructs a new instance with a given cache size. Each parse method
+     * will have its own cache.
+     *
+     * @param cacheSize The size of the cache as a count of items.
+     */
+    CaffeineCachingParser(final long cacheSize) {
+        this(cacheSize, new PrefilteringParser());
+    }
+
+    CaffeineCachingParser(final long cacheSize, final PrefilteringParser parser) {
+        this.parser = parser;
+        userAgentCache = createCache(cacheSize);
+        clientCache = createCache(cacheSize);
+        deviceCache = createCache(cacheSize);
+        osCache = createCache(cacheSize);
+    }
+
+    Client parse(final String agentString) {
+        return parseCaching(agentString, clientCache, parser::parse);
+    }
+
+    UserAgent parseUserAgent(final String agentString) {
+        return parseCaching(agentString, userAgentCache, parser::parseUserAgent);
+    }
+
+    Device parseDevice(final String agentString) {
+        return parseCaching(agentString, deviceCache, parser::parseDevice);
+    }
+
+    OS parseOS(final String agentString) {
+        return parseCaching(agentString, osCache, parser::parseOS);
+    }
+
+    /**
+     * Gets a parsed client only if it is already in the cache.
+     *
+     * @param agentString The user agent string.
+     * @return The cached client, or null if the user agent string has not been parsed or has been evicted.
+     */
+    Client getIfPresent(final String agentString) {
+        if (agentString == null) {
+            return null;
+        }
+        return clientCache.getIfPresent(agentString);
+    }
+
+    /**
+     * Changes the size of each cache.
+     *
+     * @param cacheSize The size of the cache as a count of items.
+     */
+    void setCacheSize(final long cacheSize) {
+        List.<Cache<String, ?>>of(clientCache, userAgentCache, deviceCache, osCache).forEach(cache ->
+                cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(cacheSize)));
+    }
+
+    private <T> T parseCaching(
+            final String agentString,
+            final Cache<String, T> cache,
+            final Function<String, T> parseFunction) {
+        if (agentString == null) {
+            return null;
+        }
+        return cache.get(agentString, parseFunction);
+    }
+
+    private static <T> Cache<String, T> createCache(final long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+}
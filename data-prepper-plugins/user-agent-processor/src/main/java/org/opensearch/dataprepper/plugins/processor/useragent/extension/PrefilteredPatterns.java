@@ -0,0 +1,314 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One list of uap patterns, such as the user agent patterns, with a literal prefilter. Most uap regexes can only
+ * match a string which contains some literal text, such as {@code Firefox} or {@code Android}. That text is
+ * extracted from each regex once, and a pattern is only evaluated when the user agent contains its text.
+ * Patterns are still evaluated in the order of the regex file, so the first matching pattern wins as it does in uap.
+ *
+ * @param <T> the type which uap parses for this list, such as {@link ua_parser.UserAgent}
+ */
+class PrefilteredPatterns<T> {
+    static final int MINIMUM_LITERAL_LENGTH = 3;
+    private static final byte UNKNOWN = 0;
+    private static final byte PRESENT = 1;
+    private static final byte ABSENT = 2;
+    private static final String NON_LITERAL_ESCAPES = "dDsSwWbBtnrfaeAGzZhHvVR";
+
+    private final List<Function<String, T>> parsers;
+    private final int[] literalIds;
+    private final String[] literals;
+    private final T noMatch;
+
+    /**
+     * @param configs the uap configuration of each pattern, in order
+     * @param parserFactory creates a uap parser for a list of pattern configurations
+     * @param noMatch the instance which the uap parser returns when no pattern matches
+     */
+    PrefilteredPatterns(final List<Map<String, String>> configs,
+                        final Function<List<Map<String, String>>, Function<String, T>> parserFactory,
+                        final T noMatch) {
+        parsers = new ArrayList<>(configs.size());
+        literalIds = new int[configs.size()];
+        this.noMatch = noMatch;
+        final Map<String, Integer> distinctLiterals = new HashMap<>();
+        for (int i = 0; i < configs.size(); i++) {
+            final Map<String, String> config = configs.get(i);
+            parsers.add(parserFactory.apply(Collections.singletonList(config)));
+            final String literal = requiredLiteral(config.get("regex"));
+            literalIds[i] = literal == null ? -1 : distinctLiterals.computeIfAbsent(literal, key -> distinctLiterals.size());
+        }
+        literals = new String[distinctLiterals.size()];
+        distinctLiterals.forEach((literal, id) -> literals[id] = literal);
+    }
+
+    /**
+     * Finds the first pattern which matches the user agent. The literals are compared without case, since
+     * some patterns are case insensitive.
+     *
+     * @param agentString the user agent
+     * @param lowerCaseAgentString the user agent in lower case
+     * @return the result of the first matching pattern, or the no match instance
+     */
+    T parse(final String agentString, final String lowerCaseAgentString) {
+        final byte[] literalStates = new byte[literals.length];
+        for (int i = 0; i < parsers.size(); i++) {
+            final int literalId = literalIds[i];
+            if (literalId >= 0) {
+                if (literalStates[literalId] == UNKNOWN) {
+                    literalStates[literalId] = lowerCaseAgentString.contains(literals[literalId]) ? PRESENT : ABSENT;
+                }
+                if (literalStates[literalId] == ABSENT) {
+                    continue;
+                }
+            }
+            final T result = parsers.get(i).apply(agentString);
+            if (result != noMatch) {
+                return result;
+            }
+        }
+        return noMatch;
+    }
+
+    /**
+     * Finds the longest text which every match of a regex contains. Groups are searched too, unless they are
+     * optional, lookarounds or contain an alternation. Character classes are never searched.
+     *
+     * @param regex the regex
+     * @return the required text in lower case, or null if the regex has no required text of at least
+     * {@link #MINIMUM_LITERAL_LENGTH} ASCII characters
+     */
+    static String requiredLiteral(final String regex) {
+        final String longest = longestLiteral(regex, 0, regex.length());
+        if (longest == null || longest.length() < MINIMUM_LITERAL_LENGTH || !longest.chars().allMatch(c -> c < 0x80)) {
+            return null;
+        }
+        return longest.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the longest required text between {@code start} and {@code end}, an empty string if there is none,
+     * or null if the regex uses syntax which is not understood here
+     */
+    private static String longestLiteral(final String regex, final int start, final int end) {
+        final List<Integer> alternations = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = endOfCharacterClass(regex, i);
+            } else if (c == '(') {
+                i = endOfGroup(regex, i);
+            } else if (c == '|') {
+                alternations.add(i);
+            }
+            if (i < 0) {
+                return null;
+            }
+        }
+        if (!alternations.isEmpty()) {
+            return commonLiteral(regex, start, end, alternations);
+        }
+
+        String longest = "";
+        final StringBuilder run = new StringBuilder();
+        boolean lastWasLiteral = false;
+        for (int i = start; i < end; i++) {
+            final char c = regex.charAt(i);
+            final boolean literal;
+            switch (c) {
+                case '\\':
+                    if (i + 1 == end) {
+                        return null;
+                    }
+                    final char escaped = regex.charAt(++i);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        run.append(escaped);
+                        literal = true;
+                    } else if (NON_LITERAL_ESCAPES.indexOf(escaped) >= 0) {
+                        literal = false;
+                    } else {
+                        // Escapes such as \x41, \p{L} or \Q...\E are followed by text which is not literal.
+                        return null;
+                    }
+                    break;
+                case ')':
+                    return null;
+                case '(':
+                    if (regex.startsWith("(?", i) && hasCommentsFlag(regex, i + 2)) {
+                        return null;
+                    }
+                    final int groupEnd = endOfGroup(regex, i);
+                    final int contentStart = groupContentStart(regex, i);
+                    final boolean optional = groupEnd + 1 < end && "?*{".indexOf(regex.charAt(groupEnd + 1)) >= 0;
+                    if (contentStart >= 0 && !optional) {
+                        final String groupLiteral = longestLiteral(regex, contentStart, groupEnd);
+                        if (groupLiteral == null) {
+                            return null;
+                        }
+                        if (groupLiteral.length() > longest.length()) {
+                            longest = groupLiteral;
+                        }
+                    }
+                    i = groupEnd;
+                    literal = false;
+                    break;
+                case '[':
+                    i = endOfCharacterClass(regex, i);
+                    literal = false;
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    // The previous character is optional.
+                    if (lastWasLiteral) {
+                        run.setLength(run.length() - 1);
+                    }
+                    if (c == '{') {
+                        i = regex.indexOf('}', i);
+                        if (i < 0 || i >= end) {
+                            return null;
+                        }
+                    }
+                    literal = false;
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    literal = false;
+                    break;
+                default:
+                    run.append(c);
+                    literal = true;
+            }
+            if (!literal) {
+                if (run.length() > longest.length()) {
+                    longest = run.toString();
+                }
+                run.setLength(0);
+            }
+            lastWasLiteral = literal;
+        }
+        return run.length() > longest.length() ? run.toString() : longest;
+    }
+
+    /**
+     * Alternatives often only differ in case, such as {@code (Allview|ALLVIEW)}. Since literals are compared
+     * without case, such alternatives still have a required literal.
+     *
+     * @return the literal which every alternative requires, an empty string if they differ, or null if an
+     * alternative uses syntax which is not understood here
+     */
+    private static String commonLiteral(final String regex, final int start, final int end, final List<Integer> alternations) {
+        String common = null;
+        int alternativeStart = start;
+        for (int i = 0; i <= alternations.size(); i++) {
+            final int alternativeEnd = i < alternations.size() ? alternations.get(i) : end;
+            final String literal = longestLiteral(regex, alternativeStart, alternativeEnd);
+            if (literal == null) {
+                return null;
+            }
+            if (common != null && !common.equalsIgnoreCase(literal)) {
+                return "";
+            }
+            common = literal;
+            alternativeStart = alternativeEnd + 1;
+        }
+        return common;
+    }
+
+    /**
+     * @return the index where the text of the group starting at {@code start} begins, or -1 for lookarounds and
+     * inline flags, whose text is not required
+     */
+    private static int groupContentStart(final String regex, final int start) {
+        if (regex.charAt(start + 1) != '?') {
+            return start + 1;
+        }
+        final char kind = regex.charAt(start + 2);
+        if (kind == ':' || kind == '>') {
+            return start + 3;
+        }
+        if (kind == '<' && Character.isLetter(regex.charAt(start + 3))) {
+            return regex.indexOf('>', start) + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the parenthesis which closes the group starting at {@code start}, or -1
+     */
+    private static int endOfGroup(final String regex, final int start) {
+        int depth = 0;
+        for (int i = start; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = endOfCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the bracket which closes the character class starting at {@code start}, or -1
+     */
+    private static int endOfCharacterClass(final String regex, final int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        for (; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = endOfCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the inline flags starting at {@code start} turn on comments mode, in which whitespace is not literal.
+     */
+    private static boolean hasCommentsFlag(final String regex, final int start) {
+        for (int i = start; i < regex.length() && Character.isLetter(regex.charAt(i)); i++) {
+            if (regex.charAt(i) == 'x') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
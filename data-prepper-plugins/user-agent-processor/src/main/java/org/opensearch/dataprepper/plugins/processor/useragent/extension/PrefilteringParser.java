@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import ua_parser.Client;
+import ua_parser.Device;
+import ua_parser.DeviceParser;
+import ua_parser.OS;
+import ua_parser.OSParser;
+import ua_parser.UserAgent;
+import ua_parser.UserAgentParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses user agents with the uap regexes, in the same way as {@link ua_parser.Parser}, but only evaluates
+ * the regexes which pass a {@link PrefilteredPatterns literal prefilter}. Each regex is evaluated by its own
+ * uap parser, so the results are the same as those of uap.
+ */
+class PrefilteringParser {
+    private static final String REGEXES_RESOURCE = "/ua_parser/regexes.yaml";
+    private static final TypeReference<Map<String, List<Map<String, String>>>> REGEXES_TYPE = new TypeReference<>() {};
+
+    private final PrefilteredPatterns<UserAgent> userAgentPatterns;
+    private final PrefilteredPatterns<OS> osPatterns;
+    private final PrefilteredPatterns<Device> devicePatterns;
+
+    PrefilteringParser() {
+        this(readRegexes(PrefilteringParser.class.getResourceAsStream(REGEXES_RESOURCE)));
+    }
+
+    PrefilteringParser(final Map<String, List<Map<String, String>>> regexes) {
+        userAgentPatterns = new PrefilteredPatterns<>(regexes.get("user_agent_parsers"),
+                configs -> UserAgentParser.fromList(configs)::parse, UserAgent.OTHER);
+        osPatterns = new PrefilteredPatterns<>(regexes.get("os_parsers"),
+                configs -> OSParser.fromList(configs)::parse, OS.OTHER);
+        devicePatterns = new PrefilteredPatterns<>(regexes.get("device_parsers"),
+                configs -> DeviceParser.fromList(configs)::parse, Device.OTHER);
+    }
+
+    Client parse(final String agentString) {
+        final String lowerCaseAgentString = agentString.toLowerCase(Locale.ROOT);
+        return new Client(userAgentPatterns.parse(agentString, lowerCaseAgentString),
+                osPatterns.parse(agentString, lowerCaseAgentString),
+                devicePatterns.parse(agentString, lowerCaseAgentString));
+    }
+
+    UserAgent parseUserAgent(final String agentString) {
+        return userAgentPatterns.parse(agentString, agentString.toLowerCase(Locale.ROOT));
+    }
+
+    OS parseOS(final String agentString) {
+        return osPatterns.parse(agentString, agentString.toLowerCase(Locale.ROOT));
+    }
+
+    Device parseDevice(final String agentString) {
+        return devicePatterns.parse(agentString, agentString.toLowerCase(Locale.ROOT));
+    }
+
+    static Map<String, List<Map<String, String>>> readRegexes(final InputStream inputStream) {
+        try (final InputStream regexesStream = inputStream) {
+            return new ObjectMapper(new YAMLFactory()).readValue(regexesStream, REGEXES_TYPE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read the user agent regexes", e);
+        }
+    }
+}
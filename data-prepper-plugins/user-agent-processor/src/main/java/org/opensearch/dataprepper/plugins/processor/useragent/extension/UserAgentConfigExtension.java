@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperExtensionPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
+import org.opensearch.dataprepper.model.plugin.ExtensionPoints;
+
+@DataPrepperExtensionPlugin(modelType = UserAgentServiceConfig.class, rootKeyJsonPath = "/user_agent_service", allowInPipelineConfigurations = true)
+public class UserAgentConfigExtension implements ExtensionPlugin {
+    private final UserAgentParserService userAgentParserService;
+
+    @DataPrepperPluginConstructor
+    public UserAgentConfigExtension(final UserAgentServiceConfig userAgentServiceConfig) {
+        this.userAgentParserService = new UserAgentParserService(
+                userAgentServiceConfig != null ? userAgentServiceConfig : new UserAgentServiceConfig());
+    }
+
+    @Override
+    public void apply(final ExtensionPoints extensionPoints) {
+        extensionPoints.addExtensionProvider(new UserAgentParserProvider(userAgentParserService));
+    }
+}
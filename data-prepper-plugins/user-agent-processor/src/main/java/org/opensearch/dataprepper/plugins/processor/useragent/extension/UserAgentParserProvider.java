@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.opensearch.dataprepper.model.plugin.ExtensionProvider;
+
+import java.util.Optional;
+
+class UserAgentParserProvider implements ExtensionProvider<UserAgentParserService> {
+    private final UserAgentParserService userAgentParserService;
+
+    public UserAgentParserProvider(final UserAgentParserService userAgentParserService) {
+        this.userAgentParserService = userAgentParserService;
+    }
+
+    @Override
+    public Optional<UserAgentParserService> provideInstance(final Context context) {
+        return Optional.of(userAgentParserService);
+    }
+
+    @Override
+    public Class<UserAgentParserService> supportedClass() {
+        return UserAgentParserService.class;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import ua_parser.Client;
+
+import java.util.function.LongFunction;
+
+/**
+ * Parses user agents for every <code>user_agent</code> processor in the process, with one cache which all
+ * pipelines share. The uap regexes are only loaded when the first user agent is parsed.
+ *
+ * @since 2.14
+ */
+public class UserAgentParserService {
+    private final LongFunction<CaffeineCachingParser> parserFactory;
+    private long cacheSize;
+    private volatile CaffeineCachingParser parser;
+
+    public UserAgentParserService(final UserAgentServiceConfig userAgentServiceConfig) {
+        this(userAgentServiceConfig, CaffeineCachingParser::new);
+    }
+
+    UserAgentParserService(final UserAgentServiceConfig userAgentServiceConfig,
+                           final LongFunction<CaffeineCachingParser> parserFactory) {
+        this.cacheSize = userAgentServiceConfig.getCacheSize();
+        this.parserFactory = parserFactory;
+    }
+
+    /**
+     * Parses a user agent, or gets it from the shared cache.
+     *
+     * @param agentString The user agent string
+     * @return The parsed client
+     * @since 2.14
+     */
+    public Client parse(final String agentString) {
+        return getParser().parse(agentString);
+    }
+
+    /**
+     * Gets a parsed user agent only if it is in the shared cache.
+     *
+     * @param agentString The user agent string
+     * @return The parsed client, or null if the user agent is not cached
+     * @since 2.14
+     */
+    public Client getIfCached(final String agentString) {
+        return getParser().getIfPresent(agentString);
+    }
+
+    /**
+     * Grows the shared cache so that it holds at least the given number of user agents. The cache never shrinks,
+     * so the largest size requested by any processor applies to all of them.
+     *
+     * @param minimumCacheSize The number of user agents
+     * @since 2.14
+     */
+    public synchronized void ensureCacheSize(final long minimumCacheSize) {
+        if (minimumCacheSize > cacheSize) {
+            cacheSize = minimumCacheSize;
+            if (parser != null) {
+                parser.setCacheSize(cacheSize);
+            }
+        }
+    }
+
+    private CaffeineCachingParser getParser() {
+        final CaffeineCachingParser currentParser = parser;
+        return currentParser != null ? currentParser : createParser();
+    }
+
+    private synchronized CaffeineCachingParser createParser() {
+        if (parser == null) {
+            parser = parserFactory.apply(cacheSize);
+        }
+        return parser;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+public class UserAgentServiceConfig {
+    static final int DEFAULT_CACHE_SIZE = 1000;
+
+    @Min(1)
+    @JsonProperty("cache_size")
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /**
+     * Gets the number of parsed user agents which are cached for all <code>user_agent</code> processors.
+     *
+     * @return The cache size as a count of items
+     * @since 2.14
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.processor.useragent;
 
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,6 +20,8 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.processor.useragent.extension.UserAgentParserService;
+import org.opensearch.dataprepper.plugins.processor.useragent.extension.UserAgentServiceConfig;
 
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +31,10 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,8 +48,23 @@ class UserAgentProcessorTest {
     @Mock
     private UserAgentProcessorConfig mockConfig;
 
+    @Mock
+    private Counter cacheHitsCounter;
+
+    @Mock
+    private Counter cacheMissesCounter;
+
     private final EventKeyFactory eventKeyFactory = TestEventKeyFactory.getTestEventFactory();
 
+    private UserAgentParserService userAgentParserService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.counter(UserAgentProcessor.CACHE_HITS)).thenReturn(cacheHitsCounter);
+        lenient().when(pluginMetrics.counter(UserAgentProcessor.CACHE_MISSES)).thenReturn(cacheMissesCounter);
+        userAgentParserService = new UserAgentParserService(new UserAgentServiceConfig());
+    }
+
     @ParameterizedTest
     @MethodSource("userAgentStringArguments")
     public void testParsingUserAgentStrings(
@@ -143,8 +166,48 @@ class UserAgentProcessorTest {
         assertThat(resultEvent.getMetadata().getTags().contains(tagOnFailure2), is(true));
     }
 
+    @Test
+    public void testRepeatedUserAgentIsCountedAsCacheHit() {
+        when(mockConfig.getSource()).thenReturn(eventKeyFactory.createEventKey("source"));
+        when(mockConfig.getTarget()).thenReturn("user_agent");
+        when(mockConfig.getCacheSize()).thenReturn(TEST_CACHE_SIZE);
+
+        final UserAgentProcessor processor = createObjectUnderTest();
+        final String uaString = "PostmanRuntime/7.26.5";
+        processor.doExecute(List.of(createTestRecord(uaString), createTestRecord(uaString)));
+
+        verify(cacheMissesCounter).increment();
+        verify(cacheHitsCounter).increment();
+    }
+
+    @Test
+    public void testProcessorsShareTheParserCache() {
+        when(mockConfig.getSource()).thenReturn(eventKeyFactory.createEventKey("source"));
+        when(mockConfig.getTarget()).thenReturn("user_agent");
+        when(mockConfig.getCacheSize()).thenReturn(TEST_CACHE_SIZE);
+
+        final String uaString = "PostmanRuntime/7.26.5";
+        createObjectUnderTest().doExecute(List.of(createTestRecord(uaString)));
+        final List<Record<Event>> resultRecord = (List<Record<Event>>) createObjectUnderTest().doExecute(List.of(createTestRecord(uaString)));
+
+        assertThat(resultRecord.get(0).getData().get("user_agent/name", String.class), is("PostmanRuntime"));
+        verify(cacheMissesCounter, times(1)).increment();
+        verify(cacheHitsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testConstructorGrowsTheSharedCacheToTheConfiguredSize() {
+        when(mockConfig.getCacheSize()).thenReturn(TEST_CACHE_SIZE);
+        when(mockConfig.getTarget()).thenReturn("user_agent");
+        userAgentParserService = mock(UserAgentParserService.class);
+
+        createObjectUnderTest();
+
+        verify(userAgentParserService).ensureCacheSize(TEST_CACHE_SIZE);
+    }
+
     private UserAgentProcessor createObjectUnderTest() {
-        return new UserAgentProcessor(mockConfig, eventKeyFactory, pluginMetrics);
+        return new UserAgentProcessor(mockConfig, eventKeyFactory, pluginMetrics, userAgentParserService);
     }
 
     private Record<Event> createTestRecord(String uaString) {
@@ -3,7 +3,7 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
-package org.opensearch.dataprepper.plugins.processor.useragent;
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -149,4 +149,34 @@ class CaffeineCachingParserTest {
         assertThat(objectUnderTest.parseOS(new String(userAgentString)), sameInstance(os));
         assertThat(objectUnderTest.parseOS(new String(userAgentString)), sameInstance(os));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getIfPresent_returns_only_parsed_clients() {
+        final CaffeineCachingParser objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getIfPresent(KNOWN_USER_AGENT_STRING), nullValue());
+
+        final Client client = objectUnderTest.parse(KNOWN_USER_AGENT_STRING);
+
+        assertThat(objectUnderTest.getIfPresent(new String(KNOWN_USER_AGENT_STRING)), sameInstance(client));
+    }
+
+    @Test
+    void getIfPresent_with_null_returns_null() {
+        assertThat(createObjectUnderTest().getIfPresent(null),
+                nullValue());
+    }
+
+    @Test
+    void setCacheSize_keeps_parsing_with_the_new_size() {
+        cacheSize = 1;
+        final CaffeineCachingParser objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.setCacheSize(1000);
+
+        final Client client = objectUnderTest.parse(KNOWN_USER_AGENT_STRING);
+        assertThat(client.userAgent.family, equalTo("Mobile Safari"));
+        assertThat(objectUnderTest.parse(new String(KNOWN_USER_AGENT_STRING)), sameInstance(client));
+        assertThat(objectUnderTest.parseOS(KNOWN_USER_AGENT_STRING).family, equalTo("iOS"));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PrefilteredPatternsTest {
+    private static final String NO_MATCH = "no match";
+
+    @ParameterizedTest
+    @MethodSource("regexesWithRequiredLiterals")
+    void requiredLiteral_returns_the_longest_required_text(final String regex, final String expectedLiteral) {
+        assertThat(PrefilteredPatterns.requiredLiteral(regex), equalTo(expectedLiteral));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(Firefox|Chrome)/(\\d+)",
+            "Firefox|Chrome",
+            "Fi\\x72efox",
+            "\\p{L}+Bot",
+            "\\QFirefox\\E",
+            "(?x) Fire fox",
+            "(Fi\\x72efox)",
+            "(Fi\\x72efox|FIREFOX)",
+            "(Firefox|Chrome|firefox)",
+            "(Bo{2)}x",
+            "Bot)",
+            "(Bot",
+            "[Bot",
+            "([Bot)",
+            "Bot[a-z[0-9",
+            "Bo{2",
+            "Bot\\",
+            "ab.cd",
+            "Fire\u00e9ox/\\d",
+            "(Ainol |)"
+    })
+    void requiredLiteral_returns_null_without_required_text(final String regex) {
+        assertThat(PrefilteredPatterns.requiredLiteral(regex), nullValue());
+    }
+
+    @Test
+    void parse_returns_the_first_matching_pattern_in_order() {
+        final PrefilteredPatterns<String> objectUnderTest = createObjectUnderTest(List.of(
+                Map.of("regex", "Firefox/(\\d+)", "name", "firefox"),
+                Map.of("regex", "(\\w+)/(\\d+)", "name", "any"),
+                Map.of("regex", "Chrome/(\\d+)", "name", "chrome")));
+
+        assertThat(parse(objectUnderTest, "Mozilla Firefox/42"), equalTo("firefox"));
+        assertThat(parse(objectUnderTest, "Mozilla Chrome/42"), equalTo("any"));
+        assertThat(parse(objectUnderTest, "Mozilla"), equalTo(NO_MATCH));
+    }
+
+    @Test
+    void parse_only_evaluates_patterns_whose_literal_is_present() {
+        final List<String> evaluated = new ArrayList<>();
+        final PrefilteredPatterns<String> objectUnderTest = createObjectUnderTest(List.of(
+                Map.of("regex", "Firefox/(\\d+)", "name", "firefox"),
+                Map.of("regex", "Firefox Focus", "name", "focus"),
+                Map.of("regex", "(\\d+)\\.(\\d+)", "name", "version"),
+                Map.of("regex", "Chrome/(\\d+)", "name", "chrome")), evaluated);
+
+        assertThat(parse(objectUnderTest, "Chrome/42"), equalTo("chrome"));
+        assertThat(evaluated, equalTo(List.of("version", "chrome")));
+    }
+
+    @Test
+    void parse_compares_literals_without_case() {
+        final List<String> evaluated = new ArrayList<>();
+        final PrefilteredPatterns<String> objectUnderTest = createObjectUnderTest(List.of(
+                Map.of("regex", "Kindle", "regex_flag", "i", "name", "kindle")), evaluated);
+
+        assertThat(parse(objectUnderTest, "KINDLE"), equalTo("kindle"));
+        assertThat(evaluated, equalTo(List.of("kindle")));
+    }
+
+    private static PrefilteredPatterns<String> createObjectUnderTest(final List<Map<String, String>> configs) {
+        return createObjectUnderTest(configs, new ArrayList<>());
+    }
+
+    /**
+     * Creates patterns whose parsers match with the regex, ignoring case, and record each evaluation.
+     */
+    private static PrefilteredPatterns<String> createObjectUnderTest(final List<Map<String, String>> configs,
+                                                                     final List<String> evaluated) {
+        final Function<List<Map<String, String>>, Function<String, String>> parserFactory = patternConfigs -> {
+            final Map<String, String> config = patternConfigs.get(0);
+            final Pattern pattern = Pattern.compile(config.get("regex"), Pattern.CASE_INSENSITIVE);
+            return agentString -> {
+                evaluated.add(config.get("name"));
+                return pattern.matcher(agentString).find() ? config.get("name") : NO_MATCH;
+            };
+        };
+        return new PrefilteredPatterns<>(configs, parserFactory, NO_MATCH);
+    }
+
+    private static String parse(final PrefilteredPatterns<String> objectUnderTest, final String agentString) {
+        return objectUnderTest.parse(agentString, agentString.toLowerCase(Locale.ROOT));
+    }
+
+    private static Stream<Arguments> regexesWithRequiredLiterals() {
+        return Stream.of(
+                Arguments.of("Firefox/(\\d+)\\.(\\d+)", "firefox/"),
+                Arguments.of("(?i)Kindle", "kindle"),
+                Arguments.of("^Mozilla\\/5\\.0 \\(Linux", "mozilla/5.0 (linux"),
+                Arguments.of("Googlebot?/(\\d+)", "googlebo"),
+                Arguments.of("Opera Mini*x", "opera min"),
+                Arguments.of("Mobile Safari{0,1}/", "mobile safar"),
+                Arguments.of("Versionn+ Safari", "versionn"),
+                Arguments.of("Ab+ Safari", " safari"),
+                Arguments.of("[Bb]lackBerry(?:\\d+)", "lackberry"),
+                Arguments.of("[]a-z]+Windows [^\\]]x", "windows "),
+                Arguments.of("[a-z[0-9]]WebKit", "webkit"),
+                Arguments.of("(Chrome([/(])+)Android\\s+(\\d)", "android"),
+                Arguments.of("(?i:Bot)Crawler", "crawler"),
+                Arguments.of("(Firefox)/(\\d+)", "firefox"),
+                Arguments.of("(Chrome)", "chrome"),
+                Arguments.of("(?:Mobile )?Safari", "safari"),
+                Arguments.of("(?<browser>Opera)/", "opera"),
+                Arguments.of("(?!Edge)Chr", "chr"),
+                Arguments.of("(Opera Mini)*Opr", "opr"),
+                Arguments.of("(Nokia|Lumia) (Phone)", "phone"),
+                Arguments.of("(ALLVIEW[ _]?|Allview[ _]?)([^;/]*?)(?: Build|\\) AppleWebKit)", "allview"),
+                Arguments.of("Cat|CAT|cat", "cat")
+        );
+    }
+}
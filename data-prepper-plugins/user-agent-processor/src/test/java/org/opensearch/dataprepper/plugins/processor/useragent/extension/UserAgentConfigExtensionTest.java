@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.plugin.ExtensionPoints;
+import org.opensearch.dataprepper.model.plugin.ExtensionProvider;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserAgentConfigExtensionTest {
+    @Mock
+    private ExtensionPoints extensionPoints;
+
+    @Mock
+    private UserAgentServiceConfig userAgentServiceConfig;
+
+    @Test
+    void apply_should_addExtensionProvider() {
+        when(userAgentServiceConfig.getCacheSize()).thenReturn(UserAgentServiceConfig.DEFAULT_CACHE_SIZE);
+
+        new UserAgentConfigExtension(userAgentServiceConfig).apply(extensionPoints);
+
+        final ExtensionProvider<?> extensionProvider = captureExtensionProvider();
+        assertThat(extensionProvider, instanceOf(UserAgentParserProvider.class));
+        assertThat(extensionProvider.supportedClass(), equalTo(UserAgentParserService.class));
+    }
+
+    @Test
+    void apply_without_configuration_should_provide_a_service() {
+        new UserAgentConfigExtension(null).apply(extensionPoints);
+
+        final Optional<?> service = captureExtensionProvider().provideInstance(mock(ExtensionProvider.Context.class));
+        assertThat(service.isPresent(), equalTo(true));
+        assertThat(service.get(), instanceOf(UserAgentParserService.class));
+    }
+
+    @Test
+    void every_apply_should_provide_the_same_service() {
+        final UserAgentConfigExtension objectUnderTest = new UserAgentConfigExtension(null);
+        final ExtensionPoints otherExtensionPoints = mock(ExtensionPoints.class);
+
+        objectUnderTest.apply(extensionPoints);
+        objectUnderTest.apply(otherExtensionPoints);
+
+        final ExtensionProvider.Context context = mock(ExtensionProvider.Context.class);
+        final ArgumentCaptor<ExtensionProvider> otherCaptor = ArgumentCaptor.forClass(ExtensionProvider.class);
+        verify(otherExtensionPoints).addExtensionProvider(otherCaptor.capture());
+        assertThat(otherCaptor.getValue().provideInstance(context).get(),
+                sameInstance(captureExtensionProvider().provideInstance(context).get()));
+    }
+
+    private ExtensionProvider<?> captureExtensionProvider() {
+        final ArgumentCaptor<ExtensionProvider> extensionProviderArgumentCaptor =
+                ArgumentCaptor.forClass(ExtensionProvider.class);
+        verify(extensionPoints).addExtensionProvider(extensionProviderArgumentCaptor.capture());
+        return extensionProviderArgumentCaptor.getValue();
+    }
+}
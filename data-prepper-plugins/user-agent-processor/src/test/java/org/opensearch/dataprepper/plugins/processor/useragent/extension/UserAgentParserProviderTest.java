@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.plugin.ExtensionProvider;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+@ExtendWith(MockitoExtension.class)
+class UserAgentParserProviderTest {
+    @Mock
+    private UserAgentParserService userAgentParserService;
+
+    @Mock
+    private ExtensionProvider.Context context;
+
+    private UserAgentParserProvider createObjectUnderTest() {
+        return new UserAgentParserProvider(userAgentParserService);
+    }
+
+    @Test
+    void supportedClass_returns_userAgentParserService() {
+        assertThat(createObjectUnderTest().supportedClass(), equalTo(UserAgentParserService.class));
+    }
+
+    @Test
+    void provideInstance_returns_the_userAgentParserService_from_the_constructor() {
+        final UserAgentParserProvider objectUnderTest = createObjectUnderTest();
+
+        final Optional<UserAgentParserService> service = objectUnderTest.provideInstance(context);
+        assertThat(service.isPresent(), equalTo(true));
+        assertThat(service.get(), sameInstance(userAgentParserService));
+        assertThat(objectUnderTest.provideInstance(context).get(), sameInstance(service.get()));
+    }
+}
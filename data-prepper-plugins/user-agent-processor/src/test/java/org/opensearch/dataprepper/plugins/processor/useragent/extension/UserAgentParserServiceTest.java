@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua_parser.Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserAgentParserServiceTest {
+    private static final int CACHE_SIZE = 100;
+
+    @Mock
+    private UserAgentServiceConfig userAgentServiceConfig;
+
+    @Mock
+    private CaffeineCachingParser parser;
+
+    private List<Long> createdCacheSizes;
+
+    @BeforeEach
+    void setUp() {
+        when(userAgentServiceConfig.getCacheSize()).thenReturn(CACHE_SIZE);
+        createdCacheSizes = new ArrayList<>();
+    }
+
+    private UserAgentParserService createObjectUnderTest() {
+        return new UserAgentParserService(userAgentServiceConfig, cacheSize -> {
+            createdCacheSizes.add(cacheSize);
+            return parser;
+        });
+    }
+
+    @Test
+    void parse_creates_the_parser_once_with_the_configured_cache_size() {
+        final String agentString = UUID.randomUUID().toString();
+        final Client client = mock(Client.class);
+        when(parser.parse(agentString)).thenReturn(client);
+        final UserAgentParserService objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.parse(agentString), sameInstance(client));
+        assertThat(objectUnderTest.parse(agentString), sameInstance(client));
+
+        assertThat(createdCacheSizes, equalTo(List.of((long) CACHE_SIZE)));
+    }
+
+    @Test
+    void getIfCached_returns_the_client_from_the_parser_cache() {
+        final String agentString = UUID.randomUUID().toString();
+        final Client client = mock(Client.class);
+        when(parser.getIfPresent(agentString)).thenReturn(client);
+        final UserAgentParserService objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getIfCached(agentString), sameInstance(client));
+    }
+
+    @Test
+    void ensureCacheSize_before_the_first_parse_creates_the_parser_with_the_largest_size() {
+        final UserAgentParserService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.ensureCacheSize(CACHE_SIZE * 10);
+        objectUnderTest.ensureCacheSize(CACHE_SIZE * 5);
+        objectUnderTest.parse(UUID.randomUUID().toString());
+
+        assertThat(createdCacheSizes, equalTo(List.of((long) CACHE_SIZE * 10)));
+        verify(parser, never()).setCacheSize(anyLong());
+    }
+
+    @Test
+    void ensureCacheSize_after_the_first_parse_grows_the_parser_cache() {
+        final UserAgentParserService objectUnderTest = createObjectUnderTest();
+        objectUnderTest.parse(UUID.randomUUID().toString());
+
+        objectUnderTest.ensureCacheSize(CACHE_SIZE * 10);
+
+        verify(parser).setCacheSize(CACHE_SIZE * 10);
+    }
+
+    @Test
+    void ensureCacheSize_never_shrinks_the_cache() {
+        final UserAgentParserService objectUnderTest = createObjectUnderTest();
+        objectUnderTest.parse(UUID.randomUUID().toString());
+
+        objectUnderTest.ensureCacheSize(CACHE_SIZE);
+        objectUnderTest.ensureCacheSize(CACHE_SIZE / 2);
+
+        verify(parser).parse(anyString());
+        verifyNoMoreInteractions(parser);
+    }
+
+    @Test
+    void constructor_does_not_create_the_parser() {
+        createObjectUnderTest();
+
+        assertThat(createdCacheSizes.isEmpty(), equalTo(true));
+        verifyNoInteractions(parser);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.useragent.extension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class UserAgentServiceConfigTest {
+    @Test
+    void getCacheSize_returns_the_default() {
+        assertThat(new UserAgentServiceConfig().getCacheSize(), equalTo(UserAgentServiceConfig.DEFAULT_CACHE_SIZE));
+    }
+
+    @Test
+    void getCacheSize_returns_the_configured_size() {
+        final UserAgentServiceConfig objectUnderTest = new ObjectMapper()
+                .convertValue(Map.of("cache_size", 50000), UserAgentServiceConfig.class);
+
+        assertThat(objectUnderTest.getCacheSize(), equalTo(50000));
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.gatling.javaapi.core.ChainBuilder;
 import io.gatling.javaapi.core.CoreDsl;
+import io.gatling.javaapi.core.PopulationBuilder;
 import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Session;
 import io.gatling.javaapi.core.Simulation;
@@ -24,7 +25,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Sends logs which match various grok patterns to the path of a pipeline with a grok processor.
+ * <p>
+ * Setting the {@code grok_timeout_path} property to the path of a second pipeline, which has the same grok
+ * processor with {@code timeout_millis} set, runs the same scenario against that pipeline afterwards. The two
+ * requests are reported separately, so the throughput with and without grok timeouts can be compared.
+ */
 public class VariousGrokPatternsSimulation extends Simulation {
+    private static final String TIMEOUT_PATH_PROPERTY_NAME = "grok_timeout_path";
     private static final Integer rampUsers = 20;
     private static final Duration rampUpTime = Duration.ofSeconds(30);
     private static final Duration testDuration = Duration.ofMinutes(10);
@@ -51,21 +60,33 @@ public class VariousGrokPatternsSimulation extends Simulation {
         }
     };
 
-    ChainBuilder sendMultipleGrokPatterns = CoreDsl.exec(
-            HttpDsl.http("Http multiple grok pattern request")
-                    .post(PathTarget.getPath())
-                    .asJson()
-                    .body(CoreDsl.StringBody(VariousGrokPatternsSimulation.multipleGrokPatterns)));
+    private static ChainBuilder sendMultipleGrokPatterns(final String requestName, final String path) {
+        return CoreDsl.exec(
+                HttpDsl.http(requestName)
+                        .post(path)
+                        .asJson()
+                        .body(CoreDsl.StringBody(VariousGrokPatternsSimulation.multipleGrokPatterns)));
+    }
+
+    private static PopulationBuilder sendMultipleGrokPatternsPopulation(final String scenarioName, final String requestName, final String path) {
+        final ScenarioBuilder scenario = CoreDsl.scenario(scenarioName)
+                .during(testDuration)
+                .on(sendMultipleGrokPatterns(requestName, path));
 
-    ScenarioBuilder sendMultipleGrokPatternsScenario = CoreDsl.scenario("Send multiple grok patterns")
-            .during(testDuration)
-            .on(sendMultipleGrokPatterns);
+        return scenario.injectOpen(CoreDsl.rampUsers(rampUsers).during(rampUpTime));
+    }
 
     public VariousGrokPatternsSimulation()
     {
-        setUp(sendMultipleGrokPatternsScenario.injectOpen(
-                CoreDsl.rampUsers(rampUsers).during(rampUpTime)
-        )).protocols(Protocol.httpProtocol())
+        final PopulationBuilder sendMultipleGrokPatternsPopulation = sendMultipleGrokPatternsPopulation(
+                "Send multiple grok patterns", "Http multiple grok pattern request", PathTarget.getPath());
+
+        final String timeoutPath = System.getProperty(TIMEOUT_PATH_PROPERTY_NAME);
+        final PopulationBuilder population = timeoutPath == null ? sendMultipleGrokPatternsPopulation :
+                sendMultipleGrokPatternsPopulation.andThen(sendMultipleGrokPatternsPopulation(
+                        "Send multiple grok patterns with timeout", "Http multiple grok pattern request with timeout", timeoutPath));
+
+        setUp(population).protocols(Protocol.httpProtocol())
                 .assertions(
                         CoreDsl.global().responseTime().max().lt(1000),
                         CoreDsl.global().failedRequests().count().is(0L)